@@ -20,17 +20,20 @@ import okhttp3.OkHttpClient;
 import org.eclipse.edc.connector.core.base.EdcHttpClientImpl;
 import org.eclipse.edc.connector.core.base.OkHttpClientFactory;
 import org.eclipse.edc.connector.core.base.RetryPolicyFactory;
+import org.eclipse.edc.connector.core.base.VirtualThreadExecutorFactory;
 import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
 import org.eclipse.edc.connector.core.vault.InMemoryVault;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.security.VaultCertificateResolver;
 import org.eclipse.edc.spi.security.VaultPrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorFactory;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -39,8 +42,6 @@ import org.eclipse.edc.transaction.datasource.spi.DefaultDataSourceRegistry;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
-import java.util.concurrent.Executors;
-
 /**
  * Provides default service implementations for fallback
  * Omitted {@link Extension} since this module contains the extension {@link CoreServicesExtension}
@@ -50,12 +51,15 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     public static final String NAME = "Core Default Services";
     public static final String SECRET_SEPARATOR = ";";
     public static final String SECRET_KEY_VAULE_SEPARATOR = ":";
+    @Setting(value = "If true, the runtime executors are backed by virtual threads. Requires JDK 21 or later", defaultValue = "false", type = "boolean")
+    public static final String VIRTUAL_THREADS_SETTING = "edc.core.threads.virtual";
     /**
      * An optional OkHttp {@link EventListener} that can be used to instrument OkHttp client for collecting metrics.
      */
     @Inject(required = false)
     private EventListener okHttpEventListener;
     private InMemoryVault inMemoryVault;
+    private ExecutorFactory executorFactory;
 
     @Override
     public String name() {
@@ -81,8 +85,13 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     }
 
     @Provider(isDefault = true)
-    public EventExecutorServiceContainer eventExecutorServiceContainer() {
-        return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1)); // TODO: make configurable
+    public ExecutorFactory executorFactory(ServiceExtensionContext context) {
+        return getExecutorFactory(context);
+    }
+
+    @Provider(isDefault = true)
+    public EventExecutorServiceContainer eventExecutorServiceContainer(ServiceExtensionContext context) {
+        return new EventExecutorServiceContainer(getExecutorFactory(context).newFixedThreadPool(1, "EventRouter")); // TODO: make configurable
     }
 
     @Provider(isDefault = true)
@@ -129,4 +138,23 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
         return inMemoryVault;
     }
 
+    /**
+     * lazily instantiates the executor factory, backed by virtual threads if configured and supported by the JVM.
+     */
+    private ExecutorFactory getExecutorFactory(ServiceExtensionContext context) {
+        if (executorFactory == null) {
+            var virtualThreads = context.getSetting(VIRTUAL_THREADS_SETTING, false);
+            if (virtualThreads && VirtualThreadExecutorFactory.isSupported()) {
+                context.getMonitor().info("Runtime executors are backed by virtual threads");
+                executorFactory = new VirtualThreadExecutorFactory();
+            } else {
+                if (virtualThreads) {
+                    context.getMonitor().warning(String.format("Setting %s is enabled but virtual threads are not supported by the running JVM (JDK 21 or later is required), platform threads will be used", VIRTUAL_THREADS_SETTING));
+                }
+                executorFactory = ExecutorFactory.platform();
+            }
+        }
+        return executorFactory;
+    }
+
 }
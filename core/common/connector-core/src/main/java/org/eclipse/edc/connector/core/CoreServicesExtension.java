@@ -76,6 +76,10 @@ public class CoreServicesExtension implements ServiceExtension {
     public static final String IDENTITY_KEY = "edc.agent.identity.key";
 
     public static final String NAME = "Core Services";
+    private static final int DEFAULT_EVENT_BATCH_SIZE = 1;
+    @Setting(value = "Maximum number of events notified to an asynchronous subscriber by the same task, values greater than 1 notify every subscriber sequentially",
+            type = "int", defaultValue = DEFAULT_EVENT_BATCH_SIZE + "")
+    public static final String EVENT_BATCH_SIZE = "edc.events.subscriber.batch.size";
     private static final long DEFAULT_DURATION = 60;
     private static final int DEFAULT_TP_SIZE = 3;
     private static final String DEFAULT_HOSTNAME = "localhost";
@@ -164,7 +168,8 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        var batchSize = context.getSetting(EVENT_BATCH_SIZE, DEFAULT_EVENT_BATCH_SIZE);
+        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService(), batchSize);
     }
 
     @Provider
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.base;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.ExecutorFactory;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * {@link ExecutorFactory} that backs the executors with virtual threads, available from JDK 21 on.
+ * <p>
+ * The virtual thread API is accessed through reflection, since the runtime is compiled against an older JDK: use
+ * {@link #isSupported()} to check that the running JVM provides it.
+ * <p>
+ * Executors created by this factory keep their configured number of threads, so the concurrency stays bounded, but as
+ * blocked virtual threads do not hold an OS thread, the number of threads can be raised to match the expected number of
+ * concurrent blocking operations (e.g. transfers or HTTP calls).
+ */
+public class VirtualThreadExecutorFactory implements ExecutorFactory {
+
+    @Nullable
+    private static final Method OF_VIRTUAL = lookup(Thread.class, "ofVirtual");
+    @Nullable
+    private static final Class<?> BUILDER = builderClass();
+
+    /**
+     * Tells whether the running JVM supports virtual threads.
+     *
+     * @return true if virtual threads are supported, false otherwise.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null && BUILDER != null;
+    }
+
+    @Override
+    public ThreadFactory threadFactory(String name) {
+        if (!isSupported()) {
+            throw new EdcException("Virtual threads are not supported by the running JVM, JDK 21 or later is required");
+        }
+        try {
+            var builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER.getMethod("name", String.class, long.class).invoke(builder, name + "-", 1L);
+            return (ThreadFactory) BUILDER.getMethod("factory").invoke(builder);
+        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new EdcException("Cannot create virtual thread factory " + name, e);
+        }
+    }
+
+    @Nullable
+    private static Method lookup(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static Class<?> builderClass() {
+        try {
+            return Class.forName("java.lang.Thread$Builder");
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+}
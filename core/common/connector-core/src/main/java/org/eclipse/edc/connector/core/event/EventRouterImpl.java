@@ -24,64 +24,147 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
-import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.stream.Collectors.toList;
 
+/**
+ * Default {@link EventRouter}. The subscribers of every concrete event class are resolved once and kept in a dispatch
+ * table, which is rebuilt when a subscriber is registered.
+ * <p>
+ * Asynchronous subscribers are notified on the executor. With a batch size greater than one, the events for the same
+ * subscriber are queued and notified in order by a single task, up to the batch size, instead of one task per event:
+ * a subscriber is then never notified concurrently.
+ */
 public class EventRouterImpl implements EventRouter {
 
-    private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
-    private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
-
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final int batchSize;
+    private final Map<EventSubscriber, SubscriberQueue> queues = new ConcurrentHashMap<>();
+    private volatile DispatchTable dispatchTable = new DispatchTable(List.of());
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, 1);
+    }
+
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, int batchSize) {
         this.monitor = monitor;
         this.executor = executor;
+        this.batchSize = batchSize;
     }
 
     @Override
     public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
-        syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        register(new Registration(eventKind, subscriber, true));
     }
 
     @Override
     public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        register(new Registration(eventKind, subscriber, false));
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
-
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
-                    }
-                }));
+        var dispatch = dispatchTable.get(event.getPayload().getClass());
+
+        for (var subscriber : dispatch.sync()) {
+            subscriber.on(event);
+        }
+
+        for (var subscriber : dispatch.async()) {
+            if (batchSize > 1) {
+                queues.computeIfAbsent(subscriber, SubscriberQueue::new).add(event);
+            } else {
+                executor.execute(() -> notifySubscriber(subscriber, event));
+            }
+        }
+    }
+
+    private synchronized void register(Registration registration) {
+        var registrations = new ArrayList<>(dispatchTable.registrations);
+        registrations.add(registration);
+        dispatchTable = new DispatchTable(registrations);
+    }
+
+    private void notifySubscriber(EventSubscriber subscriber, EventEnvelope<?> event) {
+        try {
+            subscriber.on(event);
+        } catch (Throwable throwable) {
+            var subscriberName = subscriber.getClass().getSimpleName();
+            var eventName = event.getClass().getSimpleName();
+            monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
+        }
+    }
+
+    private record Registration(Class<?> eventKind, EventSubscriber subscriber, boolean sync) {
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+    private record Dispatch(List<EventSubscriber> sync, List<EventSubscriber> async) {
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    /**
+     * Immutable snapshot of the registrations, with the subscribers resolved lazily for every concrete event class.
+     */
+    private static class DispatchTable {
+        private final List<Registration> registrations;
+        private final Map<Class<?>, Dispatch> dispatches = new ConcurrentHashMap<>();
+
+        DispatchTable(List<Registration> registrations) {
+            this.registrations = List.copyOf(registrations);
+        }
+
+        Dispatch get(Class<?> eventClass) {
+            return dispatches.computeIfAbsent(eventClass, this::resolve);
+        }
+
+        private Dispatch resolve(Class<?> eventClass) {
+            var matching = registrations.stream().filter(registration -> registration.eventKind().isAssignableFrom(eventClass)).collect(toList());
+            return new Dispatch(
+                    matching.stream().filter(Registration::sync).map(Registration::subscriber).collect(toList()),
+                    matching.stream().filter(registration -> !registration.sync()).map(Registration::subscriber).collect(toList()));
+        }
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+    /**
+     * Events waiting to be notified to an asynchronous subscriber, drained by at most one task at a time.
+     */
+    private class SubscriberQueue {
+        private final EventSubscriber subscriber;
+        private final Queue<EventEnvelope<?>> events = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        SubscriberQueue(EventSubscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void add(EventEnvelope<?> event) {
+            events.add(event);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            EventEnvelope<?> event;
+            var notified = 0;
+            while (notified < batchSize && (event = events.poll()) != null) {
+                notifySubscriber(subscriber, event);
+                notified++;
+            }
+            scheduled.set(false);
+            if (!events.isEmpty()) {
+                schedule();
+            }
+        }
     }
 }
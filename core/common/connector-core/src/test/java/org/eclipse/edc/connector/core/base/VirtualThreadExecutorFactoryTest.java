@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.base;
+
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadExecutorFactoryTest {
+
+    private final VirtualThreadExecutorFactory factory = new VirtualThreadExecutorFactory();
+
+    @Test
+    void newFixedThreadPool_shouldRunTasksOnVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreadExecutorFactory.isSupported());
+        var executor = factory.newFixedThreadPool(2, "test");
+
+        var thread = executor.submit(Thread::currentThread).get(10, SECONDS);
+
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+        assertThat(thread.getName()).startsWith("test-");
+        executor.shutdown();
+    }
+
+    @Test
+    void threadFactory_shouldThrowException_whenVirtualThreadsAreNotSupported() {
+        assumeFalse(VirtualThreadExecutorFactory.isSupported());
+
+        assertThatThrownBy(() -> factory.threadFactory("test")).isInstanceOf(EdcException.class);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.event;
+
+import org.eclipse.edc.junit.annotations.BenchmarkTest;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures the throughput of event publishing to subscribers of the published event kind, with and without ten times as
+ * many subscribers registered for another event kind, as the callback dispatchers and the event listeners of a typical
+ * runtime: the subscribers of other event kinds must not noticeably slow down the publishing. Publishing is paused while
+ * too many notifications are pending, so that the throughput includes the notification of the subscribers. The
+ * measurements are published through the JUnit {@link TestReporter}.
+ * Run with {@code ./gradlew test -DincludeTags="BenchmarkTest"}.
+ */
+@BenchmarkTest
+class EventRouterImplBenchmarkTest {
+
+    private static final Duration WARM_UP = Duration.ofSeconds(1);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(3);
+    private static final long MAX_PENDING_NOTIFICATIONS = 100_000;
+    private static final int OTHER_SUBSCRIBERS_FACTOR = 10;
+    private static final int MAX_SLOWDOWN_PERCENT = 25;
+
+    private final LongAdder notifications = new LongAdder();
+
+    @ParameterizedTest
+    @CsvSource({ "10,1", "100,1", "10,100", "100,100" })
+    void publish_shouldNotSlowDown_whenSubscribersOfOtherEventsAreRegistered(int subscribers, int batchSize, TestReporter reporter) throws InterruptedException {
+        var withoutOthers = measure(subscribers, 0, batchSize);
+        var withOthers = measure(subscribers, subscribers * OTHER_SUBSCRIBERS_FACTOR, batchSize);
+
+        reporter.publishEntry(Map.of(
+                "subscribers", String.valueOf(subscribers),
+                "batchSize", String.valueOf(batchSize),
+                "eventsPerSecond", String.valueOf(withoutOthers),
+                "eventsPerSecondWithOtherSubscribers", String.valueOf(withOthers)
+        ));
+        assertThat(withOthers).isGreaterThanOrEqualTo(withoutOthers * (100 - MAX_SLOWDOWN_PERCENT) / 100);
+    }
+
+    private long measure(int subscribers, int otherSubscribers, int batchSize) throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(4);
+        var router = new EventRouterImpl(mock(Monitor.class), executor, batchSize);
+        register(router, BenchmarkEvent.class, subscribers);
+        register(router, OtherEvent.class, otherSubscribers);
+        var envelope = EventEnvelope.Builder.newInstance().at(0).payload(new BenchmarkEvent()).build();
+
+        run(router, envelope, subscribers, WARM_UP);
+        var published = run(router, envelope, subscribers, MEASUREMENT);
+        shutdown(executor);
+        return published / MEASUREMENT.toSeconds();
+    }
+
+    private void register(EventRouterImpl router, Class<? extends Event> eventKind, int subscribers) {
+        for (var i = 0; i < subscribers; i++) {
+            if (i % 10 == 0) {
+                router.registerSync(eventKind, new CountingSubscriber());
+            } else {
+                router.register(eventKind, new CountingSubscriber());
+            }
+        }
+    }
+
+    private long run(EventRouterImpl router, EventEnvelope<?> envelope, int matching, Duration duration) {
+        notifications.reset();
+        var end = System.nanoTime() + duration.toNanos();
+        var published = 0L;
+        while (System.nanoTime() < end) {
+            router.publish(envelope);
+            published++;
+            while (published * matching - notifications.sum() > MAX_PENDING_NOTIFICATIONS) {
+                Thread.onSpinWait();
+            }
+        }
+        return published;
+    }
+
+    private void shutdown(ExecutorService executor) throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private static class BenchmarkEvent extends Event {
+        @Override
+        public String name() {
+            return "benchmark";
+        }
+    }
+
+    private static class OtherEvent extends Event {
+        @Override
+        public String name() {
+            return "other";
+        }
+    }
+
+    private class CountingSubscriber implements EventSubscriber {
+        @Override
+        public <E extends Event> void on(EventEnvelope<E> event) {
+            notifications.increment();
+        }
+    }
+}
@@ -21,15 +21,20 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -149,6 +154,47 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldPublishToSubscribersRegisteredAfterPublishing() {
+        var subscriberA = mock(EventSubscriber.class);
+        var subscriberB = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, subscriberA);
+
+        var event = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+        eventRouter.publish(event);
+        eventRouter.registerSync(TestEventBase.class, subscriberB);
+        eventRouter.publish(event);
+
+        verify(subscriberA, times(2)).on(eq(event));
+        verify(subscriberB).on(eq(event));
+    }
+
+    @Test
+    void shouldPublishInOrder_whenBatchingEvents() {
+        var batchingRouter = new EventRouterImpl(monitor, Executors.newFixedThreadPool(4), 10);
+        var received = new CopyOnWriteArrayList<String>();
+        batchingRouter.register(TestEvent.class, new EventSubscriber() {
+            @Override
+            public <E extends Event> void on(EventEnvelope<E> event) {
+                received.add(event.getId());
+            }
+        });
+
+        for (var i = 0; i < 100; i++) {
+            batchingRouter.publish(EventEnvelope.Builder.newInstance()
+                    .id(String.valueOf(i))
+                    .at(clock.millis())
+                    .payload(TestEvent.Builder.newInstance().build())
+                    .build());
+        }
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).hasSize(100)
+                .containsExactlyElementsOf(IntStream.range(0, 100).mapToObj(String::valueOf).collect(toList())));
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
@@ -15,20 +15,26 @@
 package org.eclipse.edc.web.jersey.jsonld;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGeneratorFactory;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.ext.Provider;
 import jakarta.ws.rs.ext.ReaderInterceptor;
 import jakarta.ws.rs.ext.ReaderInterceptorContext;
 import jakarta.ws.rs.ext.WriterInterceptor;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 
@@ -36,6 +42,7 @@ import static jakarta.json.stream.JsonCollectors.toJsonArray;
 public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterceptor {
     private final JsonLd jsonLd;
     private final ObjectMapper objectMapper;
+    private final JsonGeneratorFactory generatorFactory = Json.createGeneratorFactory(Map.of());
 
     public JerseyJsonLdInterceptor(JsonLd jsonLd, ObjectMapper objectMapper) {
         this.jsonLd = jsonLd;
@@ -74,11 +81,29 @@ public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterce
             context.setEntity(compacted);
         } else if (context.getEntity() instanceof JsonObject jsonObject) {
             context.setEntity(compact(jsonObject));
+        } else if (context.getEntity() instanceof JsonObjectStream stream) {
+            context.setEntity((StreamingOutput) output -> writeCompacted(stream, output));
+            context.setType(StreamingOutput.class);
+            context.setGenericType(StreamingOutput.class);
         }
 
         context.proceed();
     }
 
+    /**
+     * Compacts and writes the elements one at a time, so that only the element being written is held in memory.
+     */
+    private void writeCompacted(JsonObjectStream stream, OutputStream output) {
+        // the generator is not closed, as that would close the response stream, which is owned by the container
+        var generator = generatorFactory.createGenerator(output);
+        try (stream) {
+            generator.writeStartArray();
+            stream.stream().map(this::compact).forEach(generator::write);
+            generator.writeEnd();
+            generator.flush();
+        }
+    }
+
     private JsonObject compact(JsonObject jsonObject) {
         return jsonLd.compact(jsonObject)
                 .orElseThrow(f -> new InternalServerErrorException("Failed to compact JsonObject: " + f.getFailureDetail()));
@@ -21,6 +21,7 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
@@ -28,12 +29,14 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -166,6 +169,34 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
                 .statusCode(500);
     }
 
+    @Test
+    void compaction_stream_shouldCompactEveryElement() {
+        when(jsonLd.compact(any())).thenReturn(Result.success(compactedJson()));
+
+        given()
+                .port(port)
+                .accept(JSON)
+                .get("/get/stream/json-object")
+                .then()
+                .statusCode(200)
+                .body("size()", is(3))
+                .body("[2].compacted-key", is("compacted-value"));
+
+        verify(jsonLd, times(3)).compact(expandedJson());
+    }
+
+    @Test
+    void compaction_stream_shouldReturnInternalServerError_whenCompactionFails() {
+        when(jsonLd.compact(any())).thenReturn(Result.failure("compaction failure"));
+
+        given()
+                .port(port)
+                .accept(JSON)
+                .get("/get/stream/json-object")
+                .then()
+                .statusCode(500);
+    }
+
     @Test
     void compaction_multiple_shouldNotHappen_whenOutputIsNotJsonObject() {
         given()
@@ -223,6 +254,12 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
             return Json.createArrayBuilder().add(expandedJson()).build();
         }
 
+        @GET
+        @Path("/get/stream/json-object")
+        public JsonObjectStream getStreamJsonObject() {
+            return JsonObjectStream.of(Stream.of(expandedJson(), expandedJson(), expandedJson()));
+        }
+
         @GET
         @Path("/get/multiple/not-json-object")
         public List<Map<String, String>> getMultipleNotJsonObject() {
@@ -19,6 +19,7 @@ import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
 import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.edc.jwt.spi.TokenValidationRule;
 import org.eclipse.edc.jwt.spi.TokenValidationRulesRegistry;
 import org.eclipse.edc.jwt.spi.TokenValidationService;
 import org.eclipse.edc.spi.iam.ClaimToken;
@@ -26,24 +27,77 @@ import org.eclipse.edc.spi.iam.PublicKeyResolver;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
 import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
+
+/**
+ * Default implementation.
+ * <p>
+ * The verifiers are kept per public key id, as long as the key resolved for the id does not change. Optionally, the
+ * successful validations can be kept as well, keyed by a digest of the token, until the token expires or at most for
+ * a configured time to live: a token validated from the cache is only checked again against the time dependent rules,
+ * see {@link TokenValidationRule#isTimeDependent()}.
+ */
 public class TokenValidationServiceImpl implements TokenValidationService {
 
+    private static final int MAX_CACHED_VALIDATIONS = 10_000;
+    private static final int MAX_CACHED_VERIFIERS = 1_000;
+
     private final PublicKeyResolver publicKeyResolver;
     private final TokenValidationRulesRegistry rulesRegistry;
+    private final Clock clock;
+    private final Duration cacheTtl;
+    private final Map<String, CachedVerifier> verifiers = new ConcurrentHashMap<>();
+    private final Map<ValidationKey, CachedValidation> validations = new ConcurrentHashMap<>();
 
     public TokenValidationServiceImpl(PublicKeyResolver publicKeyResolver, TokenValidationRulesRegistry rulesRegistry) {
+        this(publicKeyResolver, rulesRegistry, Clock.systemUTC(), Duration.ZERO);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param publicKeyResolver the resolver of the keys that signed the tokens.
+     * @param rulesRegistry     the rules the tokens are checked against.
+     * @param clock             the clock.
+     * @param cacheTtl          maximum time during which a successful validation is reused, zero disables the cache.
+     */
+    public TokenValidationServiceImpl(PublicKeyResolver publicKeyResolver, TokenValidationRulesRegistry rulesRegistry, Clock clock, Duration cacheTtl) {
         this.publicKeyResolver = publicKeyResolver;
         this.rulesRegistry = rulesRegistry;
+        this.clock = clock;
+        this.cacheTtl = cacheTtl;
     }
 
     @Override
     public Result<ClaimToken> validate(TokenRepresentation tokenRepresentation) {
         var token = tokenRepresentation.getToken();
         var additional = tokenRepresentation.getAdditional();
+
+        ValidationKey validationKey = null;
+        if (isCacheEnabled() && token != null) {
+            validationKey = new ValidationKey(digest(token), additional == null ? Map.of() : new HashMap<>(additional));
+            var cached = validations.get(validationKey);
+            if (cached != null && clock.millis() < cached.expiresAt) {
+                var claimToken = ClaimToken.Builder.newInstance().claims(cached.claims).build();
+                return checkRules(claimToken, additional, TokenValidationRule::isTimeDependent);
+            }
+        }
+
         try {
             var signedJwt = SignedJWT.parse(token);
             var publicKeyId = signedJwt.getHeader().getKeyID();
@@ -64,18 +118,11 @@ public class TokenValidationServiceImpl implements TokenValidationService {
 
             var claimToken = tokenBuilder.build();
 
-            var errors = rulesRegistry.getRules().stream()
-                    .map(r -> r.checkRule(claimToken, additional))
-                    .filter(Result::failed)
-                    .map(Result::getFailureMessages)
-                    .flatMap(Collection::stream)
-                    .collect(Collectors.toList());
-
-            if (!errors.isEmpty()) {
-                return Result.failure(errors);
+            var result = checkRules(claimToken, additional, rule -> true);
+            if (result.succeeded() && validationKey != null) {
+                cache(validationKey, claimToken);
             }
-
-            return Result.success(claimToken);
+            return result;
 
         } catch (JOSEException e) {
             return Result.failure(e.getMessage());
@@ -84,15 +131,86 @@ public class TokenValidationServiceImpl implements TokenValidationService {
         }
     }
 
+    private Result<ClaimToken> checkRules(ClaimToken claimToken, Map<String, Object> additional, Predicate<TokenValidationRule> filter) {
+        var errors = rulesRegistry.getRules().stream()
+                .filter(filter)
+                .map(r -> r.checkRule(claimToken, additional))
+                .filter(Result::failed)
+                .map(Result::getFailureMessages)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+
+        if (!errors.isEmpty()) {
+            return Result.failure(errors);
+        }
+
+        return Result.success(claimToken);
+    }
+
     private Result<JWSVerifier> createVerifier(JWSHeader header, String publicKeyId) {
         var publicKey = publicKeyResolver.resolveKey(publicKeyId);
         if (publicKey == null) {
             return Result.failure("Failed to resolve public key with id: " + publicKeyId);
         }
+
+        var verifierKey = publicKeyId + "/" + header.getAlgorithm();
+        var cached = verifiers.get(verifierKey);
+        if (cached != null && cached.publicKey.equals(publicKey)) {
+            return Result.success(cached.verifier);
+        }
+
         try {
-            return Result.success(new DefaultJWSVerifierFactory().createJWSVerifier(header, publicKey));
+            var verifier = new DefaultJWSVerifierFactory().createJWSVerifier(header, publicKey);
+            if (verifiers.size() >= MAX_CACHED_VERIFIERS) {
+                verifiers.clear();
+            }
+            verifiers.put(verifierKey, new CachedVerifier(publicKey, verifier));
+            return Result.success(verifier);
         } catch (JOSEException e) {
             return Result.failure("Failed to create verifier");
         }
     }
+
+    private void cache(ValidationKey validationKey, ClaimToken claimToken) {
+        var now = clock.millis();
+        var expiresAt = now + cacheTtl.toMillis();
+        var expiration = claimToken.getInstantClaim(EXPIRATION_TIME);
+        if (expiration != null) {
+            expiresAt = Math.min(expiresAt, expiration.toEpochMilli());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+
+        if (validations.size() >= MAX_CACHED_VALIDATIONS) {
+            validations.values().removeIf(entry -> entry.expiresAt <= now);
+            if (validations.size() >= MAX_CACHED_VALIDATIONS) {
+                return;
+            }
+        }
+        validations.put(validationKey, new CachedValidation(Map.copyOf(claimToken.getClaims()), expiresAt));
+    }
+
+    private boolean isCacheEnabled() {
+        return !cacheTtl.isZero() && !cacheTtl.isNegative();
+    }
+
+    private static String digest(String token) {
+        try {
+            var hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is supported by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record ValidationKey(String tokenDigest, Map<String, Object> additional) {
+    }
+
+    private record CachedValidation(Map<String, Object> claims, long expiresAt) {
+    }
+
+    private record CachedVerifier(PublicKey publicKey, JWSVerifier verifier) {
+    }
 }
@@ -26,6 +26,7 @@ import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.jwt.spi.TokenValidationRule;
 import org.eclipse.edc.jwt.spi.TokenValidationService;
 import org.eclipse.edc.spi.iam.PublicKeyResolver;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,14 +34,20 @@ import org.junit.jupiter.api.Test;
 
 import java.security.PrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Date;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class TokenValidationServiceImplTest {
@@ -50,6 +57,7 @@ class TokenValidationServiceImplTest {
     private TokenValidationRule ruleMock;
     private final Instant now = Instant.now();
     private String publicKeyId;
+    private PublicKeyResolver resolver;
 
     @BeforeEach
     public void setUp() throws JOSEException {
@@ -57,7 +65,7 @@ class TokenValidationServiceImplTest {
         ruleMock = mock(TokenValidationRule.class);
         var publicKey = (RSAPublicKey) key.toPublicKey();
         publicKeyId = UUID.randomUUID().toString();
-        var resolver = new PublicKeyResolver() {
+        resolver = new PublicKeyResolver() {
             @Override
             public @Nullable
             RSAPublicKey resolveKey(String id) {
@@ -104,6 +112,72 @@ class TokenValidationServiceImplTest {
         assertThat(result.getFailureMessages()).containsExactly("Rule validation failed!");
     }
 
+    @Test
+    void validationSuccess_cachedValidationOnlyChecksTimeDependentRules() throws JOSEException {
+        var timeRule = mock(TokenValidationRule.class);
+        when(timeRule.isTimeDependent()).thenReturn(true);
+        when(timeRule.checkRule(any(), any())).thenReturn(Result.success(), Result.success(), Result.failure("Token has expired"));
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.success());
+        var service = cachingService(Clock.fixed(now, ZoneOffset.UTC), timeRule);
+        var token = createJwt(publicKeyId, createClaims(now.plusSeconds(60)), key.toPrivateKey());
+
+        assertThat(service.validate(token).succeeded()).isTrue();
+        var cached = service.validate(token);
+        assertThat(cached.succeeded()).isTrue();
+        assertThat(cached.getContent().getClaims()).containsEntry("foo", "bar");
+        assertThat(service.validate(token).getFailureMessages()).containsExactly("Token has expired");
+
+        verify(ruleMock).checkRule(any(), any());
+        verify(timeRule, times(3)).checkRule(any(), any());
+    }
+
+    @Test
+    void validationSuccess_cachedUntilTokenExpiration() throws JOSEException {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(now.toEpochMilli(), now.plusSeconds(59).toEpochMilli(), now.plusSeconds(61).toEpochMilli());
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.success());
+        var service = cachingService(clock);
+        var token = createJwt(publicKeyId, createClaims(now.plusSeconds(60)), key.toPrivateKey());
+
+        service.validate(token);
+        service.validate(token);
+        service.validate(token);
+
+        verify(ruleMock, times(2)).checkRule(any(), any());
+    }
+
+    @Test
+    void validationSuccess_notCachedForDifferentAdditionalParameters() throws JOSEException {
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.success());
+        var service = cachingService(Clock.fixed(now, ZoneOffset.UTC));
+        var token = createJwt(publicKeyId, createClaims(now.plusSeconds(60)), key.toPrivateKey());
+
+        service.validate(TokenRepresentation.Builder.newInstance().token(token).additional(Map.of("audience", "one")).build());
+        service.validate(TokenRepresentation.Builder.newInstance().token(token).additional(Map.of("audience", "two")).build());
+
+        verify(ruleMock, times(2)).checkRule(any(), any());
+    }
+
+    @Test
+    void validationFailure_notCached() throws JOSEException {
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.failure("Rule validation failed!"), Result.success());
+        var service = cachingService(Clock.fixed(now, ZoneOffset.UTC));
+        var token = createJwt(publicKeyId, createClaims(now.plusSeconds(60)), key.toPrivateKey());
+
+        assertThat(service.validate(token).failed()).isTrue();
+        assertThat(service.validate(token).succeeded()).isTrue();
+        verify(ruleMock, times(2)).checkRule(any(), any());
+    }
+
+    private TokenValidationService cachingService(Clock clock, TokenValidationRule... additionalRules) {
+        var rulesRegistry = new TokenValidationRulesRegistryImpl();
+        rulesRegistry.addRule(ruleMock);
+        for (var rule : additionalRules) {
+            rulesRegistry.addRule(rule);
+        }
+        return new TokenValidationServiceImpl(resolver, rulesRegistry, clock, Duration.ofMinutes(5));
+    }
+
     private JWTClaimsSet createClaims(Instant exp) {
         return new JWTClaimsSet.Builder()
                 .claim("foo", "bar")
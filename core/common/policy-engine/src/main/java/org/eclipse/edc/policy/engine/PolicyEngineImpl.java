@@ -33,6 +33,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
@@ -51,6 +52,8 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final List<BiFunction<Policy, PolicyContext, Boolean>> preValidators = new ArrayList<>();
     private final List<BiFunction<Policy, PolicyContext, Boolean>> postValidators = new ArrayList<>();
 
+    private final Map<String, ScopePlan> plans = new ConcurrentHashMap<>();
+
     public PolicyEngineImpl(ScopeFilter scopeFilter) {
         this.scopeFilter = scopeFilter;
     }
@@ -75,31 +78,7 @@ public class PolicyEngineImpl implements PolicyEngine {
             }
         }
 
-        var evalBuilder = PolicyEvaluator.Builder.newInstance();
-
-        final var delimitedScope = scope + ".";
-
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            }
-        });
-
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
-            }
-        });
-
-        var evaluator = evalBuilder.build();
+        var evaluator = plan(scope).evaluator(context);
 
         var filteredPolicy = scopeFilter.applyScope(policy, scope);
 
@@ -134,12 +113,14 @@ public class PolicyEngineImpl implements PolicyEngine {
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        plans.clear();
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
         ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        plans.clear();
     }
 
     @Override
@@ -152,10 +133,87 @@ public class PolicyEngineImpl implements PolicyEngine {
         postValidators.add(validator);
     }
 
+    /**
+     * Returns the functions applicable to a scope, resolving them only if no function was registered since the last
+     * evaluation in the scope.
+     */
+    ScopePlan plan(String scope) {
+        return plans.computeIfAbsent(scope, this::compile);
+    }
+
+    /**
+     * Resolves the functions applicable to a scope.
+     */
+    private ScopePlan compile(String scope) {
+        var delimitedScope = scope + ".";
+        var plan = new ScopePlan();
+
+        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                plan.dutyRuleFunctions.add(entry.function);
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                plan.permissionRuleFunctions.add(entry.function);
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                plan.prohibitionRuleFunctions.add(entry.function);
+            }
+        });
+
+        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                plan.dutyFunctions.add(entry);
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                plan.permissionFunctions.add(entry);
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                plan.prohibitionFunctions.add(entry);
+            }
+        });
+
+        return plan;
+    }
+
     private boolean scopeFilter(String entry, String scope) {
         return ALL_SCOPES_DELIMITED.equals(entry) || scope.startsWith(entry);
     }
 
+    /**
+     * The functions applicable to a scope, grouped by rule type, so that evaluations do not need to resolve them again.
+     * Plans are discarded when a function is registered.
+     */
+    static class ScopePlan {
+        private final List<RuleFunction<Rule>> dutyRuleFunctions = new ArrayList<>();
+        private final List<RuleFunction<Rule>> permissionRuleFunctions = new ArrayList<>();
+        private final List<RuleFunction<Rule>> prohibitionRuleFunctions = new ArrayList<>();
+        private final List<ConstraintFunctionEntry<Rule>> dutyFunctions = new ArrayList<>();
+        private final List<ConstraintFunctionEntry<Rule>> permissionFunctions = new ArrayList<>();
+        private final List<ConstraintFunctionEntry<Rule>> prohibitionFunctions = new ArrayList<>();
+
+        /**
+         * Creates an evaluator bound to the context. The evaluator is stateful, so a new one is needed for every evaluation.
+         */
+        PolicyEvaluator evaluator(PolicyContext context) {
+            var evalBuilder = PolicyEvaluator.Builder.newInstance();
+            for (var function : dutyRuleFunctions) {
+                evalBuilder.dutyRuleFunction(rule -> function.evaluate(rule, context));
+            }
+            for (var function : permissionRuleFunctions) {
+                evalBuilder.permissionRuleFunction(rule -> function.evaluate(rule, context));
+            }
+            for (var function : prohibitionRuleFunctions) {
+                evalBuilder.prohibitionRuleFunction(rule -> function.evaluate(rule, context));
+            }
+            for (var entry : dutyFunctions) {
+                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
+            }
+            for (var entry : permissionFunctions) {
+                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
+            }
+            for (var entry : prohibitionFunctions) {
+                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
+            }
+            return evalBuilder.build();
+        }
+    }
+
     private static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
@@ -210,6 +210,38 @@ class PolicyEngineImplTest {
         assertThat(result.succeeded()).isFalse();
     }
 
+    @Test
+    void evaluate_shouldApplyFunctionRegisteredAfterPreviousEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var agent = new ParticipantAgent(emptyMap(), emptyMap());
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(new LiteralExpression("foo")).operator(EQ).rightExpression(new LiteralExpression("bar")).build();
+        var duty = Duty.Builder.newInstance().constraint(constraint).build();
+        var policy = Policy.Builder.newInstance().duty(duty).build();
+
+        policyEngine.registerFunction(ALL_SCOPES, Duty.class, "foo", (op, rv, d, context) -> true);
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, agent).succeeded()).isTrue();
+
+        policyEngine.registerFunction(TEST_SCOPE, Duty.class, "foo", (op, rv, d, context) -> false);
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, agent).succeeded()).isFalse();
+    }
+
+    @Test
+    void evaluate_shouldReuseResolvedFunctions_untilFunctionIsRegistered() {
+        var agent = new ParticipantAgent(emptyMap(), emptyMap());
+        var policy = Policy.Builder.newInstance().build();
+        policyEngine.registerFunction(ALL_SCOPES, Duty.class, "foo", (op, rv, d, context) -> true);
+
+        policyEngine.evaluate(TEST_SCOPE, policy, agent);
+        var plan = policyEngine.plan(TEST_SCOPE);
+        policyEngine.evaluate(TEST_SCOPE, policy, agent);
+
+        assertThat(policyEngine.plan(TEST_SCOPE)).isSameAs(plan);
+
+        policyEngine.registerFunction(TEST_SCOPE, Duty.class, "foo", (op, rv, d, context) -> false);
+
+        assertThat(policyEngine.plan(TEST_SCOPE)).isNotSameAs(plan);
+    }
+
     @BeforeEach
     void setUp() {
         bindingRegistry = new RuleBindingRegistryImpl();
@@ -16,16 +16,22 @@ package org.eclipse.edc.statemachine;
 
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorFactory;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
-import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -35,27 +41,32 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * If workers are configured, every processor runs instead in its own loop, so that a slow processor does not hold back
+ * the others, and the entities of every batch are processed concurrently on a dedicated pool of worker threads.
+ * Both the loops and the worker pools are instrumented through the {@link ExecutorInstrumentation}, that permits to
+ * collect per-processor throughput and queue depth metrics, and are created by the {@link ExecutorFactory}, that permits
+ * to back them with virtual threads.
  */
 public class StateMachineManager {
 
-    private final List<StateProcessor> processors = new ArrayList<>();
-    private final ScheduledExecutorService executor;
+    private final Map<String, StateProcessor> processors = new LinkedHashMap<>();
+    private final Map<String, Integer> processorWorkers = new HashMap<>();
+    private final List<Loop> loops = new ArrayList<>();
     private final AtomicBoolean active = new AtomicBoolean();
-    private final WaitStrategy waitStrategy;
+    private final Supplier<WaitStrategy> waitStrategySupplier;
     private final Monitor monitor;
+    private final ExecutorInstrumentation instrumentation;
     private final String name;
     private int shutdownTimeout = 10;
+    private int workers = 0;
+    private ExecutorFactory executorFactory = ExecutorFactory.platform();
 
-    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
+    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategySupplier) {
         this.name = name;
         this.monitor = monitor;
-        this.waitStrategy = waitStrategy;
-        executor = instrumentation.instrument(
-                Executors.newSingleThreadScheduledExecutor(r -> {
-                    var thread = Executors.defaultThreadFactory().newThread(r);
-                    thread.setName("StateMachineManager-" + name);
-                    return thread;
-                }), name);
+        this.instrumentation = instrumentation;
+        this.waitStrategySupplier = waitStrategySupplier;
     }
 
     /**
@@ -65,7 +76,7 @@ public class StateMachineManager {
      */
     public Future<?> start() {
         active.set(true);
-        return submit(0L);
+        return CompletableFuture.allOf(loops.stream().map(Loop::start).toArray(CompletableFuture[]::new));
     }
 
     /**
@@ -75,10 +86,15 @@ public class StateMachineManager {
      */
     public CompletableFuture<Boolean> stop() {
         active.set(false);
+        loops.forEach(Loop::shutdown);
 
         return CompletableFuture.supplyAsync(() -> {
             try {
-                return executor.awaitTermination(shutdownTimeout, SECONDS);
+                var terminated = true;
+                for (var loop : loops) {
+                    terminated &= loop.awaitTermination();
+                }
+                return terminated;
             } catch (InterruptedException e) {
                 monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
                 return false;
@@ -95,57 +111,152 @@ public class StateMachineManager {
         return active.get();
     }
 
-    @NotNull
-    private Future<?> submit(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+    private void initialize() {
+        var parallel = workers > 0 || !processorWorkers.isEmpty();
+        if (!parallel) {
+            loops.add(new Loop(name, new ArrayList<>(processors.values()), null));
+            return;
+        }
+
+        processors.forEach((processorName, processor) -> {
+            var loopName = name + "-" + processorName;
+            var poolSize = processorWorkers.getOrDefault(processorName, workers);
+            var workerPool = poolSize > 0
+                    ? instrumentation.instrument(executorFactory.newFixedThreadPool(poolSize, "StateMachineWorker-" + loopName), loopName + "-workers")
+                    : null;
+            loops.add(new Loop(loopName, List.of(processor), workerPool));
+        });
     }
 
-    private Runnable loop() {
-        return () -> {
+    /**
+     * A single-threaded loop that runs a set of processors continuously, optionally dispatching the processing of the
+     * entities to a pool of workers. Every loop has its own {@link WaitStrategy}, as wait strategies are stateful.
+     */
+    private class Loop implements Runnable {
+        private final String loopName;
+        private final List<StateProcessor> loopProcessors;
+        private final ScheduledExecutorService executor;
+        private final WaitStrategy waitStrategy;
+        @Nullable
+        private final ExecutorService workerPool;
+
+        Loop(String loopName, List<StateProcessor> loopProcessors, @Nullable ExecutorService workerPool) {
+            this.loopName = loopName;
+            this.loopProcessors = loopProcessors;
+            this.workerPool = workerPool;
+            this.waitStrategy = waitStrategySupplier.get();
+            this.executor = instrumentation.instrument(
+                    executorFactory.newSingleThreadScheduledExecutor("StateMachineManager-" + loopName), loopName);
+        }
+
+        CompletableFuture<Void> start() {
+            return CompletableFuture.runAsync(this, executor);
+        }
+
+        void shutdown() {
+            executor.shutdown();
+        }
+
+        boolean awaitTermination() throws InterruptedException {
+            var terminated = executor.awaitTermination(shutdownTimeout, SECONDS);
+            if (workerPool != null) {
+                workerPool.shutdown();
+            }
+            return terminated;
+        }
+
+        @Override
+        public void run() {
             if (active.get()) {
                 long delay = performLogic();
 
                 // Submit next execution after delay
-                submit(delay);
+                try {
+                    executor.schedule(this, delay, MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    monitor.debug(format("StateMachineManager [%s] next iteration rejected: %s", loopName, e.getMessage()));
+                }
             }
-        };
-    }
+        }
 
-    private long performLogic() {
-        try {
-            var processed = processors.stream()
-                    .mapToLong(StateProcessor::process)
-                    .sum();
+        private long performLogic() {
+            try {
+                var processed = loopProcessors.stream()
+                        .mapToLong(processor -> workerPool == null ? processor.process() : processor.process(workerPool))
+                        .sum();
 
-            waitStrategy.success();
+                waitStrategy.success();
 
-            if (processed == 0) {
-                return waitStrategy.waitForMillis();
+                if (processed == 0) {
+                    return waitStrategy.waitForMillis();
+                }
+            } catch (Error e) {
+                active.set(false);
+                monitor.severe(format("StateMachineManager [%s] unrecoverable error", loopName), e);
+            } catch (Throwable e) {
+                monitor.severe(format("StateMachineManager [%s] error caught", loopName), e);
+                return waitStrategy.retryInMillis();
             }
-        } catch (Error e) {
-            active.set(false);
-            monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
-        } catch (Throwable e) {
-            monitor.severe(format("StateMachineManager [%s] error caught", name), e);
-            return waitStrategy.retryInMillis();
-        }
-        return 0;
+            return 0;
+        }
     }
 
     public static class Builder {
 
         private final StateMachineManager loop;
 
-        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
-            loop = new StateMachineManager(name, monitor, instrumentation, waitStrategy);
+        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategySupplier) {
+            loop = new StateMachineManager(name, monitor, instrumentation, waitStrategySupplier);
+        }
+
+        /**
+         * Creates a builder, the wait strategy supplier is called once for every loop.
+         */
+        public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategySupplier) {
+            return new Builder(name, monitor, instrumentation, waitStrategySupplier);
         }
 
+        /**
+         * Creates a builder whose loops all share the wait strategy, use {@link #newInstance(String, Monitor, ExecutorInstrumentation, Supplier)}
+         * for stateful wait strategies.
+         */
         public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
-            return new Builder(name, monitor, instrumentation, waitStrategy);
+            return newInstance(name, monitor, instrumentation, () -> waitStrategy);
         }
 
         public Builder processor(StateProcessor processor) {
-            loop.processors.add(processor);
+            return processor("processor-" + loop.processors.size(), processor);
+        }
+
+        /**
+         * Add a named processor, the name is used to identify the processor loop and worker pool when workers are configured.
+         */
+        public Builder processor(String name, StateProcessor processor) {
+            loop.processors.put(name, processor);
+            return this;
+        }
+
+        /**
+         * Number of worker threads dedicated to every processor. With 0 (default) all the processors run sequentially on a single thread.
+         */
+        public Builder workers(int workers) {
+            loop.workers = workers;
+            return this;
+        }
+
+        /**
+         * Number of worker threads dedicated to a specific processor, overrides the value set with {@link #workers(int)}.
+         */
+        public Builder workers(String processorName, int workers) {
+            loop.processorWorkers.put(processorName, workers);
+            return this;
+        }
+
+        /**
+         * The factory used to create the loop and worker threads, by default platform threads are used.
+         */
+        public Builder executorFactory(ExecutorFactory executorFactory) {
+            loop.executorFactory = executorFactory;
             return this;
         }
 
@@ -155,6 +266,7 @@ public class StateMachineManager {
         }
 
         public StateMachineManager build() {
+            loop.initialize();
             return loop;
         }
     }
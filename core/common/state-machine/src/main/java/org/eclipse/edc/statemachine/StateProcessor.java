@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.statemachine;
 
+import java.util.concurrent.Executor;
+
 /**
  * Interface that declares an abstraction for a component that process some entities and return the number of the processed ones.
  * Used by {@link StateMachineManager} to decide whether to apply wait strategy in loop iteration
@@ -28,4 +30,15 @@ public interface StateProcessor {
      * @return the processed states count
      */
     Long process();
+
+    /**
+     * Process states, using the passed executor to process the single entities concurrently.
+     * The default implementation ignores the executor and processes them on the calling thread.
+     *
+     * @param executor the executor on which the entities can be processed.
+     * @return the processed states count
+     */
+    default Long process(Executor executor) {
+        return process();
+    }
 }
@@ -15,6 +15,8 @@
 package org.eclipse.edc.statemachine;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -48,4 +50,21 @@ public class StateProcessorImpl<T> implements StateProcessor {
                 .filter(isProcessed)
                 .count();
     }
+
+    /**
+     * Process the entities of the batch concurrently on the executor, waiting for all of them to be completed.
+     */
+    @Override
+    public Long process(Executor executor) {
+        var futures = entities.get().stream()
+                .map(entity -> CompletableFuture.supplyAsync(() -> process.apply(entity), executor))
+                .toList();
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .filter(isProcessed)
+                .count();
+    }
 }
@@ -21,9 +21,14 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -73,7 +78,7 @@ class StateMachineManagerTest {
         doAnswer(i -> {
             return 1L;
         }).when(waitStrategy).success();
-        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
                 .processor(processor)
                 .build();
 
@@ -93,7 +98,7 @@ class StateMachineManagerTest {
         doAnswer(i -> {
             return 0L;
         }).when(waitStrategy).waitForMillis();
-        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
                 .processor(processor)
                 .build();
 
@@ -109,7 +114,7 @@ class StateMachineManagerTest {
     void shouldExitWithAnExceptionIfProcessorExitsWithAnUnrecoverableError() {
         var processor = mock(StateProcessor.class);
         when(processor.process()).thenThrow(new Error("unrecoverable"));
-        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
                 .processor(processor)
                 .build();
 
@@ -124,7 +129,7 @@ class StateMachineManagerTest {
         when(waitStrategy.retryInMillis()).thenAnswer(i -> {
             return 1L;
         });
-        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
                 .processor(processor)
                 .build();
 
@@ -135,4 +140,47 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldRunProcessorsIndependently_whenWorkersAreConfigured() {
+        var latch = new CountDownLatch(1);
+        StateProcessor slowProcessor = () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 0L;
+        };
+        var fastProcessor = mock(StateProcessor.class);
+        when(fastProcessor.process(any())).thenReturn(0L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
+                .processor("slow", slowProcessor)
+                .processor("fast", fastProcessor)
+                .workers(2)
+                .shutdownTimeout(1)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> verify(fastProcessor, atLeast(2)).process(any()));
+        latch.countDown();
+        assertThat(stateMachine.stop()).succeedsWithin(2, SECONDS);
+    }
+
+    @Test
+    void shouldGiveEveryLoopItsOwnWaitStrategy_whenWorkersAreConfigured() {
+        var waitStrategies = new ArrayList<WaitStrategy>();
+        StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> {
+                    var strategy = mock(WaitStrategy.class);
+                    waitStrategies.add(strategy);
+                    return strategy;
+                })
+                .processor("one", mock(StateProcessor.class))
+                .processor("two", mock(StateProcessor.class))
+                .workers(1)
+                .build();
+
+        assertThat(waitStrategies).hasSize(2).doesNotHaveDuplicates();
+    }
 }
@@ -17,7 +17,10 @@ package org.eclipse.edc.statemachine;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class StateProcessorImplTest {
@@ -39,4 +42,24 @@ class StateProcessorImplTest {
 
         assertThat(count).isEqualTo(0);
     }
+
+    @Test
+    void shouldProcessEntitiesConcurrently_whenExecutorIsPassed() {
+        var executor = Executors.newFixedThreadPool(2);
+        var barrier = new CyclicBarrier(2);
+        var processor = new StateProcessorImpl<>(() -> List.of("one", "two"), string -> {
+            try {
+                // both entities need to be processed at the same time to pass the barrier
+                barrier.await(5, SECONDS);
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        });
+
+        var count = processor.process(executor);
+
+        assertThat(count).isEqualTo(2);
+        executor.shutdown();
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Predicate;
+
+/**
+ * A threadsafe, size-bounded cache whose entries expire after a time-to-live. Entries can also be given an explicit expiration instant,
+ * which is capped by the time-to-live. When the cache grows beyond capacity, the least recently used entry is evicted.
+ */
+public class ExpiringCache<K, V> {
+    private final LruCache<K, Entry<V>> entries;
+    private final Duration ttl;
+    private final Clock clock;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the maximum number of entries.
+     * @param ttl the maximum time an entry is retained.
+     * @param clock the clock used to compute expiration.
+     */
+    public ExpiringCache(int capacity, Duration ttl, Clock clock) {
+        this.entries = new LruCache<>(capacity);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the value associated to the key, or null if absent or expired.
+     */
+    @Nullable
+    public synchronized V get(K key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(clock.instant())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Associates the value to the key for the cache time-to-live.
+     */
+    public void put(K key, V value) {
+        put(key, value, null);
+    }
+
+    /**
+     * Associates the value to the key until the given instant, or for the cache time-to-live if it elapses earlier.
+     */
+    public synchronized void put(K key, V value, @Nullable Instant expiresAt) {
+        var maxExpiration = clock.instant().plus(ttl);
+        var expiration = expiresAt == null || expiresAt.isAfter(maxExpiration) ? maxExpiration : expiresAt;
+        entries.put(key, new Entry<>(value, expiration));
+    }
+
+    /**
+     * Removes the entry associated to the key.
+     */
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all the entries whose value matches the predicate.
+     */
+    public synchronized void removeIf(Predicate<V> predicate) {
+        entries.values().removeIf(entry -> predicate.test(entry.value));
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of entries, including expired entries that have not been evicted yet.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final Instant expiration;
+
+        Entry(V value, Instant expiration) {
+            this.value = value;
+            this.expiration = expiration;
+        }
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiration);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.util.collection;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * A threadsafe {@link ExpiringCache} that loads the missing values on access and counts the hits and misses. Null
+ * values are not cached.
+ * <p>
+ * A value loaded while the cache is invalidated is not cached, so that a concurrent load cannot put back a value read
+ * before the invalidation.
+ */
+public class ReadThroughCache<K, V> {
+    private final ExpiringCache<K, V> entries;
+    private long generation;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the maximum number of entries.
+     * @param ttl the maximum time an entry is retained.
+     * @param clock the clock used to compute expiration.
+     */
+    public ReadThroughCache(int capacity, Duration ttl, Clock clock) {
+        this.entries = new ExpiringCache<>(capacity, ttl, clock);
+    }
+
+    /**
+     * Returns the cached value associated to the key, or loads it if absent or expired.
+     */
+    @Nullable
+    public V get(K key, Function<K, V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            var value = entries.get(key);
+            if (value != null) {
+                hits++;
+                return value;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        var value = loader.apply(key);
+        if (value != null) {
+            synchronized (this) {
+                if (loadGeneration == generation) {
+                    entries.put(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes the entry associated to the key.
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of accesses that were served from the cache.
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of accesses that required a load.
+     */
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries, including expired entries that have not been evicted yet.
+     */
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringCacheTest {
+
+    private final Instant now = Instant.now();
+
+    @Test
+    void get_shouldReturnValue_whenNotExpired() {
+        var cache = new ExpiringCache<String, String>(10, Duration.ofMinutes(1), Clock.fixed(now, ZoneOffset.UTC));
+
+        cache.put("foo", "bar");
+
+        assertThat(cache.get("foo")).isEqualTo("bar");
+        assertThat(cache.get("unknown")).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenTtlElapsed() {
+        var clock = new MutableClock(now);
+        var cache = new ExpiringCache<String, String>(10, Duration.ofMinutes(1), clock);
+        cache.put("foo", "bar");
+
+        clock.instant = now.plusSeconds(60);
+
+        assertThat(cache.get("foo")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_shouldCapExpirationWithTtl() {
+        var clock = new MutableClock(now);
+        var cache = new ExpiringCache<String, String>(10, Duration.ofSeconds(10), clock);
+
+        cache.put("capped", "value", now.plusSeconds(3600));
+        cache.put("explicit", "value", now.plusSeconds(5));
+
+        clock.instant = now.plusSeconds(6);
+        assertThat(cache.get("capped")).isEqualTo("value");
+        assertThat(cache.get("explicit")).isNull();
+
+        clock.instant = now.plusSeconds(11);
+        assertThat(cache.get("capped")).isNull();
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed_whenCapacityExceeded() {
+        var cache = new ExpiringCache<String, String>(2, Duration.ofMinutes(1), Clock.fixed(now, ZoneOffset.UTC));
+
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+        cache.get("foo");
+        cache.put("baz", "baz");
+
+        assertThat(cache.get("foo")).isEqualTo("foo");
+        assertThat(cache.get("bar")).isNull();
+        assertThat(cache.get("baz")).isEqualTo("baz");
+    }
+
+    @Test
+    void removeIf_shouldRemoveMatchingValues() {
+        var cache = new ExpiringCache<String, String>(10, Duration.ofMinutes(1), Clock.fixed(now, ZoneOffset.UTC));
+        cache.put("foo", "remove");
+        cache.put("bar", "keep");
+
+        cache.removeIf("remove"::equals);
+
+        assertThat(cache.get("foo")).isNull();
+        assertThat(cache.get("bar")).isEqualTo("keep");
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadThroughCacheTest {
+
+    private final ReadThroughCache<String, String> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1), Clock.systemUTC());
+
+    @Test
+    void get_shouldLoadOnlyOnce() {
+        assertThat(cache.get("foo", key -> "bar")).isEqualTo("bar");
+        assertThat(cache.get("foo", key -> "other")).isEqualTo("bar");
+
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldNotCacheNullValues() {
+        assertThat(cache.get("foo", key -> null)).isNull();
+        assertThat(cache.get("foo", key -> "bar")).isEqualTo("bar");
+
+        assertThat(cache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidate_shouldReloadValue() {
+        cache.get("foo", key -> "bar");
+
+        cache.invalidate("foo");
+
+        assertThat(cache.get("foo", key -> "baz")).isEqualTo("baz");
+    }
+
+    @Test
+    void get_shouldNotCacheValueLoadedDuringInvalidation() {
+        var value = cache.get("foo", key -> {
+            cache.invalidateAll();
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.catalog;
+
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.asset.AssetPredicateConverter;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Index of the contract definitions available for a catalog request, that permits to find the definitions selecting an
+ * asset without evaluating all of them.
+ * <p>
+ * The asset selectors are compiled into predicates once, and the definitions whose selector constrains a property with an
+ * equality ({@code =} or {@code in} on string values) are indexed by the accepted values, so that only the definitions
+ * indexed under the asset property values, plus the ones that cannot be indexed, are evaluated for an asset.
+ */
+class ContractDefinitionIndex {
+
+    private static final String EQUALS = "=";
+    private static final String IN = "in";
+    private static final int MAX_PUSHED_DOWN_VALUES = 1000;
+
+    private final AssetPredicateConverter predicateConverter;
+    private final List<CompiledDefinition> definitions = new ArrayList<>();
+    private final List<CompiledDefinition> unindexed = new ArrayList<>();
+    private final Map<String, Map<String, List<CompiledDefinition>>> indexed = new LinkedHashMap<>();
+
+    ContractDefinitionIndex(List<ContractDefinition> contractDefinitions, AssetPredicateConverter predicateConverter) {
+        this.predicateConverter = predicateConverter;
+        for (var definition : contractDefinitions) {
+            var compiled = new CompiledDefinition(definitions.size(), definition, compile(definition.getAssetsSelector()));
+            definitions.add(compiled);
+
+            var key = definition.getAssetsSelector().stream().filter(this::isIndexable).findFirst().orElse(null);
+            if (key == null) {
+                unindexed.add(compiled);
+            } else {
+                var byValue = indexed.computeIfAbsent(key.getOperandLeft().toString(), k -> new LinkedHashMap<>());
+                values(key).forEach(value -> byValue.computeIfAbsent(value, v -> new ArrayList<>()).add(compiled));
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return definitions.isEmpty();
+    }
+
+    /**
+     * Returns the definitions whose assets selector matches the asset, in the original order.
+     */
+    Stream<ContractDefinition> definitionsFor(Asset asset) {
+        var candidates = new ArrayList<>(unindexed);
+        indexed.forEach((property, byValue) -> {
+            var value = propertyValue(property, asset);
+            if (value != null) {
+                candidates.addAll(byValue.getOrDefault(value, List.of()));
+            }
+        });
+
+        return candidates.stream()
+                .sorted(Comparator.comparingInt(CompiledDefinition::ordinal))
+                .filter(candidate -> candidate.selector().test(asset))
+                .map(CompiledDefinition::definition);
+    }
+
+    /**
+     * Returns criteria that every asset selected by at least one definition satisfies, so they can be evaluated by the
+     * asset index: the equality criteria shared by all the selectors or, when every definition is indexed on the same
+     * property, the union of the accepted values of that property.
+     */
+    List<Criterion> pushDownCriteria() {
+        if (definitions.isEmpty()) {
+            return List.of();
+        }
+
+        var first = definitions.get(0).definition().getAssetsSelector();
+        var common = first.stream()
+                .filter(this::isIndexable)
+                .filter(criterion -> definitions.stream().allMatch(d -> d.definition().getAssetsSelector().contains(criterion)))
+                .collect(toList());
+        if (!common.isEmpty()) {
+            return common;
+        }
+
+        if (unindexed.isEmpty() && indexed.size() == 1) {
+            var entry = indexed.entrySet().iterator().next();
+            var values = entry.getValue().keySet();
+            if (values.size() <= MAX_PUSHED_DOWN_VALUES) {
+                return List.of(new Criterion(entry.getKey(), IN, new ArrayList<>(values)));
+            }
+        }
+
+        return List.of();
+    }
+
+    private Predicate<Asset> compile(List<Criterion> selector) {
+        return selector.stream()
+                .map(predicateConverter::convert)
+                .reduce(x -> true, Predicate::and);
+    }
+
+    @Nullable
+    private String propertyValue(String property, Asset asset) {
+        var value = predicateConverter.property(property, asset);
+        if (value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        return null;
+    }
+
+    private boolean isIndexable(Criterion criterion) {
+        if (!(criterion.getOperandLeft() instanceof String)) {
+            return false;
+        }
+        var right = criterion.getOperandRight();
+        if (EQUALS.equals(criterion.getOperator())) {
+            return right instanceof String;
+        }
+        if (IN.equalsIgnoreCase(criterion.getOperator()) && right instanceof Collection) {
+            var values = (Collection<?>) right;
+            return !values.isEmpty() && values.stream().allMatch(String.class::isInstance);
+        }
+        return false;
+    }
+
+    private Collection<String> values(Criterion criterion) {
+        var right = criterion.getOperandRight();
+        if (right instanceof Collection) {
+            var values = new LinkedHashSet<String>();
+            ((Collection<?>) right).forEach(value -> values.add((String) value));
+            return values;
+        }
+        return List.of((String) right);
+    }
+
+    private record CompiledDefinition(int ordinal, ContractDefinition definition, Predicate<Asset> selector) {
+    }
+}
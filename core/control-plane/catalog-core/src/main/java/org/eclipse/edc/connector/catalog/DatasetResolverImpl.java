@@ -20,6 +20,7 @@ import org.eclipse.edc.catalog.spi.DistributionResolver;
 import org.eclipse.edc.connector.contract.spi.ContractId;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
@@ -29,9 +30,11 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.Predicate;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static java.lang.Integer.MAX_VALUE;
@@ -56,16 +59,20 @@ public class DatasetResolverImpl implements DatasetResolver {
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).collect(toList());
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
+        var definitionIndex = new ContractDefinitionIndex(contractDefinitionResolver.definitionsFor(agent).collect(toList()), predicateConverter);
+        if (definitionIndex.isEmpty()) {
+            return Stream.empty();
+        }
+
+        var policies = new HashMap<String, Optional<Policy>>();
+        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE)
+                .filter(querySpec.getFilterExpression())
+                .filter(definitionIndex.pushDownCriteria())
+                .build();
         return assetIndex.queryAssets(assetsQuery)
                 .map(asset -> {
-                    var offers = contractDefinitions.stream()
-                            .filter(definition -> definition.getAssetsSelector().stream()
-                                    .map(predicateConverter::convert)
-                                    .reduce(x -> true, Predicate::and)
-                                    .test(asset))
-                            .map(contractDefinition -> createOffer(contractDefinition, asset.getId()))
+                    var offers = definitionIndex.definitionsFor(asset)
+                            .map(contractDefinition -> createOffer(contractDefinition, asset.getId(), policies))
                             .filter(Objects::nonNull)
                             .collect(toList());
                     return new ProtoDataset(asset, offers);
@@ -87,13 +94,16 @@ public class DatasetResolverImpl implements DatasetResolver {
                 });
     }
 
-    private Offer createOffer(ContractDefinition definition, String assetId) {
-        var policyDefinition = policyDefinitionStore.findById(definition.getContractPolicyId());
-        if (policyDefinition == null) {
+    /**
+     * Creates the offer for the definition, the contract policies are looked up once per request.
+     */
+    private Offer createOffer(ContractDefinition definition, String assetId, Map<String, Optional<Policy>> policies) {
+        var policy = policies.computeIfAbsent(definition.getContractPolicyId(), id -> Optional.ofNullable(policyDefinitionStore.findById(id)).map(PolicyDefinition::getPolicy));
+        if (policy.isEmpty()) {
             return null;
         }
         var contractId = ContractId.createContractId(definition.getId(), assetId);
-        return new Offer(contractId, policyDefinition.getPolicy());
+        return new Offer(contractId, policy.get());
     }
 
     private static class Offer {
@@ -55,7 +55,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class DatasetResolverImplTest {
@@ -222,6 +224,62 @@ class DatasetResolverImplTest {
                 .map(getId()).containsExactly("6", "7");
     }
 
+    @Test
+    void query_shouldLookUpContractPolicyOnce_whenMultipleAssets() {
+        var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
+        var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).collect(toList());
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.Builder.newInstance().limit(10).build());
+
+        assertThat(datasets).hasSize(10);
+        verify(policyStore, times(1)).findById("contractPolicyId");
+    }
+
+    @Test
+    void query_shouldPushDownAssetsSelector_whenSingleDefinition() {
+        var definitionCriterion = new Criterion(EDC_NAMESPACE + "key", "=", "value");
+        var contractDefinition = contractDefinitionBuilder("definitionId")
+                .assetsSelector(List.of(definitionCriterion))
+                .contractPolicyId("contractPolicyId")
+                .build();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.empty());
+
+        datasetResolver.query(createParticipantAgent(), QuerySpec.none()).collect(toList());
+
+        verify(assetIndex).queryAssets(argThat(q -> q.getFilterExpression().contains(definitionCriterion)));
+    }
+
+    @Test
+    void query_shouldPushDownSelectedValues_whenDefinitionsSelectAssetsById() {
+        var contractDefinitions = range(0, 3).mapToObj(it -> contractDefinitionBuilder("definition" + it)
+                .assetsSelector(List.of(new Criterion(Asset.PROPERTY_ID, "=", String.valueOf(it))))
+                .contractPolicyId("contractPolicyId")
+                .build()).collect(toList());
+        var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).collect(toList());
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(i -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).hasSize(3).allSatisfy(dataset -> assertThat(dataset.getOffers()).hasSize(1))
+                .map(getId()).containsExactly("0", "1", "2");
+        verify(assetIndex).queryAssets(argThat(q -> q.getFilterExpression().contains(new Criterion(Asset.PROPERTY_ID, "in", List.of("0", "1", "2")))));
+    }
+
+    @Test
+    void query_shouldNotQueryAssets_whenNoDefinitionIsAvailable() {
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.empty());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).isEmpty();
+        verifyNoInteractions(assetIndex, policyStore);
+    }
 
     private ContractDefinition.Builder contractDefinitionBuilder(String id) {
         return ContractDefinition.Builder.newInstance()
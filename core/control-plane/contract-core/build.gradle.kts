@@ -22,6 +22,7 @@ dependencies {
     api(project(":spi:control-plane:contract-spi"))
 
     implementation(project(":core:common:state-machine"))
+    implementation(project(":core:common:util"))
     implementation(libs.opentelemetry.annotations)
 
     testImplementation(project(":core:control-plane:control-plane-core"))
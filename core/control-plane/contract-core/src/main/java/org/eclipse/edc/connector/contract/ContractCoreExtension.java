@@ -21,10 +21,12 @@ import org.eclipse.edc.connector.contract.listener.ContractNegotiationEventListe
 import org.eclipse.edc.connector.contract.negotiation.ConsumerContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.contract.negotiation.ProviderContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.contract.observe.ContractNegotiationObservableImpl;
+import org.eclipse.edc.connector.contract.offer.AccessPolicyEvaluationCache;
 import org.eclipse.edc.connector.contract.offer.ContractDefinitionResolverImpl;
 import org.eclipse.edc.connector.contract.offer.ContractOfferResolverImpl;
 import org.eclipse.edc.connector.contract.policy.PolicyArchiveImpl;
 import org.eclipse.edc.connector.contract.policy.PolicyEquality;
+import org.eclipse.edc.connector.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.contract.spi.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.edc.connector.contract.spi.negotiation.NegotiationWaitStrategy;
 import org.eclipse.edc.connector.contract.spi.negotiation.ProviderContractNegotiationManager;
@@ -38,6 +40,7 @@ import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiat
 import org.eclipse.edc.connector.contract.spi.validation.ContractValidationService;
 import org.eclipse.edc.connector.contract.validation.ContractExpiryCheckFunction;
 import org.eclipse.edc.connector.contract.validation.ContractValidationServiceImpl;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
@@ -59,6 +62,8 @@ import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorFactory;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -66,8 +71,11 @@ import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.contract.spi.validation.ContractValidationService.TRANSFER_SCOPE;
 import static org.eclipse.edc.connector.contract.validation.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
@@ -85,8 +93,11 @@ public class ContractCoreExtension implements ServiceExtension {
 
     public static final long DEFAULT_ITERATION_WAIT = 1000;
     public static final int DEFAULT_BATCH_SIZE = 20;
+    public static final int DEFAULT_STATE_MACHINE_WORKERS = 0;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
+    public static final long DEFAULT_ACCESS_POLICY_CACHE_TTL_SECONDS = 0;
+    public static final int DEFAULT_ACCESS_POLICY_CACHE_SIZE = 10000;
 
     @Setting(value = "the iteration wait time in milliseconds in the negotiation state machine. Default value " + DEFAULT_ITERATION_WAIT, type = "long")
     private static final String NEGOTIATION_STATE_MACHINE_ITERATION_WAIT_MILLIS = "edc.negotiation.state-machine.iteration-wait-millis";
@@ -97,6 +108,12 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "the number of worker threads dedicated to every state of the consumer negotiation state machine. With 0 all the states are processed sequentially on a single thread", type = "int", defaultValue = DEFAULT_STATE_MACHINE_WORKERS + "")
+    private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_WORKERS = "edc.negotiation.consumer.state-machine.workers";
+
+    @Setting(value = "the number of worker threads dedicated to every state of the provider negotiation state machine. With 0 all the states are processed sequentially on a single thread", type = "int", defaultValue = DEFAULT_STATE_MACHINE_WORKERS + "")
+    private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_WORKERS = "edc.negotiation.provider.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -109,6 +126,15 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "The base delay for the provider negotiation retry mechanism in millisecond", type = "long", defaultValue = DEFAULT_SEND_RETRY_BASE_DELAY + "")
     private static final String NEGOTIATION_PROVIDER_SEND_RETRY_BASE_DELAY_MS = "edc.negotiation.provider.send.retry.base-delay.ms";
 
+    @Setting(value = "Time-to-live in seconds of the cached access policy evaluations of the contract definitions. 0 disables the cache", type = "long", defaultValue = DEFAULT_ACCESS_POLICY_CACHE_TTL_SECONDS + "")
+    private static final String ACCESS_POLICY_CACHE_TTL_SECONDS = "edc.contract.definition.access-policy.cache.ttl.seconds";
+
+    @Setting(value = "Maximum number of contract agreements cached by the policy archive. 0 disables the cache", type = "int", defaultValue = PolicyArchiveImpl.DEFAULT_CACHE_SIZE + "")
+    private static final String POLICY_ARCHIVE_CACHE_SIZE = "edc.policy.archive.cache.size";
+
+    @Setting(value = "Maximum number of access policy evaluations kept in the cache", type = "int", defaultValue = DEFAULT_ACCESS_POLICY_CACHE_SIZE + "")
+    private static final String ACCESS_POLICY_CACHE_SIZE = "edc.contract.definition.access-policy.cache.size";
+
     private ConsumerContractNegotiationManagerImpl consumerNegotiationManager;
 
     private ProviderContractNegotiationManagerImpl providerNegotiationManager;
@@ -157,6 +183,9 @@ public class ContractCoreExtension implements ServiceExtension {
     @Inject
     private ProtocolWebhook protocolWebhook;
 
+    @Inject
+    private ExecutorFactory executorFactory;
+
     @Override
     public String name() {
         return NAME;
@@ -186,7 +215,7 @@ public class ContractCoreExtension implements ServiceExtension {
     }
 
     private void registerServices(ServiceExtensionContext context) {
-        var definitionService = new ContractDefinitionResolverImpl(monitor, contractDefinitionStore, policyEngine, policyStore);
+        var definitionService = new ContractDefinitionResolverImpl(monitor, contractDefinitionStore, policyEngine, policyStore, accessPolicyEvaluationCache(context));
         context.registerService(ContractDefinitionResolver.class, definitionService);
 
         var participantId = context.getParticipantId();
@@ -205,7 +234,9 @@ public class ContractCoreExtension implements ServiceExtension {
 
 
         var iterationWaitMillis = context.getSetting(NEGOTIATION_STATE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = context.hasService(NegotiationWaitStrategy.class) ? context.getService(NegotiationWaitStrategy.class) : new ExponentialWaitStrategy(iterationWaitMillis);
+        var customWaitStrategy = context.hasService(NegotiationWaitStrategy.class) ? context.getService(NegotiationWaitStrategy.class) : null;
+        // wait strategies are stateful, so every state machine loop gets its own exponential one
+        Supplier<WaitStrategy> waitStrategySupplier = customWaitStrategy != null ? () -> customWaitStrategy : () -> new ExponentialWaitStrategy(iterationWaitMillis);
 
         CommandQueue<ContractNegotiationCommand> commandQueue = new BoundedCommandQueue<>(10);
         CommandRunner<ContractNegotiationCommand> commandRunner = new CommandRunner<>(commandHandlerRegistry, monitor);
@@ -214,11 +245,12 @@ public class ContractCoreExtension implements ServiceExtension {
         observable.registerListener(new ContractNegotiationEventListener(eventRouter, clock));
 
         context.registerService(ContractNegotiationObservable.class, observable);
-        context.registerService(PolicyArchive.class, new PolicyArchiveImpl(store));
+        var policyArchiveCacheSize = context.getSetting(POLICY_ARCHIVE_CACHE_SIZE, PolicyArchiveImpl.DEFAULT_CACHE_SIZE);
+        context.registerService(PolicyArchive.class, new PolicyArchiveImpl(store, policyArchiveCacheSize));
 
         consumerNegotiationManager = ConsumerContractNegotiationManagerImpl.Builder.newInstance()
                 .participantId(participantId)
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategySupplier)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .commandQueue(commandQueue)
@@ -227,16 +259,18 @@ public class ContractCoreExtension implements ServiceExtension {
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(context.getService(ExecutorInstrumentation.class))
+                .executorFactory(executorFactory)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .stateMachineWorkers(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_WORKERS, DEFAULT_STATE_MACHINE_WORKERS))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .build();
 
         providerNegotiationManager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
                 .participantId(participantId)
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategySupplier)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .commandQueue(commandQueue)
@@ -245,9 +279,11 @@ public class ContractCoreExtension implements ServiceExtension {
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(context.getService(ExecutorInstrumentation.class))
+                .executorFactory(executorFactory)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .stateMachineWorkers(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_WORKERS, DEFAULT_STATE_MACHINE_WORKERS))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .build();
@@ -256,6 +292,18 @@ public class ContractCoreExtension implements ServiceExtension {
         context.registerService(ProviderContractNegotiationManager.class, providerNegotiationManager);
     }
 
+    @Nullable
+    private AccessPolicyEvaluationCache accessPolicyEvaluationCache(ServiceExtensionContext context) {
+        var ttl = context.getSetting(ACCESS_POLICY_CACHE_TTL_SECONDS, DEFAULT_ACCESS_POLICY_CACHE_TTL_SECONDS);
+        if (ttl <= 0) {
+            return null;
+        }
+        var cache = new AccessPolicyEvaluationCache(context.getSetting(ACCESS_POLICY_CACHE_SIZE, DEFAULT_ACCESS_POLICY_CACHE_SIZE), Duration.ofSeconds(ttl), clock);
+        eventRouter.registerSync(ContractDefinitionEvent.class, cache);
+        eventRouter.registerSync(PolicyDefinitionEvent.class, cache);
+        return cache;
+    }
+
     private EntityRetryProcessConfiguration providerEntityRetryProcessConfiguration(ServiceExtensionContext context) {
         var retryLimit = context.getSetting(NEGOTIATION_PROVIDER_SEND_RETRY_LIMIT, DEFAULT_SEND_RETRY_LIMIT);
         var retryBaseDelay = context.getSetting(NEGOTIATION_PROVIDER_SEND_RETRY_BASE_DELAY_MS, DEFAULT_SEND_RETRY_BASE_DELAY);
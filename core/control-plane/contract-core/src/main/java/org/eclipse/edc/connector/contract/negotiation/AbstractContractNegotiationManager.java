@@ -29,6 +29,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.retry.WaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorFactory;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
@@ -37,6 +38,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.contract.ContractCoreExtension.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.connector.contract.ContractCoreExtension.DEFAULT_ITERATION_WAIT;
@@ -55,8 +57,10 @@ public abstract class AbstractContractNegotiationManager {
     protected Clock clock;
     protected Telemetry telemetry;
     protected ExecutorInstrumentation executorInstrumentation;
+    protected ExecutorFactory executorFactory;
     protected int batchSize = DEFAULT_BATCH_SIZE;
-    protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
+    protected int stateMachineWorkers = 0;
+    protected Supplier<WaitStrategy> waitStrategySupplier = () -> () -> DEFAULT_ITERATION_WAIT;
     protected PolicyDefinitionStore policyStore;
     protected EntityRetryProcessFactory entityRetryProcessFactory;
     protected EntityRetryProcessConfiguration entityRetryProcessConfiguration = defaultEntityRetryProcessConfiguration();
@@ -171,6 +175,7 @@ public abstract class AbstractContractNegotiationManager {
             this.manager.clock = Clock.systemUTC(); // default implementation
             this.manager.telemetry = new Telemetry(); // default noop implementation
             this.manager.executorInstrumentation = ExecutorInstrumentation.noop(); // default noop implementation
+            this.manager.executorFactory = ExecutorFactory.platform(); // default implementation
         }
 
         public Builder<T> participantId(String id) {
@@ -188,8 +193,25 @@ public abstract class AbstractContractNegotiationManager {
             return this;
         }
 
+        public Builder<T> stateMachineWorkers(int stateMachineWorkers) {
+            manager.stateMachineWorkers = stateMachineWorkers;
+            return this;
+        }
+
+        /**
+         * Wait strategy shared by all the state machine loops, use {@link #waitStrategySupplier(Supplier)} for stateful
+         * strategies when state machine workers are configured.
+         */
         public Builder<T> waitStrategy(WaitStrategy waitStrategy) {
-            manager.waitStrategy = waitStrategy;
+            manager.waitStrategySupplier = () -> waitStrategy;
+            return this;
+        }
+
+        /**
+         * Supplier of the wait strategies, called once for every state machine loop.
+         */
+        public Builder<T> waitStrategySupplier(Supplier<WaitStrategy> waitStrategySupplier) {
+            manager.waitStrategySupplier = waitStrategySupplier;
             return this;
         }
 
@@ -223,6 +245,11 @@ public abstract class AbstractContractNegotiationManager {
             return this;
         }
 
+        public Builder<T> executorFactory(ExecutorFactory executorFactory) {
+            manager.executorFactory = executorFactory;
+            return this;
+        }
+
         public Builder<T> observable(ContractNegotiationObservable observable) {
             manager.observable = observable;
             return this;
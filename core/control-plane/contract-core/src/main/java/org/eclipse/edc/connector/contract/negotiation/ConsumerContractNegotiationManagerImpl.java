@@ -59,14 +59,16 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
     }
 
     public void start() {
-        stateMachineManager = StateMachineManager.Builder.newInstance("consumer-contract-negotiation", monitor, executorInstrumentation, waitStrategy)
-                .processor(processNegotiationsInState(INITIAL, this::processInitial))
-                .processor(processNegotiationsInState(REQUESTING, this::processRequesting))
-                .processor(processNegotiationsInState(ACCEPTING, this::processAccepting))
-                .processor(processNegotiationsInState(AGREED, this::processAgreed))
-                .processor(processNegotiationsInState(VERIFYING, this::processVerifying))
-                .processor(processNegotiationsInState(TERMINATING, this::processTerminating))
-                .processor(onCommands(this::processCommand))
+        stateMachineManager = StateMachineManager.Builder.newInstance("consumer-contract-negotiation", monitor, executorInstrumentation, waitStrategySupplier)
+                .workers(stateMachineWorkers)
+                .executorFactory(executorFactory)
+                .processor(INITIAL.name(), processNegotiationsInState(INITIAL, this::processInitial))
+                .processor(REQUESTING.name(), processNegotiationsInState(REQUESTING, this::processRequesting))
+                .processor(ACCEPTING.name(), processNegotiationsInState(ACCEPTING, this::processAccepting))
+                .processor(AGREED.name(), processNegotiationsInState(AGREED, this::processAgreed))
+                .processor(VERIFYING.name(), processNegotiationsInState(VERIFYING, this::processVerifying))
+                .processor(TERMINATING.name(), processNegotiationsInState(TERMINATING, this::processTerminating))
+                .processor("commands", onCommands(this::processCommand))
                 .build();
 
         stateMachineManager.start();
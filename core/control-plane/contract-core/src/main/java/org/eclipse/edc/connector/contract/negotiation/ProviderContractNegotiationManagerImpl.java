@@ -55,14 +55,16 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
     }
 
     public void start() {
-        stateMachineManager = StateMachineManager.Builder.newInstance("provider-contract-negotiation", monitor, executorInstrumentation, waitStrategy)
-                .processor(processNegotiationsInState(OFFERING, this::processOffering))
-                .processor(processNegotiationsInState(REQUESTED, this::processRequested))
-                .processor(processNegotiationsInState(AGREEING, this::processAgreeing))
-                .processor(processNegotiationsInState(VERIFIED, this::processVerified))
-                .processor(processNegotiationsInState(FINALIZING, this::processFinalizing))
-                .processor(processNegotiationsInState(TERMINATING, this::processTerminating))
-                .processor(onCommands(this::processCommand))
+        stateMachineManager = StateMachineManager.Builder.newInstance("provider-contract-negotiation", monitor, executorInstrumentation, waitStrategySupplier)
+                .workers(stateMachineWorkers)
+                .executorFactory(executorFactory)
+                .processor(OFFERING.name(), processNegotiationsInState(OFFERING, this::processOffering))
+                .processor(REQUESTED.name(), processNegotiationsInState(REQUESTED, this::processRequested))
+                .processor(AGREEING.name(), processNegotiationsInState(AGREEING, this::processAgreeing))
+                .processor(VERIFIED.name(), processNegotiationsInState(VERIFIED, this::processVerified))
+                .processor(FINALIZING.name(), processNegotiationsInState(FINALIZING, this::processFinalizing))
+                .processor(TERMINATING.name(), processNegotiationsInState(TERMINATING, this::processTerminating))
+                .processor("commands", onCommands(this::processCommand))
                 .build();
 
         stateMachineManager.start();
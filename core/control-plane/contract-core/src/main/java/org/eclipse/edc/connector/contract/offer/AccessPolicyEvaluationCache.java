@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.contract.offer;
+
+import org.eclipse.edc.connector.contract.spi.event.contractdefinition.ContractDefinitionEvent;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.util.collection.ExpiringCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Caches the result of the access policy evaluation of a {@link ContractDefinition} for a {@link ParticipantAgent}, so
+ * that repeated catalog requests from the same agent do not evaluate the policies again.
+ * <p>
+ * Entries are keyed by the agent identity, a digest of its claims and attributes, the definition id and the access policy
+ * id, and they are evicted when a {@link ContractDefinitionEvent} or a {@link PolicyDefinitionEvent} about them is
+ * received, so this class needs to be registered as {@link EventSubscriber} for both the event kinds. The time-to-live
+ * bounds the staleness of changes that are not notified through events, e.g. ones made by other runtimes sharing the
+ * same stores, or policies that depend on time.
+ */
+public class AccessPolicyEvaluationCache implements EventSubscriber {
+
+    private final ExpiringCache<Key, Evaluation> evaluations;
+    private final AtomicLong generation = new AtomicLong();
+
+    public AccessPolicyEvaluationCache(int capacity, Duration ttl, Clock clock) {
+        evaluations = new ExpiringCache<>(capacity, ttl, clock);
+    }
+
+    /**
+     * Returns the cached evaluation result or evaluates it and caches it.
+     *
+     * @param definition the contract definition.
+     * @param agent      the participant agent.
+     * @param evaluation the evaluation of the access policy.
+     * @return true if the access is granted, false otherwise.
+     */
+    public boolean evaluate(ContractDefinition definition, ParticipantAgent agent, BooleanSupplier evaluation) {
+        var key = new Key(agent.getIdentity(), digest(agent), definition.getId(), definition.getAccessPolicyId(), definition.getCreatedAt());
+        var cached = evaluations.get(key);
+        if (cached != null) {
+            return cached.granted();
+        }
+
+        var currentGeneration = generation.get();
+        var granted = evaluation.getAsBoolean();
+        synchronized (evaluations) {
+            // discard results computed concurrently with an invalidation, as they could be based on outdated data
+            if (currentGeneration == generation.get()) {
+                evaluations.put(key, new Evaluation(key.definitionId(), key.policyId(), granted));
+            }
+        }
+        return granted;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var payload = event.getPayload();
+        if (payload instanceof ContractDefinitionEvent) {
+            var definitionId = ((ContractDefinitionEvent) payload).getContractDefinitionId();
+            invalidate(evaluation -> evaluation.definitionId().equals(definitionId));
+        } else if (payload instanceof PolicyDefinitionEvent) {
+            var policyId = ((PolicyDefinitionEvent) payload).getPolicyDefinitionId();
+            invalidate(evaluation -> evaluation.policyId().equals(policyId));
+        }
+    }
+
+    private void invalidate(Predicate<Evaluation> predicate) {
+        synchronized (evaluations) {
+            generation.incrementAndGet();
+            evaluations.removeIf(predicate);
+        }
+    }
+
+    private String digest(ParticipantAgent agent) {
+        try {
+            var messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update(new TreeMap<>(agent.getClaims()).toString().getBytes(UTF_8));
+            messageDigest.update(new TreeMap<>(agent.getAttributes()).toString().getBytes(UTF_8));
+            return Base64.getEncoder().encodeToString(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record Key(@Nullable String identity, String claimsDigest, String definitionId, String policyId, long definitionVersion) {
+    }
+
+    private record Evaluation(String definitionId, String policyId, boolean granted) {
+    }
+}
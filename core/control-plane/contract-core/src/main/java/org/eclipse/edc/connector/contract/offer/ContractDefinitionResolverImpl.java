@@ -44,12 +44,20 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     private final PolicyDefinitionStore policyStore;
     private final Monitor monitor;
     private final ContractDefinitionStore definitionStore;
+    @Nullable
+    private final AccessPolicyEvaluationCache evaluationCache;
 
     public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore) {
+        this(monitor, contractDefinitionStore, policyEngine, policyStore, null);
+    }
+
+    public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore,
+                                          @Nullable AccessPolicyEvaluationCache evaluationCache) {
         this.monitor = monitor;
         definitionStore = contractDefinitionStore;
         this.policyEngine = policyEngine;
         this.policyStore = policyStore;
+        this.evaluationCache = evaluationCache;
     }
 
     @NotNull
@@ -69,9 +77,17 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     }
 
     /**
-     * Determines the applicability of a definition to an agent by evaluating its access policy.
+     * Determines the applicability of a definition to an agent by evaluating its access policy, or by using the cached
+     * result of a previous evaluation.
      */
     private boolean evaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
+        if (evaluationCache == null) {
+            return doEvaluateAccessPolicy(definition, agent);
+        }
+        return evaluationCache.evaluate(definition, agent, () -> doEvaluateAccessPolicy(definition, agent));
+    }
+
+    private boolean doEvaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
         var accessResult = Optional.of(definition.getAccessPolicyId())
                 .map(policyStore::findById)
                 .map(PolicyDefinition::getPolicy)
@@ -18,22 +18,57 @@ import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiat
 import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.util.collection.LruCache;
 
+import java.lang.ref.SoftReference;
 import java.util.Optional;
 
+/**
+ * Default {@link PolicyArchive}, which finds the policies in the contract agreements of the
+ * {@link ContractNegotiationStore}.
+ * <p>
+ * As contract agreements never change once created, the agreements found are cached without expiration. The cache
+ * holds at most {@code cacheSize} agreements, and only through soft references, so that they can be reclaimed when
+ * memory runs low.
+ */
 public class PolicyArchiveImpl implements PolicyArchive {
+    public static final int DEFAULT_CACHE_SIZE = 10_000;
+
     private final ContractNegotiationStore contractNegotiationStore;
+    private final LruCache<String, SoftReference<ContractAgreement>> agreements;
 
     public PolicyArchiveImpl(ContractNegotiationStore contractNegotiationStore) {
+        this(contractNegotiationStore, DEFAULT_CACHE_SIZE);
+    }
+
+    public PolicyArchiveImpl(ContractNegotiationStore contractNegotiationStore, int cacheSize) {
         this.contractNegotiationStore = contractNegotiationStore;
+        this.agreements = new LruCache<>(cacheSize);
     }
 
     @Override
     public Policy findPolicyForContract(String contractId) {
         return Optional.ofNullable(contractId)
-                .map(contractNegotiationStore::findContractAgreement)
+                .map(this::findContractAgreement)
                 .map(ContractAgreement::getPolicy)
                 .orElse(null);
     }
 
+    private ContractAgreement findContractAgreement(String contractId) {
+        synchronized (agreements) {
+            var cached = agreements.get(contractId);
+            var agreement = cached != null ? cached.get() : null;
+            if (agreement != null) {
+                return agreement;
+            }
+        }
+
+        var agreement = contractNegotiationStore.findContractAgreement(contractId);
+        if (agreement != null) {
+            synchronized (agreements) {
+                agreements.put(contractId, new SoftReference<>(agreement));
+            }
+        }
+        return agreement;
+    }
 }
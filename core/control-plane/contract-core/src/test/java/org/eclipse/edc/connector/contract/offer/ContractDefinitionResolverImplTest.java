@@ -15,19 +15,25 @@
 
 package org.eclipse.edc.connector.contract.offer;
 
+import org.eclipse.edc.connector.contract.spi.event.contractdefinition.ContractDefinitionUpdated;
 import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionUpdated;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -39,6 +45,7 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -48,6 +55,8 @@ class ContractDefinitionResolverImplTest {
     private final PolicyDefinitionStore policyStore = mock(PolicyDefinitionStore.class);
     private final ContractDefinitionStore definitionStore = mock(ContractDefinitionStore.class);
 
+    private final AccessPolicyEvaluationCache evaluationCache = new AccessPolicyEvaluationCache(100, Duration.ofMinutes(1), Clock.systemUTC());
+
     private ContractDefinitionResolverImpl definitionService;
 
     private static ContractDefinition createContractDefinition() {
@@ -133,4 +142,76 @@ class ContractDefinitionResolverImplTest {
         assertThat(result).isNull();
         verify(policyEngine, never()).evaluate(any(), any(), any());
     }
+
+    @Test
+    void definitionsFor_shouldNotEvaluateAgain_whenCached() {
+        var resolver = cachingResolver();
+        var agent = new ParticipantAgent(Map.of("claim", "value"), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, "agent"));
+        var def = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById(any())).thenReturn(def);
+        when(policyEngine.evaluate(CATALOGING_SCOPE, def.getPolicy(), agent)).thenReturn(Result.success(def.getPolicy()));
+        var contractDefinition = createContractDefinition();
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(contractDefinition));
+
+        assertThat(resolver.definitionsFor(agent)).hasSize(1);
+        assertThat(resolver.definitionsFor(agent)).hasSize(1);
+
+        verify(policyEngine, times(1)).evaluate(any(), any(), any());
+    }
+
+    @Test
+    void definitionsFor_shouldEvaluate_whenClaimsDiffer() {
+        var resolver = cachingResolver();
+        var def = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById(any())).thenReturn(def);
+        when(policyEngine.evaluate(any(), any(), any())).thenReturn(Result.success(def.getPolicy()));
+        var contractDefinition = createContractDefinition();
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(contractDefinition));
+
+        resolver.definitionsFor(new ParticipantAgent(Map.of("region", "eu"), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, "agent"))).toList();
+        resolver.definitionsFor(new ParticipantAgent(Map.of("region", "us"), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, "agent"))).toList();
+
+        verify(policyEngine, times(2)).evaluate(any(), any(), any());
+    }
+
+    @Test
+    void definitionsFor_shouldEvaluateAgain_whenPolicyDefinitionChanges() {
+        var resolver = cachingResolver();
+        var agent = new ParticipantAgent(Map.of(), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, "agent"));
+        var def = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById(any())).thenReturn(def);
+        when(policyEngine.evaluate(any(), any(), any())).thenReturn(Result.success(def.getPolicy()), Result.failure("denied"));
+        var contractDefinition = createContractDefinition();
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(contractDefinition));
+
+        assertThat(resolver.definitionsFor(agent)).hasSize(1);
+        evaluationCache.on(envelope(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("access").build()));
+
+        assertThat(resolver.definitionsFor(agent)).isEmpty();
+        verify(policyEngine, times(2)).evaluate(any(), any(), any());
+    }
+
+    @Test
+    void definitionFor_shouldEvaluateAgain_whenContractDefinitionChanges() {
+        var resolver = cachingResolver();
+        var agent = new ParticipantAgent(Map.of(), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, "agent"));
+        var def = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById(any())).thenReturn(def);
+        when(policyEngine.evaluate(any(), any(), any())).thenReturn(Result.success(def.getPolicy()));
+        when(definitionStore.findById("1")).thenReturn(createContractDefinition());
+
+        resolver.definitionFor(agent, "1");
+        evaluationCache.on(envelope(ContractDefinitionUpdated.Builder.newInstance().contractDefinitionId("1").build()));
+        resolver.definitionFor(agent, "1");
+
+        verify(policyEngine, times(2)).evaluate(any(), any(), any());
+    }
+
+    private ContractDefinitionResolverImpl cachingResolver() {
+        return new ContractDefinitionResolverImpl(mock(Monitor.class), definitionStore, policyEngine, policyStore, evaluationCache);
+    }
+
+    private <E extends Event> EventEnvelope<E> envelope(E event) {
+        return EventEnvelope.Builder.newInstance().payload(event).at(System.currentTimeMillis()).build();
+    }
 }
@@ -21,6 +21,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PolicyArchiveImplTest {
@@ -48,6 +50,27 @@ class PolicyArchiveImplTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    void shouldQueryAgreementOnlyOnce() {
+        var contractAgreement = createContractAgreement(Policy.Builder.newInstance().build());
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(contractAgreement);
+
+        policyArchive.findPolicyForContract("contractId");
+        var result = policyArchive.findPolicyForContract("contractId");
+
+        assertThat(result).isSameAs(contractAgreement.getPolicy());
+        verify(contractNegotiationStore, times(1)).findContractAgreement("contractId");
+    }
+
+    @Test
+    void shouldNotCacheMissingAgreement() {
+        var contractAgreement = createContractAgreement(Policy.Builder.newInstance().build());
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(null).thenReturn(contractAgreement);
+
+        assertThat(policyArchive.findPolicyForContract("contractId")).isNull();
+        assertThat(policyArchive.findPolicyForContract("contractId")).isSameAs(contractAgreement.getPolicy());
+    }
+
     private ContractAgreement createContractAgreement(Policy policyId) {
         return ContractAgreement.Builder.newInstance()
                 .id("any")
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.service.asset;
 
 import org.eclipse.edc.connector.service.query.QueryValidator;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 
@@ -41,4 +42,15 @@ class AssetQueryValidator extends QueryValidator {
         }
         return Result.failure(format("The query path must start with a letter or an '_' but was '%s'", path));
     }
+
+    /**
+     * Assets are paged by id only, so a continuation token cannot be combined with a sort field.
+     */
+    @Override
+    protected Result<Void> isValidContinuationToken(QuerySpec query) {
+        if (query.getContinuationToken() != null && query.getSortField() != null) {
+            return Result.failure("A continuation token cannot be combined with a sort field when querying assets");
+        }
+        return super.isValidContinuationToken(query);
+    }
 }
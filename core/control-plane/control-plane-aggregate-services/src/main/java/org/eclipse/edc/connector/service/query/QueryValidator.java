@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.service.query;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
@@ -54,7 +55,8 @@ public class QueryValidator {
     }
 
     /**
-     * Validates a {@link QuerySpec} whether it conforms to a particular schema (e.g. a Java class) or not
+     * Validates a {@link QuerySpec} whether it conforms to a particular schema (e.g. a Java class) or not, and whether
+     * its continuation token, if any, can be used with it.
      */
     public Result<Void> validate(QuerySpec query) {
         return query.getFilterExpression().stream()
@@ -62,7 +64,24 @@ public class QueryValidator {
                 .map(Object::toString)
                 .map(this::isValid)
                 .reduce(Result::merge)
-                .orElse(Result.success());
+                .orElse(Result.success())
+                .merge(isValidContinuationToken(query));
+    }
+
+    /**
+     * Decide whether the continuation token of a query, if any, is well-formed and was created for the sort field and
+     * the sort order of the query.
+     */
+    protected Result<Void> isValidContinuationToken(QuerySpec query) {
+        if (query.getContinuationToken() == null) {
+            return Result.success();
+        }
+        try {
+            ContinuationToken.decode(query.getContinuationToken()).verify(query.getSortField(), query.getSortOrder());
+            return Result.success();
+        } catch (IllegalArgumentException e) {
+            return Result.failure(e.getMessage());
+        }
     }
 
     /**
@@ -14,9 +14,12 @@
 
 package org.eclipse.edc.connector.service.asset;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -60,4 +63,20 @@ class AssetQueryValidatorTest {
 
         assertThat(validator.validate(query).failed()).isTrue();
     }
+
+    @Test
+    void validate_continuationTokenWithSortField() {
+        var token = ContinuationToken.after(Asset.PROPERTY_NAME, SortOrder.ASC, "name", "id").encode();
+        var query = QuerySpec.Builder.newInstance().sortField(Asset.PROPERTY_NAME).continuationToken(token).build();
+
+        assertThat(validator.validate(query).failed()).isTrue();
+    }
+
+    @Test
+    void validate_continuationTokenWithoutSortField() {
+        var token = ContinuationToken.after(null, SortOrder.ASC, null, "id").encode();
+        var query = QuerySpec.Builder.newInstance().continuationToken(token).build();
+
+        assertThat(validator.validate(query).succeeded()).isTrue();
+    }
 }
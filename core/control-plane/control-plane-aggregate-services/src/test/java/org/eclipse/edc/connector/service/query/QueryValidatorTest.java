@@ -14,8 +14,10 @@
 
 package org.eclipse.edc.connector.service.query;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -111,6 +113,47 @@ class QueryValidatorTest {
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void validate_continuationToken() {
+        queryValidator = new QueryValidator(TestObject.class);
+        var token = ContinuationToken.after("someString", SortOrder.ASC, "foobar", "id").encode();
+        var query = QuerySpec.Builder.newInstance().sortField("someString").continuationToken(token).build();
+
+        var result = queryValidator.validate(query);
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    void validate_continuationTokenMalformed() {
+        queryValidator = new QueryValidator(TestObject.class);
+        var query = QuerySpec.Builder.newInstance().continuationToken("not-a-token").build();
+
+        var result = queryValidator.validate(query);
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.getFailureDetail()).startsWith("Invalid continuation token");
+    }
+
+    @Test
+    void validate_continuationTokenForAnotherSortField() {
+        queryValidator = new QueryValidator(TestObject.class);
+        var token = ContinuationToken.after("someString", SortOrder.ASC, "foobar", "id").encode();
+        var query = QuerySpec.Builder.newInstance().sortField("someInteger").continuationToken(token).build();
+
+        var result = queryValidator.validate(query);
+        assertThat(result.succeeded()).isFalse();
+    }
+
+    @Test
+    void validate_continuationTokenForAnotherSortOrder() {
+        queryValidator = new QueryValidator(TestObject.class);
+        var token = ContinuationToken.after("someString", SortOrder.ASC, "foobar", "id").encode();
+        var query = QuerySpec.Builder.newInstance().sortField("someString").sortOrder(SortOrder.DESC).continuationToken(token).build();
+
+        var result = queryValidator.validate(query);
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.getFailureDetail()).contains("sort order");
+    }
+
     private static class InvalidFilters implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -14,14 +14,18 @@
 
 package org.eclipse.edc.connector.defaults.storage;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 
+import java.math.BigDecimal;
+import java.util.Comparator;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import static org.eclipse.edc.util.reflection.ReflectionUtil.getFieldValueSilent;
 import static org.eclipse.edc.util.reflection.ReflectionUtil.propertyComparator;
 
 /**
@@ -31,6 +35,8 @@ import static org.eclipse.edc.util.reflection.ReflectionUtil.propertyComparator;
  */
 public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
+    private static final String ID_FIELD = "id";
+
     private final Class<T> typeParameterClass;
     private final DefaultCriterionToPredicateConverter<T> predicateConverter = new DefaultCriterionToPredicateConverter<T>();
 
@@ -46,8 +52,10 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
     /**
      * Method to query a stream by provided specification.
      * Converts the criterion into 'and' predicate.
-     * Applies sorting. When sort field is not found returns empty stream.
-     * Applies offset and limit on the query result.
+     * Applies sorting by sort field and then by id, or by id only when there is no sort field, so that the order is
+     * the same for every page. When sort field is not found returns empty stream.
+     * Applies offset and limit on the query result, or, when the specification carries a continuation token, skips the
+     * items up to the one the token points to.
      *
      * @param stream stream to be queried.
      * @param spec query specification.
@@ -64,17 +72,73 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         // sort
         var sortField = spec.getSortField();
 
-        if (sortField != null) {
-            // if the sort field doesn't exist on the object -> return empty
-            if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
-                return Stream.empty();
-            }
-            var comparator = propertyComparator(spec.getSortOrder() == SortOrder.ASC, sortField);
+        // if the sort field doesn't exist on the object -> return empty
+        if (sortField != null && ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
+            return Stream.empty();
+        }
+
+        var comparator = comparator(spec);
+        if (comparator != null) {
             filteredStream = filteredStream.sorted(comparator);
         }
 
+        if (spec.getContinuationToken() != null) {
+            return queryAfter(filteredStream, spec, ContinuationToken.decode(spec.getContinuationToken()));
+        }
+
         // limit
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
 
+    private Comparator<T> comparator(QuerySpec spec) {
+        var ascending = spec.getSortOrder() == SortOrder.ASC;
+        Comparator<T> comparator = null;
+        if (ReflectionUtil.getFieldRecursive(typeParameterClass, ID_FIELD) != null) {
+            comparator = propertyComparator(ascending, ID_FIELD);
+        }
+        if (spec.getSortField() != null) {
+            var sortField = spec.getSortField();
+            var direction = ascending ? 1 : -1;
+            Comparator<T> sortFieldComparator = (item1, item2) ->
+                    compareValues(getFieldValueSilent(sortField, item1), getFieldValueSilent(sortField, item2)) * direction;
+            comparator = comparator == null ? sortFieldComparator : sortFieldComparator.thenComparing(comparator);
+        }
+        return comparator;
+    }
+
+    private Stream<T> queryAfter(Stream<T> stream, QuerySpec spec, ContinuationToken token) {
+        var sortField = spec.getSortField();
+        token.verify(sortField, spec.getSortOrder());
+
+        var direction = spec.getSortOrder() == SortOrder.ASC ? 1 : -1;
+        Predicate<T> isAfterToken = item -> {
+            var result = sortField == null ? 0 : compareValues(getFieldValueSilent(sortField, item), token.getSortValue());
+            if (result == 0) {
+                result = compareValues(getFieldValueSilent(ID_FIELD, item), token.getId());
+            }
+            return result * direction > 0;
+        };
+
+        return stream.filter(isAfterToken).limit(spec.getLimit());
+    }
+
+    /**
+     * Compares the value of an item with the one of another item or the one stored in a continuation token, whose type
+     * may differ because it went through serialization, e.g. an int field against a long value. Null values are greater
+     * than all the others, like in Postgres, so that the in-memory and SQL stores return the same pages.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compareValues(Object value, Object tokenValue) {
+        if (value == null || tokenValue == null) {
+            return value == tokenValue ? 0 : value == null ? 1 : -1;
+        }
+        if (value instanceof Number && tokenValue instanceof Number) {
+            return new BigDecimal(value.toString()).compareTo(new BigDecimal(tokenValue.toString()));
+        }
+        if (value instanceof Comparable && value.getClass().isInstance(tokenValue)) {
+            return ((Comparable) value).compareTo(tokenValue);
+        }
+        return value.toString().compareTo(tokenValue.toString());
+    }
+
 }
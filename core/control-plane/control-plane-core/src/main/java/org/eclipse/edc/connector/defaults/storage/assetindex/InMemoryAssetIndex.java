@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.defaults.storage.assetindex;
 
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.asset.AssetPredicateConverter;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -25,6 +26,7 @@ import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.eclipse.edc.spi.types.domain.asset.AssetEntry;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -57,10 +59,11 @@ public class InMemoryAssetIndex implements AssetIndex {
             // filter
             var result = filterBy(querySpec.getFilterExpression());
 
-            // ... then sort
+            // ... then sort, the id being the tie-breaker so that the order is the same for every page
             var sortField = querySpec.getSortField();
+            Comparator<Asset> byId = Comparator.comparing(Asset::getId);
             if (sortField != null) {
-                result = result.sorted((asset1, asset2) -> {
+                Comparator<Asset> bySortField = (asset1, asset2) -> {
                     var f1 = asComparable(asset1.getProperty(sortField));
                     var f2 = asComparable(asset2.getProperty(sortField));
 
@@ -74,7 +77,18 @@ public class InMemoryAssetIndex implements AssetIndex {
                         throw new IllegalArgumentException(format("Cannot sort by field %s, it does not exist on one or more Assets", sortField));
                     }
                     return querySpec.getSortOrder() == SortOrder.ASC ? f1.compareTo(f2) : f2.compareTo(f1);
-                });
+                };
+                result = result.sorted(bySortField.thenComparing(byId));
+            } else {
+                result = result.sorted(byId);
+            }
+
+            // assets are ordered by id only, so a continuation token points after an asset id in ascending order
+            if (querySpec.getContinuationToken() != null) {
+                var token = ContinuationToken.decode(querySpec.getContinuationToken());
+                token.verify(null, querySpec.getSortOrder());
+                var lastId = token.getId().toString();
+                return result.filter(asset -> asset.getId().compareTo(lastId) > 0).limit(querySpec.getLimit());
             }
 
             // ... then limit
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.defaults.storage;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -105,6 +106,77 @@ class ReflectionBasedQueryResolverTest {
         assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(8, 7);
     }
 
+    @Test
+    void verifyQuery_continuationToken() {
+        var items = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, i % 2 == 0 ? "Alice" : "Bob")).collect(Collectors.toList());
+
+        var firstPage = QuerySpec.Builder.newInstance().sortField("name").limit(4).build();
+        var first = queryResolver.query(items.stream(), firstPage).collect(Collectors.toList());
+        var last = first.get(first.size() - 1);
+        var token = ContinuationToken.after("name", SortOrder.ASC, last.getName(), last.getId()).encode();
+        var nextPage = QuerySpec.Builder.newInstance().sortField("name").limit(4).continuationToken(token).build();
+
+        assertThat(first).extracting(FakeItem::getId).containsExactly(0, 2, 4, 6);
+        assertThat(queryResolver.query(items.stream(), nextPage)).extracting(FakeItem::getId).containsExactly(8, 1, 3, 5);
+    }
+
+    @Test
+    void verifyQuery_continuationTokenWithNullSortValue() {
+        var items = List.of(new FakeItem(0, "Bob"), new FakeItem(1, null), new FakeItem(2, "Alice"), new FakeItem(3, null), new FakeItem(4, "Alice"));
+
+        var firstPage = QuerySpec.Builder.newInstance().sortField("name").limit(4).build();
+        var token = ContinuationToken.after("name", SortOrder.ASC, null, 1).encode();
+        var nextPage = QuerySpec.Builder.newInstance().sortField("name").limit(4).continuationToken(token).build();
+
+        assertThat(queryResolver.query(items.stream(), firstPage)).extracting(FakeItem::getId).containsExactly(2, 4, 0, 1);
+        assertThat(queryResolver.query(items.stream(), nextPage)).extracting(FakeItem::getId).containsExactly(3);
+    }
+
+    @Test
+    void verifyQuery_continuationTokenWithNullSortValueDescending() {
+        var items = List.of(new FakeItem(0, "Bob"), new FakeItem(1, null), new FakeItem(2, "Alice"), new FakeItem(3, null), new FakeItem(4, "Alice"));
+
+        var firstPage = QuerySpec.Builder.newInstance().sortField("name").sortOrder(SortOrder.DESC).limit(2).build();
+        var token = ContinuationToken.after("name", SortOrder.DESC, null, 1).encode();
+        var nextPage = QuerySpec.Builder.newInstance().sortField("name").sortOrder(SortOrder.DESC).limit(2).continuationToken(token).build();
+
+        assertThat(queryResolver.query(items.stream(), firstPage)).extracting(FakeItem::getId).containsExactly(3, 1);
+        assertThat(queryResolver.query(items.stream(), nextPage)).extracting(FakeItem::getId).containsExactly(0, 4);
+    }
+
+    @Test
+    void verifyQuery_continuationTokenCreatedForAnotherSortOrder() {
+        var token = ContinuationToken.after(null, SortOrder.ASC, null, 5).encode();
+        var spec = QuerySpec.Builder.newInstance().sortOrder(SortOrder.DESC).continuationToken(token).build();
+
+        assertThatThrownBy(() -> queryResolver.query(Stream.of(new FakeItem(1)), spec).collect(Collectors.toList())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verifyQuery_shouldOrderBySortFieldAndId() {
+        var stream = Stream.of(new FakeItem(3, "Bob"), new FakeItem(2, "Alice"), new FakeItem(1, "Bob"), new FakeItem(0, "Alice"));
+
+        var bySortField = QuerySpec.Builder.newInstance().sortField("name").build();
+        assertThat(queryResolver.query(stream, bySortField)).extracting(FakeItem::getId).containsExactly(0, 2, 1, 3);
+    }
+
+    @Test
+    void verifyQuery_shouldOrderById_whenNoSortField() {
+        var stream = Stream.of(new FakeItem(3), new FakeItem(1), new FakeItem(2), new FakeItem(0));
+
+        var spec = QuerySpec.Builder.newInstance().limit(3).build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void verifyQuery_continuationTokenDescendingWithoutSortField() {
+        var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
+
+        var token = ContinuationToken.after(null, SortOrder.DESC, null, 5).encode();
+        var spec = QuerySpec.Builder.newInstance().sortOrder(SortOrder.DESC).continuationToken(token).build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(4, 3, 2, 1, 0);
+    }
+
     @Test
     void verifyExceptionThrown_invalidCriterion() {
         var stream = Stream.concat(
@@ -56,7 +56,9 @@ import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorFactory;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -65,6 +67,7 @@ import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 /**
  * Provides core data transfer services to the system.
@@ -80,6 +83,7 @@ public class TransferCoreExtension implements ServiceExtension {
 
     public static final long DEFAULT_ITERATION_WAIT = 1000;
     public static final int DEFAULT_BATCH_SIZE = 20;
+    public static final int DEFAULT_STATE_MACHINE_WORKERS = 0;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
 
@@ -89,6 +93,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "the number of worker threads dedicated to every state of the transfer process state machine. With 0 all the states are processed sequentially on a single thread", type = "int", defaultValue = DEFAULT_STATE_MACHINE_WORKERS + "")
+    private static final String TRANSFER_STATE_MACHINE_WORKERS = "edc.transfer.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
@@ -131,6 +138,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Inject
     private ProtocolWebhook protocolWebhook;
 
+    @Inject
+    private ExecutorFactory executorFactory;
+
     private TransferProcessManagerImpl processManager;
 
     @Override
@@ -157,7 +167,9 @@ public class TransferCoreExtension implements ServiceExtension {
         context.registerService(ProvisionManager.class, provisionManager);
 
         var iterationWaitMillis = context.getSetting(TRANSFER_STATE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = context.hasService(TransferWaitStrategy.class) ? context.getService(TransferWaitStrategy.class) : new ExponentialWaitStrategy(iterationWaitMillis);
+        var customWaitStrategy = context.hasService(TransferWaitStrategy.class) ? context.getService(TransferWaitStrategy.class) : null;
+        // wait strategies are stateful, so every state machine loop gets its own exponential one
+        Supplier<WaitStrategy> waitStrategySupplier = customWaitStrategy != null ? () -> customWaitStrategy : () -> new ExponentialWaitStrategy(iterationWaitMillis);
 
         // Register a default EndpointDataReferenceTransformer that can be overridden in extensions.
         var endpointDataReferenceTransformerRegistry = new EndpointDataReferenceTransformerRegistryImpl();
@@ -181,7 +193,7 @@ public class TransferCoreExtension implements ServiceExtension {
         var entityRetryProcessConfiguration = new EntityRetryProcessConfiguration(retryLimit, () -> new ExponentialWaitStrategy(retryBaseDelay));
 
         processManager = TransferProcessManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategySupplier)
                 .manifestGenerator(manifestGenerator)
                 .dataFlowManager(dataFlowManager)
                 .provisionManager(provisionManager)
@@ -190,6 +202,7 @@ public class TransferCoreExtension implements ServiceExtension {
                 .monitor(monitor)
                 .telemetry(telemetry)
                 .executorInstrumentation(context.getService(ExecutorInstrumentation.class))
+                .executorFactory(executorFactory)
                 .vault(vault)
                 .clock(clock)
                 .typeManager(typeManager)
@@ -199,6 +212,7 @@ public class TransferCoreExtension implements ServiceExtension {
                 .transferProcessStore(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .stateMachineWorkers(context.getSetting(TRANSFER_STATE_MACHINE_WORKERS, DEFAULT_STATE_MACHINE_WORKERS))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhook(protocolWebhook)
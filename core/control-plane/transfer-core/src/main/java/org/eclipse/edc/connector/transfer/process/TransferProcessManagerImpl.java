@@ -56,6 +56,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorFactory;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -71,6 +72,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -119,7 +121,8 @@ import static org.eclipse.edc.spi.types.domain.DataAddress.EDC_DATA_ADDRESS_SECR
  */
 public class TransferProcessManagerImpl implements TransferProcessManager, ProvisionCallbackDelegate {
     private int batchSize = DEFAULT_BATCH_SIZE;
-    private WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
+    private int stateMachineWorkers = 0;
+    private Supplier<WaitStrategy> waitStrategySupplier = () -> () -> DEFAULT_ITERATION_WAIT;
     private ResourceManifestGenerator manifestGenerator;
     private ProvisionManager provisionManager;
     private TransferProcessStore transferProcessStore;
@@ -135,6 +138,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
     private Monitor monitor;
     private Telemetry telemetry;
     private ExecutorInstrumentation executorInstrumentation;
+    private ExecutorFactory executorFactory;
     private StateMachineManager stateMachineManager;
     private DataAddressResolver addressResolver;
     private PolicyArchive policyArchive;
@@ -148,17 +152,19 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
 
     public void start() {
         entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
-        stateMachineManager = StateMachineManager.Builder.newInstance("transfer-process", monitor, executorInstrumentation, waitStrategy)
-                .processor(processTransfersInState(INITIAL, this::processInitial))
-                .processor(processTransfersInState(PROVISIONING, this::processProvisioning))
-                .processor(processTransfersInState(PROVISIONED, this::processProvisioned))
-                .processor(processTransfersInState(REQUESTING, this::processRequesting))
-                .processor(processTransfersInState(STARTING, this::processStarting))
-                .processor(processTransfersInState(STARTED, this::processStarted))
-                .processor(processTransfersInState(COMPLETING, this::processCompleting))
-                .processor(processTransfersInState(TERMINATING, this::processTerminating))
-                .processor(processTransfersInState(DEPROVISIONING, this::processDeprovisioning))
-                .processor(onCommands(this::processCommand))
+        stateMachineManager = StateMachineManager.Builder.newInstance("transfer-process", monitor, executorInstrumentation, waitStrategySupplier)
+                .workers(stateMachineWorkers)
+                .executorFactory(executorFactory)
+                .processor(INITIAL.name(), processTransfersInState(INITIAL, this::processInitial))
+                .processor(PROVISIONING.name(), processTransfersInState(PROVISIONING, this::processProvisioning))
+                .processor(PROVISIONED.name(), processTransfersInState(PROVISIONED, this::processProvisioned))
+                .processor(REQUESTING.name(), processTransfersInState(REQUESTING, this::processRequesting))
+                .processor(STARTING.name(), processTransfersInState(STARTING, this::processStarting))
+                .processor(STARTED.name(), processTransfersInState(STARTED, this::processStarted))
+                .processor(COMPLETING.name(), processTransfersInState(COMPLETING, this::processCompleting))
+                .processor(TERMINATING.name(), processTransfersInState(TERMINATING, this::processTerminating))
+                .processor(DEPROVISIONING.name(), processTransfersInState(DEPROVISIONING, this::processDeprovisioning))
+                .processor("commands", onCommands(this::processCommand))
                 .build();
         stateMachineManager.start();
     }
@@ -817,6 +823,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             manager.clock = Clock.systemUTC(); // default implementation
             manager.telemetry = new Telemetry(); // default noop implementation
             manager.executorInstrumentation = ExecutorInstrumentation.noop(); // default noop implementation
+            manager.executorFactory = ExecutorFactory.platform(); // default implementation
         }
 
         public static Builder newInstance() {
@@ -828,8 +835,25 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             return this;
         }
 
+        public Builder stateMachineWorkers(int stateMachineWorkers) {
+            manager.stateMachineWorkers = stateMachineWorkers;
+            return this;
+        }
+
+        /**
+         * Wait strategy shared by all the state machine loops, use {@link #waitStrategySupplier(Supplier)} for stateful
+         * strategies when state machine workers are configured.
+         */
         public Builder waitStrategy(WaitStrategy waitStrategy) {
-            manager.waitStrategy = waitStrategy;
+            manager.waitStrategySupplier = () -> waitStrategy;
+            return this;
+        }
+
+        /**
+         * Supplier of the wait strategies, called once for every state machine loop.
+         */
+        public Builder waitStrategySupplier(Supplier<WaitStrategy> waitStrategySupplier) {
+            manager.waitStrategySupplier = waitStrategySupplier;
             return this;
         }
 
@@ -873,6 +897,11 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             return this;
         }
 
+        public Builder executorFactory(ExecutorFactory executorFactory) {
+            manager.executorFactory = executorFactory;
+            return this;
+        }
+
         public Builder clock(Clock clock) {
             manager.clock = clock;
             return this;
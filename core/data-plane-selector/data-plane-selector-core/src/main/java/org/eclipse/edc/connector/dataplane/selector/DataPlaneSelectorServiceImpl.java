@@ -14,9 +14,12 @@
 
 package org.eclipse.edc.connector.dataplane.selector;
 
+import org.eclipse.edc.connector.dataplane.selector.core.DataPlaneInstanceIndex;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelector;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoad;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoadRegistry;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
 import org.eclipse.edc.service.spi.result.ServiceResult;
@@ -33,12 +36,17 @@ public class DataPlaneSelectorServiceImpl implements DataPlaneSelectorService {
     private final DataPlaneSelector selector;
     private final DataPlaneInstanceStore store;
     private final SelectionStrategyRegistry selectionStrategyRegistry;
+    private final DataPlaneLoadRegistry loadRegistry;
+    private final DataPlaneInstanceIndex index;
     private final TransactionContext transactionContext;
 
-    public DataPlaneSelectorServiceImpl(DataPlaneSelector selector, DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext) {
+    public DataPlaneSelectorServiceImpl(DataPlaneSelector selector, DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry,
+                                        DataPlaneLoadRegistry loadRegistry, DataPlaneInstanceIndex index, TransactionContext transactionContext) {
         this.selector = selector;
         this.store = store;
         this.selectionStrategyRegistry = selectionStrategyRegistry;
+        this.loadRegistry = loadRegistry;
+        this.index = index;
         this.transactionContext = transactionContext;
     }
 
@@ -75,7 +83,19 @@ public class DataPlaneSelectorServiceImpl implements DataPlaneSelectorService {
             } else {
                 result = store.update(instance);
             }
+            index.invalidate();
             return ServiceResult.from(result);
         });
     }
+
+    @Override
+    public ServiceResult<Void> reportLoad(DataPlaneLoad load) {
+        return transactionContext.execute(() -> {
+            if (store.findById(load.getInstanceId()) == null) {
+                return ServiceResult.notFound("DataPlaneInstance " + load.getInstanceId() + " was not found");
+            }
+            loadRegistry.report(load);
+            return ServiceResult.success();
+        });
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.core;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Index of the {@link DataPlaneInstance}s by the source and destination types they allow, that permits to evaluate
+ * {@link DataPlaneInstance#canHandle(DataAddress, DataAddress)} only on the instances that allow the requested types.
+ * <p>
+ * The index is rebuilt from the {@link DataPlaneInstanceStore} when it is older than the refresh period, or after
+ * {@link #invalidate()} has been called because an instance was added or updated through this runtime.
+ */
+public class DataPlaneInstanceIndex {
+
+    private final DataPlaneInstanceStore store;
+    private final Duration refreshPeriod;
+    private final Clock clock;
+    private volatile Snapshot snapshot;
+
+    public DataPlaneInstanceIndex(DataPlaneInstanceStore store, Duration refreshPeriod, Clock clock) {
+        this.store = store;
+        this.refreshPeriod = refreshPeriod;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the instances that can handle the source and destination addresses.
+     */
+    public List<DataPlaneInstance> find(DataAddress sourceAddress, DataAddress destinationAddress) {
+        Objects.requireNonNull(sourceAddress, "source cannot be null!");
+        Objects.requireNonNull(destinationAddress, "destination cannot be null");
+        return current().find(sourceAddress.getType(), destinationAddress.getType()).stream()
+                .filter(instance -> instance.canHandle(sourceAddress, destinationAddress))
+                .toList();
+    }
+
+    /**
+     * Discards the index, so that it gets rebuilt on the next lookup.
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        var current = snapshot;
+        var now = clock.millis();
+        if (current == null || now >= current.builtAt + refreshPeriod.toMillis()) {
+            current = new Snapshot(now);
+            store.getAll().forEach(current::add);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private static class Snapshot {
+        private final long builtAt;
+        private final Map<String, Map<String, List<DataPlaneInstance>>> instances = new HashMap<>();
+
+        Snapshot(long builtAt) {
+            this.builtAt = builtAt;
+        }
+
+        void add(DataPlaneInstance instance) {
+            for (var sourceType : instance.getAllowedSourceTypes()) {
+                var byDestination = instances.computeIfAbsent(sourceType, t -> new HashMap<>());
+                for (var destinationType : instance.getAllowedDestTypes()) {
+                    byDestination.computeIfAbsent(destinationType, t -> new ArrayList<>()).add(instance);
+                }
+            }
+        }
+
+        List<DataPlaneInstance> find(String sourceType, String destinationType) {
+            return instances.getOrDefault(sourceType, Map.of()).getOrDefault(destinationType, List.of());
+        }
+    }
+}
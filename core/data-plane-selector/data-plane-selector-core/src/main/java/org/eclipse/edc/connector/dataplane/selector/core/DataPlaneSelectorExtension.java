@@ -15,40 +15,68 @@
 package org.eclipse.edc.connector.dataplane.selector.core;
 
 import org.eclipse.edc.connector.dataplane.selector.DataPlaneSelectorServiceImpl;
+import org.eclipse.edc.connector.dataplane.selector.load.InMemoryDataPlaneLoadRegistry;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelector;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoadRegistry;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.RandomSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
 import org.eclipse.edc.connector.dataplane.selector.strategy.DefaultSelectionStrategyRegistry;
+import org.eclipse.edc.connector.dataplane.selector.strategy.LeastActiveFlowsSelectionStrategy;
+import org.eclipse.edc.connector.dataplane.selector.strategy.PowerOfTwoChoicesSelectionStrategy;
+import org.eclipse.edc.connector.dataplane.selector.strategy.WeightedRoundRobinSelectionStrategy;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
-@Provides({ DataPlaneSelector.class, SelectionStrategyRegistry.class, DataPlaneSelectorService.class })
+import java.time.Clock;
+import java.time.Duration;
+
+@Provides({ DataPlaneSelector.class, SelectionStrategyRegistry.class, DataPlaneSelectorService.class, DataPlaneLoadRegistry.class })
 @Extension(value = "DataPlane core selector")
 public class DataPlaneSelectorExtension implements ServiceExtension {
 
+    private static final long DEFAULT_INDEX_REFRESH_PERIOD = 10;
+    private static final long DEFAULT_LOAD_MAX_AGE = 30;
+
+    @Setting(value = "Period in seconds after which the index of the data plane instances by source and destination type is rebuilt from the store", type = "long", defaultValue = DEFAULT_INDEX_REFRESH_PERIOD + "")
+    private static final String INDEX_REFRESH_PERIOD = "edc.dpf.selector.index.refresh.period";
+
+    @Setting(value = "Time in seconds after which the load reported by a data plane instance is not considered anymore", type = "long", defaultValue = DEFAULT_LOAD_MAX_AGE + "")
+    private static final String LOAD_MAX_AGE = "edc.dpf.selector.load.max.age";
+
     @Inject
     private DataPlaneInstanceStore instanceStore;
 
     @Inject
     private TransactionContext transactionContext;
 
+    @Inject
+    private Clock clock;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var selector = new DataPlaneSelectorImpl(instanceStore);
+        var config = context.getConfig();
+        var index = new DataPlaneInstanceIndex(instanceStore, Duration.ofSeconds(config.getLong(INDEX_REFRESH_PERIOD, DEFAULT_INDEX_REFRESH_PERIOD)), clock);
+        var selector = new DataPlaneSelectorImpl(index);
+
+        var loadRegistry = new InMemoryDataPlaneLoadRegistry(Duration.ofSeconds(config.getLong(LOAD_MAX_AGE, DEFAULT_LOAD_MAX_AGE)), clock);
 
         var strategy = new DefaultSelectionStrategyRegistry();
         strategy.add(new RandomSelectionStrategy());
+        strategy.add(new LeastActiveFlowsSelectionStrategy(loadRegistry));
+        strategy.add(new WeightedRoundRobinSelectionStrategy());
+        strategy.add(new PowerOfTwoChoicesSelectionStrategy(loadRegistry));
 
         context.registerService(DataPlaneSelector.class, selector);
         context.registerService(SelectionStrategyRegistry.class, strategy);
-        context.registerService(DataPlaneSelectorService.class, new DataPlaneSelectorServiceImpl(selector, instanceStore, strategy, transactionContext));
+        context.registerService(DataPlaneLoadRegistry.class, loadRegistry);
+        context.registerService(DataPlaneSelectorService.class, new DataPlaneSelectorServiceImpl(selector, instanceStore, strategy, loadRegistry, index, transactionContext));
     }
 
 }
@@ -20,18 +20,23 @@ import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceS
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 
-import java.util.stream.Collectors;
+import java.time.Clock;
+import java.time.Duration;
 
 public class DataPlaneSelectorImpl implements DataPlaneSelector {
 
-    private final DataPlaneInstanceStore instanceStore;
+    private final DataPlaneInstanceIndex index;
 
     public DataPlaneSelectorImpl(DataPlaneInstanceStore instanceStore) {
-        this.instanceStore = instanceStore;
+        this(new DataPlaneInstanceIndex(instanceStore, Duration.ZERO, Clock.systemUTC()));
+    }
+
+    public DataPlaneSelectorImpl(DataPlaneInstanceIndex index) {
+        this.index = index;
     }
 
     @Override
     public DataPlaneInstance select(DataAddress sourceAddress, DataAddress destinationAddress, SelectionStrategy strategy) {
-        return strategy.apply(instanceStore.getAll().filter(di -> di.canHandle(sourceAddress, destinationAddress)).collect(Collectors.toList()));
+        return strategy.apply(index.find(sourceAddress, destinationAddress));
     }
 }
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.load;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoad;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoadRegistry;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory {@link DataPlaneLoadRegistry}: the loads are reported frequently by every data plane, so they are not
+ * persisted. Loads received longer than the maximum age ago are ignored, as the instance could have stopped.
+ */
+public class InMemoryDataPlaneLoadRegistry implements DataPlaneLoadRegistry {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Duration maxAge;
+    private final Clock clock;
+
+    public InMemoryDataPlaneLoadRegistry(Duration maxAge, Clock clock) {
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    @Override
+    public void report(DataPlaneLoad load) {
+        entries.put(load.getInstanceId(), new Entry(load, clock.millis()));
+    }
+
+    @Override
+    public @Nullable DataPlaneLoad get(String instanceId) {
+        var entry = current(instanceId);
+        return entry == null ? null : entry.load;
+    }
+
+    @Override
+    public void selected(String instanceId) {
+        entries.computeIfAbsent(instanceId, id -> new Entry(null, clock.millis())).selected.incrementAndGet();
+    }
+
+    @Override
+    public long estimatedActiveFlows(String instanceId) {
+        var entry = current(instanceId);
+        if (entry == null) {
+            return 0;
+        }
+        var reported = entry.load == null ? 0 : entry.load.getActiveFlows() + entry.load.getQueuedFlows();
+        return reported + entry.selected.get();
+    }
+
+    @Nullable
+    private Entry current(String instanceId) {
+        var entry = entries.get(instanceId);
+        if (entry == null || entry.load == null) {
+            return entry;
+        }
+        if (entry.receivedAt < clock.millis() - maxAge.toMillis()) {
+            entries.remove(instanceId, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private static class Entry {
+        private final DataPlaneLoad load;
+        private final long receivedAt;
+        private final AtomicLong selected = new AtomicLong();
+
+        Entry(DataPlaneLoad load, long receivedAt) {
+            this.load = load;
+            this.receivedAt = receivedAt;
+        }
+    }
+}
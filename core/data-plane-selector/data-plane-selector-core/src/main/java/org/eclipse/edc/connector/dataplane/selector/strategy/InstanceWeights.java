@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+/**
+ * Reads the relative capacity of a {@link DataPlaneInstance} from its {@code weight} property, so that heterogeneous
+ * instances can be given a share of the data flows proportional to their capacity.
+ */
+final class InstanceWeights {
+
+    static final String WEIGHT = "weight";
+    private static final double DEFAULT_WEIGHT = 1;
+
+    private InstanceWeights() {
+    }
+
+    static double weight(DataPlaneInstance instance) {
+        var value = instance.getProperties().get(WEIGHT);
+        double weight;
+        if (value instanceof Number) {
+            weight = ((Number) value).doubleValue();
+        } else if (value instanceof String) {
+            try {
+                weight = Double.parseDouble((String) value);
+            } catch (NumberFormatException e) {
+                return DEFAULT_WEIGHT;
+            }
+        } else {
+            return DEFAULT_WEIGHT;
+        }
+        return weight > 0 ? weight : DEFAULT_WEIGHT;
+    }
+}
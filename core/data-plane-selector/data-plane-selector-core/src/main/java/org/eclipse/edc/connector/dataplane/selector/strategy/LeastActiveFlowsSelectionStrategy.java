@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoadRegistry;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.eclipse.edc.connector.dataplane.selector.strategy.InstanceWeights.weight;
+
+/**
+ * Selects the {@link DataPlaneInstance} with the fewest estimated active data flows relative to its weight. Ties are
+ * broken at random, so that instances that did not report their load yet are not all assigned to the first one.
+ */
+public class LeastActiveFlowsSelectionStrategy implements SelectionStrategy {
+
+    private final DataPlaneLoadRegistry loadRegistry;
+
+    public LeastActiveFlowsSelectionStrategy(DataPlaneLoadRegistry loadRegistry) {
+        this.loadRegistry = loadRegistry;
+    }
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+
+        var leastLoaded = new ArrayList<DataPlaneInstance>();
+        var lowestLoad = Double.MAX_VALUE;
+        for (var instance : instances) {
+            var load = loadRegistry.estimatedActiveFlows(instance.getId()) / weight(instance);
+            if (load < lowestLoad) {
+                leastLoaded.clear();
+                lowestLoad = load;
+            }
+            if (load == lowestLoad) {
+                leastLoaded.add(instance);
+            }
+        }
+
+        var selected = leastLoaded.get(ThreadLocalRandom.current().nextInt(leastLoaded.size()));
+        loadRegistry.selected(selected.getId());
+        return selected;
+    }
+
+    @Override
+    public String getName() {
+        return "least-active-flows";
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoadRegistry;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.eclipse.edc.connector.dataplane.selector.strategy.InstanceWeights.weight;
+
+/**
+ * Picks two {@link DataPlaneInstance}s at random and selects the one with the fewest estimated active data flows relative
+ * to its weight. Compared to always selecting the least loaded instance, it avoids sending every data flow to the same
+ * instance when the reported loads are stale.
+ */
+public class PowerOfTwoChoicesSelectionStrategy implements SelectionStrategy {
+
+    private final DataPlaneLoadRegistry loadRegistry;
+
+    public PowerOfTwoChoicesSelectionStrategy(DataPlaneLoadRegistry loadRegistry) {
+        this.loadRegistry = loadRegistry;
+    }
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+
+        DataPlaneInstance selected;
+        if (instances.size() == 1) {
+            selected = instances.get(0);
+        } else {
+            var random = ThreadLocalRandom.current();
+            var first = random.nextInt(instances.size());
+            var second = random.nextInt(instances.size() - 1);
+            if (second >= first) {
+                second++;
+            }
+            var firstInstance = instances.get(first);
+            var secondInstance = instances.get(second);
+            selected = load(secondInstance) < load(firstInstance) ? secondInstance : firstInstance;
+        }
+
+        loadRegistry.selected(selected.getId());
+        return selected;
+    }
+
+    @Override
+    public String getName() {
+        return "power-of-two-choices";
+    }
+
+    private double load(DataPlaneInstance instance) {
+        return loadRegistry.estimatedActiveFlows(instance.getId()) / weight(instance);
+    }
+}
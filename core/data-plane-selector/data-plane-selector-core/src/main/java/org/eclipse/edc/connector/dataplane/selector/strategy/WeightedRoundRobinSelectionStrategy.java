@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.edc.connector.dataplane.selector.strategy.InstanceWeights.weight;
+
+/**
+ * Selects the {@link DataPlaneInstance}s in turn, each one proportionally to its weight. The selections are interleaved
+ * ("smooth" weighted round-robin), so that an instance with a high weight does not receive consecutive bursts of data
+ * flows.
+ */
+public class WeightedRoundRobinSelectionStrategy implements SelectionStrategy {
+
+    private final Map<String, Double> currentWeights = new HashMap<>();
+
+    @Override
+    public synchronized DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+
+        DataPlaneInstance selected = null;
+        var selectedWeight = 0d;
+        var totalWeight = 0d;
+        for (var instance : instances) {
+            var weight = weight(instance);
+            totalWeight += weight;
+            var currentWeight = currentWeights.merge(instance.getId(), weight, Double::sum);
+            if (selected == null || currentWeight > selectedWeight) {
+                selected = instance;
+                selectedWeight = currentWeight;
+            }
+        }
+
+        currentWeights.merge(selected.getId(), -totalWeight, Double::sum);
+        return selected;
+    }
+
+    @Override
+    public String getName() {
+        return "weighted-round-robin";
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.core;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.selector.spi.testfixtures.TestFunctions.createAddress;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataPlaneInstanceIndexTest {
+
+    private final DataPlaneInstanceStore store = mock(DataPlaneInstanceStore.class);
+    private final Clock clock = mock(Clock.class);
+    private final DataPlaneInstanceIndex index = new DataPlaneInstanceIndex(store, Duration.ofSeconds(10), clock);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(Instant.now().toEpochMilli());
+    }
+
+    @Test
+    void find_shouldReturnInstancesHandlingTypes() {
+        when(store.getAll()).thenReturn(Stream.of(
+                createInstance("instance1", "http", "s3"),
+                createInstance("instance2", "http", "http"),
+                createInstance("instance3", "s3", "s3")
+        ));
+
+        assertThat(index.find(createAddress("http"), createAddress("s3"))).extracting(DataPlaneInstance::getId).containsExactly("instance1");
+        assertThat(index.find(createAddress("s3"), createAddress("s3"))).extracting(DataPlaneInstance::getId).containsExactly("instance3");
+        assertThat(index.find(createAddress("s3"), createAddress("http"))).isEmpty();
+    }
+
+    @Test
+    void find_shouldNotReturnInstancesThatCannotHandleAddresses() {
+        var instance = spy(createInstance("instance1", "http", "http"));
+        doReturn(false).when(instance).canHandle(any(), any());
+        when(store.getAll()).thenReturn(Stream.of(instance));
+
+        assertThat(index.find(createAddress("http"), createAddress("http"))).isEmpty();
+    }
+
+    @Test
+    void find_shouldNotReloadWithinRefreshPeriod() {
+        when(store.getAll()).thenAnswer(i -> Stream.of(createInstance("instance1", "http", "http")));
+
+        index.find(createAddress("http"), createAddress("http"));
+        index.find(createAddress("http"), createAddress("http"));
+
+        verify(store, times(1)).getAll();
+    }
+
+    @Test
+    void find_shouldReloadAfterRefreshPeriod() {
+        var now = Instant.now().toEpochMilli();
+        when(clock.millis()).thenReturn(now, now + 10_000);
+        when(store.getAll()).thenReturn(Stream.empty(), Stream.of(createInstance("instance1", "http", "http")));
+
+        assertThat(index.find(createAddress("http"), createAddress("http"))).isEmpty();
+        assertThat(index.find(createAddress("http"), createAddress("http"))).extracting(DataPlaneInstance::getId).containsExactly("instance1");
+    }
+
+    @Test
+    void invalidate_shouldReload() {
+        when(store.getAll()).thenReturn(Stream.empty(), Stream.of(createInstance("instance1", "http", "http")));
+
+        index.find(createAddress("http"), createAddress("http"));
+        index.invalidate();
+
+        assertThat(index.find(createAddress("http"), createAddress("http"))).extracting(DataPlaneInstance::getId).containsExactly("instance1");
+    }
+
+    private DataPlaneInstance createInstance(String id, String sourceType, String destinationType) {
+        return DataPlaneInstance.Builder.newInstance()
+                .id(id)
+                .url("http://any")
+                .allowedSourceType(sourceType)
+                .allowedDestType(destinationType)
+                .build();
+    }
+}
@@ -25,7 +25,6 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.selector.spi.testfixtures.TestFunctions.createAddress;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -42,7 +41,7 @@ class DataPlaneSelectorImplTest {
 
     @Test
     void select() {
-        var instances = IntStream.range(0, 10).mapToObj(i -> createInstanceMock("instance" + i, true));
+        var instances = IntStream.range(0, 10).mapToObj(i -> createInstance("instance" + i, true));
         when(storeMock.getAll()).thenReturn(instances);
 
         var result = selector.select(createAddress("TestType"), createAddress("TestType"));
@@ -53,11 +52,11 @@ class DataPlaneSelectorImplTest {
     @RepeatedTest(100)
     void select_someCanHandle() {
         var instances = Stream.of(
-                createInstanceMock("instance0", false),
-                createInstanceMock("instance1", true),
-                createInstanceMock("instance2", true),
-                createInstanceMock("instance3", false),
-                createInstanceMock("instance4", false)
+                createInstance("instance0", false),
+                createInstance("instance1", true),
+                createInstance("instance2", true),
+                createInstance("instance3", false),
+                createInstance("instance4", false)
         );
         when(storeMock.getAll()).thenReturn(instances);
 
@@ -68,7 +67,7 @@ class DataPlaneSelectorImplTest {
 
     @Test
     void select_noneCanHandle() {
-        var instances = IntStream.range(0, 10).mapToObj(i -> createInstanceMock("instance" + i, false));
+        var instances = IntStream.range(0, 10).mapToObj(i -> createInstance("instance" + i, false));
         when(storeMock.getAll()).thenReturn(instances);
 
         var result = selector.select(createAddress("TestType"), createAddress("AmazonS3"));
@@ -78,7 +77,7 @@ class DataPlaneSelectorImplTest {
 
     @Test
     void select_withSelectionStrategy() {
-        var instances = IntStream.range(0, 10).mapToObj(i -> createInstanceMock("instance" + i, true));
+        var instances = IntStream.range(0, 10).mapToObj(i -> createInstance("instance" + i, true));
         when(storeMock.getAll()).thenReturn(instances);
 
         var result = selector.select(createAddress("TestType"), createAddress("http"), instances1 -> instances1.get(0));
@@ -89,11 +88,11 @@ class DataPlaneSelectorImplTest {
     @Test
     void select_withSelectionStrategy_someCanHandle() {
         var instances = Stream.of(
-                createInstanceMock("instance0", false),
-                createInstanceMock("instance1", true),
-                createInstanceMock("instance2", true),
-                createInstanceMock("instance3", false),
-                createInstanceMock("instance4", false)
+                createInstance("instance0", false),
+                createInstance("instance1", true),
+                createInstance("instance2", true),
+                createInstance("instance3", false),
+                createInstance("instance4", false)
         );
         when(storeMock.getAll()).thenReturn(instances);
 
@@ -107,10 +106,12 @@ class DataPlaneSelectorImplTest {
 
     }
 
-    private DataPlaneInstance createInstanceMock(String id, boolean canHandle) {
-        var mock = mock(DataPlaneInstance.class);
-        when(mock.getId()).thenReturn(id);
-        when(mock.canHandle(any(), any())).thenReturn(canHandle);
-        return mock;
+    private DataPlaneInstance createInstance(String id, boolean canHandle) {
+        var builder = DataPlaneInstance.Builder.newInstance().id(id).url("http://any");
+        if (canHandle) {
+            Stream.of("TestType", "SomeType", "AmazonS3").forEach(builder::allowedSourceType);
+            Stream.of("TestType", "FTP", "AmazonS3", "http").forEach(builder::allowedDestType);
+        }
+        return builder.build();
     }
 }
\ No newline at end of file
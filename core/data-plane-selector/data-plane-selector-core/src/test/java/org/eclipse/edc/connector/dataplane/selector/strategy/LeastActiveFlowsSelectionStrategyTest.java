@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.load.InMemoryDataPlaneLoadRegistry;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoad;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeastActiveFlowsSelectionStrategyTest {
+
+    private final InMemoryDataPlaneLoadRegistry loadRegistry = new InMemoryDataPlaneLoadRegistry(Duration.ofMinutes(1), Clock.systemUTC());
+    private final LeastActiveFlowsSelectionStrategy strategy = new LeastActiveFlowsSelectionStrategy(loadRegistry);
+
+    @Test
+    void apply_shouldSelectLeastLoadedInstance() {
+        loadRegistry.report(load("instance1", 5));
+        loadRegistry.report(load("instance2", 1));
+        loadRegistry.report(load("instance3", 3));
+
+        var selected = strategy.apply(List.of(createInstance("instance1", 1), createInstance("instance2", 1), createInstance("instance3", 1)));
+
+        assertThat(selected.getId()).isEqualTo("instance2");
+    }
+
+    @Test
+    void apply_shouldConsiderWeight() {
+        loadRegistry.report(load("instance1", 4));
+        loadRegistry.report(load("instance2", 3));
+
+        var selected = strategy.apply(List.of(createInstance("instance1", 4), createInstance("instance2", 1)));
+
+        assertThat(selected.getId()).isEqualTo("instance1");
+    }
+
+    @Test
+    void apply_shouldAccountForSelectionsSinceLastReport() {
+        loadRegistry.report(load("instance1", 0));
+        loadRegistry.report(load("instance2", 1));
+        var instances = List.of(createInstance("instance1", 1), createInstance("instance2", 1));
+
+        var first = strategy.apply(instances);
+        var second = strategy.apply(instances);
+
+        assertThat(first.getId()).isEqualTo("instance1");
+        assertThat(second.getId()).isIn("instance1", "instance2");
+        assertThat(loadRegistry.estimatedActiveFlows("instance1") + loadRegistry.estimatedActiveFlows("instance2")).isEqualTo(3);
+    }
+
+    @Test
+    void apply_noInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    private DataPlaneLoad load(String instanceId, int activeFlows) {
+        return DataPlaneLoad.Builder.newInstance().instanceId(instanceId).activeFlows(activeFlows).build();
+    }
+
+    private DataPlaneInstance createInstance(String id, int weight) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://any").property("weight", weight).build();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeightedRoundRobinSelectionStrategyTest {
+
+    private final WeightedRoundRobinSelectionStrategy strategy = new WeightedRoundRobinSelectionStrategy();
+
+    @Test
+    void apply_shouldSelectInTurn() {
+        var instances = List.of(createInstance("instance1", 1), createInstance("instance2", 1), createInstance("instance3", 1));
+
+        var selected = IntStream.range(0, 6).mapToObj(i -> strategy.apply(instances).getId()).collect(toList());
+
+        assertThat(selected).containsExactly("instance1", "instance2", "instance3", "instance1", "instance2", "instance3");
+    }
+
+    @Test
+    void apply_shouldSelectProportionallyToWeightAndInterleaved() {
+        var instances = List.of(createInstance("instance1", 5), createInstance("instance2", 1), createInstance("instance3", 1));
+
+        var selected = IntStream.range(0, 7).mapToObj(i -> strategy.apply(instances).getId()).collect(toList());
+
+        assertThat(selected).containsExactly("instance1", "instance1", "instance2", "instance1", "instance3", "instance1", "instance1");
+    }
+
+    @Test
+    void apply_noInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    private DataPlaneInstance createInstance(String id, int weight) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://any").property("weight", weight).build();
+    }
+}
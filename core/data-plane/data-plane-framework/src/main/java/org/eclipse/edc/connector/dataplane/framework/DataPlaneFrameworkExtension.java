@@ -25,19 +25,22 @@ import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
+import org.eclipse.edc.connector.dataplane.spi.store.DataFlowStore;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.connector.dataplane.util.sink.OutputStreamDataSinkFactory;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorFactory;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.concurrent.Executors;
+import java.time.Clock;
+import java.time.Duration;
 
 import static java.lang.String.format;
 
@@ -61,6 +64,24 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting
     private static final String TRANSFER_THREADS = "edc.dataplane.transfer.threads";
     private static final int DEFAULT_TRANSFER_THREADS = 10;
+    private static final int DEFAULT_BATCH_SIZE = 10;
+    @Setting(value = "Maximum number of data flows leased at once by a worker", type = "int", defaultValue = DEFAULT_BATCH_SIZE + "")
+    private static final String BATCH_SIZE = "edc.dataplane.batch.size";
+    private static final long DEFAULT_LEASE_RENEWAL_PERIOD = 20;
+    @Setting(value = "Period in seconds at which the leases of the data flows in progress are renewed, it must be shorter than the lease duration of the data flow store",
+            type = "long", defaultValue = DEFAULT_LEASE_RENEWAL_PERIOD + "")
+    private static final String LEASE_RENEWAL_PERIOD = "edc.dataplane.lease.renewal.period";
+    private static final int DEFAULT_NOTIFICATION_BATCH_SIZE = 100;
+    @Setting(value = "Maximum number of data flow results notified at once to the control plane", type = "int", defaultValue = DEFAULT_NOTIFICATION_BATCH_SIZE + "")
+    private static final String NOTIFICATION_BATCH_SIZE = "edc.dataplane.notification.batch.size";
+    private static final long DEFAULT_NOTIFICATION_RETRY_MAX_DELAY = 300;
+    @Setting(value = "Maximum delay in seconds before retrying to notify data flow results to an unavailable control plane", type = "long",
+            defaultValue = DEFAULT_NOTIFICATION_RETRY_MAX_DELAY + "")
+    private static final String NOTIFICATION_RETRY_MAX_DELAY = "edc.dataplane.notification.retry.max.delay";
+    private static final int DEFAULT_NOTIFICATION_RETRY_MAX_ATTEMPTS = 50;
+    @Setting(value = "Maximum number of attempts to notify the result of a data flow to the control plane, after which it is dropped", type = "int",
+            defaultValue = DEFAULT_NOTIFICATION_RETRY_MAX_ATTEMPTS + "")
+    private static final String NOTIFICATION_RETRY_MAX_ATTEMPTS = "edc.dataplane.notification.retry.max.attempts";
     private DataPlaneManagerImpl dataPlaneManager;
 
     @Inject
@@ -69,15 +90,24 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Inject(required = false)
     private DataPlaneStore store;
 
+    @Inject(required = false)
+    private DataFlowStore flowStore;
+
     @Inject
     private TransferProcessApiClient transferProcessApiClient;
 
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private ExecutorFactory executorFactory;
+
     @Inject
     private Telemetry telemetry;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -96,7 +126,7 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         context.registerService(TransferServiceRegistry.class, transferServiceRegistry);
 
         var numThreads = context.getSetting(TRANSFER_THREADS, DEFAULT_TRANSFER_THREADS);
-        var executorService = Executors.newFixedThreadPool(numThreads);
+        var executorService = executorFactory.newFixedThreadPool(numThreads, "DataPlaneTransfer");
         var executorContainer = new DataTransferExecutorServiceContainer(
                 executorInstrumentation.instrument(executorService, "Data plane transfers"));
         context.registerService(DataTransferExecutorServiceContainer.class, executorContainer);
@@ -104,16 +134,29 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         var queueCapacity = context.getSetting(QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
         var workers = context.getSetting(WORKERS, DEFAULT_WORKERS);
         var waitTimeout = context.getSetting(WAIT_TIMEOUT, DEFAULT_WAIT_TIMEOUT);
+        var batchSize = context.getSetting(BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        var leaseRenewalPeriod = context.getSetting(LEASE_RENEWAL_PERIOD, DEFAULT_LEASE_RENEWAL_PERIOD);
+        var notificationBatchSize = context.getSetting(NOTIFICATION_BATCH_SIZE, DEFAULT_NOTIFICATION_BATCH_SIZE);
+        var notificationRetryMaxDelay = context.getSetting(NOTIFICATION_RETRY_MAX_DELAY, DEFAULT_NOTIFICATION_RETRY_MAX_DELAY);
+        var notificationRetryMaxAttempts = context.getSetting(NOTIFICATION_RETRY_MAX_ATTEMPTS, DEFAULT_NOTIFICATION_RETRY_MAX_ATTEMPTS);
 
-        monitor.debug(() -> format("Initializing DataPlaneManager with queueCapacity=%s, workers=%s, waitTimeout=%s, numThreads=%s", queueCapacity, workers, waitTimeout, numThreads));
+        monitor.debug(() -> format("Initializing DataPlaneManager with queueCapacity=%s, workers=%s, batchSize=%s, waitTimeout=%s, numThreads=%s", queueCapacity, workers, batchSize, waitTimeout, numThreads));
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
                 .queueCapacity(queueCapacity)
                 .executorInstrumentation(executorInstrumentation)
+                .executorFactory(executorFactory)
                 .workers(workers)
+                .batchSize(batchSize)
+                .leaseRenewalPeriod(Duration.ofSeconds(leaseRenewalPeriod))
+                .notificationBatchSize(notificationBatchSize)
+                .notificationRetryMaxDelay(Duration.ofSeconds(notificationRetryMaxDelay))
+                .notificationRetryMaxAttempts(notificationRetryMaxAttempts)
+                .clock(clock)
                 .waitTimeout(waitTimeout)
                 .pipelineService(pipelineService)
                 .transferServiceRegistry(transferServiceRegistry)
                 .store(registerStore(context))
+                .flowStore(flowStore)
                 .transferProcessClient(transferProcessApiClient)
                 .monitor(monitor)
                 .telemetry(telemetry)
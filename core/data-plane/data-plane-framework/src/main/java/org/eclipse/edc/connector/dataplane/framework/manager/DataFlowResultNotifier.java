@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.manager;
+
+import org.eclipse.edc.connector.api.client.spi.transferprocess.TransferProcessApiClient;
+import org.eclipse.edc.connector.dataplane.spi.store.DataFlowStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResult;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Notifies the results of the completed data flows to the control plane, using the {@link DataFlowStore} as outbox.
+ * <p>
+ * The results that are due are sent in batches, one call per callback address, so that data flows completing together
+ * are notified at once. The leases of the results are renewed before each call. When a notification fails, the results
+ * are kept and retried after a delay that grows exponentially with the consecutive failures of the callback address,
+ * until a result has failed the maximum number of attempts, in which case it is dropped. The attempts are counted in
+ * memory, so they start over when the runtime restarts.
+ */
+class DataFlowResultNotifier {
+
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+
+    private final AtomicBoolean active = new AtomicBoolean(true);
+    private final Semaphore available = new Semaphore(0);
+    private final Map<String, Integer> failures = new HashMap<>();
+    private final Map<String, Integer> attempts = new HashMap<>();
+    private final DataFlowStore flowStore;
+    private final TransferProcessApiClient transferProcessClient;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final int batchSize;
+    private final long waitTimeout;
+    private final Duration retryBaseDelay;
+    private final Duration retryMaxDelay;
+    private final int maxAttempts;
+
+    DataFlowResultNotifier(DataFlowStore flowStore, TransferProcessApiClient transferProcessClient, Monitor monitor, Clock clock,
+                           int batchSize, long waitTimeout, Duration retryBaseDelay, Duration retryMaxDelay, int maxAttempts) {
+        this.flowStore = flowStore;
+        this.transferProcessClient = transferProcessClient;
+        this.monitor = monitor;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.waitTimeout = waitTimeout;
+        this.retryBaseDelay = retryBaseDelay;
+        this.retryMaxDelay = retryMaxDelay;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Notifies the results until {@link #stop()} is called, meant to be submitted to an executor.
+     */
+    void run() {
+        while (active.get()) {
+            try {
+                if (!notifyNext()) {
+                    available.tryAcquire(waitTimeout, TimeUnit.MILLISECONDS);
+                    available.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.interrupted();
+                active.set(false);
+                break;
+            } catch (Exception e) {
+                monitor.severe("Unable to notify the results of the data flows", e);
+            }
+        }
+    }
+
+    void stop() {
+        active.set(false);
+    }
+
+    /**
+     * Signals that a result has been stored, so that it gets notified without waiting for the next poll.
+     */
+    void resultAvailable() {
+        available.release();
+    }
+
+    /**
+     * Notifies the next batch of results that are due.
+     *
+     * @return false if there were no results to notify.
+     */
+    boolean notifyNext() {
+        var results = flowStore.nextNotNotified(batchSize);
+        if (results.isEmpty()) {
+            return false;
+        }
+
+        var byCallbackAddress = results.stream()
+                .collect(groupingBy(result -> String.valueOf(result.getRequest().getCallbackAddress()), LinkedHashMap::new, toList()));
+        byCallbackAddress.forEach(this::notifyResults);
+        return true;
+    }
+
+    private void notifyResults(String callbackAddress, List<DataFlowResult> results) {
+        var processIds = results.stream().map(result -> result.getRequest().getProcessId()).collect(toList());
+        flowStore.renewLeases(processIds);
+
+        List<DataFlowResult> notNotified;
+        try {
+            notNotified = transferProcessClient.notifyResults(results);
+        } catch (Exception e) {
+            monitor.severe(String.format("Unable to notify the results of %s data flows to %s", processIds.size(), callbackAddress), e);
+            notNotified = results;
+        }
+
+        var failedIds = notNotified.stream().map(result -> result.getRequest().getProcessId()).collect(toSet());
+        var notifiedIds = processIds.stream().filter(id -> !failedIds.contains(id)).collect(toList());
+        notifiedIds.forEach(attempts::remove);
+        if (!notifiedIds.isEmpty()) {
+            flowStore.notified(notifiedIds);
+        }
+
+        if (failedIds.isEmpty()) {
+            failures.remove(callbackAddress);
+            return;
+        }
+
+        var exhausted = failedIds.stream().filter(id -> attempts.merge(id, 1, Integer::sum) >= maxAttempts).collect(toList());
+        if (!exhausted.isEmpty()) {
+            exhausted.forEach(attempts::remove);
+            monitor.severe(String.format("Giving up notifying the results of data flows %s to %s after %s attempts", exhausted, callbackAddress, maxAttempts));
+            flowStore.notified(exhausted);
+        }
+
+        var retried = failedIds.stream().filter(id -> !exhausted.contains(id)).collect(toList());
+        if (!retried.isEmpty()) {
+            var delay = backoff(failures.merge(callbackAddress, 1, Integer::sum));
+            monitor.warning(String.format("Unable to notify the results of %s data flows to %s, retrying in %s ms",
+                    retried.size(), callbackAddress, delay.toMillis()));
+            flowStore.retryLater(retried, clock.millis() + delay.toMillis());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        var delay = retryBaseDelay.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_EXPONENT));
+        return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+    }
+}
@@ -15,49 +15,74 @@
 package org.eclipse.edc.connector.dataplane.framework.manager;
 
 import org.eclipse.edc.connector.api.client.spi.transferprocess.TransferProcessApiClient;
+import org.eclipse.edc.connector.dataplane.framework.store.InMemoryDataFlowStore;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
+import org.eclipse.edc.connector.dataplane.spi.store.DataFlowStore;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore.State;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.ExecutorFactory;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResult;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 
 /**
  * Default data manager implementation.
  * <p>
- * This implementation uses a simple bounded queue to support backpressure when the system is overloaded. This should support sufficient performance since data transfers
- * generally do not require low-latency. If low-latency operation becomes a requirement, a concurrent queuing mechanism can be used.
+ * Received requests are queued in a {@link DataFlowStore}, from which the workers lease them in batches. A request stays
+ * leased while it is transferred, so a persistent store permits to resume the data flows of a runtime that stopped, and
+ * to share the queue between several runtimes. The number of data flows not completed is bounded, to support backpressure
+ * when the system is overloaded.
  */
 public class DataPlaneManagerImpl implements DataPlaneManager {
     private final AtomicBoolean active = new AtomicBoolean();
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Semaphore received = new Semaphore(0);
+    private final AtomicLong completed = new AtomicLong();
     private int queueCapacity = 10000;
     private int workers = 1;
+    private int batchSize = 10;
     private long waitTimeout = 100;
+    private Duration leaseRenewalPeriod = Duration.ofSeconds(20);
+    private int notificationBatchSize = 100;
+    private Duration notificationRetryBaseDelay = Duration.ofSeconds(1);
+    private Duration notificationRetryMaxDelay = Duration.ofMinutes(5);
+    private int notificationRetryMaxAttempts = 50;
+    private Clock clock = Clock.systemUTC();
     private PipelineService pipelineService;
     private ExecutorInstrumentation executorInstrumentation;
+    private ExecutorFactory executorFactory;
     private Monitor monitor;
     private Telemetry telemetry;
-    private BlockingQueue<DataFlowRequest> queue;
     private ExecutorService executorService;
+    private ScheduledExecutorService leaseRenewalExecutor;
+    private ExecutorService notificationExecutor;
+    private DataFlowResultNotifier notifier;
     private DataPlaneStore store;
+    private DataFlowStore flowStore;
     private TransferServiceRegistry transferServiceRegistry;
 
     private TransferProcessApiClient transferProcessClient;
@@ -67,12 +92,18 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
     }
 
     public void start() {
-        queue = new ArrayBlockingQueue<>(queueCapacity);
         active.set(true);
-        executorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(workers), getClass().getSimpleName());
+        executorService = executorInstrumentation.instrument(executorFactory.newFixedThreadPool(workers, getClass().getSimpleName()), getClass().getSimpleName());
         for (var i = 0; i < workers; i++) {
             executorService.submit(this::run);
         }
+        var period = leaseRenewalPeriod.toMillis();
+        leaseRenewalExecutor = executorFactory.newSingleThreadScheduledExecutor(getClass().getSimpleName() + "-lease-renewal");
+        leaseRenewalExecutor.scheduleAtFixedRate(this::renewLeases, period, period, TimeUnit.MILLISECONDS);
+        notifier = new DataFlowResultNotifier(flowStore, transferProcessClient, monitor, clock, notificationBatchSize, waitTimeout,
+                notificationRetryBaseDelay, notificationRetryMaxDelay, notificationRetryMaxAttempts);
+        notificationExecutor = executorFactory.newFixedThreadPool(1, getClass().getSimpleName() + "-notification");
+        notificationExecutor.submit(notifier::run);
     }
 
     public void stop() {
@@ -80,6 +111,13 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         if (executorService != null) {
             executorService.shutdown();
         }
+        if (leaseRenewalExecutor != null) {
+            leaseRenewalExecutor.shutdown();
+        }
+        if (notifier != null) {
+            notifier.stop();
+            notificationExecutor.shutdown();
+        }
     }
 
     public void forceStop() {
@@ -87,6 +125,13 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         if (executorService != null) {
             executorService.shutdownNow();
         }
+        if (leaseRenewalExecutor != null) {
+            leaseRenewalExecutor.shutdownNow();
+        }
+        if (notifier != null) {
+            notifier.stop();
+            notificationExecutor.shutdownNow();
+        }
     }
 
     @Override
@@ -99,13 +144,18 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
     }
 
     @Override
-    public void initiateTransfer(DataFlowRequest dataRequest) {
+    public Result<Void> initiateTransfer(DataFlowRequest dataRequest) {
+        if (flowStore.count() >= queueCapacity) {
+            return Result.failure(format("Cannot accept data flow request %s, there are already %s data flows in progress", dataRequest.getId(), queueCapacity));
+        }
         // store current trace context in entity for request traceability
         var dataRequestWithTraceContext = dataRequest.toBuilder()
                 .traceContext(telemetry.getCurrentTraceContext())
                 .build();
-        queue.add(dataRequestWithTraceContext);
+        flowStore.save(dataRequestWithTraceContext);
         store.received(dataRequestWithTraceContext.getProcessId());
+        received.release();
+        return Result.success();
     }
 
     @Override
@@ -123,39 +173,58 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         return store.getState(processId);
     }
 
+    @Override
+    public int activeFlows() {
+        return inFlight.size();
+    }
+
+    @Override
+    public long queuedFlows() {
+        return Math.max(0, flowStore.count() - inFlight.size());
+    }
+
+    @Override
+    public long completedFlows() {
+        return completed.get();
+    }
+
     private void run() {
         while (active.get()) {
-            DataFlowRequest request = null;
             try {
-                request = queue.poll(waitTimeout, TimeUnit.MILLISECONDS);
-                if (request == null) {
+                var requests = flowStore.nextNotLeased(batchSize);
+                if (requests.isEmpty()) {
+                    received.tryAcquire(waitTimeout, TimeUnit.MILLISECONDS);
                     continue;
                 }
-                // propagate trace context for request into the current thread
-                telemetry.contextPropagationMiddleware(this::processDataFlowRequest).accept(request);
-
+                requests.forEach(this::process);
             } catch (InterruptedException e) {
                 Thread.interrupted();
                 active.set(false);
                 break;
             } catch (Exception e) {
-                if (request == null) {
-                    monitor.severe("Unable to dequeue data request", e);
-                } else {
-                    monitor.severe("Error processing data request: " + request.getProcessId(), e);
-                    // TODO persist error details
-                    store.completed(request.getProcessId());
-                }
+                monitor.severe("Unable to dequeue data requests", e);
             }
         }
     }
 
+    private void process(DataFlowRequest request) {
+        inFlight.add(request.getProcessId());
+        try {
+            // propagate trace context for request into the current thread
+            telemetry.contextPropagationMiddleware(this::processDataFlowRequest).accept(request);
+        } catch (Exception e) {
+            monitor.severe("Error processing data request: " + request.getProcessId(), e);
+            // TODO persist error details
+            complete(request);
+        }
+    }
+
     private void processDataFlowRequest(DataFlowRequest request) {
         var transferService = transferServiceRegistry.resolveTransferService(request);
         if (transferService == null) {
             // Should not happen since resolving a transferService is part of payload validation
             // TODO persist error details
-            store.completed(request.getProcessId());
+            complete(request);
         } else {
             transferService.transfer(request).whenComplete((result, exception) -> {
 
@@ -163,21 +232,60 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
                     // TODO persist TransferResult or error details
                     store.completed(request.getProcessId());
                 }
-
                 onTransferFinished(request, result, exception);
+            });
+        }
+    }
 
+    private void complete(DataFlowRequest request) {
+        store.completed(request.getProcessId());
+        removeFlow(request);
+    }
 
-            });
+    private void removeFlow(DataFlowRequest request) {
+        try {
+            flowStore.delete(request.getProcessId());
+        } catch (Exception e) {
+            monitor.severe("Unable to remove data flow: " + request.getProcessId(), e);
+        } finally {
+            inFlight.remove(request.getProcessId());
+            completed.incrementAndGet();
+        }
+    }
+
+    private void renewLeases() {
+        if (inFlight.isEmpty()) {
+            return;
+        }
+        try {
+            flowStore.renewLeases(List.copyOf(inFlight));
+        } catch (Exception e) {
+            monitor.warning("Unable to renew the leases of the data flows in progress", e);
         }
     }
 
+    /**
+     * Stores the result of the transfer, to be notified to the control plane by the {@link DataFlowResultNotifier}. If it
+     * cannot be stored, it is notified right away.
+     */
     private void onTransferFinished(DataFlowRequest request, StreamResult<Void> result, Throwable exception) {
+        String errorMessage = null;
         if (exception != null) {
-            transferProcessClient.failed(request, exception.getMessage());
-        } else if (result.succeeded()) {
-            transferProcessClient.completed(request);
-        } else {
-            transferProcessClient.failed(request, result.getFailureDetail());
+            errorMessage = String.valueOf(exception.getMessage());
+        } else if (result.failed()) {
+            errorMessage = String.valueOf(result.getFailureDetail());
+        }
+
+        try {
+            flowStore.complete(request.getProcessId(), errorMessage);
+            notifier.resultAvailable();
+        } catch (Exception e) {
+            monitor.severe("Unable to store the result of data flow: " + request.getProcessId(), e);
+            var flowResult = errorMessage == null ? DataFlowResult.completed(request) : DataFlowResult.failed(request, errorMessage);
+            transferProcessClient.notifyResults(List.of(flowResult));
+        } finally {
+            inFlight.remove(request.getProcessId());
+            completed.incrementAndGet();
         }
     }
 
@@ -187,6 +295,7 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         private Builder() {
             manager = new DataPlaneManagerImpl();
             manager.telemetry = new Telemetry(); // default noop implementation
+            manager.executorFactory = ExecutorFactory.platform(); // default implementation
         }
 
         public static Builder newInstance() {
@@ -203,6 +312,11 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        public Builder executorFactory(ExecutorFactory executorFactory) {
+            manager.executorFactory = executorFactory;
+            return this;
+        }
+
         public Builder transferServiceRegistry(TransferServiceRegistry transferServiceRegistry) {
             manager.transferServiceRegistry = transferServiceRegistry;
             return this;
@@ -228,6 +342,16 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        public Builder batchSize(int batchSize) {
+            manager.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder leaseRenewalPeriod(Duration leaseRenewalPeriod) {
+            manager.leaseRenewalPeriod = leaseRenewalPeriod;
+            return this;
+        }
+
         public Builder waitTimeout(long waitTimeout) {
             manager.waitTimeout = waitTimeout;
             return this;
@@ -238,6 +362,36 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        public Builder notificationBatchSize(int notificationBatchSize) {
+            manager.notificationBatchSize = notificationBatchSize;
+            return this;
+        }
+
+        public Builder notificationRetryBaseDelay(Duration notificationRetryBaseDelay) {
+            manager.notificationRetryBaseDelay = notificationRetryBaseDelay;
+            return this;
+        }
+
+        public Builder notificationRetryMaxDelay(Duration notificationRetryMaxDelay) {
+            manager.notificationRetryMaxDelay = notificationRetryMaxDelay;
+            return this;
+        }
+
+        public Builder notificationRetryMaxAttempts(int notificationRetryMaxAttempts) {
+            manager.notificationRetryMaxAttempts = notificationRetryMaxAttempts;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            manager.clock = clock;
+            return this;
+        }
+
+        public Builder flowStore(DataFlowStore flowStore) {
+            manager.flowStore = flowStore;
+            return this;
+        }
+
         public Builder transferProcessClient(TransferProcessApiClient transferProcessClient) {
             manager.transferProcessClient = transferProcessClient;
             return this;
@@ -245,6 +399,9 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
 
         public DataPlaneManagerImpl build() {
             Objects.requireNonNull(manager.transferProcessClient);
+            if (manager.flowStore == null) {
+                manager.flowStore = new InMemoryDataFlowStore(manager.clock);
+            }
             return manager;
         }
     }
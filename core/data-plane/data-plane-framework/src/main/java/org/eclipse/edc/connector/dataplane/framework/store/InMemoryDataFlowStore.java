@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.store;
+
+import org.eclipse.edc.connector.dataplane.spi.store.DataFlowStore;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Implements an in-memory, ephemeral {@link DataFlowStore}: leases never expire, as the data flows cannot be taken over
+ * by other runtimes.
+ */
+public class InMemoryDataFlowStore implements DataFlowStore {
+    private final Map<String, DataFlowRequest> received = new LinkedHashMap<>();
+    private final Map<String, DataFlowRequest> leased = new HashMap<>();
+    private final Map<String, Completed> completed = new LinkedHashMap<>();
+    private final Clock clock;
+
+    public InMemoryDataFlowStore() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemoryDataFlowStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized void save(DataFlowRequest request) {
+        if (leased.containsKey(request.getProcessId())) {
+            return;
+        }
+        completed.remove(request.getProcessId());
+        received.put(request.getProcessId(), request);
+    }
+
+    @Override
+    public synchronized List<DataFlowRequest> nextNotLeased(int max) {
+        var next = new ArrayList<DataFlowRequest>();
+        var iterator = received.values().iterator();
+        while (iterator.hasNext() && next.size() < max) {
+            var request = iterator.next();
+            iterator.remove();
+            leased.put(request.getProcessId(), request);
+            next.add(request);
+        }
+        return next;
+    }
+
+    @Override
+    public void renewLeases(List<String> processIds) {
+        // leases do not expire
+    }
+
+    @Override
+    public synchronized void delete(String processId) {
+        received.remove(processId);
+        leased.remove(processId);
+        completed.remove(processId);
+    }
+
+    @Override
+    public synchronized void complete(String processId, @Nullable String errorMessage) {
+        var request = leased.remove(processId);
+        if (request == null) {
+            request = received.remove(processId);
+        }
+        if (request != null) {
+            var result = errorMessage == null ? DataFlowResult.completed(request) : DataFlowResult.failed(request, errorMessage);
+            completed.put(processId, new Completed(result, clock.millis()));
+        }
+    }
+
+    @Override
+    public synchronized List<DataFlowResult> nextNotNotified(int max) {
+        var now = clock.millis();
+        var next = completed.values().stream()
+                .filter(entry -> !entry.leased && entry.notBefore <= now)
+                .sorted(Comparator.comparingLong(entry -> entry.notBefore))
+                .limit(max)
+                .collect(toList());
+        next.forEach(entry -> entry.leased = true);
+        return next.stream().map(entry -> entry.result).collect(toList());
+    }
+
+    @Override
+    public synchronized void notified(List<String> processIds) {
+        processIds.forEach(completed::remove);
+    }
+
+    @Override
+    public synchronized void retryLater(List<String> processIds, long notBefore) {
+        processIds.stream().map(completed::get).filter(Objects::nonNull).forEach(entry -> {
+            entry.leased = false;
+            entry.notBefore = notBefore;
+        });
+    }
+
+    @Override
+    public synchronized long count() {
+        return received.size() + leased.size() + completed.size();
+    }
+
+    private static class Completed {
+        private final DataFlowResult result;
+        private long notBefore;
+        private boolean leased;
+
+        Completed(DataFlowResult result, long notBefore) {
+            this.result = result;
+            this.notBefore = notBefore;
+        }
+    }
+}
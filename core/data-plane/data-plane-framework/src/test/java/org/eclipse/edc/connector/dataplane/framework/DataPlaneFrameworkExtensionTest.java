@@ -24,6 +24,7 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.system.ExecutorFactory;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.injection.ObjectFactory;
@@ -52,6 +53,7 @@ class DataPlaneFrameworkExtensionTest {
         when(transferService2.canHandle(request)).thenReturn(true);
         context.registerService(Telemetry.class, mock(Telemetry.class));
         context.registerService(ExecutorInstrumentation.class, ExecutorInstrumentation.noop());
+        context.registerService(ExecutorFactory.class, ExecutorFactory.platform());
         context.registerService(TransferProcessApiClient.class, new NoopTransferProcessClient());
     }
 
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.framework.manager;
+
+import org.eclipse.edc.connector.api.client.spi.transferprocess.TransferProcessApiClient;
+import org.eclipse.edc.connector.dataplane.framework.store.InMemoryDataFlowStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataFlowResultNotifierTest {
+
+    private final Clock clock = mock(Clock.class);
+    private final InMemoryDataFlowStore flowStore = spy(new InMemoryDataFlowStore(clock));
+    private final TransferProcessApiClient client = mock(TransferProcessApiClient.class);
+    private final DataFlowResultNotifier notifier = new DataFlowResultNotifier(flowStore, client, mock(Monitor.class), clock,
+            10, 10, Duration.ofSeconds(1), Duration.ofSeconds(3), 3);
+
+    @Test
+    void notifyNext_shouldNotifyResultsAndRemoveFlows() {
+        when(clock.millis()).thenReturn(0L);
+        when(client.notifyResults(anyList())).thenReturn(List.of());
+        complete("1", null);
+        complete("2", "error");
+
+        assertThat(notifier.notifyNext()).isTrue();
+
+        verify(client).notifyResults(anyList());
+        assertThat(flowStore.count()).isZero();
+        assertThat(notifier.notifyNext()).isFalse();
+    }
+
+    @Test
+    void notifyNext_shouldRetryWithExponentialBackoff_whenNotificationFails() {
+        when(clock.millis()).thenReturn(0L);
+        when(client.notifyResults(anyList())).thenAnswer(i -> i.getArgument(0));
+        complete("1", null);
+
+        assertThat(notifier.notifyNext()).isTrue();
+        assertThat(notifier.notifyNext()).isFalse();
+
+        when(clock.millis()).thenReturn(1000L);
+        assertThat(notifier.notifyNext()).isTrue();
+
+        when(clock.millis()).thenReturn(2999L);
+        assertThat(notifier.notifyNext()).isFalse();
+
+        when(clock.millis()).thenReturn(3000L);
+        assertThat(notifier.notifyNext()).isTrue();
+
+        when(clock.millis()).thenReturn(2999L);
+        assertThat(notifier.notifyNext()).isFalse();
+
+        verify(client, times(2)).notifyResults(anyList());
+        assertThat(flowStore.count()).isEqualTo(1);
+    }
+
+    @Test
+    void notifyNext_shouldRemoveOnlyNotifiedFlows_whenSomeResultsFail() {
+        when(clock.millis()).thenReturn(0L);
+        when(client.notifyResults(anyList())).thenAnswer(i -> i.<List<DataFlowResult>>getArgument(0).stream()
+                .filter(result -> result.getRequest().getProcessId().equals("2"))
+                .toList());
+        complete("1", null);
+        complete("2", null);
+
+        assertThat(notifier.notifyNext()).isTrue();
+
+        verify(flowStore).notified(List.of("1"));
+        verify(flowStore).retryLater(eq(List.of("2")), anyLong());
+        assertThat(flowStore.count()).isEqualTo(1);
+    }
+
+    @Test
+    void notifyNext_shouldDropResult_whenMaxAttemptsAreReached() {
+        when(clock.millis()).thenReturn(0L);
+        when(client.notifyResults(anyList())).thenAnswer(i -> i.getArgument(0));
+        complete("1", null);
+
+        for (var now : List.of(0L, 1000L, 3000L)) {
+            when(clock.millis()).thenReturn(now);
+            assertThat(notifier.notifyNext()).isTrue();
+        }
+
+        verify(client, times(3)).notifyResults(anyList());
+        assertThat(flowStore.count()).isZero();
+    }
+
+    @Test
+    void notifyNext_shouldRenewLeasesBeforeNotifying() {
+        when(clock.millis()).thenReturn(0L);
+        when(client.notifyResults(anyList())).thenReturn(List.of());
+        complete("1", null);
+
+        notifier.notifyNext();
+
+        var inOrder = inOrder(flowStore, client);
+        inOrder.verify(flowStore).renewLeases(List.of("1"));
+        inOrder.verify(client).notifyResults(anyList());
+    }
+
+    private void complete(String processId, String errorMessage) {
+        var request = DataFlowRequest.Builder.newInstance()
+                .id(processId)
+                .processId(processId)
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .build();
+        flowStore.save(request);
+        flowStore.nextNotLeased(1);
+        flowStore.complete(processId, errorMessage);
+    }
+}
@@ -15,9 +15,13 @@
 package org.eclipse.edc.connector.dataplane.framework.manager;
 
 import org.eclipse.edc.connector.api.client.spi.transferprocess.NoopTransferProcessClient;
+import org.eclipse.edc.connector.api.client.spi.transferprocess.TransferProcessApiClient;
+import org.eclipse.edc.connector.dataplane.framework.store.InMemoryDataFlowStore;
 import org.eclipse.edc.connector.dataplane.framework.store.InMemoryDataPlaneStore;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
+import org.eclipse.edc.connector.dataplane.spi.store.DataFlowStore;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
@@ -27,9 +31,18 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -41,6 +54,7 @@ import static org.mockito.Mockito.when;
 class DataPlaneManagerImplTest {
     TransferService transferService = mock(TransferService.class);
     DataPlaneStore store = new InMemoryDataPlaneStore(10);
+    DataFlowStore flowStore = new InMemoryDataFlowStore();
     DataFlowRequest request = createRequest();
     TransferServiceRegistry registry = mock(TransferServiceRegistry.class);
 
@@ -97,6 +111,7 @@ class DataPlaneManagerImplTest {
         dataPlaneManager.start();
 
         dataPlaneManager.initiateTransfer(request);
+        await().until(() -> flowStore.count() == 0);
         dataPlaneManager.initiateTransfer(request);
 
         await().untilAsserted(() -> {
@@ -104,6 +119,98 @@ class DataPlaneManagerImplTest {
         });
     }
 
+    @Test
+    void initiateTransfer_shouldNotTransferTwice_whenFlowIsInFlight() {
+        var dataPlaneManager = createDataPlaneManager();
+        var future = new CompletableFuture<StreamResult<Void>>();
+        when(transferService.canHandle(request)).thenReturn(true);
+        when(transferService.transfer(request)).thenReturn(future);
+
+        dataPlaneManager.start();
+        dataPlaneManager.initiateTransfer(request);
+        await().untilAsserted(() -> verify(transferService).transfer(request));
+
+        dataPlaneManager.initiateTransfer(request);
+        future.complete(StreamResult.success());
+
+        await().untilAsserted(() -> assertThat(flowStore.count()).isZero());
+        verify(transferService, times(1)).transfer(request);
+    }
+
+    @Test
+    void initiateTransfer_shouldFail_whenCapacityIsReached() {
+        var dataPlaneManager = createDataPlaneManager();
+        for (var i = 0; i < 100; i++) {
+            flowStore.save(createRequest("process-" + i));
+        }
+
+        var result = dataPlaneManager.initiateTransfer(createRequest());
+
+        assertThat(result.failed()).isTrue();
+        assertThat(store.getState(request.getProcessId())).isEqualTo(DataPlaneStore.State.NOT_TRACKED);
+    }
+
+    @Test
+    void verifyWorkDispatch_shouldResumeStoredFlowsAndRemoveThemOnCompletion() {
+        flowStore.save(request);
+        when(transferService.transfer(isA(DataFlowRequest.class))).thenReturn(completedFuture(StreamResult.success()));
+        var dataPlaneManager = createDataPlaneManager();
+
+        dataPlaneManager.start();
+
+        await().untilAsserted(() -> {
+            verify(transferService).transfer(request);
+            assertThat(flowStore.count()).isZero();
+        });
+    }
+
+    @Test
+    void verifyWorkDispatch_shouldNotifyResultToControlPlane() {
+        var transferProcessClient = mock(TransferProcessApiClient.class);
+        when(transferProcessClient.notifyResults(anyList())).thenReturn(List.of());
+        when(transferService.transfer(isA(DataFlowRequest.class))).thenReturn(completedFuture(StreamResult.success()));
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .waitTimeout(10)
+                .transferServiceRegistry(registry)
+                .store(store)
+                .flowStore(flowStore)
+                .transferProcessClient(transferProcessClient)
+                .monitor(mock(Monitor.class))
+                .build();
+
+        dataPlaneManager.start();
+        dataPlaneManager.initiateTransfer(request);
+
+        await().untilAsserted(() -> {
+            verify(transferProcessClient).notifyResults(argThat(results -> results.size() == 1 && results.get(0).succeeded()));
+            assertThat(flowStore.count()).isZero();
+        });
+        dataPlaneManager.forceStop();
+    }
+
+    @Test
+    void verifyLeasesOfFlowsInProgressAreRenewed() {
+        var flowStore = mock(DataFlowStore.class);
+        when(flowStore.nextNotLeased(anyInt())).thenReturn(List.of(request)).thenReturn(List.of());
+        when(transferService.transfer(isA(DataFlowRequest.class))).thenReturn(new CompletableFuture<>());
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .waitTimeout(10)
+                .leaseRenewalPeriod(Duration.ofMillis(10))
+                .transferServiceRegistry(registry)
+                .store(store)
+                .flowStore(flowStore)
+                .transferProcessClient(new NoopTransferProcessClient())
+                .monitor(mock(Monitor.class))
+                .build();
+
+        dataPlaneManager.start();
+
+        await().untilAsserted(() -> verify(flowStore, atLeastOnce()).renewLeases(List.of(request.getProcessId())));
+        dataPlaneManager.forceStop();
+    }
+
     @Test
     void verifyWorkDispatch_onUnavailableTransferService_completesTransfer() throws InterruptedException {
         // Modify store used in createDataPlaneManager()
@@ -123,9 +230,13 @@ class DataPlaneManagerImplTest {
     }
 
     DataFlowRequest createRequest() {
+        return createRequest("1");
+    }
+
+    DataFlowRequest createRequest(String id) {
         return DataFlowRequest.Builder.newInstance()
-                .id("1")
-                .processId("1")
+                .id(id)
+                .processId(id)
                 .sourceDataAddress(DataAddress.Builder.newInstance().type("type").build())
                 .destinationDataAddress(DataAddress.Builder.newInstance().type("type").build())
                 .build();
@@ -139,6 +250,7 @@ class DataPlaneManagerImplTest {
                 .waitTimeout(10)
                 .transferServiceRegistry(registry)
                 .store(store)
+                .flowStore(flowStore)
                 .transferProcessClient(new NoopTransferProcessClient())
                 .monitor(mock(Monitor.class))
                 .build();
@@ -0,0 +1,27 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.store;
+
+import org.eclipse.edc.connector.dataplane.spi.store.DataFlowStore;
+import org.eclipse.edc.connector.dataplane.spi.testfixtures.store.DataFlowStoreTestBase;
+
+class InMemoryDataFlowStoreTest extends DataFlowStoreTestBase {
+    private final InMemoryDataFlowStore store = new InMemoryDataFlowStore();
+
+    @Override
+    protected DataFlowStore getStore() {
+        return store;
+    }
+}
@@ -25,21 +25,23 @@ import org.eclipse.edc.spi.telemetry.TraceCarrier;
 import org.eclipse.edc.util.stream.PartitionIterator;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
-import static java.util.stream.Collectors.toList;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.failure;
 import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
- * Writes data in parallel.
+ * Writes data in parallel. Once a partition of parts failed to be transferred, no more parts are read from the source,
+ * which ends its part stream.
  */
 public abstract class ParallelSink implements DataSink {
     protected String requestId;
@@ -58,10 +60,15 @@ public abstract class ParallelSink implements DataSink {
             }
 
             try (var partStream = streamResult.getContent()) {
-                var partitioned = PartitionIterator.streamOf(partStream, partitionSize);
+                var partitions = new PartitionIterator<>(partStream.iterator(), partitionSize);
                 var traceCarrier = telemetry.getTraceCarrierWithCurrentContext();
 
-                var futures = partitioned.map(parts -> processPartsAsync(parts, traceCarrier)).collect(toList());
+                var failed = new AtomicBoolean();
+                var futures = new ArrayList<CompletableFuture<StreamResult<Void>>>();
+                // the flag is checked before the next partition is read, so that no part is read and then dropped
+                while (!failed.get() && partitions.hasNext()) {
+                    futures.add(processPartsAsync(partitions.next(), traceCarrier, failed));
+                }
                 return futures.stream()
                         .collect(asyncAllOf())
                         .thenApply(results -> results.stream()
@@ -79,11 +86,26 @@ public abstract class ParallelSink implements DataSink {
     }
 
     @NotNull
-    private CompletableFuture<StreamResult<Void>> processPartsAsync(List<DataSource.Part> parts, TraceCarrier traceCarrier) {
-        Supplier<StreamResult<Void>> supplier = () -> transferParts(parts);
-        return supplyAsync(telemetry.contextPropagationMiddleware(supplier, traceCarrier), executorService);
+    private CompletableFuture<StreamResult<Void>> processPartsAsync(List<DataSource.Part> parts, TraceCarrier traceCarrier, AtomicBoolean failed) {
+        Supplier<StreamResult<Void>> supplier = () -> {
+            var result = transferParts(parts);
+            if (result.succeeded()) {
+                parts.forEach(this::closePart);
+            }
+            return result;
+        };
+        return supplyAsync(telemetry.contextPropagationMiddleware(supplier, traceCarrier), executorService)
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null || result.failed()) {
+                        failed.set(true);
+                    }
+                });
     }
 
+    /**
+     * Transfers a partition of parts. The parts of a partition that was successfully transferred are then closed, which
+     * signals to sources that track the delivery of their parts, e.g. by committing offsets, that they can be released.
+     */
     protected abstract StreamResult<Void> transferParts(List<DataSource.Part> parts);
 
     /**
@@ -97,6 +119,14 @@ public abstract class ParallelSink implements DataSink {
         return StreamResult.success();
     }
 
+    private void closePart(DataSource.Part part) {
+        try {
+            part.close();
+        } catch (Exception e) {
+            monitor.warning(format("Error closing part %s - Request ID: %s", part.name(), requestId), e);
+        }
+    }
+
     protected abstract static class Builder<B extends Builder<B, T>, T extends ParallelSink> {
         protected T sink;
 
@@ -29,12 +29,16 @@ import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ParallelSinkTest {
@@ -68,6 +72,56 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(1);
     }
 
+    @Test
+    void transfer_closesPartsOnceTransferred() throws Exception {
+        var part = mock(DataSource.Part.class);
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+
+        assertThat(fakeSink.transfer(source)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        verify(part).close();
+    }
+
+    @Test
+    void transfer_whenFailureDuringTransfer_doesNotCloseParts() throws Exception {
+        var part = mock(DataSource.Part.class);
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+
+        assertThat(fakeSink.transfer(source)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.failed()).isTrue());
+
+        verify(part, never()).close();
+    }
+
+    @Test
+    void transfer_whenFailureDuringTransfer_stopsReadingParts() {
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.generate(() -> mock(DataSource.Part.class))));
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+
+        assertThat(fakeSink.transfer(source)).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.failed()).isTrue());
+    }
+
+    @Test
+    void transfer_whenFailureDuringTransfer_transfersEveryPartRead() {
+        var read = new AtomicInteger();
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.generate(() -> {
+            read.incrementAndGet();
+            return mock(DataSource.Part.class);
+        })));
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+
+        assertThat(fakeSink.transfer(source)).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.failed()).isTrue());
+        assertThat(fakeSink.transferred).hasValue(read.get());
+    }
+
     @Test
     void transfer_whenCompleteFails_fails() {
         fakeSink.completeResponse = StreamResult.error("General error");
@@ -119,6 +173,7 @@ class ParallelSinkTest {
     private static class FakeParallelSink extends ParallelSink {
 
         List<DataSource.Part> parts;
+        final AtomicInteger transferred = new AtomicInteger();
         Supplier<StreamResult<Void>> transferResultSupplier = StreamResult::success;
         private int complete;
         private StreamResult<Void> completeResponse = StreamResult.success();
@@ -126,6 +181,7 @@ class ParallelSinkTest {
         @Override
         protected StreamResult<Void> transferParts(List<DataSource.Part> parts) {
             this.parts = parts;
+            transferred.addAndGet(parts.size());
             return transferResultSupplier.get();
         }
 
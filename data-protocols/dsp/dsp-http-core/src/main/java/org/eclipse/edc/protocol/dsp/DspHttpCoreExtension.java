@@ -27,6 +27,7 @@ import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferStartMessag
 import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferTerminationMessage;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.protocol.dsp.dispatcher.CachingIdentityService;
 import org.eclipse.edc.protocol.dsp.dispatcher.DspHttpRemoteMessageDispatcherImpl;
 import org.eclipse.edc.protocol.dsp.serialization.JsonLdRemoteMessageSerializerImpl;
 import org.eclipse.edc.protocol.dsp.spi.dispatcher.DspHttpRemoteMessageDispatcher;
@@ -34,15 +35,21 @@ import org.eclipse.edc.protocol.dsp.spi.serialization.JsonLdRemoteMessageSeriali
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.iam.TokenDecorator;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.system.ExecutorFactory;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
 
 /**
@@ -55,6 +62,13 @@ public class DspHttpCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Dataspace Protocol Core Extension";
 
+    private static final boolean DEFAULT_TOKEN_CACHE_ENABLED = true;
+    @Setting(value = "If set, the tokens obtained for outgoing protocol messages are reused until they expire", type = "boolean", defaultValue = DEFAULT_TOKEN_CACHE_ENABLED + "")
+    private static final String TOKEN_CACHE_ENABLED = "edc.dsp.token.cache.enabled";
+    private static final long DEFAULT_TOKEN_REFRESH_AHEAD = 30;
+    @Setting(value = "Time in seconds before expiry at which a cached token is refreshed in the background", type = "long", defaultValue = DEFAULT_TOKEN_REFRESH_AHEAD + "")
+    private static final String TOKEN_REFRESH_AHEAD = "edc.dsp.token.cache.refresh.ahead";
+
     @Inject
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
     @Inject
@@ -71,6 +85,12 @@ public class DspHttpCoreExtension implements ServiceExtension {
     private TokenDecorator decorator;
     @Inject
     private PolicyEngine policyEngine;
+    @Inject
+    private ExecutorFactory executorFactory;
+    @Inject
+    private Clock clock;
+
+    private ExecutorService tokenRefreshExecutor;
 
     @Override
     public String name() {
@@ -87,13 +107,29 @@ public class DspHttpCoreExtension implements ServiceExtension {
             td = bldr -> bldr;
         }
 
-        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine);
+        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, clientCredentialsProvider(context), td, policyEngine);
         registerNegotiationPolicyScopes(dispatcher);
         registerTransferProcessPolicyScopes(dispatcher);
         dispatcherRegistry.register(dispatcher);
         return dispatcher;
     }
 
+    @Override
+    public void shutdown() {
+        if (tokenRefreshExecutor != null) {
+            tokenRefreshExecutor.shutdownNow();
+        }
+    }
+
+    private IdentityService clientCredentialsProvider(ServiceExtensionContext context) {
+        if (!context.getSetting(TOKEN_CACHE_ENABLED, DEFAULT_TOKEN_CACHE_ENABLED)) {
+            return identityService;
+        }
+        var refreshAhead = Duration.ofSeconds(context.getSetting(TOKEN_REFRESH_AHEAD, DEFAULT_TOKEN_REFRESH_AHEAD));
+        tokenRefreshExecutor = executorFactory.newFixedThreadPool(1, "dsp-token-refresh");
+        return new CachingIdentityService(identityService, tokenRefreshExecutor, clock, refreshAhead, context.getMonitor());
+    }
+
     private void registerNegotiationPolicyScopes(DspHttpRemoteMessageDispatcher dispatcher) {
         var scope = "contract.negotiation.request";
         dispatcher.registerPolicyScope(ContractAgreementMessage.class, scope, ContractRemoteMessage::getPolicy);
@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.dispatcher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import static java.lang.String.format;
+
+/**
+ * {@link IdentityService} that keeps the client credentials obtained from the wrapped service until they expire, so
+ * that the messages sent to a counter-party reuse the same token instead of requesting a new one every time.
+ * <p>
+ * Tokens are cached per audience and scope. The lifetime of a token is taken from the issuer's {@code expires_in},
+ * or from the {@code exp} claim if the token is a JWT; tokens whose lifetime is unknown are not cached. A token that
+ * is about to expire is still returned while a new one is obtained in the background, and concurrent requests for the
+ * same token wait for a single request to the wrapped service.
+ */
+public class CachingIdentityService implements IdentityService {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final IdentityService identityService;
+    private final Executor executor;
+    private final Clock clock;
+    private final Duration refreshAhead;
+    private final Monitor monitor;
+    private final Map<TokenKey, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<TokenKey, Object> locks = new ConcurrentHashMap<>();
+    private final Set<TokenKey> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor.
+     *
+     * @param identityService the service that obtains the tokens.
+     * @param executor        the executor on which the tokens are refreshed ahead of expiry.
+     * @param clock           the clock.
+     * @param refreshAhead    how long before expiry a token gets refreshed, at most half of its lifetime.
+     * @param monitor         the monitor.
+     */
+    public CachingIdentityService(IdentityService identityService, Executor executor, Clock clock, Duration refreshAhead, Monitor monitor) {
+        this.identityService = identityService;
+        this.executor = executor;
+        this.clock = clock;
+        this.refreshAhead = refreshAhead;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
+        var key = new TokenKey(parameters.getAudience(), parameters.getScope());
+        var cached = tokens.get(key);
+        var now = clock.millis();
+        if (cached != null && cached.expiresAt > now) {
+            if (cached.refreshAt <= now && refreshing.add(key)) {
+                executor.execute(() -> refreshInBackground(key, parameters));
+            }
+            return Result.success(cached.token);
+        }
+        return obtain(key, parameters);
+    }
+
+    @Override
+    public Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation, String audience) {
+        return identityService.verifyJwtToken(tokenRepresentation, audience);
+    }
+
+    private void refreshInBackground(TokenKey key, TokenParameters parameters) {
+        try {
+            obtain(key, parameters).onFailure(f -> monitor.warning(format("Failed to refresh token for %s: %s", key.audience, f.getFailureDetail())));
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * Obtains a token from the wrapped service, unless a fresh one has been obtained by another thread while this one
+     * was waiting for the lock of the key.
+     */
+    private Result<TokenRepresentation> obtain(TokenKey key, TokenParameters parameters) {
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            var cached = tokens.get(key);
+            var now = clock.millis();
+            if (cached != null && cached.refreshAt > now) {
+                return Result.success(cached.token);
+            }
+
+            var result = identityService.obtainClientCredentials(parameters);
+            if (result.succeeded()) {
+                var lifetime = lifetimeMillis(result.getContent(), now);
+                if (lifetime != null && lifetime > 0) {
+                    var ahead = Math.min(refreshAhead.toMillis(), lifetime / 2);
+                    tokens.put(key, new CachedToken(result.getContent(), now + lifetime - ahead, now + lifetime));
+                } else {
+                    tokens.remove(key);
+                }
+            }
+            return result;
+        }
+    }
+
+    @Nullable
+    private Long lifetimeMillis(TokenRepresentation token, long now) {
+        if (token.getExpiresIn() != null) {
+            return token.getExpiresIn() * 1000;
+        }
+        var expiration = jwtExpiration(token.getToken());
+        return expiration == null ? null : expiration * 1000 - now;
+    }
+
+    /**
+     * Returns the {@code exp} claim, in epoch seconds, if the token is a JWT that has one.
+     */
+    @Nullable
+    private Long jwtExpiration(String token) {
+        if (token == null) {
+            return null;
+        }
+        var parts = token.replaceFirst("(?i)^bearer ", "").split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            var exp = MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+            return exp != null && exp.canConvertToLong() ? exp.asLong() : null;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record TokenKey(String audience, String scope) {
+    }
+
+    private record CachedToken(TokenRepresentation token, long refreshAt, long expiresAt) {
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.dispatcher;
+
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingIdentityServiceTest {
+
+    private final IdentityService identityService = mock();
+    private final Clock clock = mock();
+    private final Executor executor = Runnable::run;
+    private final AtomicLong now = new AtomicLong();
+    private final CachingIdentityService service = new CachingIdentityService(identityService, executor, clock, Duration.ofSeconds(30), mock(Monitor.class));
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenAnswer(i -> now.get());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldReuseTokenUntilExpiry() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(token("token-1", 300L), token("token-2", 300L));
+
+        assertThat(service.obtainClientCredentials(parameters("audience", "scope")).getContent().getToken()).isEqualTo("token-1");
+        now.set(100_000);
+        assertThat(service.obtainClientCredentials(parameters("audience", "scope")).getContent().getToken()).isEqualTo("token-1");
+        now.set(300_000);
+        assertThat(service.obtainClientCredentials(parameters("audience", "scope")).getContent().getToken()).isEqualTo("token-2");
+
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldCachePerAudienceAndScope() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(token("token-1", 300L), token("token-2", 300L), token("token-3", 300L));
+
+        service.obtainClientCredentials(parameters("audience", "scope"));
+        service.obtainClientCredentials(parameters("other", "scope"));
+        service.obtainClientCredentials(parameters("audience", "other"));
+        service.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(identityService, times(3)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldRefreshAheadOfExpiry() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(token("token-1", 300L), token("token-2", 300L));
+
+        assertThat(service.obtainClientCredentials(parameters("audience", "scope")).getContent().getToken()).isEqualTo("token-1");
+        now.set(280_000);
+        assertThat(service.obtainClientCredentials(parameters("audience", "scope")).getContent().getToken()).isEqualTo("token-1");
+        assertThat(service.obtainClientCredentials(parameters("audience", "scope")).getContent().getToken()).isEqualTo("token-2");
+    }
+
+    @Test
+    void obtainClientCredentials_shouldUseJwtExpiration_whenExpiresInIsMissing() {
+        var payload = Base64.getUrlEncoder().withoutPadding().encodeToString("{\"exp\":300}".getBytes(UTF_8));
+        var jwt = "header." + payload + ".signature";
+        when(identityService.obtainClientCredentials(any())).thenReturn(token(jwt, null));
+
+        service.obtainClientCredentials(parameters("audience", "scope"));
+        now.set(100_000);
+        service.obtainClientCredentials(parameters("audience", "scope"));
+        now.set(300_000);
+        service.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotCache_whenLifetimeIsUnknownOrFailed() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(token("opaque", null), Result.failure("error"), token("opaque", null));
+
+        service.obtainClientCredentials(parameters("audience", "scope"));
+        assertThat(service.obtainClientCredentials(parameters("audience", "scope")).failed()).isTrue();
+        service.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(identityService, times(3)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldObtainTokenOnce_whenRequestedConcurrently() throws InterruptedException {
+        var threads = 8;
+        var latch = new CountDownLatch(threads);
+        when(identityService.obtainClientCredentials(any())).thenAnswer(i -> {
+            Thread.sleep(100);
+            return token("token", 300L);
+        });
+        var pool = Executors.newFixedThreadPool(threads);
+
+        for (var i = 0; i < threads; i++) {
+            pool.execute(() -> {
+                service.obtainClientCredentials(parameters("audience", "scope"));
+                latch.countDown();
+            });
+        }
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        pool.shutdownNow();
+        verify(identityService).obtainClientCredentials(any());
+    }
+
+    private TokenParameters parameters(String audience, String scope) {
+        return TokenParameters.Builder.newInstance().audience(audience).scope(scope).build();
+    }
+
+    private Result<TokenRepresentation> token(String token, Long expiresIn) {
+        return Result.success(TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build());
+    }
+}
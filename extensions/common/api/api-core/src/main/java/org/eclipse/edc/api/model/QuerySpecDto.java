@@ -38,6 +38,7 @@ public class QuerySpecDto extends BaseDto {
     public static final String EDC_QUERY_SPEC_FILTER_EXPRESSION = EDC_NAMESPACE + "filterExpression";
     public static final String EDC_QUERY_SPEC_SORT_ORDER = EDC_NAMESPACE + "sortOrder";
     public static final String EDC_QUERY_SPEC_SORT_FIELD = EDC_NAMESPACE + "sortField";
+    public static final String EDC_QUERY_SPEC_CONTINUATION_TOKEN = EDC_NAMESPACE + "continuationToken";
 
     @QueryParam("offset")
     @PositiveOrZero(message = "offset must be greater or equal to zero")
@@ -55,6 +56,9 @@ public class QuerySpecDto extends BaseDto {
     @QueryParam("sortField")
     private String sortField;
 
+    @QueryParam("continuationToken")
+    private String continuationToken;
+
     public Integer getOffset() {
         return offset;
     }
@@ -71,6 +75,10 @@ public class QuerySpecDto extends BaseDto {
         return sortField;
     }
 
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
     @JsonIgnore
     @AssertTrue
     public boolean isValid() {
@@ -114,6 +122,11 @@ public class QuerySpecDto extends BaseDto {
             return this;
         }
 
+        public Builder continuationToken(String continuationToken) {
+            querySpec.continuationToken = continuationToken;
+            return this;
+        }
+
         public Builder filter(CriterionDto criterion) {
             querySpec.filterExpression.add(criterion);
             return this;
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.query;
+
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
+import org.eclipse.edc.spi.query.ContinuationToken;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.util.reflection.ReflectionUtil.getFieldValueSilent;
+
+/**
+ * Builds the response of a query endpoint that returns one page of items, together with the {@link ContinuationToken}
+ * of the next page.
+ */
+public final class ContinuationTokenResponse {
+
+    /**
+     * Response header that carries the continuation token of the next page. It is only set when the page is full, so
+     * its absence means that there are no more items.
+     */
+    public static final String CONTINUATION_TOKEN_HEADER = "Edc-Continuation-Token";
+
+    private ContinuationTokenResponse() {
+    }
+
+    /**
+     * Returns the response that streams the page in its body and, if the page is full, carries the token that points
+     * after its last item. The header has to be sent before the body, so the page is read a first time to find its last
+     * item, keeping only that one in memory, and then a second time to be streamed. Both streams are closed, the second
+     * one once the body has been written.
+     *
+     * @param query      the query the page is fetched with.
+     * @param page       runs the query, returns the items of the page in order.
+     * @param idFunction returns the id of an item.
+     * @param body       transforms the items of the page to JSON.
+     */
+    public static <T> Response of(QuerySpec query, Supplier<Stream<T>> page, Function<T, Object> idFunction, Function<Stream<T>, JsonObjectStream> body) {
+        String token;
+        try (var items = page.get()) {
+            token = continuationToken(query, items, idFunction);
+        }
+        var response = Response.ok(body.apply(page.get()));
+        if (token != null) {
+            response.header(CONTINUATION_TOKEN_HEADER, token);
+        }
+        return response.build();
+    }
+
+    /**
+     * Returns the token that points after the last item, if the page is full, or null. The value of the sort field of
+     * that item is read by reflection.
+     */
+    @Nullable
+    private static <T> String continuationToken(QuerySpec query, Stream<T> items, Function<T, Object> idFunction) {
+        T last = null;
+        var count = 0;
+        var iterator = items.iterator();
+        while (iterator.hasNext()) {
+            last = iterator.next();
+            count++;
+        }
+        if (last == null || count < query.getLimit()) {
+            return null;
+        }
+        var sortField = query.getSortField();
+        var sortValue = sortField == null ? null : getFieldValueSilent(sortField, last);
+        return ContinuationToken.after(sortField, query.getSortOrder(), sortValue, idFunction.apply(last)).encode();
+    }
+}
@@ -39,7 +39,8 @@ public class QuerySpecDtoToQuerySpecTransformer implements DtoTransformer<QueryS
                 .limit(query.getLimit())
                 .offset(query.getOffset())
                 .sortField(query.getSortField())
-                .sortOrder(query.getSortOrder());
+                .sortOrder(query.getSortOrder())
+                .continuationToken(query.getContinuationToken());
 
         query.getFilterExpression()
                 .forEach(criterionDto -> {
@@ -55,7 +56,13 @@ public class QuerySpecDtoToQuerySpecTransformer implements DtoTransformer<QueryS
             return null;
         }
 
-        return builder.build();
+        try {
+            return builder.build();
+        } catch (IllegalArgumentException e) {
+            // e.g. an offset combined with a continuation token
+            context.reportProblem("QuerySpecDto is not valid: " + e.getMessage());
+            return null;
+        }
     }
 
 }
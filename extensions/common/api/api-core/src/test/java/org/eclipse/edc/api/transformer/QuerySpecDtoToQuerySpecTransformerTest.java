@@ -63,6 +63,27 @@ class QuerySpecDtoToQuerySpecTransformerTest {
         verify(context).transform(criterionDto, Criterion.class);
     }
 
+    @Test
+    void transform_continuationToken() {
+        var context = mock(TransformerContext.class);
+        var querySpecDto = QuerySpecDto.Builder.newInstance().continuationToken("token").build();
+
+        var spec = transformer.transform(querySpecDto, context);
+
+        assertThat(spec.getContinuationToken()).isEqualTo("token");
+    }
+
+    @Test
+    void transform_shouldReturnNull_whenOffsetIsCombinedWithContinuationToken() {
+        var context = mock(TransformerContext.class);
+        var querySpecDto = QuerySpecDto.Builder.newInstance().offset(10).continuationToken("token").build();
+
+        var spec = transformer.transform(querySpecDto, context);
+
+        assertThat(spec).isNull();
+        verify(context).reportProblem(any());
+    }
+
     @Test
     void transform_defaultValues() {
         var context = mock(TransformerContext.class);
@@ -26,20 +26,44 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorFactory;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 
 @Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
 @Extension(value = IdentityDidCoreExtension.NAME)
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+    private static final long DEFAULT_CACHE_TTL = 300;
+    @Setting(value = "Time in seconds during which a resolved DID document is reused, 0 disables the cache", type = "long", defaultValue = DEFAULT_CACHE_TTL + "")
+    private static final String CACHE_TTL = "edc.identity.did.cache.ttl";
+    private static final long DEFAULT_CACHE_STALE_TTL = 300;
+    @Setting(value = "Time in seconds after the cache TTL during which a DID document is still used while it gets resolved again in the background",
+            type = "long", defaultValue = DEFAULT_CACHE_STALE_TTL + "")
+    private static final String CACHE_STALE_TTL = "edc.identity.did.cache.stale.ttl";
+    private static final long DEFAULT_CACHE_NEGATIVE_TTL = 30;
+    @Setting(value = "Time in seconds during which a failed DID resolution is reused, 0 disables it", type = "long", defaultValue = DEFAULT_CACHE_NEGATIVE_TTL + "")
+    private static final String CACHE_NEGATIVE_TTL = "edc.identity.did.cache.negative.ttl";
+
     @Inject
     private PrivateKeyResolver privateKeyResolver;
 
+    @Inject
+    private ExecutorFactory executorFactory;
+
+    @Inject
+    private Clock clock;
+
+    private ExecutorService refreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -47,7 +71,11 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl();
+        refreshExecutor = executorFactory.newFixedThreadPool(1, "did-resolution-refresh");
+        var didResolverRegistry = new DidResolverRegistryImpl(clock, refreshExecutor,
+                Duration.ofSeconds(context.getSetting(CACHE_TTL, DEFAULT_CACHE_TTL)),
+                Duration.ofSeconds(context.getSetting(CACHE_STALE_TTL, DEFAULT_CACHE_STALE_TTL)),
+                Duration.ofSeconds(context.getSetting(CACHE_NEGATIVE_TTL, DEFAULT_CACHE_NEGATIVE_TTL)));
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(didResolverRegistry);
@@ -56,6 +84,13 @@ public class IdentityDidCoreExtension implements ServiceExtension {
         registerParsers(privateKeyResolver);
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
     private void registerParsers(PrivateKeyResolver resolver) {
 
         // add EC-/PEM-Parser
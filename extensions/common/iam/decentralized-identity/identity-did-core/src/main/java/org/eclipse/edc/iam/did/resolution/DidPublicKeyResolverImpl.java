@@ -14,7 +14,7 @@
 
 package org.eclipse.edc.iam.did.resolution;
 
-import org.eclipse.edc.iam.did.crypto.key.KeyConverter;
+import org.eclipse.edc.iam.did.crypto.key.PublicKeyWrapperCache;
 import org.eclipse.edc.iam.did.spi.key.PublicKeyWrapper;
 import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
@@ -26,6 +26,7 @@ import static org.eclipse.edc.iam.did.spi.document.DidConstants.ALLOWED_VERIFICA
 
 public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
     private final DidResolverRegistry resolverRegistry;
+    private final PublicKeyWrapperCache publicKeys = new PublicKeyWrapperCache();
 
     public DidPublicKeyResolverImpl(DidResolverRegistry resolverRegistry) {
         this.resolverRegistry = resolverRegistry;
@@ -48,9 +49,8 @@ public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
         }
 
         var verificationMethod = didDocument.getVerificationMethod().get(0);
-        var jwk = verificationMethod.getPublicKeyJwk();
         try {
-            return Result.success(KeyConverter.toPublicKeyWrapper(jwk, verificationMethod.getId()));
+            return Result.success(publicKeys.get(verificationMethod));
         } catch (IllegalArgumentException e) {
             return Result.failure("Public key was not a valid EC key. Details: " + e.getMessage());
         }
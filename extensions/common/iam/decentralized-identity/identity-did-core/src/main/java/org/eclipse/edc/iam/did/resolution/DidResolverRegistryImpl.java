@@ -19,19 +19,60 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.result.Result;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Default implementation.
+ * <p>
+ * Resolved DID documents are cached for a configurable time to live, after which they are still returned for a
+ * configurable stale period while they get resolved again in the background. Failed resolutions are cached as well,
+ * for a shorter time, so that an unavailable DID does not cause a resolution for every request.
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     private static final String DID = "did";
     private static final int DID_PREFIX = 0;
     private static final int DID_METHOD_NAME = 1;
+    private static final int MAX_CACHE_ENTRIES = 10_000;
 
     private final Map<String, DidResolver> resolvers = new HashMap<>();
+    private final Map<String, CachedResolution> cache = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Clock clock;
+    private final Executor executor;
+    private final Duration ttl;
+    private final Duration staleTtl;
+    private final Duration negativeTtl;
+
+    /**
+     * Creates a registry that does not cache the resolved DID documents.
+     */
+    public DidResolverRegistryImpl() {
+        this(Clock.systemUTC(), Runnable::run, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clock       the clock.
+     * @param executor    the executor on which stale DID documents are resolved again.
+     * @param ttl         how long a resolved DID document is returned from the cache, zero disables caching.
+     * @param staleTtl    how long after {@code ttl} a DID document is still returned while it gets resolved again.
+     * @param negativeTtl how long a failed resolution is returned from the cache, zero disables it.
+     */
+    public DidResolverRegistryImpl(Clock clock, Executor executor, Duration ttl, Duration staleTtl, Duration negativeTtl) {
+        this.clock = clock;
+        this.executor = executor;
+        this.ttl = ttl;
+        this.staleTtl = staleTtl;
+        this.negativeTtl = negativeTtl;
+    }
 
     @Override
     public void register(DidResolver resolver) {
@@ -54,6 +95,61 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         if (resolver == null) {
             return Result.failure("No resolver registered for DID Method: " + methodName);
         }
-        return resolver.resolve(didKey);
+
+        var cached = cache.get(didKey);
+        var now = clock.millis();
+        if (cached != null) {
+            if (now < cached.expiresAt) {
+                return cached.result;
+            }
+            if (now < cached.staleUntil) {
+                if (refreshing.add(didKey)) {
+                    executor.execute(() -> refresh(resolver, didKey));
+                }
+                return cached.result;
+            }
+        }
+
+        var result = resolver.resolve(didKey);
+        cache(didKey, result);
+        return result;
+    }
+
+    /**
+     * Resolves a stale DID document again. A failure keeps the stale document, which gets resolved synchronously
+     * once its stale period is over.
+     */
+    private void refresh(DidResolver resolver, String didKey) {
+        try {
+            var result = resolver.resolve(didKey);
+            if (result.succeeded()) {
+                cache(didKey, result);
+            }
+        } finally {
+            refreshing.remove(didKey);
+        }
+    }
+
+    private void cache(String didKey, Result<DidDocument> result) {
+        var timeToLive = result.succeeded() ? ttl : negativeTtl;
+        if (timeToLive.isZero() || timeToLive.isNegative()) {
+            cache.remove(didKey);
+            return;
+        }
+
+        var now = clock.millis();
+        if (cache.size() >= MAX_CACHE_ENTRIES && !cache.containsKey(didKey)) {
+            cache.values().removeIf(entry -> entry.staleUntil <= now);
+            if (cache.size() >= MAX_CACHE_ENTRIES) {
+                return;
+            }
+        }
+
+        var expiresAt = now + timeToLive.toMillis();
+        var staleUntil = result.succeeded() ? expiresAt + staleTtl.toMillis() : expiresAt;
+        cache.put(didKey, new CachedResolution(result, expiresAt, staleUntil));
+    }
+
+    private record CachedResolution(Result<DidDocument> result, long expiresAt, long staleUntil) {
     }
 }
@@ -21,8 +21,19 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Verifies {@link DidResolverRegistryImpl}.
@@ -54,11 +65,74 @@ class DidResolverRegistryImplTest {
         assertNotNull(result.getContent());
     }
 
+    @Test
+    void verifyResolveDid_cachedUntilTtlExpires() {
+        var now = new AtomicLong();
+        var resolver = mockResolver();
+        var first = DidDocument.Builder.newInstance().id("first").build();
+        var second = DidDocument.Builder.newInstance().id("second").build();
+        when(resolver.resolve(any())).thenReturn(Result.success(first), Result.success(second));
+        var cachingRegistry = new DidResolverRegistryImpl(clock(now), Runnable::run, Duration.ofSeconds(10), Duration.ZERO, Duration.ZERO);
+        cachingRegistry.register(resolver);
+
+        assertSame(first, cachingRegistry.resolve("did:foo:id").getContent());
+        now.set(9_999);
+        assertSame(first, cachingRegistry.resolve("did:foo:id").getContent());
+        now.set(10_000);
+        assertSame(second, cachingRegistry.resolve("did:foo:id").getContent());
+        verify(resolver, times(2)).resolve("did:foo:id");
+    }
+
+    @Test
+    void verifyResolveDid_staleDocumentReturnedWhileRefreshed() {
+        var now = new AtomicLong();
+        var resolver = mockResolver();
+        var first = DidDocument.Builder.newInstance().id("first").build();
+        var second = DidDocument.Builder.newInstance().id("second").build();
+        when(resolver.resolve(any())).thenReturn(Result.success(first), Result.success(second));
+        var cachingRegistry = new DidResolverRegistryImpl(clock(now), Runnable::run, Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ZERO);
+        cachingRegistry.register(resolver);
+
+        cachingRegistry.resolve("did:foo:id");
+        now.set(15_000);
+
+        assertSame(first, cachingRegistry.resolve("did:foo:id").getContent());
+        assertSame(second, cachingRegistry.resolve("did:foo:id").getContent());
+        verify(resolver, times(2)).resolve("did:foo:id");
+    }
+
+    @Test
+    void verifyResolveDid_failureCachedForNegativeTtl() {
+        var now = new AtomicLong();
+        var resolver = mockResolver();
+        when(resolver.resolve(any())).thenReturn(Result.failure("not found"), Result.success(DidDocument.Builder.newInstance().build()));
+        var cachingRegistry = new DidResolverRegistryImpl(clock(now), Runnable::run, Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofSeconds(1));
+        cachingRegistry.register(resolver);
+
+        assertTrue(cachingRegistry.resolve("did:foo:id").failed());
+        assertTrue(cachingRegistry.resolve("did:foo:id").failed());
+        now.set(1_000);
+        assertFalse(cachingRegistry.resolve("did:foo:id").failed());
+        verify(resolver, times(2)).resolve("did:foo:id");
+    }
+
     @BeforeEach
     void setUp() {
         registry = new DidResolverRegistryImpl();
     }
 
+    private DidResolver mockResolver() {
+        var resolver = mock(DidResolver.class);
+        when(resolver.getMethod()).thenReturn(FOO_METHOD);
+        return resolver;
+    }
+
+    private Clock clock(AtomicLong now) {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(i -> now.get());
+        return clock;
+    }
+
     /**
      * Mock resolver class.
      */
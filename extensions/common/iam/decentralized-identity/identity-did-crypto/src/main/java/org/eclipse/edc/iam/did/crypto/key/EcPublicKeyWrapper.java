@@ -25,6 +25,7 @@ import org.eclipse.edc.iam.did.spi.key.PublicKeyWrapper;
 
 public class EcPublicKeyWrapper implements PublicKeyWrapper {
     private final ECKey publicKey;
+    private volatile JWSVerifier verifier;
 
     public EcPublicKeyWrapper(ECKey publicKey) {
         this.publicKey = publicKey;
@@ -41,10 +42,14 @@ public class EcPublicKeyWrapper implements PublicKeyWrapper {
 
     @Override
     public JWSVerifier verifier() {
-        try {
-            return new ECDSAVerifier(publicKey);
-        } catch (JOSEException e) {
-            throw new CryptoException(e);
+        // the verifier is stateless, creating it converts the key though, so it is done once
+        if (verifier == null) {
+            try {
+                verifier = new ECDSAVerifier(publicKey);
+            } catch (JOSEException e) {
+                throw new CryptoException(e);
+            }
         }
+        return verifier;
     }
 }
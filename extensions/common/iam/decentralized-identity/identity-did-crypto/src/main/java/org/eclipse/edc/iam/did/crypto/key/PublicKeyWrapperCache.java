@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.did.crypto.key;
+
+import org.eclipse.edc.iam.did.spi.document.JwkPublicKey;
+import org.eclipse.edc.iam.did.spi.document.VerificationMethod;
+import org.eclipse.edc.iam.did.spi.key.PublicKeyWrapper;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the {@link PublicKeyWrapper}s converted from the verification methods of DID documents, keyed by verification
+ * method id, so that the key of a counter-party is not converted again for every token it sends. A cached key is only
+ * returned if the verification method still holds the same public key, so rotated keys are converted again.
+ */
+public class PublicKeyWrapperCache {
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<String, CachedKey> keys = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the {@link PublicKeyWrapper} of the given verification method.
+     *
+     * @throws IllegalArgumentException if the public key cannot be converted, see {@link KeyConverter#toPublicKeyWrapper(JwkPublicKey, String)}.
+     */
+    public @NotNull PublicKeyWrapper get(VerificationMethod verificationMethod) {
+        var id = verificationMethod.getId();
+        var jwk = verificationMethod.getPublicKeyJwk();
+        if (id == null) {
+            return KeyConverter.toPublicKeyWrapper(jwk, null);
+        }
+
+        var cached = keys.get(id);
+        if (cached != null && Objects.equals(cached.jwk, jwk)) {
+            return cached.wrapper;
+        }
+
+        var wrapper = KeyConverter.toPublicKeyWrapper(jwk, id);
+        if (keys.size() >= MAX_ENTRIES) {
+            keys.clear();
+        }
+        keys.put(id, new CachedKey(jwk, wrapper));
+        return wrapper;
+    }
+
+    private record CachedKey(JwkPublicKey jwk, PublicKeyWrapper wrapper) {
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.did.service;
+
+import org.eclipse.edc.iam.did.spi.credentials.CredentialsVerifier;
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CredentialsVerifier} that keeps the verified credentials of a participant, keyed by its DID, for a configurable
+ * time to live, so that they are not obtained and verified again for every message the participant sends. Failures are
+ * not cached.
+ */
+public class CachingCredentialsVerifier implements CredentialsVerifier {
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final CredentialsVerifier credentialsVerifier;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Map<String, CachedCredentials> credentials = new ConcurrentHashMap<>();
+
+    public CachingCredentialsVerifier(CredentialsVerifier credentialsVerifier, Clock clock, Duration ttl) {
+        this.credentialsVerifier = credentialsVerifier;
+        this.clock = clock;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Result<Map<String, Object>> getVerifiedCredentials(DidDocument participantDid) {
+        var did = participantDid.getId();
+        if (did == null) {
+            return credentialsVerifier.getVerifiedCredentials(participantDid);
+        }
+
+        var cached = credentials.get(did);
+        if (cached != null && clock.millis() < cached.expiresAt) {
+            return Result.success(cached.credentials);
+        }
+
+        var result = credentialsVerifier.getVerifiedCredentials(participantDid);
+        if (result.succeeded()) {
+            var now = clock.millis();
+            if (credentials.size() >= MAX_ENTRIES) {
+                credentials.values().removeIf(entry -> entry.expiresAt <= now);
+            }
+            if (credentials.size() < MAX_ENTRIES) {
+                credentials.put(did, new CachedCredentials(result.getContent(), now + ttl.toMillis()));
+            }
+        } else {
+            credentials.remove(did);
+        }
+        return result;
+    }
+
+    private record CachedCredentials(Map<String, Object> credentials, long expiresAt) {
+    }
+}
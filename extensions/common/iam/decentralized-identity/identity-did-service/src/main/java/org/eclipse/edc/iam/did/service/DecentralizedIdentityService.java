@@ -18,7 +18,7 @@ package org.eclipse.edc.iam.did.service;
 
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.iam.did.crypto.JwtUtils;
-import org.eclipse.edc.iam.did.crypto.key.KeyConverter;
+import org.eclipse.edc.iam.did.crypto.key.PublicKeyWrapperCache;
 import org.eclipse.edc.iam.did.spi.credentials.CredentialsVerifier;
 import org.eclipse.edc.iam.did.spi.document.DidConstants;
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
@@ -47,6 +47,7 @@ public class DecentralizedIdentityService implements IdentityService {
     private final PrivateKeyWrapper privateKey;
     private final String issuer;
     private final Clock clock;
+    private final PublicKeyWrapperCache publicKeys = new PublicKeyWrapperCache();
 
     public DecentralizedIdentityService(DidResolverRegistry resolverRegistry, CredentialsVerifier credentialsVerifier, Monitor monitor, PrivateKeyWrapper privateKey, String issuer, Clock clock) {
         this.resolverRegistry = resolverRegistry;
@@ -84,8 +85,7 @@ public class DecentralizedIdentityService implements IdentityService {
             }
 
             //convert the POJO into a usable PK-wrapper:
-            var publicKeyJwk = publicKey.get().getPublicKeyJwk();
-            var publicKeyWrapper = KeyConverter.toPublicKeyWrapper(publicKeyJwk, publicKey.get().getId());
+            var publicKeyWrapper = publicKeys.get(publicKey.get());
 
             monitor.debug("Verifying JWT with public key...");
             var verified = JwtUtils.verify(jwt, publicKeyWrapper, audience);
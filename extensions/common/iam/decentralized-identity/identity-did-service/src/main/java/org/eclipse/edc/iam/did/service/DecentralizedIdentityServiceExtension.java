@@ -22,6 +22,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
@@ -29,6 +30,7 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Objects;
 
 import static java.lang.String.format;
@@ -39,6 +41,11 @@ import static org.eclipse.edc.iam.did.spi.document.DidConstants.DID_URL_SETTING;
 public class DecentralizedIdentityServiceExtension implements ServiceExtension {
 
     public static final String NAME = "Distributed Identity Service";
+    private static final long DEFAULT_CREDENTIALS_CACHE_TTL = 60;
+    @Setting(value = "Time in seconds during which the verified credentials of a participant are reused, 0 disables the cache", type = "long",
+            defaultValue = DEFAULT_CREDENTIALS_CACHE_TTL + "")
+    private static final String CREDENTIALS_CACHE_TTL = "edc.identity.did.credentials.cache.ttl";
+
     @Inject
     private DidResolverRegistry resolverRegistry;
 
@@ -68,6 +75,11 @@ public class DecentralizedIdentityServiceExtension implements ServiceExtension {
         var privateKey = privateKeyResolver.resolvePrivateKey(connectorName, PrivateKeyWrapper.class);
         Objects.requireNonNull(privateKey, "Couldn't resolve private key for " + connectorName);
 
-        return new DecentralizedIdentityService(resolverRegistry, credentialsVerifier, context.getMonitor(), privateKey, didUrl, clock);
+        var credentialsCacheTtl = context.getSetting(CREDENTIALS_CACHE_TTL, DEFAULT_CREDENTIALS_CACHE_TTL);
+        var verifier = credentialsCacheTtl > 0
+                ? new CachingCredentialsVerifier(credentialsVerifier, clock, Duration.ofSeconds(credentialsCacheTtl))
+                : credentialsVerifier;
+
+        return new DecentralizedIdentityService(resolverRegistry, verifier, context.getMonitor(), privateKey, didUrl, clock);
     }
 }
@@ -38,6 +38,7 @@ public class Oauth2ClientImpl implements Oauth2Client {
     private static final String FORM_URLENCODED = "application/x-www-form-urlencoded";
     private static final String APPLICATION_JSON = "application/json";
     private static final String RESPONSE_ACCESS_TOKEN_CLAIM = "access_token";
+    private static final String RESPONSE_EXPIRES_IN_CLAIM = "expires_in";
 
     private final EdcHttpClient httpClient;
     private final TypeManager typeManager;
@@ -55,8 +56,15 @@ public class Oauth2ClientImpl implements Oauth2Client {
     private Result<TokenRepresentation> handleResponse(Response response) {
         return getStringBody(response)
                 .map(it -> typeManager.readValue(it, Map.class))
-                .map(it -> it.get(RESPONSE_ACCESS_TOKEN_CLAIM).toString())
-                .map(it -> TokenRepresentation.Builder.newInstance().token(it).build());
+                .map(this::toTokenRepresentation);
+    }
+
+    private TokenRepresentation toTokenRepresentation(Map<?, ?> body) {
+        var expiresIn = body.get(RESPONSE_EXPIRES_IN_CLAIM) instanceof Number number ? number.longValue() : null;
+        return TokenRepresentation.Builder.newInstance()
+                .token(body.get(RESPONSE_ACCESS_TOKEN_CLAIM).toString())
+                .expiresIn(expiresIn)
+                .build();
     }
 
     private static Request toRequest(Oauth2CredentialsRequest request) {
@@ -59,13 +59,14 @@ class Oauth2ClientImplTest {
         );
 
         var expectedRequest = HttpRequest.request().withBody(new ParameterBody(formParameters));
-        var responseBody = typeManager.writeValueAsString(Map.of("access_token", "token"));
+        var responseBody = typeManager.writeValueAsString(Map.of("access_token", "token", "expires_in", 300));
         server.when(expectedRequest).respond(HttpResponse.response().withBody(responseBody, APPLICATION_JSON));
 
         var result = client.requestToken(request);
 
         assertThat(result.succeeded()).isTrue();
         assertThat(result.getContent().getToken()).isEqualTo("token");
+        assertThat(result.getContent().getExpiresIn()).isEqualTo(300);
     }
 
     @Test
@@ -43,6 +43,7 @@ import org.eclipse.edc.spi.types.TypeManager;
 
 import java.security.PrivateKey;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -81,6 +82,10 @@ public class Oauth2ServiceExtension implements ServiceExtension {
     private static final String CLIENT_ID = "edc.oauth.client.id";
     @Setting
     private static final String NOT_BEFORE_LEEWAY = "edc.oauth.validation.nbf.leeway";
+    private static final long DEFAULT_VALIDATION_CACHE_TTL = 0;
+    @Setting(value = "Maximum time in seconds during which the successful validation of an incoming token is reused, bounded by the token expiration. 0 disables the cache",
+            type = "long", defaultValue = DEFAULT_VALIDATION_CACHE_TTL + "")
+    private static final String VALIDATION_CACHE_TTL = "edc.oauth.validation.cache.ttl";
     private IdentityProviderKeyResolver providerKeyResolver;
 
     @Inject
@@ -131,12 +136,13 @@ public class Oauth2ServiceExtension implements ServiceExtension {
         var privateKeyAlias = configuration.getPrivateKeyAlias();
         var privateKey = configuration.getPrivateKeyResolver().resolvePrivateKey(privateKeyAlias, PrivateKey.class);
 
+        var validationCacheTtl = Duration.ofSeconds(context.getSetting(VALIDATION_CACHE_TTL, DEFAULT_VALIDATION_CACHE_TTL));
         var oauth2Service = new Oauth2ServiceImpl(
                 configuration,
                 new TokenGenerationServiceImpl(privateKey),
                 oauth2Client,
                 jwtDecoratorRegistry,
-                new TokenValidationServiceImpl(configuration.getIdentityProviderKeyResolver(), validationRulesRegistry),
+                new TokenValidationServiceImpl(configuration.getIdentityProviderKeyResolver(), validationRulesRegistry, clock, validationCacheTtl),
                 credentialsRequestAdditionalParametersProvider
         );
 
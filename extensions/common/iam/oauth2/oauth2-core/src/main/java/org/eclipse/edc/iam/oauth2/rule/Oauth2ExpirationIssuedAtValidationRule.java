@@ -59,4 +59,8 @@ public class Oauth2ExpirationIssuedAtValidationRule implements TokenValidationRu
         return Result.success();
     }
 
+    @Override
+    public boolean isTimeDependent() {
+        return true;
+    }
 }
@@ -51,4 +51,9 @@ public class Oauth2NotBeforeValidationRule implements TokenValidationRule {
 
         return Result.success();
     }
+
+    @Override
+    public boolean isTimeDependent() {
+        return true;
+    }
 }
@@ -14,10 +14,14 @@
 
 package org.eclipse.edc.jsonld;
 
+import java.time.Duration;
+
 public class JsonLdConfiguration {
 
     private boolean httpEnabled = false;
     private boolean httpsEnabled = false;
+    private Duration remoteDocumentCacheTtl = Duration.ZERO;
+    private int documentCacheSize = 100;
 
     private JsonLdConfiguration() {
 
@@ -31,6 +35,20 @@ public class JsonLdConfiguration {
         return httpsEnabled;
     }
 
+    /**
+     * Time during which a document loaded over http(s) is kept cached, zero if such documents are not cached.
+     */
+    public Duration getRemoteDocumentCacheTtl() {
+        return remoteDocumentCacheTtl;
+    }
+
+    /**
+     * Maximum number of parsed documents kept in memory.
+     */
+    public int getDocumentCacheSize() {
+        return documentCacheSize;
+    }
+
     public static class Builder {
 
         private final JsonLdConfiguration configuration = new JsonLdConfiguration();
@@ -49,6 +67,16 @@ public class JsonLdConfiguration {
             return this;
         }
 
+        public Builder remoteDocumentCacheTtl(Duration remoteDocumentCacheTtl) {
+            configuration.remoteDocumentCacheTtl = remoteDocumentCacheTtl;
+            return this;
+        }
+
+        public Builder documentCacheSize(int documentCacheSize) {
+            configuration.documentCacheSize = documentCacheSize;
+            return this;
+        }
+
         public JsonLdConfiguration build() {
             return configuration;
         }
@@ -32,6 +32,7 @@ import org.jetbrains.annotations.NotNull;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 
 import static java.lang.String.format;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
@@ -64,6 +65,14 @@ public class JsonLdExtension implements ServiceExtension {
     private static final String HTTP_ENABLE_SETTING = "edc.jsonld.http.enabled";
     @Setting(value = "If set enable https json-ld document resolution", type = "boolean", defaultValue = DEFAULT_HTTP_HTTPS_RESOLUTION + "")
     private static final String HTTPS_ENABLE_SETTING = "edc.jsonld.https.enabled";
+    private static final long DEFAULT_REMOTE_DOCUMENT_CACHE_TTL = 0;
+    @Setting(value = "Time in seconds during which a json-ld document resolved over http(s) is kept cached, 0 disables the caching of such documents",
+            type = "long", defaultValue = DEFAULT_REMOTE_DOCUMENT_CACHE_TTL + "")
+    private static final String REMOTE_DOCUMENT_CACHE_TTL_SETTING = "edc.jsonld.http.cache.ttl";
+    private static final int DEFAULT_DOCUMENT_CACHE_SIZE = 100;
+    @Setting(value = "Maximum number of parsed json-ld documents kept in memory, the least recently used one is evicted first",
+            type = "int", defaultValue = DEFAULT_DOCUMENT_CACHE_SIZE + "")
+    private static final String DOCUMENT_CACHE_SIZE_SETTING = "edc.jsonld.document.cache.size";
 
     @Inject
     private TypeManager typeManager;
@@ -84,6 +93,8 @@ public class JsonLdExtension implements ServiceExtension {
         var configuration = JsonLdConfiguration.Builder.newInstance()
                 .httpEnabled(config.getBoolean(HTTP_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
                 .httpsEnabled(config.getBoolean(HTTPS_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
+                .remoteDocumentCacheTtl(Duration.ofSeconds(config.getLong(REMOTE_DOCUMENT_CACHE_TTL_SETTING, DEFAULT_REMOTE_DOCUMENT_CACHE_TTL)))
+                .documentCacheSize(config.getInteger(DOCUMENT_CACHE_SIZE_SETTING, DEFAULT_DOCUMENT_CACHE_SIZE))
                 .build();
         var monitor = context.getMonitor();
         var service = new TitaniumJsonLd(monitor, configuration);
@@ -27,14 +27,16 @@ import jakarta.json.JsonObject;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.LruCache;
 
 import java.io.File;
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static jakarta.json.Json.createBuilderFactory;
 import static jakarta.json.Json.createObjectBuilder;
 import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
@@ -48,14 +50,19 @@ public class TitaniumJsonLd implements JsonLd {
     private final Monitor monitor;
     private final Map<String, String> additionalNamespaces = new HashMap<>();
     private final CachedDocumentLoader documentLoader;
+    private volatile JsonDocument compactionContext;
 
     public TitaniumJsonLd(Monitor monitor) {
         this(monitor, JsonLdConfiguration.Builder.newInstance().build());
     }
 
     public TitaniumJsonLd(Monitor monitor, JsonLdConfiguration configuration) {
+        this(monitor, configuration, Clock.systemUTC());
+    }
+
+    public TitaniumJsonLd(Monitor monitor, JsonLdConfiguration configuration, Clock clock) {
         this.monitor = monitor;
-        this.documentLoader = new CachedDocumentLoader(configuration);
+        this.documentLoader = new CachedDocumentLoader(configuration, clock);
     }
 
     @Override
@@ -80,11 +87,9 @@ public class TitaniumJsonLd implements JsonLd {
     public Result<JsonObject> compact(JsonObject json) {
         try {
             var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(CONTEXT, createContextObject())
-                    .build());
-            var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument).get();
+            var compacted = com.apicatalog.jsonld.JsonLd.compact(document, getCompactionContext())
+                    .options(new JsonLdOptions(documentLoader))
+                    .get();
             return Result.success(compacted);
         } catch (JsonLdError e) {
             monitor.warning("Error compacting JSON-LD structure", e);
@@ -95,6 +100,7 @@ public class TitaniumJsonLd implements JsonLd {
     @Override
     public void registerNamespace(String prefix, String contextIri) {
         additionalNamespaces.put(prefix, contextIri);
+        compactionContext = null;
     }
 
     @Override
@@ -119,36 +125,86 @@ public class TitaniumJsonLd implements JsonLd {
         return jsonObjectBuilder.build();
     }
 
+    /**
+     * Returns the context document used for compaction, which is built from the registered namespaces only once and
+     * rebuilt when a namespace gets registered.
+     */
+    private JsonDocument getCompactionContext() {
+        var context = compactionContext;
+        if (context == null) {
+            context = JsonDocument.of(createObjectBuilder().add(CONTEXT, createContextObject()).build());
+            compactionContext = context;
+        }
+        return context;
+    }
+
     private JsonObject createContextObject() {
         var builder = createObjectBuilder();
         additionalNamespaces.forEach(builder::add);
         return builder.build();
     }
 
+    /**
+     * Loads the documents, from the registered files if available, and keeps the most recently used ones parsed in
+     * memory, up to the configured size. The documents loaded over http(s) are only cached when a time to live is
+     * configured, and expire after it.
+     */
     private static class CachedDocumentLoader implements DocumentLoader {
 
-        private final Map<String, File> cache = new HashMap<>();
+        private final Map<String, File> files = new ConcurrentHashMap<>();
+        private final LruCache<String, CachedDocument> documents;
         private final DocumentLoader loader;
+        private final Duration remoteDocumentTtl;
+        private final Clock clock;
 
-        CachedDocumentLoader(JsonLdConfiguration configuration) {
+        CachedDocumentLoader(JsonLdConfiguration configuration, Clock clock) {
             loader = new SchemeRouter()
                     .set("http", configuration.isHttpEnabled() ? HttpLoader.defaultInstance() : null)
                     .set("https", configuration.isHttpsEnabled() ? HttpLoader.defaultInstance() : null)
                     .set("file", new FileLoader());
+            documents = new LruCache<>(configuration.getDocumentCacheSize());
+            remoteDocumentTtl = configuration.getRemoteDocumentCacheTtl();
+            this.clock = clock;
         }
 
         @Override
         public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
-            var uri = Optional.of(url.toString())
-                    .map(cache::get)
-                    .map(File::toURI)
-                    .orElse(url);
+            var key = url.toString();
+            var now = clock.millis();
+            CachedDocument cached;
+            synchronized (documents) {
+                cached = documents.get(key);
+            }
+            if (cached != null && cached.expiresAt > now) {
+                return cached.document;
+            }
 
-            return loader.loadDocument(uri, options);
+            var file = files.get(key);
+            var uri = file != null ? file.toURI() : url;
+            var document = loader.loadDocument(uri, options);
+            var remote = "http".equals(uri.getScheme()) || "https".equals(uri.getScheme());
+            if (!remote) {
+                put(key, new CachedDocument(document, Long.MAX_VALUE));
+            } else if (!remoteDocumentTtl.isZero()) {
+                put(key, new CachedDocument(document, now + remoteDocumentTtl.toMillis()));
+            }
+            return document;
         }
 
         public void register(String contextUrl, File file) {
-            cache.put(contextUrl, file);
+            files.put(contextUrl, file);
+            synchronized (documents) {
+                documents.remove(contextUrl);
+            }
+        }
+
+        private void put(String key, CachedDocument document) {
+            synchronized (documents) {
+                documents.put(key, document);
+            }
+        }
+
+        private record CachedDocument(Document document, long expiresAt) {
         }
     }
 }
@@ -15,14 +15,22 @@
 package org.eclipse.edc.jsonld;
 
 import jakarta.json.Json;
+import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.verify.VerificationTimes;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 
 import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
@@ -35,6 +43,7 @@ import static org.eclipse.edc.junit.testfixtures.TestUtils.getFileFromResourceNa
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
@@ -199,6 +208,98 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void documentResolution_shouldNotCacheRemoteDocument_byDefault() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, "http://localhost:" + port)
+                .add("test:key", "value")
+                .build();
+        var service = httpEnabledService();
+
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        assertThat(service.expand(jsonObject)).isSucceeded();
+
+        server.verify(request(), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void documentResolution_shouldNotFetchRemoteDocumentAgain_whenCached() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, "http://localhost:" + port)
+                .add("test:key", "value")
+                .build();
+        var configuration = JsonLdConfiguration.Builder.newInstance().httpEnabled(true).remoteDocumentCacheTtl(Duration.ofMinutes(1)).build();
+        var service = new TitaniumJsonLd(monitor, configuration);
+
+        var expanded = service.expand(jsonObject);
+        assertThat(expanded).isSucceeded();
+        assertThat(service.compact(expanded.getContent())).isSucceeded();
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        assertThat(service.compact(expanded.getContent())).isSucceeded();
+
+        server.verify(request(), VerificationTimes.exactly(1));
+    }
+
+    @Test
+    void documentResolution_shouldReloadRemoteDocument_whenTtlExpired() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, "http://localhost:" + port)
+                .add("test:key", "value")
+                .build();
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 30_000L, 61_000L);
+        var configuration = JsonLdConfiguration.Builder.newInstance().httpEnabled(true).remoteDocumentCacheTtl(Duration.ofMinutes(1)).build();
+        var service = new TitaniumJsonLd(monitor, configuration, clock);
+
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        assertThat(service.expand(jsonObject)).isSucceeded();
+
+        server.verify(request(), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void documentResolution_shouldEvictLeastRecentlyUsedDocument_whenCacheIsFull() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var configuration = JsonLdConfiguration.Builder.newInstance().httpEnabled(true)
+                .remoteDocumentCacheTtl(Duration.ofMinutes(1)).documentCacheSize(1).build();
+        var service = new TitaniumJsonLd(monitor, configuration);
+
+        assertThat(service.expand(withContext("http://localhost:" + port + "/first"))).isSucceeded();
+        assertThat(service.expand(withContext("http://localhost:" + port + "/second"))).isSucceeded();
+        assertThat(service.expand(withContext("http://localhost:" + port + "/first"))).isSucceeded();
+
+        server.verify(request().withPath("/first"), VerificationTimes.exactly(2));
+        server.verify(request().withPath("/second"), VerificationTimes.exactly(1));
+    }
+
+    @Test
+    void documentResolution_shouldNotReadRegisteredDocumentAgain(@TempDir Path tempDir) throws IOException {
+        var contextUrl = "http://localhost:" + port;
+        var file = tempDir.resolve("context.jsonld");
+        Files.writeString(file, getResourceFileContentAsString("test-context.jsonld"));
+        var service = defaultService();
+        service.registerCachedDocument(contextUrl, file.toFile());
+
+        assertThat(service.expand(withContext(contextUrl))).isSucceeded();
+        Files.writeString(file, "not a json-ld document");
+
+        assertThat(service.expand(withContext(contextUrl))).isSucceeded().satisfies(json -> {
+            assertThat(json.getJsonArray("http://test.org/context/key")).hasSize(1);
+        });
+        server.verifyZeroInteractions();
+    }
+
+    private JsonObject withContext(String contextUrl) {
+        return createObjectBuilder()
+                .add(CONTEXT, contextUrl)
+                .add("test:key", "value")
+                .build();
+    }
+
     private JsonLd httpEnabledService() {
         return new TitaniumJsonLd(monitor, JsonLdConfiguration.Builder.newInstance().httpEnabled(true).build());
     }
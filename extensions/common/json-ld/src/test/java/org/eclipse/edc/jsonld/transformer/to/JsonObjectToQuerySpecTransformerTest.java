@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 import static org.eclipse.edc.jsonld.transformer.to.TestInput.getExpanded;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CONTINUATION_TOKEN;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -76,4 +77,18 @@ class JsonObjectToQuerySpecTransformerTest {
         verify(context).transform(any(), eq(Criterion.class));
     }
 
+    @Test
+    void transform_shouldReportProblem_whenOffsetIsCombinedWithContinuationToken() {
+        var json = Json.createObjectBuilder()
+                .add(TYPE, EDC_QUERY_SPEC_TYPE)
+                .add(EDC_QUERY_SPEC_OFFSET, 10)
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, "token")
+                .build();
+
+        var result = transformer.transform(getExpanded(json), context);
+
+        assertThat(result).isNull();
+        verify(context).reportProblem(any());
+    }
+
 }
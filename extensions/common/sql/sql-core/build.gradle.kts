@@ -24,6 +24,7 @@ dependencies {
     api(project(":spi:common:transaction-spi"))
     implementation(project(":core:common:util"))
     implementation(project(":spi:common:transaction-datasource-spi"))
+    implementation(libs.micrometer)
 
 
     testImplementation(project(":core:common:junit"))
@@ -176,6 +176,20 @@ enum ArgumentHandlers implements ArgumentHandler {
             statement.setBytes(position, (byte[]) argument);
         }
     },
+    /**
+     * Sets an {@code String[]} array argument into its corresponding position of a statement as a SQL array of varchar
+     */
+    STRING_ARRAY {
+        @Override
+        public boolean accepts(Object value) {
+            return value instanceof String[];
+        }
+
+        @Override
+        public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
+            statement.setArray(position, statement.getConnection().createArrayOf("varchar", (String[]) argument));
+        }
+    },
     /**
      * Sets an {@code java.io.InputStream} argument into its corresponding position of a statement
      */
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql;
 
 import java.sql.Connection;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +32,18 @@ public interface QueryExecutor {
      */
     int execute(Connection connection, String sql, Object... arguments);
 
+    /**
+     * Intended for mutating queries that have to be executed many times with different parameters. Implementations
+     * can send all the executions to the database at once.
+     *
+     * @param sql the parametrized sql query
+     * @param arguments the parameters of every execution of the parametrized sql query
+     * @return rowsChanged by every execution
+     */
+    default int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        return arguments.stream().mapToInt(it -> execute(connection, sql, it)).toArray();
+    }
+
     /**
      * Intended for reading queries.
      * The resulting {@link Stream} must be closed with the "close()" when a terminal operation is used on the stream
@@ -23,6 +23,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -67,6 +68,27 @@ public class SqlQueryExecutor implements QueryExecutor {
         }
     }
 
+    @Override
+    public int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(arguments, "arguments");
+
+        if (arguments.isEmpty()) {
+            return new int[0];
+        }
+
+        try (var statement = connection.prepareStatement(sql)) {
+            for (var batchArguments : arguments) {
+                setArguments(statement, batchArguments);
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        } catch (Exception exception) {
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
     @Override
     public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
         try (var stream = query(connection, closeConnection, resultSetMapper, sql, arguments)) {
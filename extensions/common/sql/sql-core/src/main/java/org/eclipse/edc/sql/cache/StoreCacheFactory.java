@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.spi.cache.CacheInvalidationChannel;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.util.collection.ReadThroughCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Creates the {@link ReadThroughCache}s of the entities found by id in the SQL stores. A cache is invalidated on the
+ * events of the entity kind published by this runtime and, through the {@link CacheInvalidationChannel} if available,
+ * on the changes made by the other runtimes. Its hits, misses and size are exposed as the
+ * {@code edc.store.cache.requests} and {@code edc.store.cache.size} metrics.
+ */
+public class StoreCacheFactory {
+
+    private final EventRouter eventRouter;
+    private final Clock clock;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final MeterRegistry meterRegistry;
+
+    public StoreCacheFactory(EventRouter eventRouter, Clock clock, @Nullable CacheInvalidationChannel invalidationChannel, MeterRegistry meterRegistry) {
+        this.eventRouter = eventRouter;
+        this.clock = clock;
+        this.invalidationChannel = invalidationChannel;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param name the name of the cache, used as metric tag and invalidation channel name.
+     * @param capacity the maximum number of entries.
+     * @param ttl the maximum time an entry is retained.
+     * @param eventKind the kind of the events that invalidate an entry.
+     * @param entityId extracts the id of the entry to invalidate from an event.
+     */
+    public <V, E extends Event> ReadThroughCache<String, V> create(String name, int capacity, Duration ttl, Class<E> eventKind, Function<E, String> entityId) {
+        var cache = new ReadThroughCache<String, V>(capacity, ttl, clock);
+
+        eventRouter.registerSync(eventKind, new EventSubscriber() {
+            @Override
+            public <T extends Event> void on(EventEnvelope<T> event) {
+                var id = entityId.apply(eventKind.cast(event.getPayload()));
+                cache.invalidate(id);
+                if (invalidationChannel != null) {
+                    invalidationChannel.publish(name, id);
+                }
+            }
+        });
+        if (invalidationChannel != null) {
+            invalidationChannel.subscribe(name, cache::invalidate);
+        }
+
+        FunctionCounter.builder("edc.store.cache.requests", cache, ReadThroughCache::hits).tag("cache", name).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("edc.store.cache.requests", cache, ReadThroughCache::misses).tag("cache", name).tag("result", "miss").register(meterRegistry);
+        Gauge.builder("edc.store.cache.size", cache, ReadThroughCache::size).tag("cache", name).register(meterRegistry);
+        return cache;
+    }
+}
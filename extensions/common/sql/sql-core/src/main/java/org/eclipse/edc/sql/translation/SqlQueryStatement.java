@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -29,6 +30,11 @@ import static java.util.stream.Collectors.joining;
  * Maps a {@link QuerySpec} to a single SQL {@code SELECT ... FROM ... WHERE ...} statement. The {@code SELECT ...} part
  * is passed in through the constructor, and the rest of the query is assembled dynamically, based on the
  * {@link QuerySpec} and the {@link TranslationMapping}.
+ * <p>
+ * When the {@link TranslationMapping} maps the {@code id} field, the rows are always ordered by the sort field and then
+ * by the id, or by the id alone if there is no sort field, which makes the order total. If the {@link QuerySpec} carries
+ * a continuation token, the page is selected with a keyset predicate on the sort field and the id instead of an
+ * offset, so that the database can seek directly to the first row of the page.
  */
 public class SqlQueryStatement {
 
@@ -36,6 +42,7 @@ public class SqlQueryStatement {
     private static final String OFFSET = "OFFSET ?";
 
     private static final String ORDER_BY_TOKEN = "ORDER BY %s %s";
+    private static final String ID_FIELD = "id";
 
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
@@ -127,16 +134,65 @@ public class SqlQueryStatement {
         limit = query.getLimit();
         offset = query.getOffset();
 
-        orderByClause = parseSortField(query, rootModel);
+        if (query.getContinuationToken() == null) {
+            orderByClause = parseSortField(query, rootModel);
+        } else {
+            orderByClause = parseContinuationToken(query, rootModel);
+        }
+    }
+
+    /**
+     * Translates the continuation token into a keyset predicate, e.g. {@code (sort > ? OR sort IS NULL OR (sort = ? AND id > ?))}
+     * for an ascending order, and returns the matching {@code ORDER BY} clause. The predicate follows the default
+     * ordering of null values in Postgres, i.e. after all the others in ascending order and before them in descending
+     * order.
+     */
+    private String parseContinuationToken(QuerySpec query, TranslationMapping rootModel) {
+        var token = ContinuationToken.decode(query.getContinuationToken());
+        token.verify(query.getSortField(), query.getSortOrder());
+
+        var ascending = query.getSortOrder() == SortOrder.ASC;
+        var order = ascending ? "ASC" : "DESC";
+        var comparison = ascending ? ">" : "<";
+        var idColumn = rootModel.getStatement(ID_FIELD);
+
+        if (query.getSortField() == null) {
+            whereClauses.add(format("%s %s ?", idColumn, comparison));
+            parameters.add(token.getId());
+            return format("ORDER BY %s %s ", idColumn, order);
+        }
+
+        var sortColumn = rootModel.getStatement(query.getSortField());
+        var sortValue = token.getSortValue();
+        if (sortValue == null) {
+            // only null values follow a null in ascending order, while all the non-null values follow it in descending order
+            whereClauses.add(ascending ?
+                    format("(%1$s IS NULL AND %2$s > ?)", sortColumn, idColumn) :
+                    format("(%1$s IS NOT NULL OR (%1$s IS NULL AND %2$s < ?))", sortColumn, idColumn));
+            parameters.add(token.getId());
+        } else {
+            whereClauses.add(ascending ?
+                    format("(%1$s > ? OR %1$s IS NULL OR (%1$s = ? AND %2$s > ?))", sortColumn, idColumn) :
+                    format("(%1$s < ? OR (%1$s = ? AND %2$s < ?))", sortColumn, idColumn));
+            parameters.add(sortValue);
+            parameters.add(sortValue);
+            parameters.add(token.getId());
+        }
+        return format("ORDER BY %1$s %2$s, %3$s %2$s ", sortColumn, order, idColumn);
     }
 
     private String parseSortField(QuerySpec query, TranslationMapping rootModel) {
+        var order = query.getSortOrder() == SortOrder.ASC ? "ASC" : "DESC";
+        // the id is used as tie-breaker, so that the pages of a query and the continuation tokens are stable
+        var idColumn = rootModel.fieldMap.containsKey(ID_FIELD) ? rootModel.getStatement(ID_FIELD) : null;
         if (query.getSortField() == null) {
-            return orderByClause;
+            return idColumn == null ? orderByClause : format(ORDER_BY_TOKEN + " ", idColumn, order);
         } else {
-            var order = query.getSortOrder() == SortOrder.ASC ? "ASC" : "DESC";
             var sortField = rootModel.getStatement(query.getSortField());
-            return String.format(ORDER_BY_TOKEN + " ", sortField, order);
+            if (idColumn == null) {
+                return format(ORDER_BY_TOKEN + " ", sortField, order);
+            }
+            return format(ORDER_BY_TOKEN + ", %s %s ", sortField, order, idColumn, order);
         }
     }
 
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -102,6 +103,17 @@ public class SqlQueryExecutorIntegrationTest {
         assertThat(kvs).hasSize(1).first().isEqualTo(keyValue);
     }
 
+    @Test
+    void executeBatch(Connection connection) {
+        var sql = format("INSERT INTO %s (k, v) VALUES (?, ?) ON CONFLICT (k) DO UPDATE SET v = EXCLUDED.v", table);
+
+        var result = executor.executeBatch(connection, sql, List.of(new Object[]{ "k1", "v1" }, new Object[]{ "k2", "v2" }, new Object[]{ "k1", "v3" }));
+
+        assertThat(result).hasSize(3);
+        var kvs = executor.query(connection, false, (rs) -> new KeyValue(rs.getString(1), rs.getString(2)), format("SELECT * FROM %s", table));
+        assertThat(kvs).containsExactlyInAnyOrder(new KeyValue("k1", "v3"), new KeyValue("k2", "v2"));
+    }
+
     @Test
     void testInvalidSql(Connection connection) {
         assertThatThrownBy(() -> executor.execute(connection, "Lorem ipsum dolor sit amet")).isInstanceOf(EdcPersistenceException.class);
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.cache.CacheInvalidationChannel;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class StoreCacheFactoryTest {
+
+    private final EventRouter eventRouter = mock(EventRouter.class);
+    private final CacheInvalidationChannel invalidationChannel = mock(CacheInvalidationChannel.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StoreCacheFactory factory = new StoreCacheFactory(eventRouter, Clock.systemUTC(), invalidationChannel, meterRegistry);
+
+    @Test
+    void create_shouldInvalidateEntryAndNotifyOtherRuntimes_onEvent() {
+        var cache = factory.<String, TestEvent>create("test", 10, Duration.ofMinutes(1), TestEvent.class, TestEvent::id);
+        cache.get("id", id -> "value");
+        var subscriber = ArgumentCaptor.forClass(EventSubscriber.class);
+        verify(eventRouter).registerSync(eq(TestEvent.class), subscriber.capture());
+
+        subscriber.getValue().on(EventEnvelope.Builder.newInstance().at(0).payload(new TestEvent("id")).build());
+
+        assertThat(cache.get("id", id -> "reloaded")).isEqualTo("reloaded");
+        verify(invalidationChannel).publish("test", "id");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void create_shouldInvalidateEntry_onInvalidationFromOtherRuntime() {
+        var cache = factory.<String, TestEvent>create("test", 10, Duration.ofMinutes(1), TestEvent.class, TestEvent::id);
+        cache.get("id", id -> "value");
+        var listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationChannel).subscribe(eq("test"), listener.capture());
+
+        listener.getValue().accept("id");
+
+        assertThat(cache.get("id", id -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    void create_shouldExposeMetrics() {
+        var cache = factory.<String, TestEvent>create("test", 10, Duration.ofMinutes(1), TestEvent.class, TestEvent::id);
+        cache.get("id", id -> "value");
+        cache.get("id", id -> "value");
+
+        assertThat(meterRegistry.get("edc.store.cache.requests").tag("cache", "test").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("edc.store.cache.requests").tag("cache", "test").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("edc.store.cache.size").tag("cache", "test").gauge().value()).isEqualTo(1);
+    }
+
+    private static class TestEvent extends Event {
+        private final String id;
+
+        TestEvent(String id) {
+            this.id = id;
+        }
+
+        String id() {
+            return id;
+        }
+
+        @Override
+        public String name() {
+            return "test";
+        }
+    }
+}
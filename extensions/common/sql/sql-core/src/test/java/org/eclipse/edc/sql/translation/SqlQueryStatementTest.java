@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -33,7 +34,7 @@ class SqlQueryStatementTest {
         var criterion = new Criterion("field1", "=", "testid1");
         var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new TestMapping());
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
         assertThat(t.getParameters()).containsOnly("testid1", 50, 0);
     }
 
@@ -43,7 +44,7 @@ class SqlQueryStatementTest {
         var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new TestMapping());
 
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 IN (?,?,?) LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 IN (?,?,?) ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
         assertThat(t.getParameters()).containsExactlyInAnyOrder("id1", "id2", "id3", 50, 0);
     }
 
@@ -53,7 +54,7 @@ class SqlQueryStatementTest {
         var criterion2 = new Criterion("description", "=", "something");
         var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion1, criterion2), new TestMapping());
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 IN (?,?,?) AND edc_description = ? LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 IN (?,?,?) AND edc_description = ? ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
         assertThat(t.getParameters()).containsExactlyInAnyOrder("id1", "id2", "id3", "something", 50, 0);
     }
 
@@ -63,7 +64,7 @@ class SqlQueryStatementTest {
         QuerySpec.Builder builder = queryBuilder(criterion).sortField("description");
         var t = new SqlQueryStatement(SELECT_STATEMENT, builder.sortOrder(SortOrder.DESC).build(), new TestMapping());
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? ORDER BY edc_description DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
     }
 
     @Test
@@ -72,7 +73,7 @@ class SqlQueryStatementTest {
         QuerySpec.Builder builder = queryBuilder(criterion).sortField("description");
         var t = new SqlQueryStatement(SELECT_STATEMENT, builder.sortOrder(SortOrder.ASC).build(), new TestMapping());
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? ORDER BY edc_description ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
     }
 
     @Test
@@ -80,7 +81,7 @@ class SqlQueryStatementTest {
         QuerySpec.Builder builder = queryBuilder().sortField("description");
         var t = new SqlQueryStatement(SELECT_STATEMENT, builder.sortOrder(SortOrder.ASC).build(), new TestMapping());
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
     }
 
     @Test
@@ -110,10 +111,101 @@ class SqlQueryStatementTest {
         t.addWhereClause(customSql);
         t.addParameter(customParameter);
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? AND " + customSql + " LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? AND " + customSql + " ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
         assertThat(t.getParameters()).containsExactly("testid1", customParameter, 50, 0);
     }
 
+    @Test
+    void singleExpression_withoutIdMapping_shouldOrderBySortFieldOnly() {
+        var mapping = new TranslationMapping() {
+            {
+                add("description", "edc_description");
+            }
+        };
+        var query = queryBuilder().sortField("description").build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, mapping);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description ASC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void continuationToken_shouldSeekAfterSortValueAndId() {
+        var criterion = new Criterion("field1", "=", "testid1");
+        var token = ContinuationToken.after("description", SortOrder.ASC, "desc", "id-5").encode();
+        var query = queryBuilder(criterion).sortField("description").continuationToken(token).limit(10).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? AND (edc_description > ? OR edc_description IS NULL OR (edc_description = ? AND edc_id > ?)) " +
+                "ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", "desc", "desc", "id-5", 10, 0);
+    }
+
+    @Test
+    void continuationToken_descending() {
+        var token = ContinuationToken.after("description", SortOrder.DESC, "desc", "id-5").encode();
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).continuationToken(token).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE (edc_description < ? OR (edc_description = ? AND edc_id < ?)) " +
+                "ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void continuationToken_nullSortValue_shouldSeekAmongNullValues() {
+        var token = ContinuationToken.after("description", SortOrder.ASC, null, "id-5").encode();
+        var query = queryBuilder().sortField("description").continuationToken(token).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE (edc_description IS NULL AND edc_id > ?) " +
+                "ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id-5", 50, 0);
+    }
+
+    @Test
+    void continuationToken_nullSortValueDescending_shouldSeekAmongNullAndNonNullValues() {
+        var token = ContinuationToken.after("description", SortOrder.DESC, null, "id-5").encode();
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).continuationToken(token).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE (edc_description IS NOT NULL OR (edc_description IS NULL AND edc_id < ?)) " +
+                "ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id-5", 50, 0);
+    }
+
+    @Test
+    void continuationToken_withoutSortField_shouldSeekAfterId() {
+        var token = ContinuationToken.after(null, SortOrder.ASC, null, "id-5").encode();
+        var query = queryBuilder().continuationToken(token).build();
+
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_id > ? ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id-5", 50, 0);
+    }
+
+    @Test
+    void continuationToken_createdForAnotherSortField_shouldThrowException() {
+        var token = ContinuationToken.after("field1", SortOrder.ASC, "value", "id-5").encode();
+        var query = queryBuilder().sortField("description").continuationToken(token).build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void continuationToken_createdForAnotherSortOrder_shouldThrowException() {
+        var token = ContinuationToken.after("description", SortOrder.ASC, "value", "id-5").encode();
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).continuationToken(token).build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.sql.lease;
 
+import org.jetbrains.annotations.Nullable;
+
 import static java.lang.String.format;
 
 /**
@@ -34,6 +36,55 @@ public interface LeaseStatements {
                 getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn());
     }
 
+    /**
+     * Returns the statement that selects the entities to be leased, given the query that selects the not leased ones.
+     * Dialects that support it can lock the selected entities and skip the ones locked by other transactions, so that
+     * concurrent runtimes select different entities.
+     *
+     * @param selectQuery the query selecting the not leased entities.
+     * @return the statement.
+     */
+    default String getSelectForLeaseTemplate(String selectQuery) {
+        return selectQuery;
+    }
+
+    /**
+     * Returns the statement that deletes the expired leases of many entities at once, or null if acquiring leases in bulk is
+     * not supported. Parameters: the entity ids, the current timestamp.
+     */
+    @Nullable
+    default String getDeleteExpiredLeasesTemplate() {
+        return null;
+    }
+
+    /**
+     * Returns the statement that leases many not leased entities at once and returns the ids of the leased ones, or
+     * null if acquiring leases in bulk is not supported. Parameters: the entity ids, the lease ids, the lease holder, the
+     * lease timestamp, the lease duration.
+     */
+    @Nullable
+    default String getAcquireLeasesTemplate() {
+        return null;
+    }
+
+    /**
+     * Returns the statement that finds, among many entities, the ones leased by a different lease holder, or null if
+     * breaking leases in bulk is not supported. Parameters: the entity ids, the lease holder.
+     */
+    @Nullable
+    default String getFindLeasedByOthersTemplate() {
+        return null;
+    }
+
+    /**
+     * Returns the statement that deletes the leases of many entities at once, or null if breaking leases in bulk is not
+     * supported. Parameters: the entity ids.
+     */
+    @Nullable
+    default String getDeleteLeasesTemplate() {
+        return null;
+    }
+
     default String getLeaseTableName() {
         return "edc_lease";
     }
@@ -26,8 +26,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * SQL-based implementation of the LeaseContext.
@@ -101,6 +104,66 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Breaks the leases of many entities at once. Throws an {@link IllegalStateException} if any of the entities is
+     * leased by a different lease holder, in that case no lease is broken.
+     * If the {@link LeaseStatements} do not support breaking leases in bulk, the leases are broken one by one.
+     *
+     * @param entityIds the ids of the leased entities.
+     */
+    public void breakLeases(List<String> entityIds) {
+        var deleteLeasesStatement = statements.getDeleteLeasesTemplate();
+        if (deleteLeasesStatement == null) {
+            entityIds.forEach(this::breakLease);
+            return;
+        }
+        if (entityIds.isEmpty()) {
+            return;
+        }
+
+        trxContext.execute(() -> {
+            var ids = entityIds.toArray(String[]::new);
+            try (var leasedByOthers = queryExecutor.query(connection, false, resultSet -> resultSet.getString(1), statements.getFindLeasedByOthersTemplate(), ids, leaseHolder)) {
+                var leasedByOthersIds = leasedByOthers.collect(Collectors.toList());
+                if (!leasedByOthersIds.isEmpty()) {
+                    throw new IllegalStateException("Current runtime does not hold the lease for Objects (ids " + leasedByOthersIds + "), cannot break lease!");
+                }
+            }
+            queryExecutor.execute(connection, deleteLeasesStatement, (Object) ids);
+        });
+    }
+
+    /**
+     * Acquires the leases of many entities at once. Entities that are currently leased are skipped, so the returned list
+     * contains only the ids of the entities that were actually leased.
+     * If the {@link LeaseStatements} do not support leasing in bulk, the leases are acquired one by one.
+     *
+     * @param entityIds the ids of the entities to lease.
+     * @return the ids of the leased entities.
+     */
+    public List<String> acquireLeases(List<String> entityIds) {
+        var acquireLeasesStatement = statements.getAcquireLeasesTemplate();
+        if (acquireLeasesStatement == null) {
+            entityIds.forEach(this::acquireLease);
+            return entityIds;
+        }
+        if (entityIds.isEmpty()) {
+            return List.of();
+        }
+
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+            var ids = entityIds.stream().distinct().toArray(String[]::new);
+            var leaseIds = Arrays.stream(ids).map(id -> UUID.randomUUID().toString()).toArray(String[]::new);
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+
+            queryExecutor.execute(connection, statements.getDeleteExpiredLeasesTemplate(), ids, now);
+            try (var leased = queryExecutor.query(connection, false, resultSet -> resultSet.getString(1), acquireLeasesStatement, ids, leaseIds, leaseHolder, now, duration)) {
+                return leased.collect(Collectors.toList());
+            }
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
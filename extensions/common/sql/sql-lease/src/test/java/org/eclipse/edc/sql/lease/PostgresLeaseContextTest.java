@@ -38,6 +38,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static java.time.ZoneOffset.UTC;
@@ -192,6 +193,48 @@ class PostgresLeaseContextTest {
         verify(preparedStatementReference.get(), times(1)).setString(1, leaseId);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactlyInAnyOrder("id1", "id2");
+        assertThat(leaseContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+        assertThat(leaseContext.getLease("id2")).isNotNull().extracting(SqlLease::getLeaseId)
+                .isNotEqualTo(leaseContext.getLease("id1").getLeaseId());
+    }
+
+    @Test
+    void acquireLeases_shouldSkipLeasedEntities(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(leaseContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
+    @Test
+    void acquireLeases_shouldReplaceExpiredLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+        var expiredLeaseId = leaseContext.getLease("id1").getLeaseId();
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor).withConnection(connection);
+        var leased = twoMinutesAheadContext.acquireLeases(List.of("id1"));
+
+        assertThat(leased).containsExactly("id1");
+        assertThat(twoMinutesAheadContext.getLease("id1")).isNotNull().satisfies(lease -> {
+            assertThat(lease.getLeaseId()).isNotEqualTo(expiredLeaseId);
+            assertThat(lease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+        });
+    }
+
     protected boolean isLeased(String entityId, Connection connection) {
         return transactionContext.execute(() -> {
             var entity = getTestEntity(entityId, connection);
@@ -242,6 +285,19 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
+        public String getDeleteExpiredLeasesTemplate() {
+            return "DELETE FROM edc_lease WHERE lease_id IN (SELECT lease_id FROM " + getEntityTableName() + " WHERE id = ANY(?)) AND ? > (leased_at + lease_duration);";
+        }
+
+        @Override
+        public String getAcquireLeasesTemplate() {
+            return "WITH leased AS (UPDATE " + getEntityTableName() + " SET lease_id = l.lease_id FROM unnest(?, ?) AS l(entity_id, lease_id) " +
+                    "WHERE id = l.entity_id AND " + getEntityTableName() + ".lease_id IS NULL RETURNING id, " + getEntityTableName() + ".lease_id), " +
+                    "leases AS (INSERT INTO edc_lease (lease_id, leased_by, leased_at, lease_duration) SELECT lease_id, ?, ?, ? FROM leased) " +
+                    "SELECT id FROM leased;";
+        }
+
         public String getEntityTableName() {
             return "edc_test_entity";
         }
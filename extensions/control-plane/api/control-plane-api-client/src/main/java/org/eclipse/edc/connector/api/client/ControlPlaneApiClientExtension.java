@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.api.client;
 import org.eclipse.edc.connector.api.client.spi.transferprocess.TransferProcessApiClient;
 import org.eclipse.edc.connector.api.client.transferprocess.TransferProcessHttpClient;
 import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessFailRequest;
+import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessResultRequest;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
@@ -44,7 +45,7 @@ public class ControlPlaneApiClientExtension implements ServiceExtension {
 
     @Provider
     public TransferProcessApiClient transferProcessApiClient(ServiceExtensionContext context) {
-        typeManager.registerTypes(TransferProcessFailRequest.class);
+        typeManager.registerTypes(TransferProcessFailRequest.class, TransferProcessResultRequest.class);
 
         return new TransferProcessHttpClient(httpClient, typeManager.getMapper(), context.getMonitor());
     }
@@ -21,13 +21,21 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import org.eclipse.edc.connector.api.client.spi.transferprocess.TransferProcessApiClient;
 import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessFailRequest;
+import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessResultRequest;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResult;
 import org.jetbrains.annotations.NotNull;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Implementation of {@link TransferProcessApiClient} which talks to the Control Plane Transfer Process via HTTP APIs
@@ -35,6 +43,8 @@ import java.net.URISyntaxException;
 public class TransferProcessHttpClient implements TransferProcessApiClient {
 
     public static final MediaType TYPE_JSON = MediaType.parse("application/json");
+    private static final int NOT_FOUND = 404;
+    private static final int CONFLICT = 409;
 
     private final EdcHttpClient httpClient;
     private final ObjectMapper mapper;
@@ -56,6 +66,77 @@ public class TransferProcessHttpClient implements TransferProcessApiClient {
         sendRequest(dataFlowRequest, "fail", TransferProcessFailRequest.Builder.newInstance().errorMessage(reason).build());
     }
 
+    /**
+     * Sends the results with one request per callback address. If the Control Plane does not expose the batch endpoint,
+     * the results are sent one by one, and a result that the Control Plane does not know (404) or has already applied
+     * (409) counts as notified.
+     */
+    @Override
+    public List<DataFlowResult> notifyResults(List<DataFlowResult> results) {
+        var byCallbackAddress = results.stream()
+                .filter(this::hasCallbackAddress)
+                .collect(groupingBy(result -> result.getRequest().getCallbackAddress().toString(), LinkedHashMap::new, toList()));
+
+        var notNotified = new ArrayList<DataFlowResult>();
+        byCallbackAddress.forEach((callbackAddress, callbackResults) -> notNotified.addAll(sendResults(callbackAddress, callbackResults)));
+        return notNotified;
+    }
+
+    private List<DataFlowResult> sendResults(String callbackAddress, List<DataFlowResult> results) {
+        var body = results.stream()
+                .map(result -> TransferProcessResultRequest.Builder.newInstance()
+                        .processId(result.getRequest().getProcessId())
+                        .errorMessage(result.getErrorMessage())
+                        .build())
+                .collect(toList());
+        try {
+            var url = new URI(callbackAddress + "/").resolve("./transferprocess/results").normalize().toString();
+            try (var response = httpClient.execute(createRequest(url, body))) {
+                if (response.code() == NOT_FOUND) {
+                    return results.stream().filter(result -> !sendResult(result)).collect(toList());
+                }
+                if (!response.isSuccessful()) {
+                    monitor.severe(String.format("Failed to send callback request: received %s from the TransferProcess API", response.code()));
+                    return results;
+                }
+                return List.of();
+            }
+        } catch (Exception e) {
+            monitor.severe("Failed to send callback request", e);
+            return results;
+        }
+    }
+
+    private boolean sendResult(DataFlowResult result) {
+        var request = result.getRequest();
+        try {
+            var body = result.succeeded() ? null : TransferProcessFailRequest.Builder.newInstance().errorMessage(result.getErrorMessage()).build();
+            try (var response = httpClient.execute(createRequest(buildUrl(request, result.succeeded() ? "complete" : "fail"), body))) {
+                if (response.code() == NOT_FOUND || response.code() == CONFLICT) {
+                    monitor.warning(String.format("Result of TransferProcess %s not applied: received %s from the TransferProcess API",
+                            request.getProcessId(), response.code()));
+                    return true;
+                }
+                if (!response.isSuccessful()) {
+                    monitor.severe(String.format("Failed to send callback request: received %s from the TransferProcess API", response.code()));
+                    return false;
+                }
+                return true;
+            }
+        } catch (Exception e) {
+            monitor.severe("Failed to send callback request", e);
+            return false;
+        }
+    }
+
+    private boolean hasCallbackAddress(DataFlowResult result) {
+        if (result.getRequest().getCallbackAddress() == null) {
+            monitor.warning(String.format("Missing callback address in DataFlowRequest %s", result.getRequest().getId()));
+            return false;
+        }
+        return true;
+    }
+
     private void sendRequest(DataFlowRequest dataFlowRequest, String action, Object body) {
 
         if (dataFlowRequest.getCallbackAddress() != null) {
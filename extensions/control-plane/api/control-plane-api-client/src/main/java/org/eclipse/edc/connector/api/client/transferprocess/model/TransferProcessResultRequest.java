@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.api.client.transferprocess.model;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+/**
+ * Payload for notifying the result of a transfer as part of a batch: completed if it has no error message, failed
+ * otherwise
+ */
+@JsonDeserialize(builder = TransferProcessResultRequest.Builder.class)
+public class TransferProcessResultRequest {
+    private String processId;
+    private String errorMessage;
+
+    private TransferProcessResultRequest() {
+
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private final TransferProcessResultRequest request;
+
+        private Builder() {
+            request = new TransferProcessResultRequest();
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder processId(String processId) {
+            request.processId = processId;
+            return this;
+        }
+
+        public Builder errorMessage(String errorMessage) {
+            request.errorMessage = errorMessage;
+            return this;
+        }
+
+        public TransferProcessResultRequest build() {
+            return request;
+        }
+    }
+}
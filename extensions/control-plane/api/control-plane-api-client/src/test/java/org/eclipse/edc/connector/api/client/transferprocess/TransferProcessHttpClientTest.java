@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.api.client.transferprocess;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResult;
+import org.junit.jupiter.api.Test;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static okhttp3.Protocol.HTTP_1_1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.testHttpClient;
+import static org.mockito.Mockito.mock;
+
+class TransferProcessHttpClientTest {
+
+    private final List<String> paths = new CopyOnWriteArrayList<>();
+
+    @Test
+    void notifyResults_shouldSendOneRequestPerCallbackAddress() {
+        var client = createClient(Map.of());
+
+        var notNotified = client.notifyResults(List.of(
+                DataFlowResult.completed(createRequest("1", "http://control1")),
+                DataFlowResult.failed(createRequest("2", "http://control2"), "error"),
+                DataFlowResult.completed(createRequest("3", "http://control1"))
+        ));
+
+        assertThat(notNotified).isEmpty();
+        assertThat(paths).containsExactly("control1/transferprocess/results", "control2/transferprocess/results");
+    }
+
+    @Test
+    void notifyResults_shouldReturnAllResults_whenBatchRequestFails() {
+        var client = createClient(Map.of("/transferprocess/results", 500));
+        var results = List.of(DataFlowResult.completed(createRequest("1", "http://control")), DataFlowResult.completed(createRequest("2", "http://control")));
+
+        var notNotified = client.notifyResults(results);
+
+        assertThat(notNotified).containsExactlyElementsOf(results);
+    }
+
+    @Test
+    void notifyResults_shouldSendResultsOneByOne_whenBatchEndpointIsNotFound() {
+        var client = createClient(Map.of(
+                "/transferprocess/results", 404,
+                "/transferprocess/2/complete", 409,
+                "/transferprocess/3/fail", 404,
+                "/transferprocess/4/complete", 500
+        ));
+        var failing = DataFlowResult.completed(createRequest("4", "http://control"));
+
+        var notNotified = client.notifyResults(List.of(
+                DataFlowResult.completed(createRequest("1", "http://control")),
+                DataFlowResult.completed(createRequest("2", "http://control")),
+                DataFlowResult.failed(createRequest("3", "http://control"), "error"),
+                failing
+        ));
+
+        assertThat(notNotified).containsExactly(failing);
+        assertThat(paths).containsExactly("control/transferprocess/results", "control/transferprocess/1/complete",
+                "control/transferprocess/2/complete", "control/transferprocess/3/fail", "control/transferprocess/4/complete");
+    }
+
+    private TransferProcessHttpClient createClient(Map<String, Integer> codes) {
+        Interceptor interceptor = chain -> {
+            var url = chain.request().url();
+            var path = url.encodedPath();
+            paths.add(url.host() + path);
+            var body = ResponseBody.create("", MediaType.get("application/json"));
+            return new Response.Builder().body(body).protocol(HTTP_1_1).request(chain.request())
+                    .code(codes.getOrDefault(path, 204)).message("any").build();
+        };
+        return new TransferProcessHttpClient(testHttpClient(interceptor), new ObjectMapper(), mock(Monitor.class));
+    }
+
+    private DataFlowRequest createRequest(String processId, String callbackAddress) {
+        try {
+            return DataFlowRequest.Builder.newInstance()
+                    .id(processId)
+                    .processId(processId)
+                    .callbackAddress(new URL(callbackAddress))
+                    .sourceDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                    .destinationDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                    .build();
+        } catch (MalformedURLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
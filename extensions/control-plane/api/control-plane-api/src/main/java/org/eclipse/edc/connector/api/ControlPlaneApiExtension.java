@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.api;
 import org.eclipse.edc.connector.api.control.configuration.ControlApiConfiguration;
 import org.eclipse.edc.connector.api.transferprocess.TransferProcessControlApiController;
 import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessFailStateDto;
+import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessResultDto;
 import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.transfer.spi.callback.ControlPlaneApiUrl;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -63,9 +64,9 @@ public class ControlPlaneApiExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        typeManager.registerTypes(TransferProcessFailStateDto.class);
+        typeManager.registerTypes(TransferProcessFailStateDto.class, TransferProcessResultDto.class);
 
-        webService.registerResource(controlApiConfiguration.getContextAlias(), new TransferProcessControlApiController(transferProcessService));
+        webService.registerResource(controlApiConfiguration.getContextAlias(), new TransferProcessControlApiController(transferProcessService, context.getMonitor()));
     }
 
     @Provider
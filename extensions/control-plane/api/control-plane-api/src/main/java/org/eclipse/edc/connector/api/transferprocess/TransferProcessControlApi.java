@@ -24,8 +24,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessFailStateDto;
+import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessResultDto;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
+import java.util.List;
+
 
 @OpenAPIDefinition
 @Tag(name = "Transfer Process Control Api")
@@ -49,5 +52,15 @@ public interface TransferProcessControlApi {
             })
     void fail(String processId, @NotNull @Valid TransferProcessFailStateDto request);
 
+    @Operation(description = "Requests completion or failure of several transfer processes at once. A result without error message completes " +
+            "the transfer process, otherwise it fails it. Results that cannot be applied, e.g. because the transfer process does not exist, " +
+            "are ignored, so a successful response only indicates that the request was successfully received",
+            responses = {
+                    @ApiResponse(responseCode = "204"),
+                    @ApiResponse(responseCode = "400", description = "Request was malformed, e.g. a process id was null",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
+            })
+    void results(@NotNull List<@Valid TransferProcessResultDto> results);
+
 
 }
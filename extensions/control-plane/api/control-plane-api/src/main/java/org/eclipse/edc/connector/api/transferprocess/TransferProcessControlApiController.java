@@ -23,8 +23,12 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessFailStateDto;
+import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessResultDto;
 import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.util.List;
 
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
@@ -36,10 +40,12 @@ public class TransferProcessControlApiController implements TransferProcessContr
 
     public static final String PATH = "/transferprocess";
     private final TransferProcessService transferProcessService;
+    private final Monitor monitor;
 
 
-    public TransferProcessControlApiController(TransferProcessService transferProcessService) {
+    public TransferProcessControlApiController(TransferProcessService transferProcessService, Monitor monitor) {
         this.transferProcessService = transferProcessService;
+        this.monitor = monitor;
     }
 
 
@@ -57,4 +63,19 @@ public class TransferProcessControlApiController implements TransferProcessContr
         transferProcessService.terminate(processId, request.getErrorMessage()).orElseThrow(exceptionMapper(TransferProcess.class, processId));
     }
 
+    @POST
+    @Path("/results")
+    @Override
+    public void results(@NotNull List<@Valid TransferProcessResultDto> results) {
+        for (var result : results) {
+            var processId = result.getProcessId();
+            var serviceResult = result.getErrorMessage() == null ?
+                    transferProcessService.complete(processId) :
+                    transferProcessService.terminate(processId, result.getErrorMessage());
+            if (serviceResult.failed()) {
+                monitor.warning(String.format("Cannot apply the result of TransferProcess %s: %s", processId, serviceResult.getFailureDetail()));
+            }
+        }
+    }
+
 }
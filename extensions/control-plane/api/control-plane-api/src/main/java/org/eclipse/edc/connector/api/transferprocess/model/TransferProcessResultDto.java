@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.api.transferprocess.model;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Result of a transfer, as part of a batch: completed if it has no error message, failed otherwise.
+ */
+@JsonDeserialize(builder = TransferProcessResultDto.Builder.class)
+public class TransferProcessResultDto {
+    @NotNull
+    private String processId;
+
+    private String errorMessage;
+
+    private TransferProcessResultDto() {
+
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private final TransferProcessResultDto result;
+
+        private Builder() {
+            result = new TransferProcessResultDto();
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder processId(String processId) {
+            result.processId = processId;
+            return this;
+        }
+
+        public Builder errorMessage(String errorMessage) {
+            result.errorMessage = errorMessage;
+            return this;
+        }
+
+        public TransferProcessResultDto build() {
+            return result;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.api.transferprocess;
+
+import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessResultDto;
+import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.service.spi.result.ServiceResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransferProcessControlApiControllerTest {
+
+    private final TransferProcessService service = mock(TransferProcessService.class);
+    private final TransferProcessControlApiController controller = new TransferProcessControlApiController(service, mock(Monitor.class));
+
+    @Test
+    void results_shouldCompleteOrTerminateEveryTransferProcess() {
+        var transferProcess = TransferProcess.Builder.newInstance().id("any").build();
+        when(service.complete(anyString())).thenReturn(ServiceResult.success(transferProcess));
+        when(service.terminate(anyString(), anyString())).thenReturn(ServiceResult.success(transferProcess));
+
+        controller.results(List.of(result("1", null), result("2", "error")));
+
+        verify(service).complete("1");
+        verify(service).terminate("2", "error");
+    }
+
+    @Test
+    void results_shouldApplyRemainingResults_whenOneCannotBeApplied() {
+        when(service.complete("1")).thenReturn(ServiceResult.conflict("already completed"));
+        when(service.complete("2")).thenReturn(ServiceResult.notFound("not found"));
+        when(service.terminate(any(), any())).thenReturn(ServiceResult.success(TransferProcess.Builder.newInstance().id("3").build()));
+
+        controller.results(List.of(result("1", null), result("2", null), result("3", "error")));
+
+        verify(service).terminate("3", "error");
+    }
+
+    private TransferProcessResultDto result(String processId, String errorMessage) {
+        return TransferProcessResultDto.Builder.newInstance().processId(processId).errorMessage(errorMessage).build();
+    }
+}
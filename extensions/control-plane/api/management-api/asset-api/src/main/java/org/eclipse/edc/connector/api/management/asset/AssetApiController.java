@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.api.management.asset;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -24,10 +23,13 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.model.QuerySpecDto;
+import org.eclipse.edc.api.query.ContinuationTokenResponse;
 import org.eclipse.edc.connector.api.management.asset.model.AssetEntryNewDto;
 import org.eclipse.edc.connector.spi.asset.AssetService;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.asset.DataAddressResolver;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -41,7 +43,8 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
+import java.util.stream.Stream;
+
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.util.Optional.of;
 import static org.eclipse.edc.api.model.QuerySpecDto.EDC_QUERY_SPEC_TYPE;
@@ -91,26 +94,14 @@ public class AssetApiController implements AssetApi {
     @POST
     @Path("/request")
     @Override
-    public JsonArray requestAssets(JsonObject querySpecDto) {
-        QuerySpec querySpec;
-        if (querySpecDto == null) {
-            querySpec = QuerySpec.Builder.newInstance().build();
-        } else {
-            validator.validate(EDC_QUERY_SPEC_TYPE, querySpecDto).orElseThrow(ValidationFailureException::new);
-
-            querySpec = transformerRegistry.transform(querySpecDto, QuerySpecDto.class)
-                    .compose(dto -> transformerRegistry.transform(dto, QuerySpec.class))
-                    .orElseThrow(InvalidRequestException::new);
-        }
+    public Response requestAssets(JsonObject querySpecDto) {
+        var querySpec = toQuerySpec(querySpecDto);
 
-        try (var assets = service.query(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null))) {
-            return assets
-                    .map(it -> transformerRegistry.transform(it, JsonObject.class))
-                    .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toJsonArray());
+        // assets are paged by id only, so there is no continuation token for a query sorted by a property
+        if (querySpec.getSortField() != null) {
+            return Response.ok(toJson(queryAssets(querySpec))).build();
         }
+        return ContinuationTokenResponse.of(querySpec, () -> queryAssets(querySpec), Asset::getId, this::toJson);
     }
 
     @GET
@@ -170,4 +161,27 @@ public class AssetApiController implements AssetApi {
                 .orElseThrow(() -> new ObjectNotFoundException(Asset.class, id));
     }
 
+    private QuerySpec toQuerySpec(JsonObject querySpecDto) {
+        if (querySpecDto == null) {
+            return QuerySpec.Builder.newInstance().build();
+        }
+        validator.validate(EDC_QUERY_SPEC_TYPE, querySpecDto).orElseThrow(ValidationFailureException::new);
+
+        return transformerRegistry.transform(querySpecDto, QuerySpecDto.class)
+                .compose(dto -> transformerRegistry.transform(dto, QuerySpec.class))
+                .orElseThrow(InvalidRequestException::new);
+    }
+
+    private Stream<Asset> queryAssets(QuerySpec querySpec) {
+        return service.query(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null));
+    }
+
+    private JsonObjectStream toJson(Stream<Asset> assets) {
+        return JsonObjectStream.of(assets
+                .map(it -> transformerRegistry.transform(it, JsonObject.class))
+                .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
+                .filter(Result::succeeded)
+                .map(Result::getContent));
+    }
+
 }
@@ -25,7 +25,9 @@ import org.eclipse.edc.connector.spi.asset.AssetService;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.asset.DataAddressResolver;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
@@ -37,13 +39,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static jakarta.json.Json.createObjectBuilder;
+import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.api.model.IdResponseDto.EDC_ID_RESPONSE_DTO_CREATED_AT;
 import static org.eclipse.edc.api.model.IdResponseDto.EDC_ID_RESPONSE_DTO_TYPE;
+import static org.eclipse.edc.api.query.ContinuationTokenResponse.CONTINUATION_TOKEN_HEADER;
 import static org.eclipse.edc.connector.api.management.asset.model.AssetEntryNewDto.EDC_ASSET_ENTRY_DTO_TYPE;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
@@ -64,6 +69,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -99,7 +105,7 @@ class AssetApiControllerTest extends RestControllerTestBase {
     @Test
     void requestAsset() {
         when(service.query(any()))
-                .thenReturn(ServiceResult.success(Stream.of(Asset.Builder.newInstance().build())));
+                .thenAnswer(i -> ServiceResult.success(Stream.of(Asset.Builder.newInstance().build())));
         when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
                 .thenReturn(Result.success(createAssetJson().build()));
         when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpecDto.class)))
@@ -117,15 +123,61 @@ class AssetApiControllerTest extends RestControllerTestBase {
                 .statusCode(200)
                 .contentType(JSON)
                 .body("size()", is(1));
-        verify(service).query(argThat(s -> s.getOffset() == 10));
+        verify(service, times(2)).query(argThat(s -> s.getOffset() == 10));
         verify(transformerRegistry).transform(isA(Asset.class), eq(JsonObject.class));
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
     }
 
+    @Test
+    void requestAsset_shouldReturnContinuationToken_whenPageIsFull() {
+        when(service.query(any()))
+                .thenAnswer(i -> ServiceResult.success(Stream.of(Asset.Builder.newInstance().id("asset-1").build())));
+        when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(createAssetJson().build()));
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpecDto.class)))
+                .thenReturn(Result.success(QuerySpecDto.Builder.newInstance().limit(1).build()));
+        when(transformerRegistry.transform(isA(QuerySpecDto.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().limit(1).build()));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .body("{}")
+                .post("/assets/request")
+                .then()
+                .statusCode(200)
+                .header(CONTINUATION_TOKEN_HEADER, ContinuationToken.after(null, SortOrder.ASC, null, "asset-1").encode())
+                .body("size()", is(1));
+    }
+
+    @Test
+    void requestAsset_shouldCloseServiceStreams() {
+        var closed = new AtomicInteger();
+        when(service.query(any()))
+                .thenAnswer(i -> ServiceResult.success(Stream.of(Asset.Builder.newInstance().id("asset-1").build()).onClose(closed::incrementAndGet)));
+        when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(createAssetJson().build()));
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpecDto.class)))
+                .thenReturn(Result.success(QuerySpecDto.Builder.newInstance().build()));
+        when(transformerRegistry.transform(isA(QuerySpecDto.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.none()));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .body("{}")
+                .post("/assets/request")
+                .then()
+                .statusCode(200)
+                .body("size()", is(1));
+
+        await().untilAtomic(closed, is(2));
+    }
+
     @Test
     void requestAsset_filtersOutFailedTransforms() {
         when(service.query(any()))
-                .thenReturn(ServiceResult.success(Stream.of(Asset.Builder.newInstance().build())));
+                .thenAnswer(i -> ServiceResult.success(Stream.of(Asset.Builder.newInstance().build())));
         when(transformerRegistry.transform(isA(QuerySpecDto.class), eq(QuerySpec.class)))
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
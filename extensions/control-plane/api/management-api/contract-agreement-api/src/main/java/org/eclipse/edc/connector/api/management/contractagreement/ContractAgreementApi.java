@@ -22,10 +22,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.api.model.QuerySpecDto;
 import org.eclipse.edc.connector.api.management.contractagreement.model.ContractAgreementDto;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
 @OpenAPIDefinition
@@ -41,7 +41,7 @@ public interface ContractAgreementApi {
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
             }
     )
-    JsonArray queryAllAgreements(JsonObject querySpecDto);
+    JsonObjectStream queryAllAgreements(JsonObject querySpecDto);
 
     @Operation(description = "Gets an contract agreement with the given ID",
             responses = {
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.api.management.contractagreement;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
@@ -27,6 +26,7 @@ import org.eclipse.edc.connector.api.management.contractagreement.model.Contract
 import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.spi.contractagreement.ContractAgreementService;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -37,7 +37,6 @@ import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 
 import java.util.Optional;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
@@ -57,22 +56,20 @@ public class ContractAgreementApiController implements ContractAgreementApi {
     @POST
     @Path("/request")
     @Override
-    public JsonArray queryAllAgreements(JsonObject querySpecDto) {
+    public JsonObjectStream queryAllAgreements(JsonObject querySpecDto) {
         var query = ofNullable(querySpecDto)
                 .map(input -> transformerRegistry.transform(input, QuerySpecDto.class)
                         .compose(dto -> transformerRegistry.transform(dto, QuerySpec.class)))
                 .orElse(Result.success(QuerySpec.Builder.newInstance().build()))
                 .orElseThrow(InvalidRequestException::new);
 
-        try (var stream = service.query(query).orElseThrow(exceptionMapper(ContractDefinition.class, null))) {
-            return stream
-                    .map(it -> transformerRegistry.transform(it, ContractAgreementDto.class)
-                            .compose(dto -> transformerRegistry.transform(dto, JsonObject.class)))
-                    .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toJsonArray());
-        }
+        var stream = service.query(query).orElseThrow(exceptionMapper(ContractDefinition.class, null));
+        return JsonObjectStream.of(stream
+                .map(it -> transformerRegistry.transform(it, ContractAgreementDto.class)
+                        .compose(dto -> transformerRegistry.transform(dto, JsonObject.class)))
+                .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
+                .filter(Result::succeeded)
+                .map(Result::getContent));
     }
 
     @GET
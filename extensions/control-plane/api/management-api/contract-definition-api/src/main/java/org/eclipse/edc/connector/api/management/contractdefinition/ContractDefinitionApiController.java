@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.api.management.contractdefinition;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
@@ -30,6 +29,7 @@ import org.eclipse.edc.connector.api.management.contractdefinition.model.Contrac
 import org.eclipse.edc.connector.api.management.contractdefinition.model.ContractDefinitionResponseDto;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.spi.contractdefinition.ContractDefinitionService;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -40,7 +40,6 @@ import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 
 import java.util.Optional;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
@@ -61,22 +60,20 @@ public class ContractDefinitionApiController implements ContractDefinitionApi {
     @POST
     @Path("/request")
     @Override
-    public JsonArray queryAllContractDefinitions(JsonObject querySpecDto) {
+    public JsonObjectStream queryAllContractDefinitions(JsonObject querySpecDto) {
         var querySpec = ofNullable(querySpecDto)
                 .map(json -> transformerRegistry.transform(json, QuerySpecDto.class)
                         .compose(dto -> transformerRegistry.transform(dto, QuerySpec.class)))
                 .orElse(Result.success(QuerySpec.Builder.newInstance().build()))
                 .orElseThrow(InvalidRequestException::new);
 
-        try (var stream = service.query(querySpec).orElseThrow(exceptionMapper(ContractDefinition.class))) {
-            return stream
-                    .map(contractDefinition -> transformerRegistry.transform(contractDefinition, ContractDefinitionResponseDto.class)
-                            .compose(dto -> transformerRegistry.transform(dto, JsonObject.class)))
-                    .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toJsonArray());
-        }
+        var stream = service.query(querySpec).orElseThrow(exceptionMapper(ContractDefinition.class));
+        return JsonObjectStream.of(stream
+                .map(contractDefinition -> transformerRegistry.transform(contractDefinition, ContractDefinitionResponseDto.class)
+                        .compose(dto -> transformerRegistry.transform(dto, JsonObject.class)))
+                .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
+                .filter(Result::succeeded)
+                .map(Result::getContent));
     }
 
     @GET
@@ -16,7 +16,6 @@
 
 package org.eclipse.edc.connector.api.management.contractnegotiation;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -34,6 +33,7 @@ import org.eclipse.edc.connector.api.management.contractnegotiation.model.Negoti
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractRequest;
 import org.eclipse.edc.connector.spi.contractnegotiation.ContractNegotiationService;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -44,7 +44,6 @@ import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 
 import java.util.Optional;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
@@ -66,22 +65,20 @@ public class ContractNegotiationApiController implements ContractNegotiationApi
     @POST
     @Path("/request")
     @Override
-    public JsonArray queryNegotiations(JsonObject querySpecDto) {
+    public JsonObjectStream queryNegotiations(JsonObject querySpecDto) {
         var spec = ofNullable(querySpecDto)
                 .map(json -> transformerRegistry.transform(json, QuerySpecDto.class)
                         .compose(dto -> transformerRegistry.transform(dto, QuerySpec.class)))
                 .orElse(Result.success(QuerySpec.Builder.newInstance().build()))
                 .orElseThrow(InvalidRequestException::new);
 
-        try (var stream = service.query(spec).orElseThrow(exceptionMapper(ContractNegotiation.class, null))) {
-            return stream
-                    .map(it -> transformerRegistry.transform(it, ContractNegotiationDto.class)
-                            .compose(dto -> transformerRegistry.transform(dto, JsonObject.class)))
-                    .peek(this::logIfError)
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toJsonArray());
-        }
+        var stream = service.query(spec).orElseThrow(exceptionMapper(ContractNegotiation.class, null));
+        return JsonObjectStream.of(stream
+                .map(it -> transformerRegistry.transform(it, ContractNegotiationDto.class)
+                        .compose(dto -> transformerRegistry.transform(dto, JsonObject.class)))
+                .peek(this::logIfError)
+                .filter(Result::succeeded)
+                .map(Result::getContent));
     }
 
     @GET
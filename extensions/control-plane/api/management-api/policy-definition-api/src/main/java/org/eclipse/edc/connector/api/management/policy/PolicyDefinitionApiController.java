@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.api.management.policy;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -32,6 +31,7 @@ import org.eclipse.edc.connector.api.management.policy.model.PolicyDefinitionUpd
 import org.eclipse.edc.connector.api.management.policy.model.PolicyDefinitionUpdateWrapperDto;
 import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.spi.policydefinition.PolicyDefinitionService;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -40,7 +40,6 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
@@ -64,21 +63,19 @@ public class PolicyDefinitionApiController implements PolicyDefinitionApi {
     @POST
     @Path("request")
     @Override
-    public JsonArray queryPolicyDefinitions(JsonObject querySpecDto) {
+    public JsonObjectStream queryPolicyDefinitions(JsonObject querySpecDto) {
         var querySpec = ofNullable(querySpecDto)
                 .map(json -> transformerRegistry.transform(json, QuerySpecDto.class)
                         .compose(dto -> transformerRegistry.transform(dto, QuerySpec.class)))
                 .orElse(Result.success(QuerySpec.Builder.newInstance().build()))
                 .orElseThrow(InvalidRequestException::new);
 
-        try (var stream = service.query(querySpec).orElseThrow(exceptionMapper(PolicyDefinition.class))) {
-            return stream
-                    .map(policyDefinition -> transformerRegistry.transform(policyDefinition, PolicyDefinitionResponseDto.class)
-                            .compose(dto -> transformerRegistry.transform(dto, JsonObject.class)))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toJsonArray());
-        }
+        var stream = service.query(querySpec).orElseThrow(exceptionMapper(PolicyDefinition.class));
+        return JsonObjectStream.of(stream
+                .map(policyDefinition -> transformerRegistry.transform(policyDefinition, PolicyDefinitionResponseDto.class)
+                        .compose(dto -> transformerRegistry.transform(dto, JsonObject.class)))
+                .filter(Result::succeeded)
+                .map(Result::getContent));
     }
 
     @GET
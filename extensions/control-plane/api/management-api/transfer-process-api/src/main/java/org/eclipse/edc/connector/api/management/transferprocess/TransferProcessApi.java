@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.api.management.transferprocess;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.links.Link;
 import io.swagger.v3.oas.annotations.links.LinkParameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -24,9 +25,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.validation.Valid;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.model.QuerySpecDto;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TerminateTransferDto;
@@ -35,6 +36,8 @@ import org.eclipse.edc.connector.api.management.transferprocess.model.TransferRe
 import org.eclipse.edc.connector.api.management.transferprocess.model.TransferState;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
+import static org.eclipse.edc.api.query.ContinuationTokenResponse.CONTINUATION_TOKEN_HEADER;
+
 @OpenAPIDefinition
 @Tag(name = "Transfer Process")
 public interface TransferProcessApi {
@@ -42,11 +45,12 @@ public interface TransferProcessApi {
             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = QuerySpecDto.class))),
             responses = {
                     @ApiResponse(responseCode = "200",
+                            headers = @Header(name = CONTINUATION_TOKEN_HEADER, description = "Continuation token of the next page, only set when the page is full"),
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = TransferProcessDto.class)))),
                     @ApiResponse(responseCode = "400", description = "Request was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)))) }
     )
-    JsonArray queryTransferProcesses(@Valid JsonObject querySpecDto);
+    Response queryTransferProcesses(@Valid JsonObject querySpecDto);
 
     @Operation(description = "Gets an transfer process with the given ID",
             responses = {
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.api.management.transferprocess;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -22,8 +21,10 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.model.QuerySpecDto;
+import org.eclipse.edc.api.query.ContinuationTokenResponse;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TerminateTransferDto;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TransferProcessDto;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TransferRequestDto;
@@ -32,6 +33,7 @@ import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.transfer.spi.types.TransferRequest;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -42,7 +44,6 @@ import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 
 import java.util.Optional;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
@@ -67,22 +68,22 @@ public class TransferProcessApiController implements TransferProcessApi {
     @POST
     @Path("request")
     @Override
-    public JsonArray queryTransferProcesses(JsonObject querySpecDto) {
+    public Response queryTransferProcesses(JsonObject querySpecDto) {
         var querySpec = ofNullable(querySpecDto)
                 .map(jsonObject -> transformerRegistry.transform(jsonObject, QuerySpecDto.class)
                         .compose(dto -> transformerRegistry.transform(dto, QuerySpec.class)))
                 .orElse(Result.success(QuerySpec.none()))
                 .orElseThrow(InvalidRequestException::new);
 
-        try (var stream = service.query(querySpec).orElseThrow(exceptionMapper(PolicyDefinition.class))) {
-            return stream
-                    .map(policyDefinition -> transformerRegistry.transform(policyDefinition, TransferProcessDto.class)
-                            .compose(dto -> transformerRegistry.transform(dto, JsonObject.class))
-                            .onFailure(f -> monitor.warning(f.getFailureDetail())))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toJsonArray());
-        }
+        return ContinuationTokenResponse.of(querySpec,
+                () -> service.query(querySpec).orElseThrow(exceptionMapper(PolicyDefinition.class)),
+                TransferProcess::getId,
+                transferProcesses -> JsonObjectStream.of(transferProcesses
+                        .map(policyDefinition -> transformerRegistry.transform(policyDefinition, TransferProcessDto.class)
+                                .compose(dto -> transformerRegistry.transform(dto, JsonObject.class))
+                                .onFailure(f -> monitor.warning(f.getFailureDetail())))
+                        .filter(Result::succeeded)
+                        .map(Result::getContent)));
     }
 
     @GET
@@ -27,7 +27,9 @@ import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.transfer.spi.types.TransferRequest;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.service.spi.result.ServiceResult;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -36,16 +38,21 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.api.query.ContinuationTokenResponse.CONTINUATION_TOKEN_HEADER;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -143,7 +150,7 @@ class TransferProcessApiControllerTest extends RestControllerTestBase {
         var responseBody = Json.createObjectBuilder().add("id", "id").add("createdAt", 1234).build();
         when(transformerRegistry.transform(any(), eq(QuerySpecDto.class))).thenReturn(Result.success(querySpecDto));
         when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
-        when(service.query(any())).thenReturn(ServiceResult.success(Stream.of(transferProcess)));
+        when(service.query(any())).thenAnswer(i -> ServiceResult.success(Stream.of(transferProcess)));
         when(transformerRegistry.transform(any(), eq(TransferProcessDto.class))).thenReturn(Result.success(dto));
         when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(expandedResponseBody));
         var requestBody = Json.createObjectBuilder().build();
@@ -161,15 +168,77 @@ class TransferProcessApiControllerTest extends RestControllerTestBase {
                 .body("[0].createdAt", is(1234));
         verify(transformerRegistry).transform(expandedRequestBody, QuerySpecDto.class);
         verify(transformerRegistry).transform(querySpecDto, QuerySpec.class);
-        verify(service).query(querySpec);
+        verify(service, times(2)).query(querySpec);
         verify(transformerRegistry).transform(transferProcess, TransferProcessDto.class);
         verify(transformerRegistry).transform(dto, JsonObject.class);
     }
 
+    @Test
+    void query_shouldReturnContinuationToken_whenPageIsFull() {
+        var querySpec = QuerySpec.Builder.newInstance().sortField("stateTimestamp").limit(1).build();
+        var transferProcess = createTransferProcess().id("id").stateTimestamp(1234L).build();
+        when(transformerRegistry.transform(any(), eq(QuerySpecDto.class))).thenReturn(Result.success(QuerySpecDto.Builder.newInstance().build()));
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
+        when(service.query(any())).thenAnswer(i -> ServiceResult.success(Stream.of(transferProcess)));
+        when(transformerRegistry.transform(any(), eq(TransferProcessDto.class))).thenReturn(Result.success(TransferProcessDto.Builder.newInstance().id("id").build()));
+        when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(Json.createObjectBuilder().add("id", "id").build()));
+
+        given()
+                .port(port)
+                .body(Json.createObjectBuilder().build())
+                .contentType(JSON)
+                .post("/v2/transferprocesses/request")
+                .then()
+                .statusCode(200)
+                .header(CONTINUATION_TOKEN_HEADER, ContinuationToken.after("stateTimestamp", SortOrder.ASC, 1234L, "id").encode())
+                .body("size()", is(1));
+    }
+
+    @Test
+    void query_shouldNotReturnContinuationToken_whenPageIsNotFull() {
+        var querySpec = QuerySpec.Builder.newInstance().limit(2).build();
+        when(transformerRegistry.transform(any(), eq(QuerySpecDto.class))).thenReturn(Result.success(QuerySpecDto.Builder.newInstance().build()));
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
+        when(service.query(any())).thenAnswer(i -> ServiceResult.success(Stream.of(createTransferProcess().build())));
+        when(transformerRegistry.transform(any(), eq(TransferProcessDto.class))).thenReturn(Result.success(TransferProcessDto.Builder.newInstance().id("id").build()));
+        when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(Json.createObjectBuilder().add("id", "id").build()));
+
+        given()
+                .port(port)
+                .body(Json.createObjectBuilder().build())
+                .contentType(JSON)
+                .post("/v2/transferprocesses/request")
+                .then()
+                .statusCode(200)
+                .header(CONTINUATION_TOKEN_HEADER, nullValue())
+                .body("size()", is(1));
+    }
+
+    @Test
+    void query_shouldCloseServiceStreams() {
+        var closed = new AtomicInteger();
+        when(transformerRegistry.transform(any(), eq(QuerySpecDto.class))).thenReturn(Result.success(QuerySpecDto.Builder.newInstance().build()));
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(QuerySpec.none()));
+        when(service.query(any())).thenAnswer(i -> ServiceResult.success(Stream.of(createTransferProcess().build()).onClose(closed::incrementAndGet)));
+        when(transformerRegistry.transform(any(), eq(TransferProcessDto.class))).thenReturn(Result.success(TransferProcessDto.Builder.newInstance().id("id").build()));
+        when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(Json.createObjectBuilder().add("id", "id").build()));
+
+        given()
+                .port(port)
+                .body(Json.createObjectBuilder().build())
+                .contentType(JSON)
+                .post("/v2/transferprocesses/request")
+                .then()
+                .statusCode(200)
+                .body("size()", is(1));
+
+        await().untilAtomic(closed, is(2));
+    }
+
     @Test
     void query_shouldNotReturnError_whenEmptyBody() {
         var querySpec = QuerySpec.none();
-        when(service.query(any())).thenReturn(ServiceResult.success(Stream.empty()));
+        when(service.query(any())).thenAnswer(i -> ServiceResult.success(Stream.empty()));
 
         given()
                 .port(port)
@@ -180,7 +249,7 @@ class TransferProcessApiControllerTest extends RestControllerTestBase {
                 .contentType(JSON)
                 .body("size()", is(0));
 
-        verify(service).query(querySpec);
+        verify(service, times(2)).query(querySpec);
     }
 
     @Test
@@ -227,7 +296,7 @@ class TransferProcessApiControllerTest extends RestControllerTestBase {
         var transferProcess = createTransferProcess().id("id").build();
         when(transformerRegistry.transform(any(), eq(QuerySpecDto.class))).thenReturn(Result.success(querySpecDto));
         when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
-        when(service.query(any())).thenReturn(ServiceResult.success(Stream.of(transferProcess)));
+        when(service.query(any())).thenAnswer(i -> ServiceResult.success(Stream.of(transferProcess)));
         when(transformerRegistry.transform(any(), eq(TransferProcessDto.class))).thenReturn(Result.failure("error"));
         var requestBody = Json.createObjectBuilder().build();
 
@@ -5,6 +5,7 @@ plugins {
 dependencies {
     api(project(":spi:common:core-spi"))
     api(project(":spi:control-plane:control-plane-spi"))
+    implementation(libs.micrometer)
 
     testImplementation(project(":core:common:junit"))
 }
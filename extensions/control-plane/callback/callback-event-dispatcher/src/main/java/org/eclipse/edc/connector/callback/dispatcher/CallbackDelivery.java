@@ -0,0 +1,227 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.callback.dispatcher;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.connector.spi.callback.CallbackEventBatchRemoteMessage;
+import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Delivers the events to the callback endpoints without waiting for the responses, so that a slow endpoint does not
+ * delay the others.
+ * <p>
+ * Every endpoint has its own bounded queue and limit of concurrent requests: events that do not fit in the queue of an
+ * endpoint are dropped. When the batch size is greater than one, the events queued for the same endpoint are sent
+ * together as a {@link CallbackEventBatchRemoteMessage}.
+ */
+public class CallbackDelivery {
+
+    public static final String DELIVERY_METRIC = "edc.callback.delivery";
+    public static final String DROPPED_METRIC = "edc.callback.dropped";
+
+    private final Map<EndpointKey, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final RemoteMessageDispatcherRegistry dispatcher;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final Timer delivered;
+    private final Timer failed;
+    private final Counter dropped;
+
+    public CallbackDelivery(RemoteMessageDispatcherRegistry dispatcher, Monitor monitor, MeterRegistry meterRegistry, Clock clock,
+                            int maxConcurrency, int queueCapacity, int batchSize) {
+        this.dispatcher = dispatcher;
+        this.monitor = monitor;
+        this.clock = clock;
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        delivered = Timer.builder(DELIVERY_METRIC).description("Latency of the callback deliveries, queueing included")
+                .tag("outcome", "success").register(meterRegistry);
+        failed = Timer.builder(DELIVERY_METRIC).description("Latency of the callback deliveries, queueing included")
+                .tag("outcome", "failure").register(meterRegistry);
+        dropped = Counter.builder(DROPPED_METRIC).description("Number of callback events dropped because the endpoint queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues an event for the callback endpoint and sends it as soon as the endpoint concurrency permits.
+     *
+     * @return false if the event was dropped.
+     */
+    public boolean deliver(CallbackAddress callback, EventEnvelope<?> envelope, String protocol) {
+        var key = new EndpointKey(callback.getUri(), callback.getAuthKey(), callback.getAuthCodeId(), protocol);
+        var pending = new Pending(envelope, clock.millis());
+        var accepted = new AtomicBoolean();
+        var endpoint = endpoints.compute(key, (k, existing) -> {
+            var e = existing != null ? existing : new Endpoint(callback, protocol);
+            accepted.set(e.offer(pending));
+            return e;
+        });
+
+        if (!accepted.get()) {
+            dropped.increment();
+            monitor.warning(format("Dropped event %s for callback at URI %s: the queue is full", envelope.getPayload().name(), callback.getUri()));
+            return false;
+        }
+
+        drain(key, endpoint);
+        return true;
+    }
+
+    /**
+     * Sends the queued events the endpoint concurrency permits. A response that completes while the endpoint is being
+     * drained, e.g. right away in {@link #send}, does not drain it again but makes the current drain loop once more, so
+     * that the stack does not grow with the number of queued events.
+     */
+    private void drain(EndpointKey key, Endpoint endpoint) {
+        if (!endpoint.startDraining()) {
+            return;
+        }
+        do {
+            List<Pending> batch;
+            while (!(batch = endpoint.next()).isEmpty()) {
+                send(key, endpoint, batch);
+            }
+        } while (!endpoint.stopDraining());
+    }
+
+    private void send(EndpointKey key, Endpoint endpoint, List<Pending> batch) {
+        CompletableFuture<?> future;
+        try {
+            future = dispatcher.send(Object.class, createMessage(endpoint, batch));
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((response, throwable) -> {
+            var now = clock.millis();
+            var timer = throwable == null ? delivered : failed;
+            batch.forEach(pending -> timer.record(now - pending.queuedAt(), TimeUnit.MILLISECONDS));
+            if (throwable != null) {
+                monitor.severe(format("Failed to invoke callback at URI: %s", endpoint.callback.getUri()), throwable);
+            }
+
+            endpoint.done();
+            drain(key, endpoint);
+            endpoints.computeIfPresent(key, (k, e) -> e.isIdle() ? null : e);
+        });
+    }
+
+    private RemoteMessage createMessage(Endpoint endpoint, List<Pending> batch) {
+        if (batch.size() == 1) {
+            return new CallbackEventRemoteMessage<>(endpoint.callback, batch.get(0).envelope(), endpoint.protocol);
+        }
+        var envelopes = batch.stream().<EventEnvelope<?>>map(Pending::envelope).collect(toList());
+        return new CallbackEventBatchRemoteMessage(endpoint.callback, envelopes, endpoint.protocol);
+    }
+
+    private record Pending(EventEnvelope<?> envelope, long queuedAt) {
+    }
+
+    /**
+     * Callbacks with the same URI but different credentials are separate endpoints, as their events cannot be sent in the
+     * same request.
+     */
+    private record EndpointKey(String uri, String authKey, String authCodeId, String protocol) {
+    }
+
+    /**
+     * Queue and in-flight requests of a callback endpoint.
+     */
+    private class Endpoint {
+        private final CallbackAddress callback;
+        private final String protocol;
+        private final Deque<Pending> queue = new ArrayDeque<>();
+        private int inFlight;
+        private boolean draining;
+        private boolean drainRequested;
+
+        Endpoint(CallbackAddress callback, String protocol) {
+            this.callback = callback;
+            this.protocol = protocol;
+        }
+
+        synchronized boolean offer(Pending pending) {
+            if (queue.size() >= queueCapacity) {
+                return false;
+            }
+            queue.add(pending);
+            return true;
+        }
+
+        synchronized List<Pending> next() {
+            if (inFlight >= maxConcurrency || queue.isEmpty()) {
+                return List.of();
+            }
+            inFlight++;
+            var batch = new ArrayList<Pending>();
+            while (!queue.isEmpty() && batch.size() < batchSize) {
+                batch.add(queue.poll());
+            }
+            return batch;
+        }
+
+        synchronized void done() {
+            inFlight--;
+        }
+
+        synchronized boolean startDraining() {
+            if (draining) {
+                drainRequested = true;
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        synchronized boolean stopDraining() {
+            if (drainRequested) {
+                drainRequested = false;
+                return false;
+            }
+            draining = false;
+            return true;
+        }
+
+        synchronized boolean isIdle() {
+            return inFlight == 0 && queue.isEmpty() && !draining;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
 import java.util.List;
@@ -36,6 +37,9 @@ import static java.lang.String.format;
  * Subscriber for invoking callbacks associated to {@link Event}. If the {@link CallbackAddress#getEvents()} matches
  * the {@link Event#name()}, the callback is the invoked using a {@link RemoteMessageDispatcherRegistry} with protocol
  * extracted by {@link CallbackAddress#getUri()}
+ * <p>
+ * Non-transactional callbacks can be handed over to a {@link CallbackDelivery}, which sends them to all the endpoints
+ * in parallel without blocking the caller.
  */
 public class CallbackEventDispatcher implements EventSubscriber {
     private final RemoteMessageDispatcherRegistry dispatcher;
@@ -43,12 +47,27 @@ public class CallbackEventDispatcher implements EventSubscriber {
     private final Monitor monitor;
     private final CallbackRegistry callbackRegistry;
     private final CallbackProtocolResolverRegistry resolverRegistry;
+    @Nullable
+    private final CallbackDelivery delivery;
 
     public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, boolean transactional, Monitor monitor) {
+        this(dispatcher, callbackRegistry, resolveRegistry, transactional, null, monitor);
+    }
+
+    /**
+     * Creates a dispatcher for non-transactional callbacks that delivers them asynchronously.
+     */
+    public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, CallbackDelivery delivery, Monitor monitor) {
+        this(dispatcher, callbackRegistry, resolveRegistry, false, delivery, monitor);
+    }
+
+    private CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, boolean transactional,
+                                    @Nullable CallbackDelivery delivery, Monitor monitor) {
         this.dispatcher = dispatcher;
         this.callbackRegistry = callbackRegistry;
         this.transactional = transactional;
         this.resolverRegistry = resolveRegistry;
+        this.delivery = delivery;
         this.monitor = monitor;
     }
 
@@ -61,10 +80,12 @@ public class CallbackEventDispatcher implements EventSubscriber {
             if (matches(eventName, callback)) {
                 try {
                     var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
-                    if (protocol != null) {
-                        dispatcher.send(Object.class, new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol)).get();
-                    } else {
+                    if (protocol == null) {
                         monitor.warning(format("Failed to resolve protocol for URI %s", callback.getUri()));
+                    } else if (delivery != null) {
+                        delivery.deliver(callback, eventEnvelope, protocol);
+                    } else {
+                        dispatcher.send(Object.class, new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol)).get();
                     }
                 } catch (Exception e) {
                     monitor.severe(format("Failed to invoke callback at URI: %s", callback.getUri()), e);
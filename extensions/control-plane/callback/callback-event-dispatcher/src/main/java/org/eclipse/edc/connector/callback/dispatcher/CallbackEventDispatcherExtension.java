@@ -14,12 +14,15 @@
 
 package org.eclipse.edc.connector.callback.dispatcher;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.edc.connector.callback.CallbackProtocolResolverRegistryImpl;
 import org.eclipse.edc.connector.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.spi.callback.CallbackRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
@@ -27,12 +30,29 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
 public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    private static final boolean DEFAULT_ASYNC_DELIVERY = false;
+    @Setting(value = "Deliver the non-transactional callbacks asynchronously, in parallel for all the endpoints, instead of one after the other. " +
+            "Events that exceed the endpoint queue capacity are then dropped", type = "boolean", defaultValue = DEFAULT_ASYNC_DELIVERY + "")
+    private static final String ASYNC_DELIVERY = "edc.callback.delivery.async";
+    private static final int DEFAULT_ENDPOINT_CONCURRENCY = 4;
+    @Setting(value = "Maximum number of concurrent asynchronous deliveries to the same callback endpoint", type = "int", defaultValue = DEFAULT_ENDPOINT_CONCURRENCY + "")
+    private static final String ENDPOINT_CONCURRENCY = "edc.callback.delivery.endpoint.concurrency";
+    private static final int DEFAULT_ENDPOINT_QUEUE_CAPACITY = 1000;
+    @Setting(value = "Maximum number of events queued for the same callback endpoint, further events are dropped", type = "int", defaultValue = DEFAULT_ENDPOINT_QUEUE_CAPACITY + "")
+    private static final String ENDPOINT_QUEUE_CAPACITY = "edc.callback.delivery.endpoint.queue.capacity";
+    private static final int DEFAULT_BATCH_SIZE = 1;
+    @Setting(value = "Maximum number of queued events sent in the same request to a callback endpoint, values greater than 1 send JSON arrays of events",
+            type = "int", defaultValue = DEFAULT_BATCH_SIZE + "")
+    private static final String BATCH_SIZE = "edc.callback.delivery.batch.size";
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +65,12 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    Clock clock;
+
+    @Inject(required = false)
+    MeterRegistry meterRegistry;
+
     @Override
     public String name() {
         return NAME;
@@ -58,7 +84,19 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
         // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
         router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        router.register(Event.class, createAsyncDispatcher(context, resolverRegistry));
+
+    }
+
+    private CallbackEventDispatcher createAsyncDispatcher(ServiceExtensionContext context, CallbackProtocolResolverRegistry resolverRegistry) {
+        if (!context.getSetting(ASYNC_DELIVERY, DEFAULT_ASYNC_DELIVERY)) {
+            return new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor);
+        }
 
+        var delivery = new CallbackDelivery(dispatcherRegistry, monitor, meterRegistry != null ? meterRegistry : Metrics.globalRegistry, clock,
+                context.getSetting(ENDPOINT_CONCURRENCY, DEFAULT_ENDPOINT_CONCURRENCY),
+                context.getSetting(ENDPOINT_QUEUE_CAPACITY, DEFAULT_ENDPOINT_QUEUE_CAPACITY),
+                context.getSetting(BATCH_SIZE, DEFAULT_BATCH_SIZE));
+        return new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, delivery, monitor);
     }
 }
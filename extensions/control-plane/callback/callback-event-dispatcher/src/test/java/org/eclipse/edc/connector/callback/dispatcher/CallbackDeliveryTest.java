@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.callback.dispatcher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.connector.spi.callback.CallbackEventBatchRemoteMessage;
+import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallbackDeliveryTest {
+
+    private final RemoteMessageDispatcherRegistry registry = mock(RemoteMessageDispatcherRegistry.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void deliver_shouldNotWaitForSlowEndpoints() {
+        var delivery = createDelivery(1, 10, 1);
+        when(registry.send(any(), any())).thenReturn(new CompletableFuture<>());
+
+        delivery.deliver(callback("http://slow"), envelope("1"), "http");
+        delivery.deliver(callback("http://other"), envelope("1"), "http");
+
+        verify(registry).send(any(), argThat((RemoteMessage message) -> message.getCounterPartyAddress().equals("http://slow")));
+        verify(registry).send(any(), argThat((RemoteMessage message) -> message.getCounterPartyAddress().equals("http://other")));
+    }
+
+    @Test
+    void deliver_shouldLimitConcurrentRequestsPerEndpoint() {
+        var delivery = createDelivery(1, 10, 1);
+        var response = new CompletableFuture<>();
+        when(registry.send(any(), any())).thenReturn(response).thenReturn(CompletableFuture.completedFuture(null));
+
+        delivery.deliver(callback("http://endpoint"), envelope("1"), "http");
+        delivery.deliver(callback("http://endpoint"), envelope("2"), "http");
+
+        verify(registry, times(1)).send(any(), any());
+
+        response.complete(null);
+
+        verify(registry, times(2)).send(any(), any());
+        assertThat(meterRegistry.get(CallbackDelivery.DELIVERY_METRIC).tag("outcome", "success").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void deliver_shouldDropEvents_whenQueueIsFull() {
+        var delivery = createDelivery(1, 1, 1);
+        when(registry.send(any(), any())).thenReturn(new CompletableFuture<>());
+
+        assertThat(delivery.deliver(callback("http://endpoint"), envelope("1"), "http")).isTrue();
+        assertThat(delivery.deliver(callback("http://endpoint"), envelope("2"), "http")).isTrue();
+        assertThat(delivery.deliver(callback("http://endpoint"), envelope("3"), "http")).isFalse();
+
+        assertThat(meterRegistry.get(CallbackDelivery.DROPPED_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void deliver_shouldBatchQueuedEvents() {
+        var delivery = createDelivery(1, 10, 5);
+        var response = new CompletableFuture<>();
+        when(registry.send(any(), any())).thenReturn(response).thenReturn(CompletableFuture.completedFuture(null));
+
+        delivery.deliver(callback("http://endpoint"), envelope("1"), "http");
+        delivery.deliver(callback("http://endpoint"), envelope("2"), "http");
+        delivery.deliver(callback("http://endpoint"), envelope("3"), "http");
+        response.complete(null);
+
+        var captor = ArgumentCaptor.forClass(RemoteMessage.class);
+        verify(registry, times(2)).send(any(), captor.capture());
+        assertThat(captor.getAllValues().get(0)).isInstanceOf(CallbackEventRemoteMessage.class);
+        assertThat(captor.getAllValues().get(1)).isInstanceOfSatisfying(CallbackEventBatchRemoteMessage.class,
+                batch -> assertThat(batch.getEventEnvelopes()).extracting(EventEnvelope::getId).containsExactly("2", "3"));
+    }
+
+    @Test
+    void deliver_shouldDrainQueueWithoutRecursion_whenResponsesCompleteRightAway() {
+        var events = 20_000;
+        var delivery = createDelivery(1, events, 1);
+        var response = new CompletableFuture<>();
+        when(registry.send(any(), any())).thenReturn(response).thenReturn(CompletableFuture.completedFuture(null));
+
+        for (var i = 0; i <= events; i++) {
+            delivery.deliver(callback("http://endpoint"), envelope(String.valueOf(i)), "http");
+        }
+        response.complete(null);
+
+        verify(registry, times(events + 1)).send(any(), any());
+    }
+
+    @Test
+    void deliver_shouldRecordFailures() {
+        var delivery = createDelivery(1, 10, 1);
+        when(registry.send(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+
+        delivery.deliver(callback("http://endpoint"), envelope("1"), "http");
+
+        assertThat(meterRegistry.get(CallbackDelivery.DELIVERY_METRIC).tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    private CallbackDelivery createDelivery(int maxConcurrency, int queueCapacity, int batchSize) {
+        return new CallbackDelivery(registry, mock(Monitor.class), meterRegistry, Clock.systemUTC(), maxConcurrency, queueCapacity, batchSize);
+    }
+
+    private CallbackAddress callback(String uri) {
+        return CallbackAddress.Builder.newInstance().uri(uri).events(Set.of("transfer.process")).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventEnvelope<TransferProcessCompleted> envelope(String id) {
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("process").build();
+        return EventEnvelope.Builder.newInstance().id(id).at(10).payload(event).build();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.callback.dispatcher.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Request;
+import org.eclipse.edc.connector.spi.callback.CallbackEventBatchRemoteMessage;
+import org.eclipse.edc.spi.security.Vault;
+
+/**
+ * Implementation of {@link GenericHttpDispatcherDelegate} that posts the events of a {@link CallbackEventBatchRemoteMessage}
+ * as a JSON array.
+ */
+public class CallbackEventBatchRemoteMessageDispatcher extends AbstractCallbackEventDispatcher<CallbackEventBatchRemoteMessage> {
+
+    public CallbackEventBatchRemoteMessageDispatcher(ObjectMapper mapper, Vault vault) {
+        super(mapper, vault);
+    }
+
+    @Override
+    public Class<CallbackEventBatchRemoteMessage> getMessageType() {
+        return CallbackEventBatchRemoteMessage.class;
+    }
+
+    @Override
+    public Request buildRequest(CallbackEventBatchRemoteMessage message) {
+        var eventName = message.getEventEnvelopes().get(0).getPayload().name();
+        return buildRequest(message, eventName, message.getAuthKey(), message.getAuthCodeId(), message.getEventEnvelopes());
+    }
+}
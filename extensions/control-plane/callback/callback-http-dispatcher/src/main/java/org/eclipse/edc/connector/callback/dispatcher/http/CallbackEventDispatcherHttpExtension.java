@@ -56,6 +56,7 @@ public class CallbackEventDispatcherHttpExtension implements ServiceExtension {
 
         var baseDispatcher = new GenericHttpRemoteDispatcherImpl(client);
         baseDispatcher.registerDelegate(new CallbackEventRemoteMessageDispatcher(typeManager.getMapper(), vault));
+        baseDispatcher.registerDelegate(new CallbackEventBatchRemoteMessageDispatcher(typeManager.getMapper(), vault));
 
         registry.register(baseDispatcher);
     }
@@ -37,14 +37,16 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.AbstractMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.partitioningBy;
-import static java.util.stream.Collectors.toMap;
 
 public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
 
@@ -63,9 +65,9 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         return transactionContext.execute(() -> {
             try {
                 var statement = assetStatements.createQuery(querySpec);
+                var sql = assetStatements.getSelectAssetsWithPropertiesTemplate(statement);
 
-                return queryExecutor.query(getConnection(), true, this::mapAssetIds, statement.getQueryAsString(), statement.getParameters())
-                        .map(this::findById);
+                return groupByAsset(queryExecutor.query(getConnection(), true, this::mapAssetRow, sql, statement.getParameters()));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -79,26 +81,9 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         try (var connection = getConnection()) {
 
             return transactionContext.execute(() -> {
-                if (!existsById(assetId, connection)) {
-                    return null;
-                }
-
-                var selectAssetByIdSql = assetStatements.getSelectAssetByIdTemplate();
-                var findPropertyByIdSql = assetStatements.getFindPropertyByIdTemplate();
-                try (
-                        var createdAtStream = queryExecutor.query(connection, false, this::mapCreatedAt, selectAssetByIdSql, assetId);
-                        var allPropertiesStream = queryExecutor.query(connection, false, this::mapPropertyResultSet, findPropertyByIdSql, assetId)
-                ) {
-                    var createdAt = createdAtStream.findFirst().orElse(0L);
-                    Map<Boolean, List<SqlPropertyWrapper>> groupedProperties = allPropertiesStream.collect(partitioningBy(SqlPropertyWrapper::isPrivate));
-                    var assetProperties = groupedProperties.get(false).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
-                    var assetPrivateProperties = groupedProperties.get(true).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
-                    return Asset.Builder.newInstance()
-                            .id(assetId)
-                            .properties(assetProperties)
-                            .privateProperties(assetPrivateProperties)
-                            .createdAt(createdAt)
-                            .build();
+                var sql = assetStatements.getSelectAssetWithPropertiesByIdTemplate();
+                try (var assets = groupByAsset(queryExecutor.query(connection, false, this::mapAssetRow, sql, assetId))) {
+                    return assets.findFirst().orElse(null);
                 }
             });
 
@@ -237,14 +222,67 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         });
     }
 
-    private long mapCreatedAt(ResultSet resultSet) throws SQLException {
-        return resultSet.getLong(assetStatements.getCreatedAtColumn());
-    }
-
     private int mapRowCount(ResultSet resultSet) throws SQLException {
         return resultSet.getInt(assetStatements.getCountVariableName());
     }
 
+    private AssetRow mapAssetRow(ResultSet resultSet) throws SQLException, ClassNotFoundException {
+        var assetId = resultSet.getString(assetStatements.getAssetIdColumn());
+        var createdAt = resultSet.getLong(assetStatements.getCreatedAtColumn());
+        var hasProperty = resultSet.getString(assetStatements.getAssetPropertyNameColumn()) != null;
+        return new AssetRow(assetId, createdAt, hasProperty ? mapPropertyResultSet(resultSet) : null);
+    }
+
+    /**
+     * Groups the rows of the same asset, that are expected to be contiguous, into assets. The rows are consumed lazily,
+     * so only one asset at a time is held in memory. Closing the returned stream closes the row stream.
+     */
+    private Stream<Asset> groupByAsset(Stream<AssetRow> rows) {
+        var iterator = rows.iterator();
+        var spliterator = new Spliterators.AbstractSpliterator<Asset>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            private AssetRow next;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Asset> action) {
+                if (next == null && iterator.hasNext()) {
+                    next = iterator.next();
+                }
+                if (next == null) {
+                    return false;
+                }
+
+                var first = next;
+                var properties = new HashMap<String, Object>();
+                var privateProperties = new HashMap<String, Object>();
+                next = null;
+                var row = first;
+                while (true) {
+                    if (row.property() != null) {
+                        var target = row.property().isPrivate() ? privateProperties : properties;
+                        target.put(row.property().getPropertyKey(), row.property().getPropertyValue());
+                    }
+                    if (!iterator.hasNext()) {
+                        break;
+                    }
+                    row = iterator.next();
+                    if (!row.assetId().equals(first.assetId())) {
+                        next = row;
+                        break;
+                    }
+                }
+
+                action.accept(Asset.Builder.newInstance()
+                        .id(first.assetId())
+                        .properties(properties)
+                        .privateProperties(privateProperties)
+                        .createdAt(first.createdAt())
+                        .build());
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(rows::close);
+    }
+
     private SqlPropertyWrapper mapPropertyResultSet(ResultSet resultSet) throws SQLException, ClassNotFoundException {
         var name = resultSet.getString(assetStatements.getAssetPropertyNameColumn());
         var value = resultSet.getString(assetStatements.getAssetPropertyValueColumn());
@@ -279,10 +317,6 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
                 .build();
     }
 
-    private String mapAssetIds(ResultSet resultSet) throws SQLException {
-        return resultSet.getString(assetStatements.getAssetIdColumn());
-    }
-
     private void insertProperties(Asset asset, String assetId, Connection connection) {
         for (var property : asset.getProperties().entrySet()) {
             queryExecutor.execute(connection,
@@ -313,6 +347,9 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         return true;
     }
 
+    private record AssetRow(String assetId, long createdAt, @Nullable SqlPropertyWrapper property) {
+    }
+
     private static class SqlPropertyWrapper {
         private final boolean isPrivate;
         private final AbstractMap.SimpleImmutableEntry<String, Object> property;
@@ -189,5 +189,19 @@ public interface AssetStatements {
      */
     String getSelectAssetByIdTemplate();
 
+    /**
+     * Select single asset by ID together with its properties, one row per property.
+     */
+    String getSelectAssetWithPropertiesByIdTemplate();
+
+    /**
+     * Wraps a query generated by {@link #createQuery(QuerySpec)} into a SELECT statement that returns the matching assets
+     * together with their properties, one row per property, ordered by asset ID. The statement takes the same parameters
+     * as the wrapped query.
+     *
+     * @return the SQL statement
+     */
+    String getSelectAssetsWithPropertiesTemplate(SqlQueryStatement assetQuery);
+
 
 }
@@ -16,6 +16,7 @@
 package org.eclipse.edc.connector.store.sql.assetindex.schema;
 
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
@@ -122,6 +123,56 @@ public class BaseSqlDialectStatements implements AssetStatements {
 
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
+        return createQuery(querySpec, true);
+    }
+
+    @Override
+    public SqlQueryStatement createQuery(List<Criterion> criteria) {
+        // the statement is turned into a count, which cannot be ordered
+        return createQuery(QuerySpec.Builder.newInstance()
+                .filter(criteria)
+                .offset(0)
+                .limit(Integer.MAX_VALUE)
+                .build(), false);
+    }
+
+    @Override
+    public String getSelectAssetByIdTemplate() {
+        return format("SELECT * FROM %s WHERE %s=?", getAssetTable(), getAssetIdColumn());
+    }
+
+    @Override
+    public String getSelectAssetWithPropertiesByIdTemplate() {
+        return format("%s WHERE a.%s = ?", selectWithProperties(getAssetTable()), getAssetIdColumn());
+    }
+
+    @Override
+    public String getSelectAssetsWithPropertiesTemplate(SqlQueryStatement assetQuery) {
+        var query = assetQuery.getQueryAsString().trim();
+        if (query.endsWith(";")) {
+            query = query.substring(0, query.length() - 1);
+        }
+        return format("%s ORDER BY a.%s", selectWithProperties("(" + query + ")"), getAssetIdColumn());
+    }
+
+    /**
+     * Joins the assets selected from the source with their properties.
+     */
+    private String selectWithProperties(String source) {
+        return format("SELECT a.%s, a.%s, p.%s, p.%s, p.%s, p.%s FROM %s AS a LEFT OUTER JOIN %s AS p ON p.%s = a.%s",
+                getAssetIdColumn(),
+                getCreatedAtColumn(),
+                getAssetPropertyNameColumn(),
+                getAssetPropertyValueColumn(),
+                getAssetPropertyTypeColumn(),
+                getAssetPropertyIsPrivateColumn(),
+                source,
+                getAssetPropertyTable(),
+                getPropertyAssetIdFkColumn(),
+                getAssetIdColumn());
+    }
+
+    private SqlQueryStatement createQuery(QuerySpec querySpec, boolean orderById) {
         var criteria = querySpec.getFilterExpression();
         var conditions = criteria.stream().map(SqlConditionExpression::new).collect(Collectors.toList());
         var results = conditions.stream().map(SqlConditionExpression::isValidExpression).collect(Collectors.toList());
@@ -132,12 +183,26 @@ public class BaseSqlDialectStatements implements AssetStatements {
         }
         var subSelects = conditions.stream().map(this::toSubSelect).collect(Collectors.toList());
 
+        // assets are ordered by id only, so a continuation token points after an asset id in ascending order
+        var token = querySpec.getContinuationToken() == null ? null : ContinuationToken.decode(querySpec.getContinuationToken());
+        if (token != null) {
+            token.verify(null, querySpec.getSortOrder());
+            subSelects.add(format("a.%s > ?", getAssetIdColumn()));
+        }
+
         var query = getSelectAssetTemplate() + " " + concatSubSelects(subSelects);
+        if (orderById) {
+            // every page is ordered by asset id, so that the pages are stable and a token can seek after the last one
+            query += format(" ORDER BY a.%s", getAssetIdColumn());
+        }
         var stmt = new SqlQueryStatement(query);
 
         conditions.stream()
                 .flatMap(SqlConditionExpression::toStatementParameter)
                 .forEach(stmt::addParameter);
+        if (token != null) {
+            stmt.addParameter(token.getId());
+        }
 
         stmt.addParameter(querySpec.getLimit());
         stmt.addParameter(querySpec.getOffset());
@@ -145,20 +210,6 @@ public class BaseSqlDialectStatements implements AssetStatements {
         return stmt;
     }
 
-    @Override
-    public SqlQueryStatement createQuery(List<Criterion> criteria) {
-        return createQuery(QuerySpec.Builder.newInstance()
-                .filter(criteria)
-                .offset(0)
-                .limit(Integer.MAX_VALUE)
-                .build());
-    }
-
-    @Override
-    public String getSelectAssetByIdTemplate() {
-        return format("SELECT * FROM %s WHERE %s=?", getAssetTable(), getAssetIdColumn());
-    }
-
     /**
      * Concatenates all SELECT statements on all properties into one big statement, or returns "" if list is empty.
      */
@@ -143,6 +143,16 @@ class PostgresAssetIndexTest extends AssetIndexTestBase {
         assertThatThrownBy(() -> sqlAssetIndex.queryAssets(query)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    @DisplayName("Verify that a page of assets is returned with all their properties and private properties")
+    void query_shouldHydrateAllAssetsOfThePage() {
+        var allAssets = createPrivateAssets(10);
+
+        var assetsFound = sqlAssetIndex.queryAssets(QuerySpec.Builder.newInstance().offset(0).limit(10).build());
+
+        assertThat(assetsFound).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(allAssets);
+    }
+
     @Test
     @DisplayName("Verify that creating an asset that contains duplicate keys in properties and private properties fails")
     void createAsset_withDuplicatePropertyKeys() {
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.store.sql.contractdefinition;
+
+import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.util.collection.ReadThroughCache;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.stream.Stream;
+
+/**
+ * Decorates a {@link ContractDefinitionStore} with a read-through cache of the contract definitions found by id, the
+ * queries are not cached. Changes made by other runtimes have to be propagated with {@link #invalidate(String)}.
+ */
+public class CachingContractDefinitionStore implements ContractDefinitionStore {
+
+    private final ContractDefinitionStore delegate;
+    private final ReadThroughCache<String, ContractDefinition> cache;
+
+    public CachingContractDefinitionStore(ContractDefinitionStore delegate, ReadThroughCache<String, ContractDefinition> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public @NotNull Stream<ContractDefinition> findAll(QuerySpec spec) {
+        return delegate.findAll(spec);
+    }
+
+    @Override
+    public ContractDefinition findById(String definitionId) {
+        return cache.get(definitionId, delegate::findById);
+    }
+
+    @Override
+    public StoreResult<Void> save(ContractDefinition definition) {
+        return delegate.save(definition);
+    }
+
+    @Override
+    public StoreResult<Void> update(ContractDefinition definition) {
+        try {
+            return delegate.update(definition);
+        } finally {
+            cache.invalidate(definition.getId());
+        }
+    }
+
+    @Override
+    public StoreResult<ContractDefinition> deleteById(String id) {
+        try {
+            return delegate.deleteById(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    /**
+     * Removes the cached contract definition.
+     */
+    public void invalidate(String definitionId) {
+        cache.invalidate(definitionId);
+    }
+}
@@ -16,20 +16,30 @@
 package org.eclipse.edc.connector.store.sql.contractdefinition;
 
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.eclipse.edc.connector.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.store.sql.contractdefinition.schema.ContractDefinitionStatements;
 import org.eclipse.edc.connector.store.sql.contractdefinition.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.cache.CacheInvalidationChannel;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.cache.StoreCacheFactory;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Provides({ ContractDefinitionStore.class })
 @Extension(value = "SQL contract definition store")
 public class SqlContractDefinitionStoreExtension implements ServiceExtension {
@@ -39,6 +49,13 @@ public class SqlContractDefinitionStoreExtension implements ServiceExtension {
      */
     @Setting(required = true)
     private static final String DATASOURCE_SETTING_NAME = "edc.datasource.contractdefinition.name";
+    private static final int DEFAULT_CACHE_SIZE = 0;
+    @Setting(value = "Maximum number of contract definitions cached by id, 0 disables the cache", type = "int", defaultValue = DEFAULT_CACHE_SIZE + "")
+    private static final String CACHE_SIZE = "edc.contract.definition.cache.size";
+    private static final long DEFAULT_CACHE_TTL = 60;
+    @Setting(value = "Time in seconds after which a cached contract definition is reloaded", type = "long", defaultValue = DEFAULT_CACHE_TTL + "")
+    private static final String CACHE_TTL = "edc.contract.definition.cache.ttl";
+    private static final String CACHE_NAME = "contract-definition";
 
     @Inject
     private DataSourceRegistry dataSourceRegistry;
@@ -55,6 +72,18 @@ public class SqlContractDefinitionStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private CacheInvalidationChannel invalidationChannel;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var dataSourceName = context.getConfig().getString(DATASOURCE_SETTING_NAME);
@@ -62,7 +91,15 @@ public class SqlContractDefinitionStoreExtension implements ServiceExtension {
         var sqlContractDefinitionStore = new SqlContractDefinitionStore(dataSourceRegistry, dataSourceName, transactionContext,
                 getStatementImpl(), typeManager.getMapper(), queryExecutor);
 
-        context.registerService(ContractDefinitionStore.class, sqlContractDefinitionStore);
+        var cacheSize = context.getSetting(CACHE_SIZE, DEFAULT_CACHE_SIZE);
+        if (cacheSize > 0) {
+            var cacheTtl = Duration.ofSeconds(context.getSetting(CACHE_TTL, DEFAULT_CACHE_TTL));
+            var cacheFactory = new StoreCacheFactory(eventRouter, clock, invalidationChannel, meterRegistry != null ? meterRegistry : Metrics.globalRegistry);
+            var cache = cacheFactory.<ContractDefinition, ContractDefinitionEvent>create(CACHE_NAME, cacheSize, cacheTtl, ContractDefinitionEvent.class, ContractDefinitionEvent::getContractDefinitionId);
+            context.registerService(ContractDefinitionStore.class, new CachingContractDefinitionStore(sqlContractDefinitionStore, cache));
+        } else {
+            context.registerService(ContractDefinitionStore.class, sqlContractDefinitionStore);
+        }
     }
 
     private ContractDefinitionStatements getStatementImpl() {
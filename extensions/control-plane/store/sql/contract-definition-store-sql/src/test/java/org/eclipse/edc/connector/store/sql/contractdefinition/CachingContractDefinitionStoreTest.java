@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.store.sql.contractdefinition;
+
+import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.util.collection.ReadThroughCache;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.contract.spi.testfixtures.offer.store.TestFunctions.createContractDefinition;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingContractDefinitionStoreTest {
+
+    private final ContractDefinitionStore delegate = mock(ContractDefinitionStore.class);
+    private final ReadThroughCache<String, ContractDefinition> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1), Clock.systemUTC());
+    private final CachingContractDefinitionStore store = new CachingContractDefinitionStore(delegate, cache);
+
+    @Test
+    void findById_shouldQueryDelegateOnce() {
+        var definition = createContractDefinition("id");
+        when(delegate.findById("id")).thenReturn(definition);
+
+        assertThat(store.findById("id")).isSameAs(definition);
+        assertThat(store.findById("id")).isSameAs(definition);
+
+        verify(delegate, times(1)).findById("id");
+        assertThat(cache.hits()).isEqualTo(1);
+    }
+
+    @Test
+    void update_shouldInvalidateCachedDefinition() {
+        var definition = createContractDefinition("id");
+        var updated = createContractDefinition("id");
+        when(delegate.findById("id")).thenReturn(definition).thenReturn(updated);
+        when(delegate.update(updated)).thenReturn(StoreResult.success());
+        store.findById("id");
+
+        store.update(updated);
+
+        assertThat(store.findById("id")).isSameAs(updated);
+    }
+
+    @Test
+    void deleteById_shouldInvalidateCachedDefinition() {
+        var definition = createContractDefinition("id");
+        when(delegate.findById("id")).thenReturn(definition).thenReturn(null);
+        when(delegate.deleteById("id")).thenReturn(StoreResult.success(definition));
+        store.findById("id");
+
+        store.deleteById("id");
+
+        assertThat(store.findById("id")).isNull();
+    }
+
+    @Test
+    void invalidate_shouldReloadDefinition() {
+        when(delegate.findById("id")).thenReturn(createContractDefinition("id"));
+        store.findById("id");
+
+        store.invalidate("id");
+        store.findById("id");
+
+        verify(delegate, times(2)).findById("id");
+    }
+}
@@ -38,6 +38,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -180,11 +181,12 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
             try (
                     var connection = getConnection();
-                    var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
+                    var stream = queryExecutor.query(connection, false, contractNegotiationWithAgreementMapper(connection), statements.getSelectForLeaseTemplate(statement.getQueryAsString()), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
-                return negotiations;
+                var ids = negotiations.stream().map(ContractNegotiation::getId).collect(toList());
+                var leased = new HashSet<>(leaseContext.withConnection(connection).acquireLeases(ids));
+                return negotiations.stream().filter(negotiation -> leased.contains(negotiation.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
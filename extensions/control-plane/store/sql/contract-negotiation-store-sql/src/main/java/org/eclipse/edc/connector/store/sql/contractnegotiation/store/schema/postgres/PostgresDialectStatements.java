@@ -21,6 +21,8 @@ import org.eclipse.edc.sql.dialect.PostgresDialect;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 import org.eclipse.edc.sql.translation.TranslationMapping;
 
+import static java.lang.String.format;
+
 /**
  * Concrete implementation of the {@link ContractNegotiationStatements} for Postgres. Uses a mapping tree
  * ({@link TranslationMapping} to generate queries.
@@ -49,4 +51,25 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
     protected String getFormatJsonOperator() {
         return PostgresDialect.getJsonCastOperator();
     }
+
+    @Override
+    public String getSelectForLeaseTemplate(String selectQuery) {
+        return format("%s FOR UPDATE OF %s SKIP LOCKED;", selectQuery.substring(0, selectQuery.lastIndexOf(';')), getContractNegotiationTable());
+    }
+
+    @Override
+    public String getDeleteExpiredLeasesTemplate() {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s = ANY(?)) AND ? > (%s + %s);",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    @Override
+    public String getAcquireLeasesTemplate() {
+        return format("WITH leased AS (UPDATE %s SET %s = l.lease_id FROM unnest(?, ?) AS l(entity_id, lease_id) WHERE %s = l.entity_id AND %s.%s IS NULL RETURNING %s, %s.%s), " +
+                        "leases AS (INSERT INTO %s (%s, %s, %s, %s) SELECT %s, ?, ?, ? FROM leased) " +
+                        "SELECT %s FROM leased;",
+                getContractNegotiationTable(), getLeaseIdColumn(), getIdColumn(), getContractNegotiationTable(), getLeaseIdColumn(), getIdColumn(), getContractNegotiationTable(), getLeaseIdColumn(),
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(), getLeaseIdColumn(),
+                getIdColumn());
+    }
 }
@@ -39,7 +39,7 @@ class ContractNegotiationSqlQueryStatementTest {
         var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new ContractNegotiationMapping(postresStatements));
 
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE counterparty_id = ? LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE counterparty_id = ? ORDER BY id ASC LIMIT ? OFFSET ?;");
         assertThat(t.getParameters()).containsOnly("testid1", 50, 0);
     }
 
@@ -49,7 +49,7 @@ class ContractNegotiationSqlQueryStatementTest {
         var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new ContractNegotiationMapping(postresStatements));
 
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE counterparty_id IN (?,?,?) LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE counterparty_id IN (?,?,?) ORDER BY id ASC LIMIT ? OFFSET ?;");
         assertThat(t.getParameters()).containsExactlyInAnyOrder("id1", "id2", "id3", 50, 0);
     }
 
@@ -59,7 +59,7 @@ class ContractNegotiationSqlQueryStatementTest {
         var criterion2 = new Criterion("stateCount", "=", "4");
         var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion1, criterion2), new ContractNegotiationMapping(postresStatements));
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE counterparty_id IN (?,?,?) AND state_count = ? LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE counterparty_id IN (?,?,?) AND state_count = ? ORDER BY id ASC LIMIT ? OFFSET ?;");
         assertThat(t.getParameters()).containsExactlyInAnyOrder("id1", "id2", "id3", "4", 50, 0);
     }
 
@@ -68,7 +68,7 @@ class ContractNegotiationSqlQueryStatementTest {
         var criterion = new Criterion("contractAgreement.providerId", "in", List.of("id1", "id2", "id3"));
         var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new ContractNegotiationMapping(postresStatements));
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE provider_agent_id IN (?,?,?) LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE provider_agent_id IN (?,?,?) ORDER BY id ASC LIMIT ? OFFSET ?;");
         assertThat(t.getParameters()).containsExactlyInAnyOrder("id1", "id2", "id3", 50, 0);
     }
 
@@ -77,7 +77,7 @@ class ContractNegotiationSqlQueryStatementTest {
         var criterion = new Criterion("contractAgreement.policy.assignee", "=", "testassignee");
         var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new ContractNegotiationMapping(postresStatements));
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE policy ->> 'assignee' = ? LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE policy ->> 'assignee' = ? ORDER BY id ASC LIMIT ? OFFSET ?;");
         assertThat(t.getParameters()).containsOnly("testassignee", 50, 0);
     }
 
@@ -86,7 +86,7 @@ class ContractNegotiationSqlQueryStatementTest {
         var criterion = new Criterion("contractAgreement.policy.prohibitions.constraints", "in", List.of("yomama"));
         var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new ContractNegotiationMapping(postresStatements));
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE policy -> 'prohibitions' ->> 'constraints' in (?) LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE policy -> 'prohibitions' ->> 'constraints' in (?) ORDER BY id ASC LIMIT ? OFFSET ?;");
         assertThat(t.getParameters()).containsOnly("yomama", 50, 0);
     }
 
@@ -23,6 +23,8 @@ dependencies {
     api(project(":spi:common:transaction-spi"))
     implementation(project(":spi:common:transaction-datasource-spi"))
     implementation(project(":extensions:common:sql:sql-core"))
+    implementation(project(":core:common:util"))
+    implementation(libs.micrometer)
 
 
     testImplementation(project(":core:common:junit"))
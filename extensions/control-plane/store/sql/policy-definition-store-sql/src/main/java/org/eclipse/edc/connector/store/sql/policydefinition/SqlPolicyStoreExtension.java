@@ -14,7 +14,12 @@
 
 package org.eclipse.edc.connector.store.sql.policydefinition;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.connector.store.sql.policydefinition.store.CachingPolicyDefinitionStore;
 import org.eclipse.edc.connector.store.sql.policydefinition.store.SqlPolicyDefinitionStore;
 import org.eclipse.edc.connector.store.sql.policydefinition.store.schema.SqlPolicyStoreStatements;
 import org.eclipse.edc.connector.store.sql.policydefinition.store.schema.postgres.PostgresDialectStatements;
@@ -22,19 +27,32 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.cache.CacheInvalidationChannel;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.cache.StoreCacheFactory;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Provides(PolicyDefinitionStore.class)
 @Extension("SQL policy store")
 public class SqlPolicyStoreExtension implements ServiceExtension {
 
     @Setting(required = true)
     private static final String DATASOURCE_SETTING_NAME = "edc.datasource.policy.name";
+    private static final int DEFAULT_CACHE_SIZE = 0;
+    @Setting(value = "Maximum number of policy definitions cached by id, 0 disables the cache", type = "int", defaultValue = DEFAULT_CACHE_SIZE + "")
+    private static final String CACHE_SIZE = "edc.policy.definition.cache.size";
+    private static final long DEFAULT_CACHE_TTL = 60;
+    @Setting(value = "Time in seconds after which a cached policy definition is reloaded", type = "long", defaultValue = DEFAULT_CACHE_TTL + "")
+    private static final String CACHE_TTL = "edc.policy.definition.cache.ttl";
+    private static final String CACHE_NAME = "policy-definition";
 
     @Inject
     private DataSourceRegistry dataSourceRegistry;
@@ -51,12 +69,32 @@ public class SqlPolicyStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private CacheInvalidationChannel invalidationChannel;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var sqlPolicyStore = new SqlPolicyDefinitionStore(dataSourceRegistry, getDataSourceName(context), transactionContext,
                 typeManager.getMapper(), getStatementImpl(), queryExecutor);
 
-        context.registerService(PolicyDefinitionStore.class, sqlPolicyStore);
+        var cacheSize = context.getSetting(CACHE_SIZE, DEFAULT_CACHE_SIZE);
+        if (cacheSize > 0) {
+            var cacheTtl = Duration.ofSeconds(context.getSetting(CACHE_TTL, DEFAULT_CACHE_TTL));
+            var cacheFactory = new StoreCacheFactory(eventRouter, clock, invalidationChannel, meterRegistry != null ? meterRegistry : Metrics.globalRegistry);
+            var cache = cacheFactory.<PolicyDefinition, PolicyDefinitionEvent>create(CACHE_NAME, cacheSize, cacheTtl, PolicyDefinitionEvent.class, PolicyDefinitionEvent::getPolicyDefinitionId);
+            context.registerService(PolicyDefinitionStore.class, new CachingPolicyDefinitionStore(sqlPolicyStore, cache));
+        } else {
+            context.registerService(PolicyDefinitionStore.class, sqlPolicyStore);
+        }
     }
 
     /**
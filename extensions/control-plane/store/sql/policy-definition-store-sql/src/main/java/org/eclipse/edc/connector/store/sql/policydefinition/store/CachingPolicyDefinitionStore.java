@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.store.sql.policydefinition.store;
+
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.util.collection.ReadThroughCache;
+
+import java.util.stream.Stream;
+
+/**
+ * Decorates a {@link PolicyDefinitionStore} with a read-through cache of the policy definitions found by id, the other
+ * queries are not cached. The writes through this store invalidate the cached definitions, changes made by other
+ * runtimes have to be propagated with {@link #invalidate(String)}.
+ */
+public class CachingPolicyDefinitionStore implements PolicyDefinitionStore {
+
+    private final PolicyDefinitionStore delegate;
+    private final ReadThroughCache<String, PolicyDefinition> cache;
+
+    public CachingPolicyDefinitionStore(PolicyDefinitionStore delegate, ReadThroughCache<String, PolicyDefinition> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public PolicyDefinition findById(String policyId) {
+        return cache.get(policyId, delegate::findById);
+    }
+
+    @Override
+    public Stream<PolicyDefinition> findAll(QuerySpec spec) {
+        return delegate.findAll(spec);
+    }
+
+    @Override
+    public StoreResult<PolicyDefinition> create(PolicyDefinition policy) {
+        return delegate.create(policy);
+    }
+
+    @Override
+    public StoreResult<PolicyDefinition> update(PolicyDefinition policy) {
+        try {
+            return delegate.update(policy);
+        } finally {
+            cache.invalidate(policy.getUid());
+        }
+    }
+
+    @Override
+    public StoreResult<PolicyDefinition> delete(String policyId) {
+        try {
+            return delegate.delete(policyId);
+        } finally {
+            cache.invalidate(policyId);
+        }
+    }
+
+    @Override
+    public void reload() {
+        delegate.reload();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Removes the cached policy definition.
+     */
+    public void invalidate(String policyId) {
+        cache.invalidate(policyId);
+    }
+}
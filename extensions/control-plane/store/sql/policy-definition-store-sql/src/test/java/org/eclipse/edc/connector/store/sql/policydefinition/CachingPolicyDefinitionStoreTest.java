@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.store.sql.policydefinition;
+
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.connector.store.sql.policydefinition.store.CachingPolicyDefinitionStore;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.util.collection.ReadThroughCache;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingPolicyDefinitionStoreTest {
+
+    private final PolicyDefinitionStore delegate = mock(PolicyDefinitionStore.class);
+    private final ReadThroughCache<String, PolicyDefinition> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1), Clock.systemUTC());
+    private final CachingPolicyDefinitionStore store = new CachingPolicyDefinitionStore(delegate, cache);
+
+    @Test
+    void findById_shouldQueryDelegateOnce() {
+        var definition = definition("id");
+        when(delegate.findById("id")).thenReturn(definition);
+
+        assertThat(store.findById("id")).isSameAs(definition);
+        assertThat(store.findById("id")).isSameAs(definition);
+
+        verify(delegate, times(1)).findById("id");
+        assertThat(cache.hits()).isEqualTo(1);
+    }
+
+    @Test
+    void update_shouldInvalidateCachedDefinition() {
+        var definition = definition("id");
+        var updated = definition("id");
+        when(delegate.findById("id")).thenReturn(definition).thenReturn(updated);
+        when(delegate.update(updated)).thenReturn(StoreResult.success(updated));
+        store.findById("id");
+
+        store.update(updated);
+
+        assertThat(store.findById("id")).isSameAs(updated);
+    }
+
+    @Test
+    void invalidate_shouldReloadDefinition() {
+        when(delegate.findById("id")).thenReturn(definition("id"));
+        store.findById("id");
+
+        store.invalidate("id");
+        store.findById("id");
+
+        verify(delegate, times(2)).findById("id");
+    }
+
+    private PolicyDefinition definition(String id) {
+        return PolicyDefinition.Builder.newInstance().id(id).policy(Policy.Builder.newInstance().build()).build();
+    }
+}
@@ -39,6 +39,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -79,11 +80,12 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
 
             try (
                     var connection = getConnection();
-                    var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
+                    var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statements.getSelectForLeaseTemplate(statement.getQueryAsString()), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
-                return transferProcesses;
+                var ids = transferProcesses.stream().map(TransferProcess::getId).collect(toList());
+                var leased = new HashSet<>(leaseContext.withConnection(connection).acquireLeases(ids));
+                return transferProcesses.stream().filter(transferProcess -> leased.contains(transferProcess.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -111,12 +113,15 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
 
     @Override
     public void updateOrCreate(TransferProcess process) {
-        Objects.requireNonNull(process.getId(), "TransferProcesses must have an ID!");
-        if (process.getDataRequest() == null) {
-            throw new IllegalArgumentException("Cannot store TransferProcess without a DataRequest");
-        }
+        validate(process);
         transactionContext.execute(() -> {
             try (var conn = getConnection()) {
+                if (statements.getUpsertTransferProcessTemplate() != null) {
+                    leaseContext.by(leaseHolderName).withConnection(conn).breakLease(process.getId());
+                    upsert(conn, List.of(process));
+                    return;
+                }
+
                 var existing = findByIdInternal(conn, process.getId());
                 if (existing != null) {
                     leaseContext.by(leaseHolderName).withConnection(conn).breakLease(process.getId());
@@ -130,6 +135,25 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    @Override
+    public void updateAll(List<TransferProcess> processes) {
+        if (statements.getUpsertTransferProcessTemplate() == null) {
+            transactionContext.execute(() -> processes.forEach(this::updateOrCreate));
+            return;
+        }
+
+        processes.forEach(this::validate);
+        transactionContext.execute(() -> {
+            try (var conn = getConnection()) {
+                var ids = processes.stream().map(TransferProcess::getId).collect(toList());
+                leaseContext.by(leaseHolderName).withConnection(conn).breakLeases(ids);
+                upsert(conn, processes);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public void delete(String processId) {
 
@@ -213,8 +237,11 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     private void updateDataRequest(Connection conn, DataRequest dataRequest, String existingDataRequestId) {
         var updateDrStmt = statements.getUpdateDataRequestTemplate();
 
-        queryExecutor.execute(conn, updateDrStmt,
-                dataRequest.getId(),
+        queryExecutor.execute(conn, updateDrStmt, updateDataRequestArguments(dataRequest, existingDataRequestId));
+    }
+
+    private Object[] updateDataRequestArguments(DataRequest dataRequest, String key) {
+        return new Object[]{ dataRequest.getId(),
                 dataRequest.getProcessId(),
                 dataRequest.getConnectorAddress(),
                 dataRequest.getProtocol(),
@@ -224,7 +251,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 toJson(dataRequest.getDataDestination()),
                 dataRequest.isManagedResources(),
                 toJson(dataRequest.getProperties()),
-                existingDataRequestId);
+                key };
     }
 
     /**
@@ -243,10 +270,43 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         return format("Expected to find %d items, but found %d", expectedSize, actualSize);
     }
 
+    private void validate(TransferProcess process) {
+        Objects.requireNonNull(process.getId(), "TransferProcesses must have an ID!");
+        if (process.getDataRequest() == null) {
+            throw new IllegalArgumentException("Cannot store TransferProcess without a DataRequest");
+        }
+    }
+
+    /**
+     * Inserts or updates the transfer processes and their data requests with two batched statements.
+     */
+    private void upsert(Connection conn, List<TransferProcess> processes) {
+        queryExecutor.executeBatch(conn, statements.getUpsertTransferProcessTemplate(),
+                processes.stream().map(this::insertArguments).collect(toList()));
+
+        var dataRequestArguments = processes.stream()
+                .map(process -> Stream.concat(
+                                Arrays.stream(updateDataRequestArguments(process.getDataRequest(), process.getId())),
+                                Arrays.stream(insertDataRequestArguments(process.getId(), process.getDataRequest())))
+                        .toArray())
+                .collect(toList());
+        queryExecutor.executeBatch(conn, statements.getUpsertDataRequestTemplate(), dataRequestArguments);
+    }
+
     private void insert(Connection conn, TransferProcess process) {
         // insert TransferProcess
         var insertTpStatement = statements.getInsertStatement();
-        queryExecutor.execute(conn, insertTpStatement, process.getId(),
+        queryExecutor.execute(conn, insertTpStatement, insertArguments(process));
+
+        //insert DataRequest
+        var dr = process.getDataRequest();
+        if (dr != null) {
+            insertDataRequest(process.getId(), dr, conn);
+        }
+    }
+
+    private Object[] insertArguments(TransferProcess process) {
+        return new Object[]{ process.getId(),
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
@@ -260,19 +320,16 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 process.getType().toString(),
                 toJson(process.getDeprovisionedResources()),
                 toJson(process.getPrivateProperties()),
-                toJson(process.getCallbackAddresses()));
-
-        //insert DataRequest
-        var dr = process.getDataRequest();
-        if (dr != null) {
-            insertDataRequest(process.getId(), dr, conn);
-        }
+                toJson(process.getCallbackAddresses()) };
     }
 
     private void insertDataRequest(String processId, DataRequest dr, Connection conn) {
         var insertDrStmt = statements.getInsertDataRequestTemplate();
-        queryExecutor.execute(conn, insertDrStmt,
-                dr.getId(),
+        queryExecutor.execute(conn, insertDrStmt, insertDataRequestArguments(processId, dr));
+    }
+
+    private Object[] insertDataRequestArguments(String processId, DataRequest dr) {
+        return new Object[]{ dr.getId(),
                 dr.getProcessId(),
                 dr.getConnectorAddress(),
                 dr.getConnectorId(),
@@ -282,7 +339,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 toJson(dr.getProperties()),
                 processId,
                 dr.getProtocol(),
-                dr.isManagedResources());
+                dr.isManagedResources() };
     }
 
     private TransferProcess mapTransferProcess(ResultSet resultSet) throws SQLException {
@@ -19,6 +19,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.dialect.BaseSqlDialect;
 import org.eclipse.edc.sql.lease.LeaseStatements;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Statement templates and SQL table+column names required for the TransferProcessStore
@@ -40,6 +41,26 @@ public interface TransferProcessStoreStatements extends LeaseStatements {
 
     String getUpdateDataRequestTemplate();
 
+    /**
+     * Returns the statement that inserts a transfer process, or updates it if it already exists, or null if the dialect
+     * does not support it. The parameters are the same as the ones of {@link #getInsertStatement()}.
+     */
+    @Nullable
+    default String getUpsertTransferProcessTemplate() {
+        return null;
+    }
+
+    /**
+     * Returns the statement that updates the data request of a transfer process, or inserts it if it does not exist, or
+     * null if the dialect does not support it. The parameters are the ones of {@link #getUpdateDataRequestTemplate()}
+     * where the data request id is replaced by the transfer process id, followed by the ones of
+     * {@link #getInsertDataRequestTemplate()}.
+     */
+    @Nullable
+    default String getUpsertDataRequestTemplate() {
+        return null;
+    }
+
     default String getIdColumn() {
         return "transferprocess_id";
     }
@@ -51,4 +51,66 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         }
         return super.createQuery(querySpec);
     }
+
+    @Override
+    public String getSelectForLeaseTemplate(String selectQuery) {
+        return format("%s FOR UPDATE OF %s SKIP LOCKED;", selectQuery.substring(0, selectQuery.lastIndexOf(';')), getTransferProcessTableName());
+    }
+
+    @Override
+    public String getDeleteExpiredLeasesTemplate() {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s = ANY(?)) AND ? > (%s + %s);",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    @Override
+    public String getAcquireLeasesTemplate() {
+        return format("WITH leased AS (UPDATE %s SET %s = l.lease_id FROM unnest(?, ?) AS l(entity_id, lease_id) WHERE %s = l.entity_id AND %s.%s IS NULL RETURNING %s, %s.%s), " +
+                        "leases AS (INSERT INTO %s (%s, %s, %s, %s) SELECT %s, ?, ?, ? FROM leased) " +
+                        "SELECT %s FROM leased;",
+                getTransferProcessTableName(), getLeaseIdColumn(), getIdColumn(), getTransferProcessTableName(), getLeaseIdColumn(), getIdColumn(), getTransferProcessTableName(), getLeaseIdColumn(),
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(), getLeaseIdColumn(),
+                getIdColumn());
+    }
+
+    @Override
+    public String getFindLeasedByOthersTemplate() {
+        return format("SELECT %s FROM %s JOIN %s l ON %s.%s = l.%s WHERE %s = ANY(?) AND l.%s <> ?;",
+                getIdColumn(), getTransferProcessTableName(), getLeaseTableName(), getTransferProcessTableName(), getLeaseIdColumn(), getLeaseIdColumn(),
+                getIdColumn(), getLeasedByColumn());
+    }
+
+    @Override
+    public String getDeleteLeasesTemplate() {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s = ANY(?));",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getUpsertTransferProcessTemplate() {
+        var insert = getInsertStatement();
+        return format("%s ON CONFLICT (%s) DO UPDATE SET %s = EXCLUDED.%s, %s = EXCLUDED.%s, %s = EXCLUDED.%s, %s = EXCLUDED.%s, %s = EXCLUDED.%s, " +
+                        "%s = EXCLUDED.%s, %s = EXCLUDED.%s, %s = EXCLUDED.%s, %s = EXCLUDED.%s, %s = EXCLUDED.%s, %s = EXCLUDED.%s;",
+                insert.substring(0, insert.lastIndexOf(';')), getIdColumn(),
+                getStateColumn(), getStateColumn(), getStateCountColumn(), getStateCountColumn(), getStateTimestampColumn(), getStateTimestampColumn(),
+                getTraceContextColumn(), getTraceContextColumn(), getErrorDetailColumn(), getErrorDetailColumn(),
+                getResourceManifestColumn(), getResourceManifestColumn(), getProvisionedResourcesetColumn(), getProvisionedResourcesetColumn(),
+                getContentDataAddressColumn(), getContentDataAddressColumn(), getDeprovisionedResourcesColumn(), getDeprovisionedResourcesColumn(),
+                getCallbackAddressesColumn(), getCallbackAddressesColumn(), getUpdatedAtColumn(), getUpdatedAtColumn());
+    }
+
+    @Override
+    public String getUpsertDataRequestTemplate() {
+        return format("WITH updated AS (UPDATE %s SET %s=?, %s=?, %s=?, %s=?, %s=?, %s=?, %s=?, %s=?%s, %s=?, %s=?%s WHERE %s=? RETURNING 1) " +
+                        "INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s) " +
+                        "SELECT ?, ?, ?, ?, ?, ?, ?%s, ?%s, ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM updated);",
+                getDataRequestTable(),
+                getDataRequestIdColumn(), getProcessIdColumn(), getConnectorAddressColumn(), getProtocolColumn(), getConnectorIdColumn(), getAssetIdColumn(), getContractIdColumn(),
+                getDataDestinationColumn(), getFormatAsJsonOperator(), getManagedResourcesColumn(), getDataRequestPropertiesColumn(), getFormatAsJsonOperator(),
+                getTransferProcessIdFkColumn(),
+                getDataRequestTable(), getDataRequestIdColumn(), getProcessIdColumn(), getConnectorAddressColumn(), getConnectorIdColumn(),
+                getAssetIdColumn(), getContractIdColumn(), getDataDestinationColumn(),
+                getDataRequestPropertiesColumn(), getTransferProcessIdFkColumn(), getProtocolColumn(), getManagedResourcesColumn(),
+                getFormatAsJsonOperator(), getFormatAsJsonOperator());
+    }
 }
@@ -30,6 +30,11 @@ public interface TransferDataPlaneConfig {
     @Setting(value = "Alias of public key used for verifying the tokens, retrieved from the vault", defaultValue = "A random EC public key")
     String TOKEN_VERIFIER_PUBLIC_KEY_ALIAS = "edc.transfer.proxy.token.verifier.publickey.alias";
 
+    long DEFAULT_TOKEN_VALIDATION_CACHE_TTL_SECONDS = 0;
+    @Setting(value = "Maximum time (in seconds) during which the successful validation of a token sent by the Data Plane is reused, bounded by the token expiration. 0 disables the cache",
+            type = "long", defaultValue = DEFAULT_TOKEN_VALIDATION_CACHE_TTL_SECONDS + "")
+    String TOKEN_VALIDATION_CACHE_TTL_SECONDS = "edc.transfer.proxy.token.validation.cache.ttl";
+
     String DEFAULT_DPF_SELECTOR_STRATEGY = "random";
     @Setting(value = "Strategy for Data Plane instance selection", defaultValue = DEFAULT_DPF_SELECTOR_STRATEGY)
     String DPF_SELECTOR_STRATEGY = "edc.transfer.client.selector.strategy";
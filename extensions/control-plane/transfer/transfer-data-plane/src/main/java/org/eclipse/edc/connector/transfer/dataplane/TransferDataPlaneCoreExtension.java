@@ -16,8 +16,8 @@
 package org.eclipse.edc.connector.transfer.dataplane;
 
 import org.eclipse.edc.connector.api.control.configuration.ControlApiConfiguration;
-import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.dataplane.spi.client.DataPlaneClient;
+import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.transfer.dataplane.api.ConsumerPullTransferTokenValidationApiController;
 import org.eclipse.edc.connector.transfer.dataplane.flow.ConsumerPullTransferDataFlowController;
 import org.eclipse.edc.connector.transfer.dataplane.flow.ProviderPushTransferDataFlowController;
@@ -46,8 +46,11 @@ import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.edc.web.spi.WebService;
 
 import java.time.Clock;
+import java.time.Duration;
 
+import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.DEFAULT_TOKEN_VALIDATION_CACHE_TTL_SECONDS;
 import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.DEFAULT_TOKEN_VALIDITY_SECONDS;
+import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_VALIDATION_CACHE_TTL_SECONDS;
 import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_VALIDITY_SECONDS;
 
 @Extension(value = TransferDataPlaneCoreExtension.NAME)
@@ -56,7 +59,7 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
     public static final String NAME = "Transfer Data Plane Core";
 
     @Inject
-    private ContractNegotiationStore contractNegotiationStore;
+    private PolicyArchive policyArchive;
 
     @Inject
     private WebService webService;
@@ -98,7 +101,7 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var tokenValidationService = createTokenValidationService();
+        var tokenValidationService = createTokenValidationService(context.getConfig());
         webService.registerResource(controlApiConfiguration.getContextAlias(), new ConsumerPullTransferTokenValidationApiController(tokenValidationService, dataEncrypter, typeManager));
 
         var proxyReferenceService = createDataProxyReferenceService(context.getConfig(), typeManager);
@@ -122,10 +125,11 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
     /**
      * Service in charge of validating access token sent by the Data Plane.
      */
-    private TokenValidationService createTokenValidationService() {
+    private TokenValidationService createTokenValidationService(Config config) {
         var registry = new TokenValidationRulesRegistryImpl();
-        registry.addRule(new ContractValidationRule(contractNegotiationStore, clock));
+        registry.addRule(new ContractValidationRule(policyArchive, clock));
         registry.addRule(new ExpirationDateValidationRule(clock));
-        return new TokenValidationServiceImpl(id -> keyPairWrapper.get().getPublic(), registry);
+        var cacheTtl = config.getLong(TOKEN_VALIDATION_CACHE_TTL_SECONDS, DEFAULT_TOKEN_VALIDATION_CACHE_TTL_SECONDS);
+        return new TokenValidationServiceImpl(id -> keyPairWrapper.get().getPublic(), registry, clock, Duration.ofSeconds(cacheTtl));
     }
 }
@@ -15,7 +15,7 @@
 
 package org.eclipse.edc.connector.transfer.dataplane.validation;
 
-import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.jwt.spi.TokenValidationRule;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.result.Result;
@@ -32,11 +32,11 @@ import static org.eclipse.edc.connector.transfer.dataplane.spi.TransferDataPlane
  */
 public class ContractValidationRule implements TokenValidationRule {
 
-    private final ContractNegotiationStore contractNegotiationStore;
+    private final PolicyArchive policyArchive;
     private final Clock clock;
 
-    public ContractValidationRule(ContractNegotiationStore contractNegotiationStore, Clock clock) {
-        this.contractNegotiationStore = contractNegotiationStore;
+    public ContractValidationRule(PolicyArchive policyArchive, Clock clock) {
+        this.policyArchive = policyArchive;
         this.clock = clock;
     }
 
@@ -48,8 +48,8 @@ public class ContractValidationRule implements TokenValidationRule {
             return Result.failure(String.format("Missing contract id claim `%s`", CONTRACT_ID));
         }
 
-        var contractAgreement = contractNegotiationStore.findContractAgreement(contractId);
-        if (contractAgreement == null) {
+        var policy = policyArchive.findPolicyForContract(contractId);
+        if (policy == null) {
             return Result.failure("No contract agreement found for id: " + contractId);
         }
 
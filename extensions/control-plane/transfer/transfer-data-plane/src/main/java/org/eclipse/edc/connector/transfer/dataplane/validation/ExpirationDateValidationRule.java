@@ -50,4 +50,9 @@ public class ExpirationDateValidationRule implements TokenValidationRule {
 
         return Result.success();
     }
+
+    @Override
+    public boolean isTimeDependent() {
+        return true;
+    }
 }
@@ -18,8 +18,8 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.jwk.KeyUse;
 import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
 import org.eclipse.edc.connector.api.control.configuration.ControlApiConfiguration;
-import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.dataplane.spi.client.DataPlaneClient;
+import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.transfer.dataplane.api.ConsumerPullTransferTokenValidationApiController;
 import org.eclipse.edc.connector.transfer.dataplane.flow.ConsumerPullTransferDataFlowController;
 import org.eclipse.edc.connector.transfer.dataplane.flow.ProviderPushTransferDataFlowController;
@@ -75,7 +75,7 @@ class TransferDataPlaneCoreExtensionTest {
         context.registerService(PrivateKeyResolver.class, mock(PrivateKeyResolver.class));
         context.registerService(Vault.class, mock(Vault.class));
         context.registerService(WebService.class, webServiceMock);
-        context.registerService(ContractNegotiationStore.class, mock(ContractNegotiationStore.class));
+        context.registerService(PolicyArchive.class, mock(PolicyArchive.class));
         context.registerService(RemoteMessageDispatcherRegistry.class, mock(RemoteMessageDispatcherRegistry.class));
         context.registerService(DataFlowManager.class, dataFlowManagerMock);
         context.registerService(DataEncrypter.class, mock(DataEncrypter.class));
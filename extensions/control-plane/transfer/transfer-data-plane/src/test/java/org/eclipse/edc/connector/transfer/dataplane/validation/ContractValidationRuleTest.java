@@ -14,8 +14,7 @@
 
 package org.eclipse.edc.connector.transfer.dataplane.validation;
 
-import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
-import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,20 +36,19 @@ class ContractValidationRuleTest {
 
     private final Instant now = Instant.now();
     private final Clock clock = Clock.fixed(now, UTC);
-    private final ContractNegotiationStore contractNegotiationStore = mock(ContractNegotiationStore.class);
+    private final PolicyArchive policyArchive = mock(PolicyArchive.class);
 
     private ContractValidationRule rule;
 
     @BeforeEach
     public void setUp() {
-        rule = new ContractValidationRule(contractNegotiationStore, clock);
+        rule = new ContractValidationRule(policyArchive, clock);
     }
 
     @Test
     void shouldSucceedIfContractIsStillValid() {
         var contractId = UUID.randomUUID().toString();
-        var contractAgreement = createContractAgreement(contractId);
-        when(contractNegotiationStore.findContractAgreement(contractId)).thenReturn(contractAgreement);
+        when(policyArchive.findPolicyForContract(contractId)).thenReturn(Policy.Builder.newInstance().build());
         var claimToken = ClaimToken.Builder.newInstance().claim(CONTRACT_ID, contractId).build();
 
         var result = rule.checkRule(claimToken, emptyMap());
@@ -69,21 +67,11 @@ class ContractValidationRuleTest {
 
     @Test
     void shouldFailIfContractIdContractDoesNotExist() {
-        when(contractNegotiationStore.findContractAgreement(any())).thenReturn(null);
+        when(policyArchive.findPolicyForContract(any())).thenReturn(null);
         var claimToken = ClaimToken.Builder.newInstance().claim(CONTRACT_ID, "unknownContractId").build();
 
         var result = rule.checkRule(claimToken, emptyMap());
 
         assertThat(result.succeeded()).isFalse();
     }
-
-    private ContractAgreement createContractAgreement(String contractId) {
-        return ContractAgreement.Builder.newInstance()
-                .id(contractId)
-                .assetId(UUID.randomUUID().toString())
-                .policy(Policy.Builder.newInstance().build())
-                .consumerId("consumer-agent-id")
-                .providerId("provider-agent-id")
-                .build();
-    }
 }
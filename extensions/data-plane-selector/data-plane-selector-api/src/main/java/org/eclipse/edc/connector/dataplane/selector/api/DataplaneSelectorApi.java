@@ -15,9 +15,28 @@
 package org.eclipse.edc.connector.dataplane.selector.api;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoad;
+import org.eclipse.edc.web.spi.ApiErrorDetail;
 
 @OpenAPIDefinition
 @Tag(name = "Dataplane Selector")
 public interface DataplaneSelectorApi {
+
+    @Operation(description = "Reports the current load of a registered data plane instance, which is then used to select the least loaded instance",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = DataPlaneLoad.class))),
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "The load was reported"),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)))),
+                    @ApiResponse(responseCode = "404", description = "A data plane instance with the given ID does not exist",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
+            })
+    void reportLoad(DataPlaneLoad load);
 }
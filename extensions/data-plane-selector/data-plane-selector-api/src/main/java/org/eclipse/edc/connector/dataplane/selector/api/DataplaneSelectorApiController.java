@@ -22,6 +22,7 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoad;
 
 import java.util.List;
 
@@ -54,6 +55,14 @@ public class DataplaneSelectorApiController implements DataplaneSelectorApi {
                 .orElseThrow(exceptionMapper(DataPlaneInstance.class, instance.getId()));
     }
 
+    @POST
+    @Path("load")
+    @Override
+    public void reportLoad(DataPlaneLoad load) {
+        selectionService.reportLoad(load)
+                .orElseThrow(exceptionMapper(DataPlaneInstance.class, load.getInstanceId()));
+    }
+
     @GET
     public List<DataPlaneInstance> getAll() {
         return selectionService.getAll();
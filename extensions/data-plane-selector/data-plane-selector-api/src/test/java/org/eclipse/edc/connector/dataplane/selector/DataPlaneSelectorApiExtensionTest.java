@@ -17,8 +17,10 @@ package org.eclipse.edc.connector.dataplane.selector;
 import org.eclipse.edc.boot.system.DefaultServiceExtensionContext;
 import org.eclipse.edc.connector.api.management.configuration.ManagementApiConfiguration;
 import org.eclipse.edc.connector.dataplane.selector.api.DataplaneSelectorApiController;
+import org.eclipse.edc.connector.dataplane.selector.core.DataPlaneInstanceIndex;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelector;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoadRegistry;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
@@ -58,7 +60,8 @@ class DataPlaneSelectorApiExtensionTest {
         context.registerService(WebService.class, webService);
         context.registerService(ManagementApiConfiguration.class, managementApiConfiguration);
         context.registerService(DataPlaneSelectorService.class, new DataPlaneSelectorServiceImpl(mock(DataPlaneSelector.class),
-                mock(DataPlaneInstanceStore.class), mock(SelectionStrategyRegistry.class), new NoopTransactionContext()));
+                mock(DataPlaneInstanceStore.class), mock(SelectionStrategyRegistry.class), mock(DataPlaneLoadRegistry.class),
+                mock(DataPlaneInstanceIndex.class), new NoopTransactionContext()));
 
         extension = factory.constructInstance(DataPlaneSelectorApiExtension.class);
     }
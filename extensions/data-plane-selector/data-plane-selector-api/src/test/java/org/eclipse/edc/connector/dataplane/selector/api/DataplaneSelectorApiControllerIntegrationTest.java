@@ -21,7 +21,9 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import org.eclipse.edc.connector.dataplane.selector.DataPlaneSelectorServiceImpl;
+import org.eclipse.edc.connector.dataplane.selector.core.DataPlaneInstanceIndex;
 import org.eclipse.edc.connector.dataplane.selector.core.DataPlaneSelectorImpl;
+import org.eclipse.edc.connector.dataplane.selector.load.InMemoryDataPlaneLoadRegistry;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
@@ -46,6 +48,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -84,8 +88,10 @@ class DataplaneSelectorApiControllerIntegrationTest {
         selectionStrategyRegistry = new DefaultSelectionStrategyRegistry(); //in-memory
 
         store = new InMemoryDataPlaneInstanceStore();
-        var selector = new DataPlaneSelectorImpl(store);
-        var service = new DataPlaneSelectorServiceImpl(selector, store, selectionStrategyRegistry, new NoopTransactionContext());
+        var index = new DataPlaneInstanceIndex(store, Duration.ZERO, Clock.systemUTC());
+        var selector = new DataPlaneSelectorImpl(index);
+        var loadRegistry = new InMemoryDataPlaneLoadRegistry(Duration.ofMinutes(1), Clock.systemUTC());
+        var service = new DataPlaneSelectorServiceImpl(selector, store, selectionStrategyRegistry, loadRegistry, index, new NoopTransactionContext());
         var controller = new DataplaneSelectorApiController(service);
 
         jetty = new JettyService(config, monitor);
@@ -18,6 +18,7 @@ plugins {
 dependencies {
     api(project(":spi:data-plane-selector:data-plane-selector-spi"))
     api(project(":spi:common:http-spi"))
+    implementation(project(":spi:data-plane:data-plane-spi"))
     implementation(project(":core:common:util"))
 
     testImplementation(project(":extensions:common:http"))
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.selector;
 
+import org.eclipse.edc.connector.dataplane.selector.client.CachingDataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.client.EmbeddedDataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.client.RemoteDataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
@@ -28,6 +29,8 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.util.string.StringUtils;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Objects;
 
 import static java.lang.String.format;
@@ -39,6 +42,11 @@ public class DataPlaneInstanceClientExtension implements ServiceExtension {
     @Setting
     private static final String DPF_SELECTOR_URL_SETTING = "edc.dpf.selector.url";
 
+    private static final long DEFAULT_SELECTION_CACHE_TTL = 0;
+
+    @Setting(value = "Time in milliseconds during which the data plane instance selected for a source and destination type is reused. 0 disables the cache", type = "long", defaultValue = DEFAULT_SELECTION_CACHE_TTL + "")
+    private static final String DPF_SELECTOR_CACHE_TTL_SETTING = "edc.dpf.selector.cache.ttl";
+
     @Inject(required = false)
     private DataPlaneSelectorService selector;
 
@@ -48,6 +56,9 @@ public class DataPlaneInstanceClientExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
 
@@ -65,6 +76,11 @@ public class DataPlaneInstanceClientExtension implements ServiceExtension {
             monitor.debug("Using remote DPF selector");
         }
 
+        var cacheTtl = context.getConfig().getLong(DPF_SELECTOR_CACHE_TTL_SETTING, DEFAULT_SELECTION_CACHE_TTL);
+        if (cacheTtl > 0) {
+            client = new CachingDataPlaneSelectorClient(client, Duration.ofMillis(cacheTtl), clock);
+        }
+
         context.registerService(DataPlaneSelectorClient.class, client);
     }
 }
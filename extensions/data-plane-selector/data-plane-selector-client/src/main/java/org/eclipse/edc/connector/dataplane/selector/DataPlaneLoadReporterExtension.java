@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector;
+
+import org.eclipse.edc.connector.dataplane.selector.client.DataPlaneLoadReporter;
+import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneSelectorClient;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorFactory;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically reports the load of the data plane running in this runtime to the DPF selector, so that it can be used by
+ * the load-aware selection strategies.
+ */
+@Extension(value = DataPlaneLoadReporterExtension.NAME)
+public class DataPlaneLoadReporterExtension implements ServiceExtension {
+
+    public static final String NAME = "DataPlane load reporter";
+
+    private static final long DEFAULT_HEARTBEAT_PERIOD = 5;
+
+    @Setting(value = "Id of the data plane instance of this runtime, as registered in the DPF selector. If not set, the load is not reported")
+    private static final String HEARTBEAT_INSTANCE_ID = "edc.dpf.selector.heartbeat.instance.id";
+
+    @Setting(value = "Period in seconds at which the load of the data plane instance is reported to the DPF selector", type = "long", defaultValue = DEFAULT_HEARTBEAT_PERIOD + "")
+    private static final String HEARTBEAT_PERIOD = "edc.dpf.selector.heartbeat.period";
+
+    @Inject(required = false)
+    private DataPlaneManager dataPlaneManager;
+
+    @Inject
+    private DataPlaneSelectorClient client;
+
+    @Inject
+    private ExecutorFactory executorFactory;
+
+    @Inject
+    private Clock clock;
+
+    private DataPlaneLoadReporter reporter;
+    private long period;
+    private ScheduledExecutorService executor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var instanceId = context.getConfig().getString(HEARTBEAT_INSTANCE_ID, null);
+        if (instanceId == null || dataPlaneManager == null) {
+            context.getMonitor().debug("The data plane load is not reported to the DPF selector");
+            return;
+        }
+        period = context.getConfig().getLong(HEARTBEAT_PERIOD, DEFAULT_HEARTBEAT_PERIOD);
+        reporter = new DataPlaneLoadReporter(instanceId, dataPlaneManager, client, clock, context.getMonitor());
+    }
+
+    @Override
+    public void start() {
+        if (reporter != null) {
+            executor = executorFactory.newSingleThreadScheduledExecutor("dataplane-load-reporter");
+            executor.scheduleAtFixedRate(reporter::report, 0, period, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
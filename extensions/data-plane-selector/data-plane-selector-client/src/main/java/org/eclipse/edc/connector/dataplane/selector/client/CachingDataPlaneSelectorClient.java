@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.client;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneSelectorClient;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoad;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.util.collection.ExpiringCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Decorator of a {@link DataPlaneSelectorClient} that caches the selected {@link DataPlaneInstance} by source type,
+ * destination type and selection strategy, so that a remote selector is not called for every transfer.
+ * <p>
+ * Within the time-to-live all the transfers with the same types are sent to the same instance, so it should be kept
+ * short, compared to the period at which the data planes report their load, when a load-aware strategy is used.
+ */
+public class CachingDataPlaneSelectorClient implements DataPlaneSelectorClient {
+
+    private static final int CAPACITY = 1000;
+
+    private final DataPlaneSelectorClient delegate;
+    private final ExpiringCache<SelectionKey, DataPlaneInstance> selections;
+
+    public CachingDataPlaneSelectorClient(DataPlaneSelectorClient delegate, Duration ttl, Clock clock) {
+        this.delegate = delegate;
+        selections = new ExpiringCache<>(CAPACITY, ttl, clock);
+    }
+
+    @Override
+    public List<DataPlaneInstance> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public @Nullable DataPlaneInstance find(DataAddress source, DataAddress destination) {
+        var key = new SelectionKey(source.getType(), destination.getType(), null);
+        var instance = selections.get(key);
+        if (instance == null) {
+            instance = delegate.find(source, destination);
+            cache(key, instance);
+        }
+        return instance;
+    }
+
+    @Override
+    public @Nullable DataPlaneInstance find(DataAddress source, DataAddress destination, String selectionStrategyName) {
+        var key = new SelectionKey(source.getType(), destination.getType(), selectionStrategyName);
+        var instance = selections.get(key);
+        if (instance == null) {
+            instance = delegate.find(source, destination, selectionStrategyName);
+            cache(key, instance);
+        }
+        return instance;
+    }
+
+    @Override
+    public void reportLoad(DataPlaneLoad load) {
+        delegate.reportLoad(load);
+    }
+
+    private void cache(SelectionKey key, @Nullable DataPlaneInstance instance) {
+        if (instance != null) {
+            selections.put(key, instance);
+        }
+    }
+
+    private record SelectionKey(String sourceType, String destinationType, String strategy) {
+    }
+}
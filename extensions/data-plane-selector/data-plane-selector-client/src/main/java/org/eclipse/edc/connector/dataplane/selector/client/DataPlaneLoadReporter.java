@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.client;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneSelectorClient;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoad;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Clock;
+
+/**
+ * Reports the load of the {@link DataPlaneManager} of this runtime to the DPF selector, to be called periodically. The
+ * throughput is computed from the data flows completed since the previous report.
+ */
+public class DataPlaneLoadReporter {
+
+    private final String instanceId;
+    private final DataPlaneManager dataPlaneManager;
+    private final DataPlaneSelectorClient client;
+    private final Clock clock;
+    private final Monitor monitor;
+    private long lastReport;
+    private long lastCompleted;
+
+    public DataPlaneLoadReporter(String instanceId, DataPlaneManager dataPlaneManager, DataPlaneSelectorClient client, Clock clock, Monitor monitor) {
+        this.instanceId = instanceId;
+        this.dataPlaneManager = dataPlaneManager;
+        this.client = client;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    public void report() {
+        var now = clock.millis();
+        var completed = dataPlaneManager.completedFlows();
+        var elapsed = now - lastReport;
+        var throughput = lastReport == 0 || elapsed <= 0 ? 0 : (completed - lastCompleted) * 1000d / elapsed;
+        lastReport = now;
+        lastCompleted = completed;
+
+        var load = DataPlaneLoad.Builder.newInstance()
+                .instanceId(instanceId)
+                .activeFlows(dataPlaneManager.activeFlows())
+                .queuedFlows(dataPlaneManager.queuedFlows())
+                .throughput(throughput)
+                .timestamp(now)
+                .build();
+        try {
+            client.reportLoad(load);
+        } catch (Exception e) {
+            monitor.warning("Unable to report the load of data plane instance " + instanceId, e);
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelector;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoad;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 
 import java.util.List;
@@ -49,4 +50,9 @@ public class EmbeddedDataPlaneSelectorClient implements DataPlaneSelectorClient
     public DataPlaneInstance find(DataAddress source, DataAddress destination, String selectionStrategyName) {
         return selector.select(source, destination, selectionStrategyName);
     }
+
+    @Override
+    public void reportLoad(DataPlaneLoad load) {
+        selector.reportLoad(load);
+    }
 }
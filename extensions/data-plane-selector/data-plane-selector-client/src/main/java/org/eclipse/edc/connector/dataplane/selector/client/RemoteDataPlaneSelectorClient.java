@@ -24,6 +24,7 @@ import okhttp3.Response;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelector;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoad;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -43,6 +44,7 @@ import static java.lang.String.format;
 public class RemoteDataPlaneSelectorClient implements DataPlaneSelectorClient {
     public static final MediaType TYPE_JSON = MediaType.parse("application/json");
     private static final String SELECT_PATH = "/select";
+    private static final String LOAD_PATH = "/load";
     private final String baseUrl;
     private final EdcHttpClient client;
     private final ObjectMapper mapper;
@@ -87,6 +89,25 @@ public class RemoteDataPlaneSelectorClient implements DataPlaneSelectorClient {
         return selectDataPlane(selectionRequest);
     }
 
+    @Override
+    public void reportLoad(DataPlaneLoad load) {
+        RequestBody body;
+        try {
+            body = RequestBody.create(mapper.writeValueAsString(load), TYPE_JSON);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+        var request = new Request.Builder().post(body).url(baseUrl + LOAD_PATH).build();
+
+        try (var response = client.execute(request)) {
+            if (!response.isSuccessful()) {
+                handleError(response);
+            }
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
     private DataPlaneInstance selectDataPlane(HashMap<Object, Object> selectionRequest) {
         RequestBody body;
         try {
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.selector;
 
+import org.eclipse.edc.connector.dataplane.selector.client.CachingDataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.client.EmbeddedDataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.client.RemoteDataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
@@ -84,6 +85,20 @@ class DataPlaneInstanceClientExtensionTest {
         assertThat(client).isInstanceOf(RemoteDataPlaneSelectorClient.class);
     }
 
+    @Test
+    void initialize_withCacheTtl_shouldCacheSelections(ObjectFactory factory) {
+        var config = ConfigFactory.fromMap(Map.of(EDC_DPF_SELECTOR_URL_SETTING, "http://someurl.com:1234", "edc.dpf.selector.cache.ttl", "500"));
+        when(context.getConfig()).thenReturn(config);
+
+        context.registerService(EdcHttpClient.class, mock(EdcHttpClient.class));
+        extension = factory.constructInstance(DataPlaneInstanceClientExtension.class);
+
+        extension.initialize(context);
+
+        var client = context.getService(DataPlaneSelectorClient.class);
+        assertThat(client).isInstanceOf(CachingDataPlaneSelectorClient.class);
+    }
+
     @Test
     void initialize_withSetting_httpClientMissing(ObjectFactory factory) {
         context.registerService(EdcHttpClient.class, null);
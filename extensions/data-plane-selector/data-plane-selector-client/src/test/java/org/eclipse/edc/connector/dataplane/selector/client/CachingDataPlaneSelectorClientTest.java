@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.client;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneSelectorClient;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.selector.TestFunctions.createInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDataPlaneSelectorClientTest {
+
+    private final DataPlaneSelectorClient delegate = mock(DataPlaneSelectorClient.class);
+    private final Clock clock = mock(Clock.class);
+    private final Instant now = Instant.now();
+    private final CachingDataPlaneSelectorClient client = new CachingDataPlaneSelectorClient(delegate, Duration.ofSeconds(1), clock);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+    }
+
+    @Test
+    void find_shouldReuseSelectionForSameTypes() {
+        when(delegate.find(any(), any(), eq("strategy"))).thenReturn(createInstance("instance1"), createInstance("instance2"));
+
+        var first = client.find(address("source"), address("destination"), "strategy");
+        var second = client.find(address("source"), address("destination"), "strategy");
+
+        assertThat(first.getId()).isEqualTo("instance1");
+        assertThat(second.getId()).isEqualTo("instance1");
+        verify(delegate, times(1)).find(any(), any(), eq("strategy"));
+    }
+
+    @Test
+    void find_shouldSelectAgainForOtherTypes() {
+        when(delegate.find(any(), any())).thenReturn(createInstance("instance1"), createInstance("instance2"));
+
+        var first = client.find(address("source"), address("destination"));
+        var second = client.find(address("source"), address("other"));
+
+        assertThat(first.getId()).isEqualTo("instance1");
+        assertThat(second.getId()).isEqualTo("instance2");
+    }
+
+    @Test
+    void find_shouldSelectAgainWhenExpired() {
+        when(delegate.find(any(), any())).thenReturn(createInstance("instance1"), createInstance("instance2"));
+
+        client.find(address("source"), address("destination"));
+        when(clock.instant()).thenReturn(now.plusSeconds(1));
+        var result = client.find(address("source"), address("destination"));
+
+        assertThat(result.getId()).isEqualTo("instance2");
+    }
+
+    @Test
+    void find_shouldNotCacheMissingInstance() {
+        when(delegate.find(any(), any())).thenReturn(null, createInstance("instance1"));
+
+        var first = client.find(address("source"), address("destination"));
+        var second = client.find(address("source"), address("destination"));
+
+        assertThat(first).isNull();
+        assertThat(second.getId()).isEqualTo("instance1");
+    }
+
+    private DataAddress address(String type) {
+        return DataAddress.Builder.newInstance().type(type).build();
+    }
+}
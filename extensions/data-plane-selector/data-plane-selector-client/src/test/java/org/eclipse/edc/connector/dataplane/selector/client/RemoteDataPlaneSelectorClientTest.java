@@ -17,7 +17,9 @@ package org.eclipse.edc.connector.dataplane.selector.client;
 import org.eclipse.edc.connector.dataplane.selector.api.DataplaneSelectorApiController;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoad;
 import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.monitor.ConsoleMonitor;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -38,8 +40,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.selector.TestFunctions.createInstance;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.testHttpClient;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class RemoteDataPlaneSelectorClientTest {
@@ -101,6 +105,17 @@ class RemoteDataPlaneSelectorClientTest {
         assertThat(result).usingRecursiveComparison().isEqualTo(expected);
     }
 
+    @Test
+    void reportLoad() {
+        when(serviceMock.reportLoad(any())).thenReturn(ServiceResult.success());
+        var load = DataPlaneLoad.Builder.newInstance().instanceId("some-instance").activeFlows(3).queuedFlows(2).throughput(1.5).build();
+
+        client.reportLoad(load);
+
+        verify(serviceMock).reportLoad(argThat(l -> l.getInstanceId().equals("some-instance") && l.getActiveFlows() == 3 &&
+                l.getQueuedFlows() == 2 && l.getThroughput() == 1.5));
+    }
+
     private JettyService startRestApi() {
         //set REST API
         serviceMock = mock(DataPlaneSelectorService.class);
@@ -23,10 +23,15 @@ dependencies {
     api(project(":spi:common:http-spi"))
     api(project(":spi:common:web-spi"))
     api(project(":spi:data-plane:data-plane-spi"))
+    implementation(project(":core:common:jwt-core"))
+    implementation(project(":core:common:util"))
     implementation(project(":core:data-plane:data-plane-util"))
     implementation(project(":extensions:common:api:control-api-configuration"))
 
     implementation(libs.jakarta.rsApi)
+    implementation(libs.nimbus.jwt)
+    // Note: nimbus requires bouncycastle for parsing PEM encoded keys
+    implementation(libs.bouncyCastle.bcpkixJdk18on)
 
     testImplementation(project(":extensions:common:http"))
     testImplementation(project(":core:common:junit"))
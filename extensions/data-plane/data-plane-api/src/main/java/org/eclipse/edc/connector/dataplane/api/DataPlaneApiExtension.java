@@ -14,16 +14,27 @@
 
 package org.eclipse.edc.connector.dataplane.api;
 
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.RSAKey;
 import org.eclipse.edc.connector.api.control.configuration.ControlApiConfiguration;
+import org.eclipse.edc.connector.dataplane.api.controller.AsyncStreamingDataSink;
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlaneControlApiController;
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlanePublicApiController;
+import org.eclipse.edc.connector.dataplane.api.validation.CachingDataAddressResolver;
 import org.eclipse.edc.connector.dataplane.api.validation.ConsumerPullTransferDataAddressResolver;
+import org.eclipse.edc.connector.dataplane.api.validation.LocalTokenDataAddressResolver;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.jwt.TokenValidationRulesRegistryImpl;
+import org.eclipse.edc.jwt.TokenValidationServiceImpl;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
-import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -31,8 +42,14 @@ import org.eclipse.edc.web.spi.WebServer;
 import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.WebServiceConfigurer;
 import org.eclipse.edc.web.spi.configuration.WebServiceSettings;
+import org.jetbrains.annotations.NotNull;
 
-import java.util.concurrent.Executors;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
+import static java.lang.String.format;
 
 /**
  * This extension provides the Data Plane API:
@@ -50,6 +67,20 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @Setting
     private static final String CONTROL_PLANE_VALIDATION_ENDPOINT = "edc.dataplane.token.validation.endpoint";
 
+    @Setting(value = "Size in bytes of the buffer used to stream data from the source to the public API response", type = "int", defaultValue = AsyncStreamingDataSink.DEFAULT_BUFFER_SIZE + "")
+    private static final String PUBLIC_API_STREAMING_BUFFER_SIZE = "edc.dataplane.api.public.streaming.buffer.size";
+
+    private static final long DEFAULT_TOKEN_CACHE_TTL_SECONDS = 0;
+    @Setting(value = "Time-to-live in seconds of the data addresses resolved from access tokens, bounded by the token expiration. 0 disables the cache", type = "long", defaultValue = DEFAULT_TOKEN_CACHE_TTL_SECONDS + "")
+    private static final String TOKEN_CACHE_TTL_SECONDS = "edc.dataplane.token.validation.cache.ttl.seconds";
+
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 10000;
+    @Setting(value = "Maximum number of access tokens kept in the validation cache", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "")
+    private static final String TOKEN_CACHE_SIZE = "edc.dataplane.token.validation.cache.size";
+
+    @Setting(value = "Alias of the public key used by the control plane to sign access tokens, retrieved from the vault. If set, tokens are validated locally instead of calling the validation endpoint")
+    private static final String TOKEN_VERIFIER_PUBLIC_KEY_ALIAS = "edc.dataplane.token.validation.publickey.alias";
+
     private static final WebServiceSettings PUBLIC_SETTINGS = WebServiceSettings.Builder.newInstance()
             .apiConfigKey(PUBLIC_API_CONFIG)
             .contextAlias(PUBLIC_CONTEXT_ALIAS)
@@ -79,6 +110,12 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private Vault vault;
+
     @Override
     public String name() {
         return NAME;
@@ -88,17 +125,53 @@ public class DataPlaneApiExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
 
-        var validationEndpoint = context.getConfig().getString(CONTROL_PLANE_VALIDATION_ENDPOINT);
-
-        var dataAddressResolver = new ConsumerPullTransferDataAddressResolver(httpClient, validationEndpoint, typeManager.getMapper());
+        var dataAddressResolver = createDataAddressResolver(context);
 
-        var executorService = context.getService(ExecutorInstrumentation.class)
-                .instrument(Executors.newSingleThreadExecutor(), DataPlanePublicApiController.class.getSimpleName());
+        var streamingBufferSize = context.getSetting(PUBLIC_API_STREAMING_BUFFER_SIZE, AsyncStreamingDataSink.DEFAULT_BUFFER_SIZE);
 
         webService.registerResource(controlApiConfiguration.getContextAlias(), new DataPlaneControlApiController(dataPlaneManager));
 
         var configuration = webServiceConfigurer.configure(context, webServer, PUBLIC_SETTINGS);
-        var publicApiController = new DataPlanePublicApiController(dataPlaneManager, dataAddressResolver, monitor, executorService);
+        var publicApiController = new DataPlanePublicApiController(dataPlaneManager, dataAddressResolver, monitor, streamingBufferSize);
         webService.registerResource(configuration.getContextAlias(), publicApiController);
     }
+
+    private DataAddressResolver createDataAddressResolver(ServiceExtensionContext context) {
+        DataAddressResolver resolver;
+        var publicKeyAlias = context.getSetting(TOKEN_VERIFIER_PUBLIC_KEY_ALIAS, null);
+        if (publicKeyAlias != null) {
+            var publicKey = parsePublicKey(publicKeyAlias);
+            var tokenValidationService = new TokenValidationServiceImpl(id -> publicKey, new TokenValidationRulesRegistryImpl());
+            resolver = new LocalTokenDataAddressResolver(tokenValidationService, typeManager.getMapper(), clock);
+        } else {
+            var validationEndpoint = context.getConfig().getString(CONTROL_PLANE_VALIDATION_ENDPOINT);
+            resolver = new ConsumerPullTransferDataAddressResolver(httpClient, validationEndpoint, typeManager.getMapper());
+        }
+
+        var cacheTtl = context.getSetting(TOKEN_CACHE_TTL_SECONDS, DEFAULT_TOKEN_CACHE_TTL_SECONDS);
+        if (cacheTtl > 0) {
+            var cacheSize = context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE);
+            resolver = new CachingDataAddressResolver(resolver, cacheSize, Duration.ofSeconds(cacheTtl), clock, typeManager.getMapper());
+        }
+        return resolver;
+    }
+
+    @NotNull
+    private PublicKey parsePublicKey(String alias) {
+        Objects.requireNonNull(vault, "vault");
+        var pem = vault.resolveSecret(alias);
+        Objects.requireNonNull(pem, "Failed to resolve public key with alias: " + alias + " from vault");
+        try {
+            var jwk = JWK.parseFromPEMEncodedObjects(pem);
+            if (jwk instanceof RSAKey) {
+                return jwk.toRSAKey().toPublicKey();
+            } else if (jwk instanceof ECKey) {
+                return jwk.toECKey().toPublicKey();
+            } else {
+                throw new EdcException(format("Public key algorithm %s is not supported", jwk.getKeyType()));
+            }
+        } catch (JOSEException e) {
+            throw new EdcException(e);
+        }
+    }
 }
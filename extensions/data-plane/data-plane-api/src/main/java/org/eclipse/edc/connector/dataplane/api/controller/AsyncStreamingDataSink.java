@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.CompletionCallback;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.failure;
+
+/**
+ * Streams the parts of a {@link DataSource} directly into the body of an {@link AsyncResponse}, without buffering the whole content in memory.
+ * <p>
+ * The response is resumed only once the source parts have been opened successfully, so failures occurring while opening the source are still
+ * reported by the caller with a proper error status. Content is then copied through a fixed-size buffer: writes block on the container output
+ * stream, which propagates back-pressure from slow consumers to the data source.
+ * <p>
+ * The returned future completes once the content has been fully written (or the write has failed).
+ */
+public class AsyncStreamingDataSink implements DataSink {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final String requestId;
+    private final AsyncResponse response;
+    private final int bufferSize;
+    private final Monitor monitor;
+
+    public AsyncStreamingDataSink(String requestId, AsyncResponse response, int bufferSize, Monitor monitor) {
+        this.requestId = requestId;
+        this.response = response;
+        this.bufferSize = bufferSize;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public CompletableFuture<StreamResult<Void>> transfer(DataSource source) {
+        var streamResult = source.openPartStream();
+        if (streamResult.failed()) {
+            return completedFuture(failure(streamResult.getFailure()));
+        }
+
+        List<DataSource.Part> parts;
+        try (var partStream = streamResult.getContent()) {
+            parts = partStream.toList();
+        } catch (Exception e) {
+            var errorMessage = format("Error processing data transfer request - Request ID: %s", requestId);
+            monitor.severe(errorMessage, e);
+            return completedFuture(error(errorMessage));
+        }
+
+        var future = new CompletableFuture<StreamResult<Void>>();
+        response.register((CompletionCallback) throwable -> {
+            // NB: parts are released here as well, in case the container never invoked the streaming output (e.g. client disconnected)
+            parts.forEach(this::close);
+            if (throwable != null) {
+                future.complete(error(format("Error writing response - Request ID: %s: %s", requestId, throwable.getMessage())));
+            } else {
+                future.complete(StreamResult.success());
+            }
+        });
+
+        StreamingOutput output = out -> {
+            try {
+                for (var part : parts) {
+                    write(part, out);
+                }
+                out.flush();
+                future.complete(StreamResult.success());
+            } catch (IOException | RuntimeException e) {
+                monitor.severe(format("Error streaming data - Request ID: %s", requestId), e);
+                future.complete(error("Error writing data"));
+                throw e;
+            }
+        };
+
+        var builder = Response.ok(output);
+        if (parts.size() == 1) {
+            var part = parts.get(0);
+            if (part.mediaType() != null) {
+                builder.type(part.mediaType());
+            }
+            if (part.size() != DataSource.Part.SIZE_UNKNOWN) {
+                builder.header(HttpHeaders.CONTENT_LENGTH, part.size());
+            }
+        }
+
+        response.resume(builder.build());
+        return future;
+    }
+
+    private void write(DataSource.Part part, OutputStream out) throws IOException {
+        try (var in = part.openStream()) {
+            var buffer = new byte[bufferSize];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private void close(DataSource.Part part) {
+        try {
+            part.close();
+        } catch (Exception e) {
+            monitor.warning(format("Error closing part %s - Request ID: %s", part.name(), requestId), e);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.tooManyRequests;
 import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.validationError;
 import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.validationErrors;
 
@@ -48,8 +49,8 @@ public class DataPlaneControlApiController implements DataPlaneControlApi {
         // TODO token authentication
         var result = dataPlaneManager.validate(request);
         if (result.succeeded()) {
-            dataPlaneManager.initiateTransfer(request);
-            response.resume(Response.ok().build());
+            var initiateResult = dataPlaneManager.initiateTransfer(request);
+            response.resume(initiateResult.succeeded() ? Response.ok().build() : tooManyRequests(initiateResult.getFailureMessages()));
         } else {
             var resp = result.getFailureMessages().isEmpty() ?
                     validationError(format("Failed to validate request: %s", request.getId())) :
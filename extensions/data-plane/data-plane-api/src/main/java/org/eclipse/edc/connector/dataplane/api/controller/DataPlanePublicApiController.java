@@ -31,14 +31,11 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
-import org.eclipse.edc.connector.dataplane.util.sink.OutputStreamDataSink;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.web.spi.exception.NotAuthorizedException;
 
-import java.io.ByteArrayOutputStream;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
 
 import static java.lang.String.format;
 import static java.lang.String.join;
@@ -53,17 +50,17 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
     private final DataAddressResolver dataAddressResolver;
     private final DataFlowRequestSupplier requestSupplier;
     private final Monitor monitor;
-    private final ExecutorService executorService;
+    private final int streamingBufferSize;
 
     public DataPlanePublicApiController(DataPlaneManager dataPlaneManager,
                                         DataAddressResolver dataAddressResolver,
                                         Monitor monitor,
-                                        ExecutorService executorService) {
+                                        int streamingBufferSize) {
         this.dataPlaneManager = dataPlaneManager;
         this.dataAddressResolver = dataAddressResolver;
         this.requestSupplier = new DataFlowRequestSupplier();
         this.monitor = monitor;
-        this.executorService = executorService;
+        this.streamingBufferSize = streamingBufferSize;
     }
 
     @GET
@@ -140,14 +137,23 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
             return;
         }
 
-        var stream = new ByteArrayOutputStream();
-        var sink = new OutputStreamDataSink(dataFlowRequest.getId(), stream, executorService, monitor);
+        // the sink resumes the response itself as soon as the source is open, then streams the content into it
+        var sink = new AsyncStreamingDataSink(dataFlowRequest.getId(), response, streamingBufferSize, monitor);
 
         dataPlaneManager.transfer(sink, dataFlowRequest)
                 .whenComplete((result, throwable) -> {
+                    if (!response.isSuspended()) {
+                        // response already committed, errors can only be reported
+                        if (throwable != null) {
+                            monitor.severe(format("Error streaming data for request with id: %s", dataFlowRequest.getId()), throwable);
+                        } else if (result.failed()) {
+                            monitor.severe(format("Error streaming data for request with id: %s: %s", dataFlowRequest.getId(), result.getFailureDetail()));
+                        }
+                        return;
+                    }
                     if (throwable == null) {
                         if (result.succeeded()) {
-                            response.resume(Response.ok(stream.toString()).build());
+                            response.resume(Response.ok().build());
                         } else {
                             response.resume(internalErrors(result.getFailureMessages()));
                         }
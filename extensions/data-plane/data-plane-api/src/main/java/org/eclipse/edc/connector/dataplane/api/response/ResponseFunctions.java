@@ -22,6 +22,7 @@ import java.util.List;
 import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
 import static jakarta.ws.rs.core.Response.Status.FORBIDDEN;
 import static jakarta.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
+import static jakarta.ws.rs.core.Response.Status.TOO_MANY_REQUESTS;
 import static jakarta.ws.rs.core.Response.status;
 
 /**
@@ -59,6 +60,16 @@ public final class ResponseFunctions {
         return createErrorResponse(INTERNAL_SERVER_ERROR, errors);
     }
 
+    /**
+     * Returns a response for requests that cannot be accepted because the system is overloaded.
+     *
+     * @param errors List of errors.
+     * @return Error response.
+     */
+    public static Response tooManyRequests(List<String> errors) {
+        return createErrorResponse(TOO_MANY_REQUESTS, errors);
+    }
+
     /**
      * Returns a response for a unique validation error.
      *
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.util.collection.ExpiringCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Decorates a {@link DataAddressResolver} by caching the successfully resolved {@link DataAddress} per token, so that repeated requests
+ * with the same token do not hit the token validation server again.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the token and are retained for the configured time-to-live, but never beyond the
+ * {@code exp} claim of the token when it is a JWT. Failed resolutions are not cached.
+ */
+public class CachingDataAddressResolver implements DataAddressResolver {
+    private static final String EXPIRATION_CLAIM = "exp";
+
+    private final DataAddressResolver delegate;
+    private final ExpiringCache<String, DataAddress> cache;
+    private final ObjectMapper mapper;
+
+    public CachingDataAddressResolver(DataAddressResolver delegate, int capacity, Duration ttl, Clock clock, ObjectMapper mapper) {
+        this.delegate = delegate;
+        this.cache = new ExpiringCache<>(capacity, ttl, clock);
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Result<DataAddress> resolve(String token) {
+        var key = digest(token);
+        var cached = cache.get(key);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+
+        var result = delegate.resolve(token);
+        if (result.succeeded()) {
+            cache.put(key, result.getContent(), expiration(token));
+        }
+        return result;
+    }
+
+    /**
+     * Reads the expiration of the token without verifying it, which is fine as the token has already been validated by the delegate.
+     */
+    @Nullable
+    private Instant expiration(String token) {
+        var segments = token.split("\\.");
+        if (segments.length < 2) {
+            return null;
+        }
+        try {
+            var claims = mapper.readTree(Base64.getUrlDecoder().decode(segments[1]));
+            var exp = claims.get(EXPIRATION_CLAIM);
+            return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+}
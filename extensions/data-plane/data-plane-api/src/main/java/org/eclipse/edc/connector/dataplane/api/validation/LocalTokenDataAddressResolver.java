@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.jwt.spi.TokenValidationService;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+
+import java.time.Clock;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
+
+/**
+ * Resolves the {@link DataAddress} contained in a consumer pull token by validating the token locally, i.e. verifying its signature with
+ * the public key of the control plane, without calling the control plane token validation endpoint.
+ * <p>
+ * N.B. this only checks the signature and the expiration of the token: the contract validity is not re-evaluated, so the token validity
+ * configured on the control plane bounds how long an expired contract can still be used. The data address claim must not be encrypted.
+ */
+public class LocalTokenDataAddressResolver implements DataAddressResolver {
+    private static final String DATA_ADDRESS_CLAIM = "dad";
+
+    private final TokenValidationService tokenValidationService;
+    private final ObjectMapper mapper;
+    private final Clock clock;
+
+    public LocalTokenDataAddressResolver(TokenValidationService tokenValidationService, ObjectMapper mapper, Clock clock) {
+        this.tokenValidationService = tokenValidationService;
+        this.mapper = mapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public Result<DataAddress> resolve(String token) {
+        var validationResult = tokenValidationService.validate(token);
+        if (validationResult.failed()) {
+            return Result.failure(validationResult.getFailureMessages());
+        }
+
+        var claims = validationResult.getContent();
+        var expiration = claims.getInstantClaim(EXPIRATION_TIME);
+        if (expiration == null) {
+            return Result.failure("Missing expiration time in token");
+        }
+        if (clock.instant().isAfter(expiration)) {
+            return Result.failure("Token has expired on " + expiration);
+        }
+
+        var dataAddress = claims.getStringClaim(DATA_ADDRESS_CLAIM);
+        if (dataAddress == null) {
+            return Result.failure(format("Missing claim `%s` in token", DATA_ADDRESS_CLAIM));
+        }
+        try {
+            return Result.success(mapper.readValue(dataAddress, DataAddress.class));
+        } catch (JsonProcessingException e) {
+            return Result.failure(format("Failed to read data address from claim `%s`: %s", DATA_ADDRESS_CLAIM, e.getMessage()));
+        }
+    }
+}
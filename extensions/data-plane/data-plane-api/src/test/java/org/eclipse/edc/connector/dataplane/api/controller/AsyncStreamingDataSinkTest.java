@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.CompletionCallback;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AsyncStreamingDataSinkTest {
+
+    private final AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    private final AsyncStreamingDataSink sink = new AsyncStreamingDataSink("request-id", asyncResponse, 4, mock(Monitor.class));
+
+    @Test
+    void transfer_shouldStreamContentIntoResponse() throws IOException {
+        var source = sourceOf(new TestPart("content of the part", "text/plain", 19));
+
+        var future = sink.transfer(source);
+
+        var response = captureResponse();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getMediaType().toString()).isEqualTo("text/plain");
+        assertThat(response.getHeaderString(HttpHeaders.CONTENT_LENGTH)).isEqualTo("19");
+        assertThat(future).isNotDone();
+
+        var output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+
+        assertThat(output.toString(UTF_8)).isEqualTo("content of the part");
+        assertThat(future).isCompletedWithValueMatching(StreamResult::succeeded);
+    }
+
+    @Test
+    void transfer_shouldConcatenateParts_andNotPassThroughHeaders() throws IOException {
+        var source = sourceOf(new TestPart("foo", "text/plain", 3), new TestPart("bar", "text/plain", 3));
+
+        var future = sink.transfer(source);
+
+        var response = captureResponse();
+        assertThat(response.getMediaType()).isNull();
+        assertThat(response.getHeaderString(HttpHeaders.CONTENT_LENGTH)).isNull();
+
+        var output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+
+        assertThat(output.toString(UTF_8)).isEqualTo("foobar");
+        assertThat(future).isCompletedWithValueMatching(StreamResult::succeeded);
+    }
+
+    @Test
+    void transfer_shouldNotResumeResponse_whenSourceCannotBeOpened() {
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.notFound());
+
+        var future = sink.transfer(source);
+
+        assertThat(future).isCompletedWithValueMatching(result -> result.failed() && result.reason() == StreamFailure.Reason.NOT_FOUND);
+        verify(asyncResponse, never()).resume(any(Response.class));
+    }
+
+    @Test
+    void transfer_shouldFail_whenWriteFails() {
+        var source = sourceOf(new TestPart("content", null, DataSource.Part.SIZE_UNKNOWN));
+
+        var future = sink.transfer(source);
+
+        var entity = (StreamingOutput) captureResponse().getEntity();
+        var failingOutput = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("client disconnected");
+            }
+        };
+
+        assertThatThrownBy(() -> entity.write(failingOutput)).isInstanceOf(IOException.class);
+        assertThat(future).isCompletedWithValueMatching(StreamResult::failed);
+    }
+
+    @Test
+    void transfer_shouldFail_whenResponseCompletesWithError() {
+        var source = sourceOf(new TestPart("content", null, DataSource.Part.SIZE_UNKNOWN));
+
+        var future = sink.transfer(source);
+
+        var captor = ArgumentCaptor.forClass(CompletionCallback.class);
+        verify(asyncResponse).register(captor.capture());
+        captor.getValue().onComplete(new IOException("connection reset"));
+
+        assertThat(future).isCompletedWithValueMatching(StreamResult::failed);
+    }
+
+    private Response captureResponse() {
+        var captor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(captor.capture());
+        return captor.getValue();
+    }
+
+    private DataSource sourceOf(DataSource.Part... parts) {
+        return () -> StreamResult.success(Stream.of(parts));
+    }
+
+    private static class TestPart implements DataSource.Part {
+        private final String content;
+        private final String mediaType;
+        private final long size;
+
+        TestPart(String content, String mediaType, long size) {
+            this.content = content;
+            this.mediaType = mediaType;
+            this.size = size;
+        }
+
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public String mediaType() {
+            return mediaType;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(content.getBytes(UTF_8));
+        }
+    }
+}
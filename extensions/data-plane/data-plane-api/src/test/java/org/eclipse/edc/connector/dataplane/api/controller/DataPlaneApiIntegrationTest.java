@@ -119,6 +119,7 @@ class DataPlaneApiIntegrationTest {
                 .build();
 
         when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenReturn(Result.success(Boolean.TRUE));
+        when(dataPlaneManager.initiateTransfer(isA(DataFlowRequest.class))).thenReturn(Result.success());
 
         given().port(CONTROL_API_PORT)
                 .when()
@@ -131,6 +132,29 @@ class DataPlaneApiIntegrationTest {
         verify(dataPlaneManager).initiateTransfer(isA(DataFlowRequest.class));
     }
 
+    @Test
+    void controlApi_should_returnTooManyRequests_if_dataPlaneIsOverloaded() {
+        var errorMsg = "too many data flows";
+        var flowRequest = DataFlowRequest.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .processId(UUID.randomUUID().toString())
+                .sourceDataAddress(testDestAddress())
+                .destinationDataAddress(testDestAddress())
+                .build();
+
+        when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenReturn(Result.success(Boolean.TRUE));
+        when(dataPlaneManager.initiateTransfer(isA(DataFlowRequest.class))).thenReturn(Result.failure(errorMsg));
+
+        given().port(CONTROL_API_PORT)
+                .when()
+                .contentType(ContentType.JSON)
+                .body(flowRequest)
+                .post("/control/transfer")
+                .then()
+                .statusCode(Response.Status.TOO_MANY_REQUESTS.getStatusCode())
+                .body("errors", CoreMatchers.equalTo(List.of(errorMsg)));
+    }
+
     @Test
     void controlApi_should_returnBadRequest_if_requestIsInValid() {
         var errorMsg = "test error message";
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDataAddressResolverTest {
+
+    private final Instant now = Instant.now();
+    private final DataAddressResolver delegate = mock(DataAddressResolver.class);
+    private final DataAddress address = DataAddress.Builder.newInstance().type("test-type").build();
+
+    @Test
+    void resolve_shouldCallDelegateOnce_whenTokenIsReused() {
+        when(delegate.resolve(any())).thenReturn(Result.success(address));
+        var resolver = resolverAt(now);
+
+        var first = resolver.resolve("token");
+        var second = resolver.resolve("token");
+
+        assertThat(first.getContent()).isSameAs(address);
+        assertThat(second.getContent()).isSameAs(address);
+        verify(delegate, times(1)).resolve("token");
+    }
+
+    @Test
+    void resolve_shouldNotCacheFailures() {
+        when(delegate.resolve(any())).thenReturn(Result.failure("invalid token"));
+        var resolver = resolverAt(now);
+
+        resolver.resolve("token");
+        var result = resolver.resolve("token");
+
+        assertThat(result.failed()).isTrue();
+        verify(delegate, times(2)).resolve("token");
+    }
+
+    @Test
+    void resolve_shouldNotRetainEntryBeyondTokenExpiration() {
+        when(delegate.resolve(any())).thenReturn(Result.success(address));
+        var token = jwt(now.plusSeconds(5));
+        var cache = new CachingDataAddressResolver(delegate, 10, Duration.ofMinutes(10), new FixedStepClock(now, Duration.ofSeconds(6)), new TypeManager().getMapper());
+
+        cache.resolve(token);
+        cache.resolve(token);
+
+        verify(delegate, times(2)).resolve(token);
+    }
+
+    private CachingDataAddressResolver resolverAt(Instant instant) {
+        return new CachingDataAddressResolver(delegate, 10, Duration.ofMinutes(1), Clock.fixed(instant, ZoneOffset.UTC), new TypeManager().getMapper());
+    }
+
+    private String jwt(Instant expiration) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        var header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(UTF_8));
+        var payload = encoder.encodeToString(("{\"exp\":" + expiration.getEpochSecond() + "}").getBytes(UTF_8));
+        return header + "." + payload + ".signature";
+    }
+
+    /**
+     * Clock moving forward by a fixed step on every read.
+     */
+    private static class FixedStepClock extends Clock {
+        private final Duration step;
+        private Instant instant;
+
+        FixedStepClock(Instant start, Duration step) {
+            this.instant = start;
+            this.step = step;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            var current = instant;
+            instant = instant.plus(step);
+            return current;
+        }
+    }
+}
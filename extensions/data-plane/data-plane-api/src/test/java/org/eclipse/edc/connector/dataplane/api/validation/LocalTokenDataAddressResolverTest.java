@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.jwt.spi.TokenValidationService;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalTokenDataAddressResolverTest {
+
+    private static final ObjectMapper MAPPER = new TypeManager().getMapper();
+
+    private final Instant now = Instant.now();
+    private final TokenValidationService tokenValidationService = mock(TokenValidationService.class);
+    private final LocalTokenDataAddressResolver resolver = new LocalTokenDataAddressResolver(tokenValidationService, MAPPER, Clock.fixed(now, ZoneOffset.UTC));
+
+    @Test
+    void resolve_shouldReturnDataAddressFromClaim() throws JsonProcessingException {
+        var address = DataAddress.Builder.newInstance().type("test-type").build();
+        var claims = ClaimToken.Builder.newInstance()
+                .claim(EXPIRATION_TIME, Date.from(now.plusSeconds(60)))
+                .claim("dad", MAPPER.writeValueAsString(address))
+                .build();
+        when(tokenValidationService.validate(anyString())).thenReturn(Result.success(claims));
+
+        var result = resolver.resolve("token");
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getType()).isEqualTo("test-type");
+    }
+
+    @Test
+    void resolve_shouldFail_whenTokenExpired() {
+        var claims = ClaimToken.Builder.newInstance()
+                .claim(EXPIRATION_TIME, Date.from(now.minusSeconds(60)))
+                .claim("dad", "{}")
+                .build();
+        when(tokenValidationService.validate(anyString())).thenReturn(Result.success(claims));
+
+        var result = resolver.resolve("token");
+
+        assertThat(result.failed()).isTrue();
+    }
+
+    @Test
+    void resolve_shouldFail_whenTokenValidationFails() {
+        when(tokenValidationService.validate(anyString())).thenReturn(Result.failure("Token verification failed"));
+
+        var result = resolver.resolve("token");
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).containsExactly("Token verification failed");
+    }
+}
@@ -42,7 +42,10 @@ public class EmbeddedDataPlaneClient implements DataPlaneClient {
         if (result.failed()) {
             return StatusResult.failure(ResponseStatus.FATAL_ERROR, String.join(", ", result.getFailureMessages()));
         }
-        dataPlaneManager.initiateTransfer(request);
+        var initiateResult = dataPlaneManager.initiateTransfer(request);
+        if (initiateResult.failed()) {
+            return StatusResult.failure(ResponseStatus.ERROR_RETRY, String.join(", ", initiateResult.getFailureMessages()));
+        }
         return StatusResult.success();
     }
 }
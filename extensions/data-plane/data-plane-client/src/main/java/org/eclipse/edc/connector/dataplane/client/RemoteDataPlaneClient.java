@@ -90,7 +90,9 @@ public class RemoteDataPlaneClient implements DataPlaneClient {
         var errorMsg = Optional.ofNullable(response.body())
                 .map(this::formatErrorMessage)
                 .orElse("null response body");
-        return StatusResult.failure(ResponseStatus.FATAL_ERROR, format("Transfer request failed with status code %s for request %s: %s", response.code(), requestId, errorMsg));
+        // the data plane cannot accept more requests at the moment, so the request can be retried later
+        var status = response.code() == 429 ? ResponseStatus.ERROR_RETRY : ResponseStatus.FATAL_ERROR;
+        return StatusResult.failure(status, format("Transfer request failed with status code %s for request %s: %s", response.code(), requestId, errorMsg));
     }
 
     private String formatErrorMessage(ResponseBody body) {
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.client;
 
 import org.eclipse.edc.connector.dataplane.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
@@ -25,7 +26,6 @@ import org.junit.jupiter.api.Test;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -52,7 +52,6 @@ class EmbeddedDataPlaneClientTest {
         var errorMsg = "error";
         var request = createDataFlowRequest();
         when(dataPlaneManagerMock.validate(any())).thenReturn(Result.failure(errorMsg));
-        doNothing().when(dataPlaneManagerMock).initiateTransfer(any());
 
         var result = client.transfer(request);
 
@@ -69,7 +68,7 @@ class EmbeddedDataPlaneClientTest {
     void verifyTransferSuccess() {
         var request = createDataFlowRequest();
         when(dataPlaneManagerMock.validate(any())).thenReturn(Result.success(true));
-        doNothing().when(dataPlaneManagerMock).initiateTransfer(any());
+        when(dataPlaneManagerMock.initiateTransfer(any())).thenReturn(Result.success());
 
         var result = client.transfer(request);
 
@@ -79,6 +78,18 @@ class EmbeddedDataPlaneClientTest {
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void verifyReturnRetryErrorIfDataPlaneIsOverloaded() {
+        var request = createDataFlowRequest();
+        when(dataPlaneManagerMock.validate(any())).thenReturn(Result.success(true));
+        when(dataPlaneManagerMock.initiateTransfer(any())).thenReturn(Result.failure("overloaded"));
+
+        var result = client.transfer(request);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+    }
+
     private static DataFlowRequest createDataFlowRequest() {
         return DataFlowRequest.Builder.newInstance()
                 .trackable(true)
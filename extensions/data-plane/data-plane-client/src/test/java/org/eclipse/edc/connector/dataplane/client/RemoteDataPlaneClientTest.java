@@ -171,6 +171,26 @@ class RemoteDataPlaneClientTest {
                 );
     }
 
+    @Test
+    void verifyReturnRetryErrorIfDataPlaneIsOverloaded() throws MalformedURLException, JsonProcessingException {
+        var flowRequest = createDataFlowRequest();
+
+        // mock data plane selector
+        var instance = mock(DataPlaneInstance.class);
+        when(instance.getUrl()).thenReturn(new URL(DATA_PLANE_API_URI));
+        when(selectorClientMock.find(any(), any(), any())).thenReturn(instance);
+
+        // config data plane mock server
+        var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH).withBody(MAPPER.writeValueAsString(flowRequest));
+        dataPlaneClientAndServer.when(httpRequest, once()).respond(response().withStatusCode(HttpStatusCode.TOO_MANY_REQUESTS_429.code())
+                .withBody(MAPPER.writeValueAsString(new TransferErrorResponse(List.of("overloaded"))), MediaType.APPLICATION_JSON));
+
+        var result = dataPlaneClient.transfer(flowRequest);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+    }
+
     @Test
     void verifyTransferSucess() throws JsonProcessingException, MalformedURLException {
         var flowRequest = createDataFlowRequest();
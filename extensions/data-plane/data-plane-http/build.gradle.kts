@@ -25,6 +25,7 @@ dependencies {
 
     testImplementation(project(":core:common:junit"))
     testImplementation(project(":core:data-plane:data-plane-core"))
+    testImplementation(project(":core:common:connector-core"))
     testImplementation(libs.restAssured)
     testImplementation(libs.mockserver.netty)
 
@@ -56,7 +56,8 @@ public class HttpDataSource implements DataSource {
                 if (body == null) {
                     throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
                 }
-                return success(Stream.of(new HttpPart(name, body.byteStream())));
+                var mediaType = body.contentType();
+                return success(Stream.of(new HttpPart(name, body.byteStream(), mediaType != null ? mediaType.toString() : null, body.contentLength())));
             } else {
                 try {
                     if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
@@ -136,10 +137,14 @@ public class HttpDataSource implements DataSource {
     private static class HttpPart implements Part {
         private final String name;
         private final InputStream content;
+        private final String mediaType;
+        private final long size;
 
-        HttpPart(String name, InputStream content) {
+        HttpPart(String name, InputStream content, String mediaType, long size) {
             this.name = name;
             this.content = content;
+            this.mediaType = mediaType;
+            this.size = size;
         }
 
         @Override
@@ -149,7 +154,12 @@ public class HttpDataSource implements DataSource {
 
         @Override
         public long size() {
-            return SIZE_UNKNOWN;
+            return size;
+        }
+
+        @Override
+        public String mediaType() {
+            return mediaType;
         }
 
         @Override
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import org.eclipse.edc.connector.core.base.VirtualThreadExecutorFactory;
+import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.junit.annotations.BenchmarkTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.mockserver.integration.ClientAndServer;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.testHttpClient;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * Compares platform and virtual threads running many concurrent HTTP-to-HTTP transfers against slow backends, where the
+ * transfer threads spend most of their time blocked on I/O: virtual threads must not be noticeably slower, while using
+ * far fewer platform threads. The measurements are published through the JUnit {@link TestReporter}.
+ * Run with {@code ./gradlew test -DincludeTags="BenchmarkTest"} on JDK 21 or later.
+ */
+@BenchmarkTest
+class HttpTransferThreadsBenchmarkTest {
+
+    private static final int TRANSFERS = 1000;
+    private static final int BACKEND_DELAY_MILLIS = 200;
+    private static final int MAX_SLOWDOWN_PERCENT = 20;
+
+    private final int port = getFreePort();
+    private final ClientAndServer server = startClientAndServer(port);
+    private final HttpRequestFactory requestFactory = new HttpRequestFactory();
+    private final Monitor monitor = mock(Monitor.class);
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void virtualThreads_shouldNotBeSlowerThanPlatformThreads(TestReporter reporter) {
+        assumeTrue(VirtualThreadExecutorFactory.isSupported(), "Virtual threads require JDK 21 or later");
+        server.when(request().withMethod("GET").withPath("/source"))
+                .respond(response().withStatusCode(200).withBody("data").withDelay(MILLISECONDS, BACKEND_DELAY_MILLIS));
+        server.when(request().withMethod("POST").withPath("/sink"))
+                .respond(response().withStatusCode(200).withDelay(MILLISECONDS, BACKEND_DELAY_MILLIS));
+
+        runTransfers(ExecutorFactory.platform()); // warm-up
+
+        var platform = runTransfers(ExecutorFactory.platform());
+        var virtual = runTransfers(new VirtualThreadExecutorFactory());
+
+        reporter.publishEntry("platform threads", platform.toString());
+        reporter.publishEntry("virtual threads", virtual.toString());
+        assertThat(virtual.elapsed()).isLessThanOrEqualTo(platform.elapsed().multipliedBy(100 + MAX_SLOWDOWN_PERCENT).dividedBy(100));
+        assertThat(virtual.peakPlatformThreads()).isLessThan(platform.peakPlatformThreads());
+    }
+
+    private Measurement runTransfers(ExecutorFactory executorFactory) {
+        var threads = ManagementFactory.getThreadMXBean();
+        var workers = executorFactory.newFixedThreadPool(TRANSFERS, "benchmark-worker");
+        var transferExecutor = executorFactory.newFixedThreadPool(TRANSFERS, "benchmark-transfer");
+        threads.resetPeakThreadCount();
+        var start = System.nanoTime();
+        try {
+            var futures = IntStream.range(0, TRANSFERS)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> transfer(String.valueOf(i), transferExecutor), workers).thenCompose(Function.identity()))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).get(5, MINUTES);
+
+            for (var future : futures) {
+                assertThat(((StreamResult<?>) future.join()).succeeded()).isTrue();
+            }
+            return new Measurement(Duration.ofNanos(System.nanoTime() - start), threads.getPeakThreadCount());
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        } finally {
+            workers.shutdownNow();
+            transferExecutor.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<StreamResult<Void>> transfer(String requestId, ExecutorService executorService) {
+        var source = HttpDataSource.Builder.newInstance()
+                .params(HttpRequestParams.Builder.newInstance().baseUrl("http://localhost:" + port + "/source").method("GET").build())
+                .name("source")
+                .requestId(requestId)
+                .httpClient(testHttpClient())
+                .monitor(monitor)
+                .requestFactory(requestFactory)
+                .build();
+
+        var sink = HttpDataSink.Builder.newInstance()
+                .params(HttpRequestParams.Builder.newInstance().baseUrl("http://localhost:" + port + "/sink").method("POST").contentType("text/plain").build())
+                .requestId(requestId)
+                .httpClient(testHttpClient())
+                .executorService(executorService)
+                .monitor(monitor)
+                .requestFactory(requestFactory)
+                .build();
+
+        return sink.transfer(source);
+    }
+
+    private record Measurement(Duration elapsed, int peakPlatformThreads) {
+        @Override
+        public String toString() {
+            return String.format("elapsed %d ms, peak platform threads %d", elapsed.toMillis(), peakPlatformThreads);
+        }
+    }
+}
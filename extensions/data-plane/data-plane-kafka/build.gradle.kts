@@ -8,6 +8,7 @@ dependencies {
     implementation(project(":core:common:util"))
     implementation(project(":core:data-plane:data-plane-util"))
     implementation(libs.kafkaClients)
+    implementation(libs.micrometer)
 
     testImplementation(project(":core:common:junit"))
     testImplementation(libs.mockserver.netty)
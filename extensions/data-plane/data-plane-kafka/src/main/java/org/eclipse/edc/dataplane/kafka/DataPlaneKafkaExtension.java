@@ -14,22 +14,41 @@
 
 package org.eclipse.edc.dataplane.kafka;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.dataplane.kafka.config.KafkaPropertiesFactory;
+import org.eclipse.edc.dataplane.kafka.pipeline.KafkaConsumerPool;
 import org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSinkFactory;
 import org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSourceFactory;
+import org.eclipse.edc.dataplane.kafka.pipeline.KafkaProducerPool;
+import org.eclipse.edc.dataplane.kafka.pipeline.KafkaSinkMetrics;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorFactory;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Extension(value = DataPlaneKafkaExtension.NAME)
 public class DataPlaneKafkaExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Kafka";
+    private static final long DEFAULT_CLIENT_IDLE_TIMEOUT = 300;
+    @Setting(value = "Time in seconds after which a pooled Kafka producer or consumer that is not used by any transfer is closed. Idle clients are looked for at the same period", type = "long",
+            defaultValue = DEFAULT_CLIENT_IDLE_TIMEOUT + "")
+    private static final String CLIENT_IDLE_TIMEOUT = "edc.dataplane.kafka.client.idle.timeout";
+    private static final int DEFAULT_SINK_PARTITION_SIZE = 100;
+    @Setting(value = "Number of records published by a Kafka data sink before waiting for their acknowledgement", type = "int",
+            defaultValue = DEFAULT_SINK_PARTITION_SIZE + "")
+    private static final String SINK_PARTITION_SIZE = "edc.dataplane.kafka.sink.partition.size";
 
     @Inject
     private DataTransferExecutorServiceContainer executorContainer;
@@ -40,6 +59,18 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     @Inject
     private Clock clock;
 
+    @Inject
+    private ExecutorFactory executorFactory;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    private Monitor monitor;
+    private Duration idleTimeout;
+    private KafkaProducerPool producerPool;
+    private KafkaConsumerPool consumerPool;
+    private ScheduledExecutorService idleClientsExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -47,10 +78,47 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var monitor = context.getMonitor();
+        monitor = context.getMonitor();
         var propertiesFactory = new KafkaPropertiesFactory();
 
-        pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock));
-        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory));
+        idleTimeout = Duration.ofSeconds(context.getSetting(CLIENT_IDLE_TIMEOUT, DEFAULT_CLIENT_IDLE_TIMEOUT));
+        producerPool = new KafkaProducerPool(clock, idleTimeout);
+        consumerPool = new KafkaConsumerPool(clock, idleTimeout);
+        var sinkMetrics = new KafkaSinkMetrics(meterRegistry != null ? meterRegistry : Metrics.globalRegistry);
+        var sinkPartitionSize = context.getSetting(SINK_PARTITION_SIZE, DEFAULT_SINK_PARTITION_SIZE);
+
+        pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock, consumerPool,
+                executorFactory.threadFactory("KafkaConsumer")));
+        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory,
+                producerPool, sinkMetrics, sinkPartitionSize));
+    }
+
+    @Override
+    public void start() {
+        idleClientsExecutor = executorFactory.newSingleThreadScheduledExecutor("KafkaIdleClients");
+        idleClientsExecutor.scheduleWithFixedDelay(this::closeIdleClients, idleTimeout.toMillis(), idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        if (idleClientsExecutor != null) {
+            idleClientsExecutor.shutdownNow();
+        }
+        if (producerPool != null) {
+            producerPool.close();
+        }
+        if (consumerPool != null) {
+            consumerPool.close();
+        }
+    }
+
+    private void closeIdleClients() {
+        // an exception would cancel the next runs
+        try {
+            producerPool.closeIdleProducers();
+            consumerPool.closeIdleConsumers();
+        } catch (Exception e) {
+            monitor.warning("Failed to close idle Kafka clients", e);
+        }
     }
 }
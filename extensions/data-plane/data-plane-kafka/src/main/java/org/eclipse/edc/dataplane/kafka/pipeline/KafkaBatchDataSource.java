@@ -0,0 +1,353 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
+
+/**
+ * Kafka {@link DataSource} that consumes the topic with several consumers of the same group, each one polling the
+ * partitions assigned to it on its own thread. The records polled from a partition are emitted as a single part, in
+ * which they are encoded with a {@link RecordBatchFormat}.
+ * <p>
+ * Auto-commit is disabled: the offset of a batch is committed, by the consumer that polled it, once the sink has
+ * transferred the batch, i.e. has closed its part, and all the earlier batches of the same partition. Batches that are
+ * not transferred, e.g. because the transfer failed or the stream ended, are consumed again by the next consumer of the
+ * group, so that records are delivered at least once.
+ */
+class KafkaBatchDataSource implements DataSource, Closeable {
+
+    private static final int QUEUED_BATCHES_PER_CONSUMER = 2;
+    private static final Duration ACKNOWLEDGEMENT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final OffsetTracker offsets = new OffsetTracker();
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+    private String name;
+    private Monitor monitor;
+    private Duration pollDuration;
+    private Duration maxDuration;
+    private Clock clock;
+    private int consumerThreads = 1;
+    private RecordBatchFormat format = RecordBatchFormat.LENGTH_PREFIXED;
+    private ThreadFactory threadFactory;
+    private KafkaConsumerPool consumerPool;
+    private Properties consumerProperties;
+    private String topic;
+    private boolean sharedGroup;
+    private BlockingQueue<RecordBatchPart> batches;
+    private volatile boolean closed;
+
+    private KafkaBatchDataSource() {
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        for (var i = 0; i < consumerThreads; i++) {
+            threadFactory.newThread(new Fetcher()).start();
+        }
+        return success(StreamSupport.stream(Spliterators.<Part>spliteratorUnknownSize(new BatchIterator(), 0), /* not parallel */ false)
+                .onClose(this::close));
+    }
+
+    /**
+     * Stops the consumers. Each one waits for the sink to acknowledge the batches already emitted, commits their offsets
+     * and is then released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        batches.clear();
+    }
+
+    private void debug(String message) {
+        monitor.debug(format("KafkaDataSource %s %s", name, message));
+    }
+
+    public static class Builder {
+
+        private final KafkaBatchDataSource dataSource;
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder name(String name) {
+            dataSource.name = name;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            dataSource.monitor = monitor;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            dataSource.clock = clock;
+            return this;
+        }
+
+        public Builder topic(String topic) {
+            dataSource.topic = topic;
+            return this;
+        }
+
+        public Builder pollDuration(Duration pollDuration) {
+            dataSource.pollDuration = pollDuration;
+            return this;
+        }
+
+        public Builder maxDuration(Duration maxDuration) {
+            dataSource.maxDuration = maxDuration;
+            return this;
+        }
+
+        public Builder consumerProperties(Properties consumerProperties) {
+            dataSource.consumerProperties = consumerProperties;
+            return this;
+        }
+
+        public Builder consumerPool(KafkaConsumerPool consumerPool) {
+            dataSource.consumerPool = consumerPool;
+            return this;
+        }
+
+        /**
+         * Whether the consumer group is shared with other transfers, in which case the consumers are reused by them.
+         */
+        public Builder sharedGroup(boolean sharedGroup) {
+            dataSource.sharedGroup = sharedGroup;
+            return this;
+        }
+
+        public Builder consumerThreads(int consumerThreads) {
+            dataSource.consumerThreads = consumerThreads;
+            return this;
+        }
+
+        public Builder format(RecordBatchFormat format) {
+            dataSource.format = format;
+            return this;
+        }
+
+        public Builder threadFactory(ThreadFactory threadFactory) {
+            dataSource.threadFactory = threadFactory;
+            return this;
+        }
+
+        public KafkaBatchDataSource build() {
+            Objects.requireNonNull(dataSource.monitor, "monitor");
+            Objects.requireNonNull(dataSource.pollDuration, "pollDuration");
+            Objects.requireNonNull(dataSource.topic, "topic");
+            Objects.requireNonNull(dataSource.consumerProperties, "consumerProperties");
+            Objects.requireNonNull(dataSource.clock, "clock");
+            Objects.requireNonNull(dataSource.consumerPool, "consumerPool");
+            Objects.requireNonNull(dataSource.format, "format");
+            Objects.requireNonNull(dataSource.threadFactory, "threadFactory");
+            if (dataSource.consumerThreads < 1) {
+                throw new IllegalArgumentException("consumerThreads must be positive");
+            }
+
+            // offsets are committed once the batches are transferred
+            var properties = new Properties();
+            properties.putAll(dataSource.consumerProperties);
+            properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+            dataSource.consumerProperties = properties;
+            dataSource.batches = new ArrayBlockingQueue<>(dataSource.consumerThreads * QUEUED_BATCHES_PER_CONSUMER);
+
+            return dataSource;
+        }
+
+        private Builder() {
+            dataSource = new KafkaBatchDataSource();
+        }
+    }
+
+    /**
+     * Records polled from a partition. Closing the part acknowledges that it has been transferred, and releases its
+     * records.
+     */
+    class RecordBatchPart implements Part {
+
+        private final TopicPartition partition;
+        private final long nextOffset;
+        private volatile List<ConsumerRecord<String, byte[]>> records;
+        private OffsetTracker.Acknowledgement acknowledgement;
+
+        private RecordBatchPart(TopicPartition partition, List<ConsumerRecord<String, byte[]>> records) {
+            this.partition = partition;
+            this.records = records;
+            this.nextOffset = records.get(records.size() - 1).offset() + 1;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public InputStream openStream() {
+            var values = records;
+            if (values == null) {
+                throw new IllegalStateException("Batch already transferred");
+            }
+            return new ByteArrayInputStream(format.encode(values.stream()
+                    .map(consumerRecord -> consumerRecord.value() == null ? new byte[0] : consumerRecord.value())
+                    .collect(toList())));
+        }
+
+        @Override
+        public void close() {
+            records = null;
+            acknowledgement.acknowledge();
+        }
+    }
+
+    /**
+     * Polls the partitions assigned to its consumer and queues their batches, until the source is closed.
+     */
+    private class Fetcher implements Runnable {
+
+        @Override
+        public void run() {
+            try (var lease = consumerPool.acquire(consumerProperties, topic, sharedGroup)) {
+                var consumer = lease.consumer();
+                try {
+                    while (!closed) {
+                        commitAsync(consumer);
+                        var records = consumer.poll(pollDuration);
+                        for (var partition : records.partitions()) {
+                            enqueue(new RecordBatchPart(partition, records.records(partition)));
+                        }
+                    }
+                } finally {
+                    commitOnClose(consumer);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                failure.compareAndSet(null, e);
+                monitor.severe(format("KafkaDataSource %s failed consuming topic %s", name, topic), e);
+            }
+        }
+
+        private void enqueue(RecordBatchPart batch) throws InterruptedException {
+            // waits while the sink is lagging behind
+            var queued = false;
+            while (!closed && !queued) {
+                queued = batches.offer(batch, pollDuration.toMillis(), MILLISECONDS);
+            }
+        }
+
+        private void commitAsync(Consumer<String, byte[]> consumer) {
+            var committable = offsets.committable(consumer.assignment());
+            if (!committable.isEmpty()) {
+                consumer.commitAsync(committable, (committed, e) -> {
+                    if (e != null) {
+                        monitor.warning(format("KafkaDataSource %s failed committing offsets %s", name, committed), e);
+                    }
+                });
+            }
+        }
+
+        private void commitOnClose(Consumer<String, byte[]> consumer) throws InterruptedException {
+            var assignment = consumer.assignment();
+            var deadline = clock.millis() + ACKNOWLEDGEMENT_TIMEOUT.toMillis();
+            while (offsets.hasUnacknowledged(assignment) && clock.millis() < deadline) {
+                offsets.awaitAcknowledgement(pollDuration);
+            }
+            var committable = offsets.committable(assignment);
+            if (!committable.isEmpty()) {
+                try {
+                    consumer.commitSync(committable);
+                } catch (KafkaException e) {
+                    monitor.warning(format("KafkaDataSource %s failed committing offsets %s", name, committable), e);
+                }
+            }
+        }
+    }
+
+    private class BatchIterator implements Iterator<Part> {
+
+        private final Instant streamEnd;
+        private RecordBatchPart next;
+
+        BatchIterator() {
+            this.streamEnd = maxDuration == null ? Instant.MAX : clock.instant().plus(maxDuration);
+            debug(format("starts consuming events with %s consumers until: %s", consumerThreads, streamEnd));
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !clock.instant().isAfter(streamEnd)) {
+                var error = failure.get();
+                if (error != null) {
+                    throw new EdcException(format("KafkaDataSource %s failed consuming topic %s", name, topic), error);
+                }
+                try {
+                    next = batches.poll(pollDuration.toMillis(), MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            if (next == null) {
+                debug("max duration reached");
+            }
+            return next != null;
+        }
+
+        @Override
+        public Part next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var batch = next;
+            next = null;
+            batch.acknowledgement = offsets.emitted(batch.partition, batch.nextOffset);
+            return batch;
+        }
+    }
+}
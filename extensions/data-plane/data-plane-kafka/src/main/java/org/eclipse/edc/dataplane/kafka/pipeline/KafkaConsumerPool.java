@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.KafkaException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Keeps the Kafka {@link Consumer}s of the data sources that consume as members of a shared consumer group, i.e. whose
+ * {@code group.id} is set in the data address, so that the next transfer with the same consumer properties reuses the
+ * connections and metadata of a consumer instead of setting up a new one. Consumers are not thread-safe, so a consumer
+ * is leased to a single data source at a time.
+ * <p>
+ * A released consumer commits its offsets, if auto-commit is enabled, and leaves the group by unsubscribing, so that
+ * its partitions get assigned to the other members while it is idle. Idle consumers are closed by
+ * {@link #closeIdleConsumers()}, which is expected to be run periodically, once they have been idle for the configured
+ * timeout, or when the pool is closed. Consumers are closed outside the lock of the pool, as closing one commits its
+ * offsets and leaves its group. Consumers of a group dedicated to a single transfer are never pooled.
+ */
+public class KafkaConsumerPool implements AutoCloseable {
+
+    private final Function<Properties, Consumer<String, byte[]>> consumerFactory;
+    private final Clock clock;
+    private final Duration idleTimeout;
+    private final Map<Map<Object, Object>, Deque<IdleConsumer>> idleConsumers = new HashMap<>();
+
+    public KafkaConsumerPool(Clock clock, Duration idleTimeout) {
+        this(KafkaConsumer::new, clock, idleTimeout);
+    }
+
+    public KafkaConsumerPool(Function<Properties, Consumer<String, byte[]>> consumerFactory, Clock clock, Duration idleTimeout) {
+        this.consumerFactory = consumerFactory;
+        this.clock = clock;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Leases a consumer subscribed to the topic. The lease must be closed once the consumer is not used anymore.
+     *
+     * @param properties the consumer properties.
+     * @param topic      the topic to subscribe to.
+     * @param reusable   whether the consumer can be reused by other transfers, i.e. its consumer group is shared.
+     */
+    public Lease acquire(Properties properties, String topic, boolean reusable) {
+        var key = Map.copyOf(properties);
+        Consumer<String, byte[]> consumer = null;
+        if (reusable) {
+            consumer = pollIdleConsumer(key);
+        }
+        if (consumer == null) {
+            consumer = consumerFactory.apply(properties);
+        }
+        consumer.subscribe(List.of(topic));
+        return new Lease(reusable ? key : null, consumer);
+    }
+
+    /**
+     * Closes the consumers that have not been leased for the configured timeout.
+     */
+    public void closeIdleConsumers() {
+        var expired = new ArrayList<IdleConsumer>();
+        synchronized (this) {
+            var now = clock.millis();
+            idleConsumers.values().forEach(consumers -> consumers.removeIf(idle -> {
+                var isExpired = now - idle.since >= idleTimeout.toMillis();
+                if (isExpired) {
+                    expired.add(idle);
+                }
+                return isExpired;
+            }));
+            idleConsumers.values().removeIf(Deque::isEmpty);
+        }
+        expired.forEach(idle -> idle.consumer.close());
+    }
+
+    @Override
+    public void close() {
+        var consumers = new ArrayList<IdleConsumer>();
+        synchronized (this) {
+            idleConsumers.values().forEach(consumers::addAll);
+            idleConsumers.clear();
+        }
+        consumers.forEach(idle -> idle.consumer.close());
+    }
+
+    private synchronized Consumer<String, byte[]> pollIdleConsumer(Map<Object, Object> key) {
+        var consumers = idleConsumers.get(key);
+        var idle = consumers == null ? null : consumers.pollLast();
+        return idle == null ? null : idle.consumer;
+    }
+
+    private void release(Map<Object, Object> key, Consumer<String, byte[]> consumer) {
+        if (key == null) {
+            consumer.close();
+            return;
+        }
+        try {
+            if (!"false".equalsIgnoreCase(String.valueOf(key.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG)))) {
+                consumer.commitSync();
+            }
+            consumer.unsubscribe();
+        } catch (KafkaException e) {
+            consumer.close();
+            return;
+        }
+        synchronized (this) {
+            idleConsumers.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(new IdleConsumer(consumer, clock.millis()));
+        }
+    }
+
+    /**
+     * Lease of a consumer.
+     */
+    public final class Lease implements AutoCloseable {
+        private final Map<Object, Object> key;
+        private final Consumer<String, byte[]> consumer;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(Map<Object, Object> key, Consumer<String, byte[]> consumer) {
+            this.key = key;
+            this.consumer = consumer;
+        }
+
+        public Consumer<String, byte[]> consumer() {
+            return consumer;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(key, consumer);
+            }
+        }
+    }
+
+    private record IdleConsumer(Consumer<String, byte[]> consumer, long since) {
+    }
+}
@@ -14,61 +14,110 @@
 
 package org.eclipse.edc.dataplane.kafka.pipeline;
 
-import org.apache.kafka.clients.producer.KafkaProducer;
-import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
-import org.eclipse.edc.spi.result.AbstractResult;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import static java.lang.String.format;
+
+/**
+ * Publishes the parts as records of a topic. The records of each partition of parts are reported as transferred only
+ * once they have been acknowledged by the brokers, according to the {@code acks} producer property, which gives
+ * at-least-once delivery.
+ */
 class KafkaDataSink extends ParallelSink implements Closeable {
 
     private String topic;
-    private Producer<String, byte[]> producer;
+    private KafkaProducerPool.Lease producerLease;
+    private KafkaSinkMetrics metrics;
 
     private KafkaDataSink() {
     }
-    
+
+    @Override
+    public CompletableFuture<StreamResult<Void>> transfer(DataSource source) {
+        return super.transfer(source).whenComplete((result, throwable) -> close());
+    }
+
     @Override
     public void close() {
-        if (producer != null) {
-            producer.close();
+        if (producerLease != null) {
+            producerLease.close();
         }
     }
 
     @Override
     protected StreamResult<Void> transferParts(List<DataSource.Part> parts) {
-        return parts.stream()
-                .map(this::publishPart)
-                .filter(AbstractResult::failed)
-                .findFirst()
-                .orElse(StreamResult.success());
+        var producer = producerLease.producer();
+        var acknowledgements = new ArrayList<Future<RecordMetadata>>(parts.size());
+        var failed = 0;
+        StreamResult<Void> result = StreamResult.success();
+        for (var part : parts) {
+            try {
+                acknowledgements.add(producer.send(new ProducerRecord<>(topic, null, readValue(part))));
+            } catch (IOException e) {
+                result = StreamResult.error("Failed to open part with name: " + part.name());
+                break;
+            } catch (KafkaException e) {
+                // errors raised synchronously are not recoverable, so the producer is not shared anymore
+                producerLease.invalidate();
+                failed++;
+                monitor.warning(format("Failed to publish message to topic %s", topic), e);
+                result = StreamResult.error(format("Failed to publish message to topic %s: %s", topic, e.getMessage()));
+                break;
+            }
+        }
+
+        // the records already sent are awaited even after a failure, so that only the failed ones are counted as such
+        var published = 0;
+        for (var acknowledgement : acknowledgements) {
+            try {
+                acknowledgement.get();
+                published++;
+            } catch (ExecutionException e) {
+                failed++;
+                monitor.warning(format("Failed to publish message to topic %s", topic), e.getCause());
+                if (result.succeeded()) {
+                    result = StreamResult.error(format("Failed to publish message to topic %s: %s", topic, e.getCause().getMessage()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                metrics.recorded(published, failed);
+                return StreamResult.error(format("Interrupted while publishing messages to topic %s", topic));
+            }
+        }
+
+        metrics.recorded(published, failed);
+        return result;
     }
 
-    private StreamResult<Void> publishPart(DataSource.Part part) {
+    private byte[] readValue(DataSource.Part part) throws IOException {
+        if (part instanceof KafkaDataSource.KafkaPart kafkaPart) {
+            // records consumed from Kafka are forwarded without copying their value
+            return kafkaPart.value();
+        }
         try (var is = part.openStream()) {
-            // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
-                if (exception != null) {
-                    monitor.warning("Failed to publish message:  " + metadata, exception);
-                }
-            });
-            return StreamResult.success();
-        } catch (IOException e) {
-            return StreamResult.error("Failed to open part with name: " + part.name());
+            return is.readAllBytes();
         }
     }
 
     public static class Builder extends ParallelSink.Builder<Builder, KafkaDataSink> {
 
         private Properties producerProperties;
+        private KafkaProducerPool producerPool;
 
         public static Builder newInstance() {
             return new Builder();
@@ -88,13 +137,25 @@ class KafkaDataSink extends ParallelSink implements Closeable {
             return this;
         }
 
+        public Builder producerPool(KafkaProducerPool producerPool) {
+            this.producerPool = producerPool;
+            return this;
+        }
+
+        public Builder metrics(KafkaSinkMetrics metrics) {
+            sink.metrics = metrics;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.monitor, "monitor");
             Objects.requireNonNull(sink.topic, "topic");
+            Objects.requireNonNull(sink.metrics, "metrics");
             Objects.requireNonNull(producerProperties, "producerProperties");
+            Objects.requireNonNull(producerPool, "producerPool");
 
-            sink.producer = new KafkaProducer<>(producerProperties);
+            sink.producerLease = producerPool.acquire(producerProperties);
         }
     }
 }
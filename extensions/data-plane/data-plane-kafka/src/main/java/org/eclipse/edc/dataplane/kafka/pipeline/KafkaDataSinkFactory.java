@@ -37,12 +37,19 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
     private final Monitor monitor;
     private final KafkaPropertiesFactory propertiesFactory;
     private final KafkaSinkDataAddressValidation validation;
+    private final KafkaProducerPool producerPool;
+    private final KafkaSinkMetrics metrics;
+    private final int partitionSize;
 
-    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory) {
+    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory,
+                                KafkaProducerPool producerPool, KafkaSinkMetrics metrics, int partitionSize) {
         this.executorService = executorService;
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
         this.validation = new KafkaSinkDataAddressValidation(propertiesFactory);
+        this.producerPool = producerPool;
+        this.metrics = metrics;
+        this.partitionSize = partitionSize;
     }
 
     @Override
@@ -75,6 +82,9 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
                 .requestId(request.getId())
                 .topic(topic)
                 .producerProperties(producerProps)
+                .producerPool(producerPool)
+                .metrics(metrics)
+                .partitionSize(partitionSize)
                 .executorService(executorService)
                 .build();
     }
@@ -15,9 +15,11 @@
 package org.eclipse.edc.dataplane.kafka.pipeline;
 
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -30,40 +32,92 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static java.lang.String.format;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 
+/**
+ * Kafka {@link DataSource} that emits each record as its own part.
+ * <p>
+ * Auto-commit is disabled: the offset of a record is committed once the sink has transferred it, i.e. has closed its
+ * part, and all the earlier records of the same partition. Records that are not transferred, e.g. because the transfer
+ * failed or the stream ended, are consumed again by the next consumer of the group, so that records are delivered at
+ * least once.
+ */
 class KafkaDataSource implements DataSource, Closeable {
 
+    private static final Duration ACKNOWLEDGEMENT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final OffsetTracker offsets = new OffsetTracker();
+    private final AtomicBoolean closed = new AtomicBoolean();
     private String name;
     private Monitor monitor;
     private Duration pollDuration;
     private Duration maxDuration;
     private Consumer<String, byte[]> consumer;
+    private KafkaConsumerPool.Lease consumerLease;
     private Clock clock;
 
     private KafkaDataSource() {
     }
 
+    /**
+     * Waits for the sink to acknowledge the parts already emitted, commits their offsets and releases the consumer.
+     */
     @Override
     public void close() {
-        if (consumer != null) {
-            consumer.close();
+        if (consumerLease != null && closed.compareAndSet(false, true)) {
+            try {
+                commitOnClose();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                consumerLease.close();
+            }
         }
     }
 
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
         return success(openRecordsStream()
-                .flatMap(consumerRecords -> consumerRecords.partitions().stream()
+                .<Part>flatMap(consumerRecords -> consumerRecords.partitions().stream()
                         .flatMap(p -> consumerRecords.records(p).stream())
-                        .map(KafkaPart::new)));
+                        .map(consumerRecord -> new KafkaPart(consumerRecord,
+                                offsets.emitted(new TopicPartition(consumerRecord.topic(), consumerRecord.partition()), consumerRecord.offset() + 1))))
+                .onClose(this::close));
+    }
+
+    private void commitAsync() {
+        var committable = offsets.committable(consumer.assignment());
+        if (!committable.isEmpty()) {
+            consumer.commitAsync(committable, (committed, e) -> {
+                if (e != null) {
+                    monitor.warning(format("KafkaDataSource %s failed committing offsets %s", name, committed), e);
+                }
+            });
+        }
+    }
+
+    private void commitOnClose() throws InterruptedException {
+        var assignment = consumer.assignment();
+        var deadline = clock.millis() + ACKNOWLEDGEMENT_TIMEOUT.toMillis();
+        while (offsets.hasUnacknowledged(assignment) && clock.millis() < deadline) {
+            offsets.awaitAcknowledgement(pollDuration);
+        }
+        var committable = offsets.committable(assignment);
+        if (!committable.isEmpty()) {
+            try {
+                consumer.commitSync(committable);
+            } catch (KafkaException e) {
+                monitor.warning(format("KafkaDataSource %s failed committing offsets %s", name, committable), e);
+            }
+        }
     }
 
     @NotNull
@@ -77,6 +131,8 @@ class KafkaDataSource implements DataSource, Closeable {
 
         private Properties consumerProperties;
         private String topic;
+        private KafkaConsumerPool consumerPool;
+        private boolean sharedGroup;
         private final KafkaDataSource dataSource;
 
         public static Builder newInstance() {
@@ -118,15 +174,33 @@ class KafkaDataSource implements DataSource, Closeable {
             return this;
         }
 
+        public Builder consumerPool(KafkaConsumerPool consumerPool) {
+            this.consumerPool = consumerPool;
+            return this;
+        }
+
+        /**
+         * Whether the consumer group is shared with other transfers, in which case the consumer is reused by them.
+         */
+        public Builder sharedGroup(boolean sharedGroup) {
+            this.sharedGroup = sharedGroup;
+            return this;
+        }
+
         public KafkaDataSource build() {
             Objects.requireNonNull(dataSource.monitor, "monitor");
             Objects.requireNonNull(dataSource.pollDuration, "pollDuration");
             Objects.requireNonNull(topic, "topic");
             Objects.requireNonNull(consumerProperties, "consumerProperties");
             Objects.requireNonNull(dataSource.clock, "clock");
+            Objects.requireNonNull(consumerPool, "consumerPool");
 
-            dataSource.consumer = new KafkaConsumer<>(consumerProperties);
-            dataSource.consumer.subscribe(List.of(topic));
+            // offsets are committed once the records are transferred
+            var properties = new Properties();
+            properties.putAll(consumerProperties);
+            properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+            dataSource.consumerLease = consumerPool.acquire(properties, topic, sharedGroup);
+            dataSource.consumer = dataSource.consumerLease.consumer();
 
             return dataSource;
         }
@@ -136,12 +210,17 @@ class KafkaDataSource implements DataSource, Closeable {
         }
     }
 
-    private class KafkaPart implements Part {
+    /**
+     * Record polled from a partition. Closing the part acknowledges that it has been transferred.
+     */
+    class KafkaPart implements Part {
 
         private final ConsumerRecord<String, byte[]> consumerRecord;
+        private final OffsetTracker.Acknowledgement acknowledgement;
 
-        private KafkaPart(ConsumerRecord<String, byte[]> consumerRecord) {
+        private KafkaPart(ConsumerRecord<String, byte[]> consumerRecord, OffsetTracker.Acknowledgement acknowledgement) {
             this.consumerRecord = consumerRecord;
+            this.acknowledgement = acknowledgement;
         }
 
         @Override
@@ -153,6 +232,15 @@ class KafkaDataSource implements DataSource, Closeable {
         public InputStream openStream() {
             return new ByteArrayInputStream(consumerRecord.value());
         }
+
+        @Override
+        public void close() {
+            acknowledgement.acknowledge();
+        }
+
+        byte[] value() {
+            return consumerRecord.value();
+        }
     }
 
     private class ConsumerRecordsIterator implements Iterator<ConsumerRecords<String, byte[]>> {
@@ -175,6 +263,7 @@ class KafkaDataSource implements DataSource, Closeable {
 
         @Override
         public ConsumerRecords<String, byte[]> next() {
+            commitAsync();
             var records = consumer.poll(Duration.ZERO);
             while (records.isEmpty()) {
                 records = consumer.poll(pollDuration);
@@ -30,8 +30,11 @@ import org.jetbrains.annotations.NotNull;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.BATCH_FORMAT;
+import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.CONSUMER_THREADS;
 import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.MAX_DURATION;
 import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.NAME;
@@ -46,12 +49,17 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
     private final ValidationRule<DataAddress> validation;
     private final KafkaPropertiesFactory propertiesFactory;
     private final Clock clock;
+    private final KafkaConsumerPool consumerPool;
+    private final ThreadFactory consumerThreadFactory;
 
-    public KafkaDataSourceFactory(Monitor monitor, KafkaPropertiesFactory propertiesFactory, Clock clock) {
+    public KafkaDataSourceFactory(Monitor monitor, KafkaPropertiesFactory propertiesFactory, Clock clock, KafkaConsumerPool consumerPool,
+                                  ThreadFactory consumerThreadFactory) {
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
         this.validation = new KafkaSourceDataAddressValidationRule(propertiesFactory);
         this.clock = clock;
+        this.consumerPool = consumerPool;
+        this.consumerThreadFactory = consumerThreadFactory;
     }
 
     @Override
@@ -73,11 +81,14 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
         }
 
         var source = request.getSourceDataAddress();
-        var groupId = request.getProcessId() + ":" + request.getId();
 
         var consumerProps = propertiesFactory.getConsumerProperties(source.getProperties())
                 .orElseThrow(failure -> new IllegalArgumentException(failure.getFailureDetail()));
-        consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        // a group id set in the data address is shared with other transfers, otherwise the transfer gets its own group
+        var sharedGroup = consumerProps.containsKey(ConsumerConfig.GROUP_ID_CONFIG);
+        if (!sharedGroup) {
+            consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, request.getProcessId() + ":" + request.getId());
+        }
 
         var topic = Optional.ofNullable(source.getProperty(TOPIC))
                 .orElseThrow(() -> new IllegalArgumentException(format("Missing `%s` config", TOPIC)));
@@ -92,6 +103,23 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
                 .map(Duration::parse)
                 .orElse(DEFAULT_POLL_DURATION);
 
+        if (source.hasProperty(CONSUMER_THREADS) || source.hasProperty(BATCH_FORMAT)) {
+            return KafkaBatchDataSource.Builder.newInstance()
+                    .monitor(monitor)
+                    .clock(clock)
+                    .topic(topic)
+                    .name(name)
+                    .pollDuration(pollDuration)
+                    .maxDuration(maxDuration)
+                    .consumerProperties(consumerProps)
+                    .consumerPool(consumerPool)
+                    .sharedGroup(sharedGroup)
+                    .consumerThreads(Optional.ofNullable(source.getProperty(CONSUMER_THREADS)).map(Integer::parseInt).orElse(1))
+                    .format(Optional.ofNullable(source.getProperty(BATCH_FORMAT)).map(RecordBatchFormat::fromValue).orElse(RecordBatchFormat.LENGTH_PREFIXED))
+                    .threadFactory(consumerThreadFactory)
+                    .build();
+        }
+
         return KafkaDataSource.Builder.newInstance()
                 .monitor(monitor)
                 .clock(clock)
@@ -100,6 +128,8 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
                 .pollDuration(pollDuration)
                 .maxDuration(maxDuration)
                 .consumerProperties(consumerProps)
+                .consumerPool(consumerPool)
+                .sharedGroup(sharedGroup)
                 .build();
     }
 }
@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Shares the Kafka {@link Producer}s between the data sinks that publish with the same producer properties, so that
+ * the connections, metadata and buffers of a producer are reused across transfers instead of being set up for every
+ * one of them. Producers are thread-safe, so a producer serves any number of sinks at once.
+ * <p>
+ * A producer that is not used by any sink anymore is closed by {@link #closeIdleProducers()}, which is expected to be
+ * run periodically, once it has been idle for the configured timeout, or when the pool is closed. Producers are closed
+ * outside the lock of the pool, as closing one flushes its pending records.
+ */
+public class KafkaProducerPool implements AutoCloseable {
+
+    private final Function<Properties, Producer<String, byte[]>> producerFactory;
+    private final Clock clock;
+    private final Duration idleTimeout;
+    private final Map<Map<Object, Object>, PooledProducer> producers = new HashMap<>();
+
+    public KafkaProducerPool(Clock clock, Duration idleTimeout) {
+        this(KafkaProducer::new, clock, idleTimeout);
+    }
+
+    public KafkaProducerPool(Function<Properties, Producer<String, byte[]>> producerFactory, Clock clock, Duration idleTimeout) {
+        this.producerFactory = producerFactory;
+        this.clock = clock;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Leases the producer for the given properties, creating it if none is pooled yet. The lease must be closed once
+     * the producer is not used anymore.
+     */
+    public synchronized Lease acquire(Properties properties) {
+        var key = Map.copyOf(properties);
+        var pooled = producers.computeIfAbsent(key, k -> new PooledProducer(producerFactory.apply(properties)));
+        pooled.leases++;
+        return new Lease(key, pooled);
+    }
+
+    /**
+     * Closes the producers that have not been used by any sink for the configured timeout.
+     */
+    public void closeIdleProducers() {
+        var idle = new ArrayList<PooledProducer>();
+        synchronized (this) {
+            var now = clock.millis();
+            producers.values().removeIf(pooled -> {
+                var expired = pooled.leases == 0 && now - pooled.idleSince >= idleTimeout.toMillis();
+                if (expired) {
+                    idle.add(pooled);
+                }
+                return expired;
+            });
+        }
+        idle.forEach(pooled -> pooled.producer.close());
+    }
+
+    @Override
+    public void close() {
+        List<PooledProducer> pooledProducers;
+        synchronized (this) {
+            pooledProducers = new ArrayList<>(producers.values());
+            producers.clear();
+        }
+        pooledProducers.forEach(pooled -> pooled.producer.close());
+    }
+
+    private void release(Map<Object, Object> key, PooledProducer pooled) {
+        if (releaseLease(key, pooled)) {
+            pooled.producer.close();
+        }
+    }
+
+    /**
+     * Returns whether the producer has to be closed, i.e. its last lease has been released and it has been invalidated.
+     */
+    private synchronized boolean releaseLease(Map<Object, Object> key, PooledProducer pooled) {
+        pooled.leases--;
+        if (pooled.leases > 0) {
+            return false;
+        }
+        if (producers.get(key) != pooled) {
+            // the producer has been invalidated
+            return true;
+        }
+        pooled.idleSince = clock.millis();
+        return false;
+    }
+
+    private synchronized void invalidate(Map<Object, Object> key, PooledProducer pooled) {
+        producers.remove(key, pooled);
+    }
+
+    /**
+     * Lease of a pooled producer.
+     */
+    public final class Lease implements AutoCloseable {
+        private final Map<Object, Object> key;
+        private final PooledProducer pooled;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(Map<Object, Object> key, PooledProducer pooled) {
+            this.key = key;
+            this.pooled = pooled;
+        }
+
+        public Producer<String, byte[]> producer() {
+            return pooled.producer;
+        }
+
+        /**
+         * Removes the producer from the pool, e.g. because it raised an unrecoverable error, so that it is not leased
+         * anymore. It gets closed once all its leases are closed.
+         */
+        public void invalidate() {
+            KafkaProducerPool.this.invalidate(key, pooled);
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(key, pooled);
+            }
+        }
+    }
+
+    private static class PooledProducer {
+        private final Producer<String, byte[]> producer;
+        private int leases;
+        private long idleSince;
+
+        PooledProducer(Producer<String, byte[]> producer) {
+            this.producer = producer;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Metrics of the records published by the Kafka data sinks: the rate of published records is given by the
+ * {@code edc.dataplane.kafka.sink.records} counter.
+ */
+public class KafkaSinkMetrics {
+
+    private static final String RECORDS_METRIC = "edc.dataplane.kafka.sink.records";
+    private static final String BATCH_SIZE_METRIC = "edc.dataplane.kafka.sink.batch.size";
+
+    private final Counter published;
+    private final Counter failed;
+    private final DistributionSummary batchSize;
+
+    public KafkaSinkMetrics(MeterRegistry meterRegistry) {
+        published = Counter.builder(RECORDS_METRIC).description("Number of records published and acknowledged")
+                .tag("outcome", "success").register(meterRegistry);
+        failed = Counter.builder(RECORDS_METRIC).description("Number of records that failed to be published")
+                .tag("outcome", "failure").register(meterRegistry);
+        batchSize = DistributionSummary.builder(BATCH_SIZE_METRIC).description("Number of records published before waiting for their acknowledgement")
+                .baseUnit("records").register(meterRegistry);
+    }
+
+    /**
+     * Records the outcome of a batch of records: those that were published and acknowledged, and those whose publishing
+     * failed. Records that were not published because of an earlier failure are not counted.
+     */
+    void recorded(int published, int failed) {
+        batchSize.record(published + failed);
+        this.published.increment(published);
+        this.failed.increment(failed);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks the parts emitted by a Kafka data source for each partition, in order, to determine up to which offset they
+ * have all been acknowledged by the sink. Only the offsets of the parts are tracked, so that their records are not
+ * retained once transferred.
+ */
+class OffsetTracker {
+
+    private final Map<TopicPartition, Deque<Acknowledgement>> emitted = new HashMap<>();
+    private final Map<TopicPartition, Long> committed = new HashMap<>();
+
+    /**
+     * Tracks an emitted part.
+     *
+     * @param partition  the partition of the records of the part.
+     * @param nextOffset the offset following the last record of the part.
+     * @return the acknowledgement to be given once the part is transferred.
+     */
+    synchronized Acknowledgement emitted(TopicPartition partition, long nextOffset) {
+        var acknowledgement = new Acknowledgement(nextOffset);
+        emitted.computeIfAbsent(partition, k -> new ArrayDeque<>()).addLast(acknowledgement);
+        return acknowledgement;
+    }
+
+    synchronized void awaitAcknowledgement(Duration timeout) throws InterruptedException {
+        wait(Math.max(1, timeout.toMillis()));
+    }
+
+    synchronized boolean hasUnacknowledged(Set<TopicPartition> partitions) {
+        return partitions.stream()
+                .map(emitted::get)
+                .anyMatch(acknowledgements -> acknowledgements != null && acknowledgements.stream().anyMatch(acknowledgement -> !acknowledgement.acknowledged));
+    }
+
+    /**
+     * Returns, for each of the given partitions, the offset following the last part that was acknowledged along with
+     * all the earlier ones, if it was not returned already.
+     */
+    synchronized Map<TopicPartition, OffsetAndMetadata> committable(Set<TopicPartition> partitions) {
+        var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+        for (var partition : partitions) {
+            var acknowledgements = emitted.getOrDefault(partition, new ArrayDeque<>());
+            var next = -1L;
+            while (!acknowledgements.isEmpty() && acknowledgements.peekFirst().acknowledged) {
+                next = acknowledgements.pollFirst().nextOffset;
+            }
+            // a partition that was reassigned may be consumed again from an earlier offset
+            if (next > committed.getOrDefault(partition, -1L)) {
+                committed.put(partition, next);
+                offsets.put(partition, new OffsetAndMetadata(next));
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * Acknowledgement of an emitted part, given once the sink has transferred it, i.e. has closed it.
+     */
+    final class Acknowledgement {
+
+        private final long nextOffset;
+        private boolean acknowledged;
+
+        private Acknowledgement(long nextOffset) {
+            this.nextOffset = nextOffset;
+        }
+
+        void acknowledge() {
+            synchronized (OffsetTracker.this) {
+                acknowledged = true;
+                OffsetTracker.this.notifyAll();
+            }
+        }
+    }
+}
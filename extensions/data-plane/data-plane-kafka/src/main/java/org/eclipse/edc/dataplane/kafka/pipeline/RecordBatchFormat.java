@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Encoding of the records of a batch within a single part.
+ */
+public enum RecordBatchFormat {
+
+    /**
+     * Each record is followed by a line feed. Suitable for records that do not contain line feeds, e.g. JSON lines:
+     * a record that contains one cannot be encoded.
+     */
+    NEWLINE("newline") {
+        @Override
+        byte[] encode(List<byte[]> values) {
+            for (var value : values) {
+                for (var b : value) {
+                    if (b == '\n') {
+                        throw new IllegalArgumentException("A record containing a line feed cannot be encoded with the newline batch format");
+                    }
+                }
+            }
+            var buffer = ByteBuffer.allocate(values.stream().mapToInt(value -> value.length + 1).sum());
+            values.forEach(value -> buffer.put(value).put((byte) '\n'));
+            return buffer.array();
+        }
+    },
+
+    /**
+     * Each record is preceded by its length, as a 4-byte big-endian integer.
+     */
+    LENGTH_PREFIXED("length-prefixed") {
+        @Override
+        byte[] encode(List<byte[]> values) {
+            var buffer = ByteBuffer.allocate(values.stream().mapToInt(value -> value.length + Integer.BYTES).sum());
+            values.forEach(value -> buffer.putInt(value.length).put(value));
+            return buffer.array();
+        }
+    };
+
+    private final String value;
+
+    RecordBatchFormat(String value) {
+        this.value = value;
+    }
+
+    public static RecordBatchFormat fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(candidate -> candidate.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(format("Unsupported batch format `%s`", value)));
+    }
+
+    /**
+     * Encodes the values of the records, a null value being encoded as an empty one.
+     *
+     * @throws IllegalArgumentException if a value cannot be encoded with this format.
+     */
+    abstract byte[] encode(List<byte[]> values);
+}
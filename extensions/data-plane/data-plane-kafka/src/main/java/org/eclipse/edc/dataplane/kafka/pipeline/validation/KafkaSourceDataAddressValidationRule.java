@@ -18,12 +18,16 @@ import org.eclipse.edc.connector.dataplane.util.validation.CompositeValidationRu
 import org.eclipse.edc.connector.dataplane.util.validation.EmptyValueValidationRule;
 import org.eclipse.edc.connector.dataplane.util.validation.ValidationRule;
 import org.eclipse.edc.dataplane.kafka.config.KafkaPropertiesFactory;
+import org.eclipse.edc.dataplane.kafka.pipeline.RecordBatchFormat;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 
 import java.util.List;
 import java.util.Map;
 
+import static java.lang.String.format;
+import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.BATCH_FORMAT;
+import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.CONSUMER_THREADS;
 import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.TOPIC;
 
 public class KafkaSourceDataAddressValidationRule implements ValidationRule<DataAddress> {
@@ -34,7 +38,8 @@ public class KafkaSourceDataAddressValidationRule implements ValidationRule<Data
         this.validationRule = new CompositeValidationRule<>(
                 List.of(
                         new EmptyValueValidationRule(TOPIC),
-                        new ConsumerPropertiesValidationRule(propertiesFactory)
+                        new ConsumerPropertiesValidationRule(propertiesFactory),
+                        new BatchPropertiesValidationRule()
                 )
         );
     }
@@ -58,4 +63,24 @@ public class KafkaSourceDataAddressValidationRule implements ValidationRule<Data
                     .compose(p -> Result.success());
         }
     }
+
+    private static final class BatchPropertiesValidationRule implements ValidationRule<Map<String, String>> {
+
+        @Override
+        public Result<Void> apply(Map<String, String> properties) {
+            var consumerThreads = properties.get(CONSUMER_THREADS);
+            if (consumerThreads != null && !consumerThreads.matches("[1-9][0-9]*")) {
+                return Result.failure(format("`%s` must be a positive integer: %s", CONSUMER_THREADS, consumerThreads));
+            }
+            var batchFormat = properties.get(BATCH_FORMAT);
+            if (batchFormat != null) {
+                try {
+                    RecordBatchFormat.fromValue(batchFormat);
+                } catch (IllegalArgumentException e) {
+                    return Result.failure(e.getMessage());
+                }
+            }
+            return Result.success();
+        }
+    }
 }
@@ -59,4 +59,22 @@ public interface KafkaDataAddressSchema {
      * @see java.time.Duration#parse(CharSequence) for ISO-8601 duration format
      */
     String MAX_DURATION = "maxDuration";
+
+    /**
+     * Number of consumers, each one polling on its own thread, among which the partitions of the topic are spread.
+     * <p>
+     * This parameter is optional. Setting it, or {@link #BATCH_FORMAT}, makes the source emit each batch of records
+     * polled from a partition as a single part, and commit the offsets of a batch only once the sink has transferred it.
+     * Default value is 1.
+     */
+    String CONSUMER_THREADS = "consumerThreads";
+
+    /**
+     * Encoding of the records of a batch within its part: {@code newline} for records delimited by a line feed,
+     * {@code length-prefixed} for records each preceded by its length as a 4-byte big-endian integer.
+     * <p>
+     * This parameter is optional. If not provided, and {@link #CONSUMER_THREADS} is not set either, then each record is
+     * emitted as its own part. Otherwise, default value is {@code length-prefixed}.
+     */
+    String BATCH_FORMAT = "batchFormat";
 }
@@ -0,0 +1,251 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class KafkaBatchDataSourceTest {
+
+    private static final String TOPIC = "topic";
+
+    private final TopicPartition partition0 = new TopicPartition(TOPIC, 0);
+    private final TopicPartition partition1 = new TopicPartition(TOPIC, 1);
+    private final RecordingConsumer consumer = new RecordingConsumer();
+    private Stream<DataSource.Part> stream;
+
+    @BeforeEach
+    void setUp() {
+        consumer.updateBeginningOffsets(Map.of(partition0, 0L, partition1, 0L));
+        consumer.schedulePollTask(() -> consumer.rebalance(List.of(partition0, partition1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Test
+    void openPartStream_emitsRecordsOfPartitionAsSingleBatch() {
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(record(partition0, 0, "a"));
+            consumer.addRecord(record(partition0, 1, "b"));
+            consumer.addRecord(record(partition1, 0, "c"));
+        });
+
+        var parts = open();
+
+        assertThat(Stream.of(parts.next(), parts.next()).map(this::read)).containsExactlyInAnyOrder("a\nb\n", "c\n");
+    }
+
+    @Test
+    void openPartStream_commitsOffsetsOfAcknowledgedBatches() throws Exception {
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(record(partition0, 0, "a"));
+            consumer.addRecord(record(partition0, 1, "b"));
+            consumer.addRecord(record(partition1, 0, "c"));
+        });
+
+        var parts = open();
+        var first = parts.next();
+        var second = parts.next();
+        var batchOfPartition0 = read(first).equals("a\nb\n") ? first : second;
+
+        assertThat(consumer.commits).isEmpty();
+
+        batchOfPartition0.close();
+
+        await().untilAsserted(() -> assertThat(consumer.commits).containsExactly(Map.entry(partition0, 2L)));
+    }
+
+    @Test
+    void openPartStream_commitsOffsetsInPartitionOrder() throws Exception {
+        consumer.schedulePollTask(() -> consumer.addRecord(record(partition0, 0, "a")));
+        consumer.schedulePollTask(() -> consumer.addRecord(record(partition0, 1, "b")));
+
+        var parts = open();
+        var first = parts.next();
+        var second = parts.next();
+
+        second.close();
+
+        await().during(Duration.ofMillis(200)).untilAsserted(() -> assertThat(consumer.commits).isEmpty());
+
+        first.close();
+
+        await().untilAsserted(() -> assertThat(consumer.commits).containsExactly(Map.entry(partition0, 2L)));
+    }
+
+    @Test
+    void openPartStream_emitsLengthPrefixedRecords() {
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(record(partition0, 0, "a"));
+            consumer.addRecord(record(partition0, 1, "bc"));
+        });
+
+        var parts = open(RecordBatchFormat.LENGTH_PREFIXED);
+
+        var expected = ByteBuffer.allocate(11).putInt(1).put("a".getBytes(UTF_8)).putInt(2).put("bc".getBytes(UTF_8)).array();
+        assertThat(readBytes(parts.next())).isEqualTo(expected);
+    }
+
+    @Test
+    void openPartStream_rejectsRecordWithLineFeed_whenNewlineFormat() {
+        consumer.schedulePollTask(() -> consumer.addRecord(record(partition0, 0, "a\nb")));
+
+        var parts = open();
+        var part = parts.next();
+
+        assertThatThrownBy(part::openStream).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void openPartStream_releasesRecordsOfAcknowledgedBatch() throws Exception {
+        consumer.schedulePollTask(() -> consumer.addRecord(record(partition0, 0, "a")));
+
+        var parts = open();
+        var part = parts.next();
+        part.close();
+
+        assertThatThrownBy(part::openStream).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void openPartStream_consumesPartitionsWithSeveralConsumers() throws Exception {
+        var consumer0 = new RecordingConsumer();
+        consumer0.updateBeginningOffsets(Map.of(partition0, 0L));
+        consumer0.schedulePollTask(() -> consumer0.rebalance(List.of(partition0)));
+        consumer0.schedulePollTask(() -> consumer0.addRecord(record(partition0, 0, "a")));
+        var consumer1 = new RecordingConsumer();
+        consumer1.updateBeginningOffsets(Map.of(partition1, 0L));
+        consumer1.schedulePollTask(() -> consumer1.rebalance(List.of(partition1)));
+        consumer1.schedulePollTask(() -> consumer1.addRecord(record(partition1, 0, "b")));
+        var consumers = new ConcurrentLinkedQueue<>(List.of(consumer0, consumer1));
+        var threads = new AtomicInteger();
+
+        var parts = open(KafkaBatchDataSource.Builder.newInstance()
+                .consumerThreads(2)
+                .format(RecordBatchFormat.NEWLINE)
+                .consumerPool(new KafkaConsumerPool(properties -> consumers.poll(), Clock.systemUTC(), Duration.ofMinutes(1)))
+                .threadFactory(runnable -> {
+                    threads.incrementAndGet();
+                    return new Thread(runnable);
+                }));
+        var first = parts.next();
+        var second = parts.next();
+
+        assertThat(threads).hasValue(2);
+        assertThat(Stream.of(first, second).map(this::read)).containsExactlyInAnyOrder("a\n", "b\n");
+
+        first.close();
+        second.close();
+
+        await().untilAsserted(() -> {
+            assertThat(consumer0.commits).containsExactly(Map.entry(partition0, 1L));
+            assertThat(consumer1.commits).containsExactly(Map.entry(partition1, 1L));
+        });
+    }
+
+    private Iterator<DataSource.Part> open() {
+        return open(RecordBatchFormat.NEWLINE);
+    }
+
+    private Iterator<DataSource.Part> open(RecordBatchFormat format) {
+        return open(KafkaBatchDataSource.Builder.newInstance()
+                .consumerPool(new KafkaConsumerPool(properties -> consumer, Clock.systemUTC(), Duration.ofMinutes(1)))
+                .format(format)
+                .threadFactory(Thread::new));
+    }
+
+    private Iterator<DataSource.Part> open(KafkaBatchDataSource.Builder builder) {
+        var source = builder
+                .name("name")
+                .monitor(mock(Monitor.class))
+                .clock(Clock.systemUTC())
+                .topic(TOPIC)
+                .pollDuration(Duration.ofMillis(10))
+                .consumerProperties(new Properties())
+                .build();
+        stream = source.openPartStream().getContent();
+        return stream.iterator();
+    }
+
+    private String read(DataSource.Part part) {
+        return new String(readBytes(part), UTF_8);
+    }
+
+    private byte[] readBytes(DataSource.Part part) {
+        try (var inputStream = part.openStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private ConsumerRecord<String, byte[]> record(TopicPartition partition, long offset, String value) {
+        return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "key", value.getBytes(UTF_8));
+    }
+
+    private static class RecordingConsumer extends MockConsumer<String, byte[]> {
+
+        private final Map<TopicPartition, Long> commits = new ConcurrentHashMap<>();
+
+        RecordingConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+        }
+
+        @Override
+        public synchronized void commitAsync(Map<TopicPartition, OffsetAndMetadata> offsets, OffsetCommitCallback callback) {
+            offsets.forEach((partition, offset) -> commits.put(partition, offset.offset()));
+            super.commitAsync(offsets, callback);
+        }
+
+        @Override
+        public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            offsets.forEach((partition, offset) -> commits.put(partition, offset.offset()));
+            super.commitSync(offsets);
+        }
+    }
+}
@@ -41,7 +41,7 @@ class KafkaDataSinkFactoryTest {
 
     @BeforeEach
     public void setUp() {
-        factory = new KafkaDataSinkFactory(mock(ExecutorService.class), mock(Monitor.class), propertiesFactory);
+        factory = new KafkaDataSinkFactory(mock(ExecutorService.class), mock(Monitor.class), propertiesFactory, mock(KafkaProducerPool.class), mock(KafkaSinkMetrics.class), 10);
     }
 
     @Test
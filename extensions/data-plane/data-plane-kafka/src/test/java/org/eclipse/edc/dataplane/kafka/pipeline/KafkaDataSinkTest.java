@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class KafkaDataSinkTest {
+
+    private static final String TOPIC = "topic";
+
+    private final MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KafkaProducerPool producerPool = new KafkaProducerPool(properties -> producer, Clock.systemUTC(), Duration.ofMinutes(1));
+    private KafkaDataSink sink;
+
+    @BeforeEach
+    void setUp() {
+        sink = sink(producerPool);
+    }
+
+    @Test
+    void transferParts_shouldPublishAndWaitForAcknowledgement() {
+        var result = sink.transferParts(List.of(part("one"), part("two")));
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(producer.history()).extracting(record -> new String(record.value(), UTF_8)).containsExactly("one", "two");
+        assertThat(meterRegistry.get("edc.dataplane.kafka.sink.records").tag("outcome", "success").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("edc.dataplane.kafka.sink.batch.size").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    void transferParts_shouldFail_whenPublishingFails() {
+        producer.sendException = new KafkaException("error");
+
+        var result = sink.transferParts(List.of(part("one")));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains("error");
+        assertThat(meterRegistry.get("edc.dataplane.kafka.sink.records").tag("outcome", "failure").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void transferParts_shouldCountOnlyFailedRecords_whenAcknowledgementFails() {
+        var manualProducer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        var manualSink = sink(new KafkaProducerPool(properties -> manualProducer, Clock.systemUTC(), Duration.ofMinutes(1)));
+
+        var result = CompletableFuture.supplyAsync(() -> manualSink.transferParts(List.of(part("one"), part("two"), part("three"))));
+        await().untilAsserted(() -> assertThat(manualProducer.history()).hasSize(3));
+        manualProducer.completeNext();
+        manualProducer.errorNext(new KafkaException("error"));
+        manualProducer.completeNext();
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).satisfies(r -> {
+            assertThat(r.failed()).isTrue();
+            assertThat(r.getFailureDetail()).contains("error");
+        });
+        assertThat(meterRegistry.get("edc.dataplane.kafka.sink.records").tag("outcome", "success").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("edc.dataplane.kafka.sink.records").tag("outcome", "failure").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void close_shouldReleaseProducer() {
+        sink.close();
+        producerPool.close();
+
+        assertThat(producer.closed()).isTrue();
+    }
+
+    private KafkaDataSink sink(KafkaProducerPool producerPool) {
+        return KafkaDataSink.Builder.newInstance()
+                .requestId("requestId")
+                .topic(TOPIC)
+                .monitor(mock(Monitor.class))
+                .executorService(mock(ExecutorService.class))
+                .producerProperties(new Properties())
+                .producerPool(producerPool)
+                .metrics(new KafkaSinkMetrics(meterRegistry))
+                .build();
+    }
+
+    private DataSource.Part part(String content) {
+        return new DataSource.Part() {
+            @Override
+            public String name() {
+                return content;
+            }
+
+            @Override
+            public InputStream openStream() {
+                return new ByteArrayInputStream(content.getBytes(UTF_8));
+            }
+        };
+    }
+}
@@ -27,9 +27,11 @@ import org.junit.jupiter.api.Test;
 import java.time.Clock;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ThreadFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -41,7 +43,8 @@ class KafkaDataSourceFactoryTest {
 
     @BeforeEach
     public void setUp() {
-        factory = new KafkaDataSourceFactory(mock(Monitor.class), propertiesFactory, mock(Clock.class));
+        factory = new KafkaDataSourceFactory(mock(Monitor.class), propertiesFactory, mock(Clock.class), mock(KafkaConsumerPool.class),
+                mock(ThreadFactory.class));
     }
 
     @Test
@@ -87,6 +90,17 @@ class KafkaDataSourceFactoryTest {
         assertThat(result.getFailureDetail()).contains(errorMsg);
     }
 
+    @Test
+    void verifyValidateReturnsFailedResult_ifInvalidBatchProperties() {
+        var invalidThreads = createRequest(KafkaDataAddressSchema.KAFKA_TYPE, Map.of(KafkaDataAddressSchema.TOPIC, "test", KafkaDataAddressSchema.CONSUMER_THREADS, "0"));
+        var invalidFormat = createRequest(KafkaDataAddressSchema.KAFKA_TYPE, Map.of(KafkaDataAddressSchema.TOPIC, "test", KafkaDataAddressSchema.BATCH_FORMAT, "csv"));
+
+        when(propertiesFactory.getConsumerProperties(any())).thenReturn(Result.success(mock(Properties.class)));
+
+        assertThat(factory.validate(invalidThreads).getFailureDetail()).contains(KafkaDataAddressSchema.CONSUMER_THREADS);
+        assertThat(factory.validate(invalidFormat).getFailureDetail()).contains("csv");
+    }
+
     @Test
     void verifyCreateSourceThrows_ifMissingTopicProperty() {
         var request = createRequest(KafkaDataAddressSchema.KAFKA_TYPE, Map.of());
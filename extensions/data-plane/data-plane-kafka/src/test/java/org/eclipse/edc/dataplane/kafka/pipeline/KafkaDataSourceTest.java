@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class KafkaDataSourceTest {
+
+    private static final String TOPIC = "topic";
+
+    private final TopicPartition partition = new TopicPartition(TOPIC, 0);
+    private final RecordingConsumer consumer = new RecordingConsumer();
+    private final AtomicReference<Properties> consumerProperties = new AtomicReference<>();
+    private Stream<DataSource.Part> stream;
+
+    @BeforeEach
+    void setUp() {
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+        consumer.schedulePollTask(() -> consumer.rebalance(List.of(partition)));
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(record(0, "a"));
+            consumer.addRecord(record(1, "b"));
+        });
+    }
+
+    @Test
+    void build_shouldDisableAutoCommit() {
+        open();
+
+        assertThat(consumerProperties.get()).containsEntry(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+    }
+
+    @Test
+    void close_shouldCommitOffsetsOfAcknowledgedParts() throws Exception {
+        var parts = open();
+        var first = parts.next();
+        var second = parts.next();
+
+        first.close();
+        second.close();
+
+        assertThat(consumer.commits).isEmpty();
+
+        stream.close();
+
+        assertThat(consumer.commits).containsExactly(Map.entry(partition, 2L));
+        assertThat(consumer.closed()).isTrue();
+    }
+
+    @Test
+    void close_shouldWaitForAcknowledgementOfEmittedParts() throws Exception {
+        var parts = open();
+        var first = parts.next();
+        var second = parts.next();
+
+        second.close();
+        var closing = CompletableFuture.runAsync(() -> stream.close());
+
+        await().during(Duration.ofMillis(200)).untilAsserted(() -> {
+            assertThat(consumer.commits).isEmpty();
+            assertThat(consumer.closed()).isFalse();
+        });
+
+        first.close();
+
+        await().untilAsserted(() -> assertThat(closing).isDone());
+        assertThat(consumer.commits).containsExactly(Map.entry(partition, 2L));
+        assertThat(consumer.closed()).isTrue();
+    }
+
+    private Iterator<DataSource.Part> open() {
+        var source = KafkaDataSource.Builder.newInstance()
+                .name("name")
+                .monitor(mock(Monitor.class))
+                .clock(Clock.systemUTC())
+                .topic(TOPIC)
+                .pollDuration(Duration.ofMillis(10))
+                .consumerProperties(new Properties())
+                .consumerPool(new KafkaConsumerPool(properties -> {
+                    consumerProperties.set(properties);
+                    return consumer;
+                }, Clock.systemUTC(), Duration.ofMinutes(1)))
+                .build();
+        stream = source.openPartStream().getContent();
+        return stream.iterator();
+    }
+
+    private ConsumerRecord<String, byte[]> record(long offset, String value) {
+        return new ConsumerRecord<>(TOPIC, partition.partition(), offset, "key", value.getBytes(UTF_8));
+    }
+
+    private static class RecordingConsumer extends MockConsumer<String, byte[]> {
+
+        private final Map<TopicPartition, Long> commits = new ConcurrentHashMap<>();
+
+        RecordingConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+        }
+
+        @Override
+        public synchronized void commitAsync(Map<TopicPartition, OffsetAndMetadata> offsets, OffsetCommitCallback callback) {
+            offsets.forEach((partition, offset) -> commits.put(partition, offset.offset()));
+            super.commitAsync(offsets, callback);
+        }
+
+        @Override
+        public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            offsets.forEach((partition, offset) -> commits.put(partition, offset.offset()));
+            super.commitSync(offsets);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaProducerPoolTest {
+
+    private final Function<Properties, Producer<String, byte[]>> producerFactory = mock();
+    private final AtomicLong now = new AtomicLong();
+    private KafkaProducerPool pool;
+
+    @BeforeEach
+    void setUp() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(i -> now.get());
+        when(producerFactory.apply(any())).thenAnswer(i -> mock(Producer.class));
+        pool = new KafkaProducerPool(producerFactory, clock, Duration.ofSeconds(10));
+    }
+
+    @Test
+    void acquire_shouldShareProducerForSameProperties() {
+        var first = pool.acquire(properties("server1"));
+        var second = pool.acquire(properties("server1"));
+        var other = pool.acquire(properties("server2"));
+
+        assertThat(first.producer()).isSameAs(second.producer());
+        assertThat(other.producer()).isNotSameAs(first.producer());
+        verify(producerFactory, times(2)).apply(any());
+    }
+
+    @Test
+    void acquire_shouldReuseIdleProducer_beforeTimeout() {
+        var lease = pool.acquire(properties("server1"));
+        var producer = lease.producer();
+        lease.close();
+
+        now.set(5_000);
+        assertThat(pool.acquire(properties("server1")).producer()).isSameAs(producer);
+        verify(producer, never()).close();
+    }
+
+    @Test
+    void acquire_shouldCreateNewProducer_whenIdleProducerClosed() {
+        var lease = pool.acquire(properties("server1"));
+        var producer = lease.producer();
+        lease.close();
+
+        now.set(10_000);
+        pool.closeIdleProducers();
+        var newLease = pool.acquire(properties("server1"));
+
+        verify(producer).close();
+        assertThat(newLease.producer()).isNotSameAs(producer);
+    }
+
+    @Test
+    void closeIdleProducers_shouldCloseOnlyProducersIdleForTimeout() {
+        var idle = pool.acquire(properties("server1"));
+        var idleProducer = idle.producer();
+        idle.close();
+        now.set(5_000);
+        var recent = pool.acquire(properties("server2"));
+        var recentProducer = recent.producer();
+        recent.close();
+        var leasedProducer = pool.acquire(properties("server3")).producer();
+
+        now.set(10_000);
+        pool.closeIdleProducers();
+
+        verify(idleProducer).close();
+        verify(recentProducer, never()).close();
+        verify(leasedProducer, never()).close();
+    }
+
+    @Test
+    void invalidate_shouldCloseProducerWhenAllLeasesClosed() {
+        var first = pool.acquire(properties("server1"));
+        var second = pool.acquire(properties("server1"));
+        var producer = first.producer();
+
+        first.invalidate();
+        first.close();
+        assertThat(pool.acquire(properties("server1")).producer()).isNotSameAs(producer);
+        verify(producer, never()).close();
+
+        second.close();
+        verify(producer).close();
+    }
+
+    @Test
+    void close_shouldCloseProducers() {
+        var producer = pool.acquire(properties("server1")).producer();
+
+        pool.close();
+
+        verify(producer).close();
+    }
+
+    private Properties properties(String bootstrapServers) {
+        var properties = new Properties();
+        properties.put("bootstrap.servers", bootstrapServers);
+        return properties;
+    }
+}
@@ -9,10 +9,12 @@ dependencies {
 
     implementation(project(":spi:common:transaction-datasource-spi"))
     implementation(project(":extensions:common:sql:sql-core"))
+    implementation(project(":extensions:common:sql:sql-lease"))
 
     testImplementation(project(":core:common:junit"))
     testImplementation(testFixtures(project(":spi:data-plane:data-plane-spi")))
     testImplementation(testFixtures(project(":extensions:common:sql:sql-core")))
+    testImplementation(testFixtures(project(":extensions:common:sql:sql-lease")))
 
 }
 
@@ -5,3 +5,37 @@ CREATE TABLE IF NOT EXISTS edc_data_plane
     created_at           BIGINT  NOT NULL            ,
     updated_at           BIGINT  NOT NULL
 );
+
+CREATE TABLE IF NOT EXISTS edc_lease
+(
+    leased_by      VARCHAR NOT NULL,
+    leased_at      BIGINT,
+    lease_duration INTEGER NOT NULL,
+    lease_id       VARCHAR NOT NULL
+        CONSTRAINT lease_pk
+            PRIMARY KEY
+);
+
+COMMENT ON COLUMN edc_lease.leased_at IS 'posix timestamp of lease';
+
+COMMENT ON COLUMN edc_lease.lease_duration IS 'duration of lease in milliseconds';
+
+CREATE TABLE IF NOT EXISTS edc_data_flow
+(
+    process_id           VARCHAR NOT NULL PRIMARY KEY,
+    request              JSON    NOT NULL            ,
+    created_at           BIGINT  NOT NULL            ,
+    completed_at         BIGINT                      ,
+    error_message        VARCHAR                     ,
+    notify_at            BIGINT                      ,
+    lease_id             VARCHAR
+        CONSTRAINT data_flow_lease_lease_id_fk
+            REFERENCES edc_lease
+            ON DELETE SET NULL
+);
+
+CREATE INDEX IF NOT EXISTS data_flow_created_at_index
+    ON edc_data_flow (created_at);
+
+CREATE INDEX IF NOT EXISTS data_flow_notify_at_index
+    ON edc_data_flow (notify_at);
@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.store.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.dataplane.spi.store.DataFlowStore;
+import org.eclipse.edc.connector.dataplane.store.sql.schema.DataFlowStatements;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResult;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * SQL implementation of {@link DataFlowStore}. Data flows are leased through the lease table, so several data plane
+ * runtimes can share the same queue.
+ */
+public class SqlDataFlowStore extends AbstractSqlStore implements DataFlowStore {
+
+    private final DataFlowStatements statements;
+    private final String leaseHolderName;
+    private final SqlLeaseContextBuilder leaseContext;
+    private final Clock clock;
+
+    public SqlDataFlowStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                            DataFlowStatements statements, ObjectMapper objectMapper, String leaseHolderName, Clock clock, QueryExecutor queryExecutor) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+        this.leaseHolderName = leaseHolderName;
+        this.clock = clock;
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+    }
+
+    @Override
+    public void save(DataFlowRequest request) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var leased = queryExecutor.single(connection, false, resultSet -> resultSet.getLong(1), statements.getCountLeasedTemplate(),
+                        request.getProcessId(), clock.millis());
+                if (leased > 0) {
+                    return;
+                }
+                queryExecutor.execute(connection, statements.getDeleteFlowLeaseTemplate(), request.getProcessId());
+                queryExecutor.execute(connection, statements.getDeleteTemplate(), request.getProcessId());
+                queryExecutor.execute(connection, statements.getInsertTemplate(), request.getProcessId(), toJson(request), clock.millis());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<DataFlowRequest> nextNotLeased(int max) {
+        return transactionContext.execute(() -> {
+            var statement = statements.getSelectForLeaseTemplate(statements.getSelectNotLeasedTemplate());
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, this::mapRequest, statement, clock.millis(), max)
+            ) {
+                var requests = stream.collect(toList());
+                var ids = requests.stream().map(DataFlowRequest::getProcessId).collect(toList());
+                var leased = new HashSet<>(leaseContext.withConnection(connection).acquireLeases(ids));
+                return requests.stream().filter(request -> leased.contains(request.getProcessId())).collect(toList());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void renewLeases(List<String> processIds) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                var arguments = processIds.stream().map(id -> new Object[]{ now, leaseHolderName, id }).collect(toList());
+                queryExecutor.executeBatch(connection, statements.getRenewLeaseTemplate(), arguments);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(String processId) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getDeleteFlowLeaseTemplate(), processId);
+                queryExecutor.execute(connection, statements.getDeleteTemplate(), processId);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void complete(String processId, @Nullable String errorMessage) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                queryExecutor.execute(connection, statements.getCompleteTemplate(), now, now, errorMessage, processId);
+                queryExecutor.execute(connection, statements.getDeleteFlowLeaseTemplate(), processId);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<DataFlowResult> nextNotNotified(int max) {
+        return transactionContext.execute(() -> {
+            var statement = statements.getSelectForLeaseTemplate(statements.getSelectNotNotifiedTemplate());
+            var now = clock.millis();
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, this::mapResult, statement, now, now, max)
+            ) {
+                var results = stream.collect(toList());
+                var ids = results.stream().map(result -> result.getRequest().getProcessId()).collect(toList());
+                var leased = new HashSet<>(leaseContext.withConnection(connection).acquireLeases(ids));
+                return results.stream().filter(result -> leased.contains(result.getRequest().getProcessId())).collect(toList());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void notified(List<String> processIds) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var arguments = processIds.stream().map(id -> new Object[]{ id }).collect(toList());
+                queryExecutor.executeBatch(connection, statements.getDeleteFlowLeaseTemplate(), arguments);
+                queryExecutor.executeBatch(connection, statements.getDeleteTemplate(), arguments);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void retryLater(List<String> processIds, long notBefore) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var arguments = processIds.stream().map(id -> new Object[]{ notBefore, id }).collect(toList());
+                var leases = processIds.stream().map(id -> new Object[]{ id }).collect(toList());
+                queryExecutor.executeBatch(connection, statements.getRetryLaterTemplate(), arguments);
+                queryExecutor.executeBatch(connection, statements.getDeleteFlowLeaseTemplate(), leases);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public long count() {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.single(connection, false, resultSet -> resultSet.getLong(1), statements.getCountTemplate());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private DataFlowRequest mapRequest(ResultSet resultSet) throws SQLException {
+        return fromJson(resultSet.getString(statements.getRequestColumn()), DataFlowRequest.class);
+    }
+
+    private DataFlowResult mapResult(ResultSet resultSet) throws SQLException {
+        var request = mapRequest(resultSet);
+        var errorMessage = resultSet.getString(statements.getErrorMessageColumn());
+        return errorMessage == null ? DataFlowResult.completed(request) : DataFlowResult.failed(request, errorMessage);
+    }
+}
@@ -14,8 +14,11 @@
 
 package org.eclipse.edc.connector.dataplane.store.sql;
 
+import org.eclipse.edc.connector.dataplane.spi.store.DataFlowStore;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.connector.dataplane.store.sql.schema.DataFlowStatements;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.DataPlaneStatements;
+import org.eclipse.edc.connector.dataplane.store.sql.schema.postgres.PostgresDataFlowStatements;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.postgres.PostgresDataPlaneStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -31,7 +34,7 @@ import org.eclipse.edc.transaction.spi.TransactionContext;
 import java.time.Clock;
 
 /**
- * Provides Sql Store for Data Plane Flow Requests states
+ * Provides Sql Stores for Data Plane Flow Requests and their states
  */
 @Extension(value = SqlDataPlaneStoreExtension.NAME)
 public class SqlDataPlaneStoreExtension implements ServiceExtension {
@@ -51,6 +54,9 @@ public class SqlDataPlaneStoreExtension implements ServiceExtension {
     @Inject(required = false)
     private DataPlaneStatements statements;
 
+    @Inject(required = false)
+    private DataFlowStatements dataFlowStatements;
+
     @Inject
     private Clock clock;
 
@@ -71,6 +77,13 @@ public class SqlDataPlaneStoreExtension implements ServiceExtension {
                 typeManager.getMapper(), clock, queryExecutor);
     }
 
+    @Provider
+    public DataFlowStore dataFlowStore(ServiceExtensionContext context) {
+        var flowStatements = dataFlowStatements != null ? dataFlowStatements : new PostgresDataFlowStatements();
+        return new SqlDataFlowStore(dataSourceRegistry, getDataSourceName(context), transactionContext, flowStatements,
+                typeManager.getMapper(), context.getConnectorId(), clock, queryExecutor);
+    }
+
     /**
      * returns an externally-provided sql statement dialect, or postgres as a default
      */
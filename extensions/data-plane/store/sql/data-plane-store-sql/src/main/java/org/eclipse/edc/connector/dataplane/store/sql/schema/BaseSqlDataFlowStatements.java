@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.store.sql.schema;
+
+import static java.lang.String.format;
+
+public class BaseSqlDataFlowStatements implements DataFlowStatements {
+
+    @Override
+    public String getInsertTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s) VALUES (?, ?%s, ?);",
+                getDataFlowTable(), getProcessIdColumn(), getRequestColumn(), getCreatedAtColumn(), getFormatAsJsonOperator());
+    }
+
+    @Override
+    public String getDeleteTemplate() {
+        return format("DELETE FROM %s WHERE %s = ?;", getDataFlowTable(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getCountLeasedTemplate() {
+        return format("SELECT COUNT(*) FROM %s WHERE %s = ? AND %s IS NULL AND NOT %s;",
+                getDataFlowTable(), getProcessIdColumn(), getCompletedAtColumn(), getNotLeasedFilter());
+    }
+
+    @Override
+    public String getDeleteFlowLeaseTemplate() {
+        return format("DELETE FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?);",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getDataFlowTable(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getSelectNotLeasedTemplate() {
+        return format("SELECT * FROM %s WHERE %s IS NULL AND %s ORDER BY %s, %s LIMIT ?;",
+                getDataFlowTable(), getCompletedAtColumn(), getNotLeasedFilter(), getCreatedAtColumn(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getCompleteTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ?, %s = ? WHERE %s = ?;",
+                getDataFlowTable(), getCompletedAtColumn(), getNotifyAtColumn(), getErrorMessageColumn(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getSelectNotNotifiedTemplate() {
+        return format("SELECT * FROM %s WHERE %s IS NOT NULL AND %s <= ? AND %s ORDER BY %s, %s LIMIT ?;",
+                getDataFlowTable(), getCompletedAtColumn(), getNotifyAtColumn(), getNotLeasedFilter(), getNotifyAtColumn(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getRetryLaterTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ?;", getDataFlowTable(), getNotifyAtColumn(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getRenewLeaseTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ? AND %s = (SELECT %s FROM %s WHERE %s = ?);",
+                getLeaseTableName(), getLeasedAtColumn(), getLeasedByColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getDataFlowTable(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getCountTemplate() {
+        return format("SELECT COUNT(*) FROM %s;", getDataFlowTable());
+    }
+
+    @Override
+    public String getDeleteLeaseTemplate() {
+        return format("DELETE FROM %s WHERE %s = ?;", getLeaseTableName(), getLeaseIdColumn());
+    }
+
+    @Override
+    public String getInsertLeaseTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?, ?);",
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    @Override
+    public String getUpdateLeaseTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ?;", getDataFlowTable(), getLeaseIdColumn(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getFindLeaseByEntityTemplate() {
+        return format("SELECT * FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?);",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getDataFlowTable(), getProcessIdColumn());
+    }
+}
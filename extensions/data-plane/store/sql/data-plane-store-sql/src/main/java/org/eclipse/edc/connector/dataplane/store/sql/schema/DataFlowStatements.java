@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.store.sql.schema;
+
+import org.eclipse.edc.sql.dialect.BaseSqlDialect;
+import org.eclipse.edc.sql.lease.LeaseStatements;
+
+/**
+ * Sql Statements for DataFlow Store
+ */
+public interface DataFlowStatements extends LeaseStatements {
+
+    default String getDataFlowTable() {
+        return "edc_data_flow";
+    }
+
+    default String getProcessIdColumn() {
+        return "process_id";
+    }
+
+    default String getRequestColumn() {
+        return "request";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+
+    default String getCompletedAtColumn() {
+        return "completed_at";
+    }
+
+    default String getErrorMessageColumn() {
+        return "error_message";
+    }
+
+    default String getNotifyAtColumn() {
+        return "notify_at";
+    }
+
+    String getInsertTemplate();
+
+    String getDeleteTemplate();
+
+    /**
+     * Counts the not completed data flows with the process id whose lease is not expired. Parameters: the process id,
+     * the current timestamp.
+     */
+    String getCountLeasedTemplate();
+
+    /**
+     * Deletes the lease of a data flow. Parameters: the process id.
+     */
+    String getDeleteFlowLeaseTemplate();
+
+    /**
+     * Selects the not leased and not completed data flows in the order in which they were received. Parameters: the
+     * current timestamp, the maximum number of data flows.
+     */
+    String getSelectNotLeasedTemplate();
+
+    /**
+     * Records the result of a data flow. Parameters: the completion timestamp, the timestamp from which the result can be
+     * notified, the error message, the process id.
+     */
+    String getCompleteTemplate();
+
+    /**
+     * Selects the not leased results that are due to be notified. Parameters: the current timestamp (twice), the maximum
+     * number of results.
+     */
+    String getSelectNotNotifiedTemplate();
+
+    /**
+     * Postpones the notification of a result. Parameters: the timestamp from which the result can be notified, the
+     * process id.
+     */
+    String getRetryLaterTemplate();
+
+    /**
+     * Renews the lease of a data flow. Parameters: the current timestamp, the lease holder, the process id.
+     */
+    String getRenewLeaseTemplate();
+
+    String getCountTemplate();
+
+    default String getFormatAsJsonOperator() {
+        return BaseSqlDialect.getJsonCastOperator();
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.store.sql.schema.postgres;
+
+import org.eclipse.edc.connector.dataplane.store.sql.schema.BaseSqlDataFlowStatements;
+import org.eclipse.edc.sql.dialect.PostgresDialect;
+
+import static java.lang.String.format;
+
+public class PostgresDataFlowStatements extends BaseSqlDataFlowStatements {
+
+    @Override
+    public String getFormatAsJsonOperator() {
+        return PostgresDialect.getJsonCastOperator();
+    }
+
+    @Override
+    public String getSelectForLeaseTemplate(String selectQuery) {
+        return format("%s FOR UPDATE OF %s SKIP LOCKED;", selectQuery.substring(0, selectQuery.lastIndexOf(';')), getDataFlowTable());
+    }
+
+    @Override
+    public String getDeleteExpiredLeasesTemplate() {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s = ANY(?)) AND ? > (%s + %s);",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getDataFlowTable(), getProcessIdColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    @Override
+    public String getAcquireLeasesTemplate() {
+        return format("WITH leased AS (UPDATE %s SET %s = l.lease_id FROM unnest(?, ?) AS l(entity_id, lease_id) WHERE %s = l.entity_id AND %s.%s IS NULL RETURNING %s, %s.%s), " +
+                        "leases AS (INSERT INTO %s (%s, %s, %s, %s) SELECT %s, ?, ?, ? FROM leased) " +
+                        "SELECT %s FROM leased;",
+                getDataFlowTable(), getLeaseIdColumn(), getProcessIdColumn(), getDataFlowTable(), getLeaseIdColumn(), getProcessIdColumn(), getDataFlowTable(), getLeaseIdColumn(),
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(), getLeaseIdColumn(),
+                getProcessIdColumn());
+    }
+}
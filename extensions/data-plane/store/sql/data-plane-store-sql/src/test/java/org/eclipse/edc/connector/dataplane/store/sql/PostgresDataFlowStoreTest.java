@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.store.sql;
+
+import org.eclipse.edc.connector.dataplane.spi.store.DataFlowStore;
+import org.eclipse.edc.connector.dataplane.spi.testfixtures.store.DataFlowStoreTestBase;
+import org.eclipse.edc.connector.dataplane.store.sql.schema.DataFlowStatements;
+import org.eclipse.edc.connector.dataplane.store.sql.schema.postgres.PostgresDataFlowStatements;
+import org.eclipse.edc.junit.annotations.PostgresqlDbIntegrationTest;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@PostgresqlDbIntegrationTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresDataFlowStoreTest extends DataFlowStoreTestBase {
+
+    private static final String RUNTIME_NAME = "test-runtime";
+    private final DataFlowStatements statements = new PostgresDataFlowStatements();
+    private final Clock clock = Clock.systemUTC();
+
+    private SqlDataFlowStore store;
+    private LeaseUtil leaseUtil;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
+        var typeManager = new TypeManager();
+        store = new SqlDataFlowStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(),
+                statements, typeManager.getMapper(), RUNTIME_NAME, clock, queryExecutor);
+        leaseUtil = new LeaseUtil(extension.getTransactionContext(), extension::getConnection, statements, clock);
+        var schema = Files.readString(Paths.get("./docs/schema.sql"));
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getDataFlowTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
+    }
+
+    @Test
+    void nextNotLeased_shouldReturnFlowsWhoseLeaseExpired() {
+        store.save(createRequest("1"));
+        store.save(createRequest("2"));
+        leaseUtil.leaseEntity("1", "other-runtime", Duration.ofMillis(-1));
+        leaseUtil.leaseEntity("2", "other-runtime", Duration.ofMinutes(1));
+
+        var next = store.nextNotLeased(10);
+
+        assertThat(next).extracting(DataFlowRequest::getProcessId).containsExactly("1");
+        assertThat(leaseUtil.isLeased("1", RUNTIME_NAME)).isTrue();
+    }
+
+    @Test
+    void delete_shouldRemoveLease() {
+        store.save(createRequest("1"));
+        store.nextNotLeased(1);
+
+        store.delete("1");
+        store.save(createRequest("1"));
+
+        assertThat(store.nextNotLeased(1)).extracting(DataFlowRequest::getProcessId).containsExactly("1");
+    }
+
+    @Test
+    void nextNotNotified_shouldReturnResultsWhoseLeaseExpired() {
+        store.save(createRequest("1"));
+        store.save(createRequest("2"));
+        store.nextNotLeased(2);
+        store.complete("1", null);
+        store.complete("2", null);
+        leaseUtil.leaseEntity("1", "other-runtime", Duration.ofMillis(-1));
+        leaseUtil.leaseEntity("2", "other-runtime", Duration.ofMinutes(1));
+
+        var next = store.nextNotNotified(10);
+
+        assertThat(next).extracting(result -> result.getRequest().getProcessId()).containsExactly("1");
+        assertThat(leaseUtil.isLeased("1", RUNTIME_NAME)).isTrue();
+    }
+
+    @Test
+    void retryLater_shouldReleaseLease() {
+        store.save(createRequest("1"));
+        store.nextNotLeased(1);
+        store.complete("1", null);
+        store.nextNotNotified(1);
+
+        store.retryLater(List.of("1"), clock.millis());
+
+        assertThat(leaseUtil.isLeased("1", RUNTIME_NAME)).isFalse();
+        assertThat(store.nextNotNotified(10)).extracting(result -> result.getRequest().getProcessId()).containsExactly("1");
+    }
+
+    @Test
+    void notified_shouldRemoveFlowAndLease() {
+        store.save(createRequest("1"));
+        store.nextNotLeased(1);
+        store.complete("1", null);
+        store.nextNotNotified(1);
+
+        store.notified(List.of("1"));
+        store.save(createRequest("1"));
+
+        assertThat(store.count()).isEqualTo(1);
+        assertThat(store.nextNotLeased(1)).extracting(DataFlowRequest::getProcessId).containsExactly("1");
+    }
+
+    @Override
+    protected DataFlowStore getStore() {
+        return store;
+    }
+}
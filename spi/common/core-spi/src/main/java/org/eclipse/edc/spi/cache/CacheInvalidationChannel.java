@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.spi.cache;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.function.Consumer;
+
+/**
+ * Propagates the invalidation of cache entries between the runtimes that share the same stores, so that an entity
+ * changed by a runtime is not served stale from the cache of another one.
+ * <p>
+ * Caches work without a channel, their entries then expire after their time-to-live only.
+ */
+@ExtensionPoint
+public interface CacheInvalidationChannel {
+
+    /**
+     * Notifies the other runtimes that the entry of a cache has to be invalidated.
+     *
+     * @param cacheName the name of the cache.
+     * @param key the key of the entry.
+     */
+    void publish(String cacheName, String key);
+
+    /**
+     * Registers a listener for the invalidations of a cache published by the other runtimes.
+     *
+     * @param cacheName the name of the cache.
+     * @param listener receives the key of the entry to invalidate.
+     */
+    void subscribe(String cacheName, Consumer<String> listener);
+}
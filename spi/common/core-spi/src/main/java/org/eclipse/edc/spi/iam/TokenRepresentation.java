@@ -25,6 +25,7 @@ import java.util.Map;
 public class TokenRepresentation {
     private String token;
     private Map<String, Object> additional;
+    private Long expiresIn;
 
     private TokenRepresentation() {
         additional = new HashMap<>();
@@ -41,6 +42,13 @@ public class TokenRepresentation {
         return additional;
     }
 
+    /**
+     * Returns the lifetime of the token in seconds, as stated by the issuer, null if unknown.
+     */
+    public Long getExpiresIn() {
+        return expiresIn;
+    }
+
     public static class Builder {
         private final TokenRepresentation result;
 
@@ -62,6 +70,11 @@ public class TokenRepresentation {
             return this;
         }
 
+        public Builder expiresIn(Long expiresIn) {
+            result.expiresIn = expiresIn;
+            return this;
+        }
+
         public TokenRepresentation build() {
             return result;
         }
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Position of the last item of a page in a query sorted by a field and then by id, used to fetch the next page with a
+ * keyset predicate instead of an offset, so that the cost of a page does not depend on its depth.
+ * <p>
+ * A null sort value is valid: null values are sorted after all the others in ascending order, and before them in
+ * descending order.
+ * <p>
+ * The token is passed around as an opaque string, see {@link #encode()} and {@link #decode(String)}.
+ */
+public class ContinuationToken {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String sortField;
+    private final SortOrder sortOrder;
+    private final Object sortValue;
+    private final Object id;
+
+    @JsonCreator
+    private ContinuationToken(@JsonProperty("f") String sortField, @JsonProperty("o") SortOrder sortOrder, @JsonProperty("v") Object sortValue, @JsonProperty("id") Object id) {
+        this.sortField = sortField;
+        this.sortOrder = sortOrder;
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    /**
+     * Creates the token that points after the given item.
+     *
+     * @param sortField the field the query is sorted by, null if it is sorted by id only.
+     * @param sortOrder the order of the query.
+     * @param sortValue the value of the sort field of the last item of the page, which may be null.
+     * @param id        the id of the last item of the page.
+     */
+    public static ContinuationToken after(@Nullable String sortField, SortOrder sortOrder, @Nullable Object sortValue, Object id) {
+        Objects.requireNonNull(sortOrder, "sortOrder");
+        Objects.requireNonNull(id, "id");
+        return new ContinuationToken(sortField, sortOrder, sortField == null ? null : sortValue, id);
+    }
+
+    /**
+     * Parses a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is not valid.
+     */
+    public static ContinuationToken decode(String token) {
+        try {
+            var parsed = MAPPER.readValue(Base64.getUrlDecoder().decode(token), ContinuationToken.class);
+            if (parsed.id == null) {
+                throw new IllegalArgumentException("Continuation token has no id");
+            }
+            if (parsed.sortOrder == null) {
+                throw new IllegalArgumentException("Continuation token has no sort order");
+            }
+            return parsed;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + token, e);
+        }
+    }
+
+    @JsonProperty("f")
+    public String getSortField() {
+        return sortField;
+    }
+
+    @JsonProperty("o")
+    public SortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    @JsonProperty("v")
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    @JsonProperty("id")
+    public Object getId() {
+        return id;
+    }
+
+    /**
+     * Verifies that this token has been created for a query sorted by the given field and in the given order.
+     *
+     * @throws IllegalArgumentException if the token was created for another sort field or order.
+     */
+    public void verify(@Nullable String sortField, SortOrder sortOrder) {
+        if (!Objects.equals(this.sortField, sortField)) {
+            throw new IllegalArgumentException("Continuation token was created for sort field " + this.sortField + " and cannot be used with sort field " + sortField);
+        }
+        if (this.sortOrder != sortOrder) {
+            throw new IllegalArgumentException("Continuation token was created for sort order " + this.sortOrder + " and cannot be used with sort order " + sortOrder);
+        }
+    }
+
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsString(this).getBytes(UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot encode continuation token", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var that = (ContinuationToken) o;
+        return Objects.equals(sortField, that.sortField) && sortOrder == that.sortOrder && Objects.equals(sortValue, that.sortValue) && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortField, sortOrder, sortValue, id);
+    }
+}
@@ -35,12 +35,14 @@ public class QuerySpec {
     public static final String EDC_QUERY_SPEC_FILTER_EXPRESSION = EDC_NAMESPACE + "filterExpression";
     public static final String EDC_QUERY_SPEC_SORT_ORDER = EDC_NAMESPACE + "sortOrder";
     public static final String EDC_QUERY_SPEC_SORT_FIELD = EDC_NAMESPACE + "sortField";
+    public static final String EDC_QUERY_SPEC_CONTINUATION_TOKEN = EDC_NAMESPACE + "continuationToken";
     
     private int offset = 0;
     private int limit = 50;
     private final List<Criterion> filterExpression = new ArrayList<>();
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private String continuationToken;
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -59,7 +61,7 @@ public class QuerySpec {
 
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, continuationToken);
     }
 
     @Override
@@ -71,7 +73,8 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) &&
+                Objects.equals(continuationToken, querySpec.continuationToken);
     }
 
     @Override
@@ -82,6 +85,7 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", continuationToken=" + continuationToken +
                 '}';
     }
 
@@ -98,6 +102,15 @@ public class QuerySpec {
         return new Range(offset, offset + limit);
     }
 
+    /**
+     * The opaque token, created with {@link ContinuationToken#encode()}, that points after the last item of the
+     * previous page. When set, the page starts after that item instead of at the offset, and the items are ordered by
+     * the sort field and then by id.
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
     public List<Criterion> getFilterExpression() {
         return filterExpression;
     }
@@ -154,6 +167,11 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder continuationToken(String continuationToken) {
+            querySpec.continuationToken = continuationToken;
+            return this;
+        }
+
         public Builder filter(Criterion criterion) {
             querySpec.filterExpression.add(criterion);
             return this;
@@ -173,6 +191,9 @@ public class QuerySpec {
             if (querySpec.limit <= 0) {
                 throw new IllegalArgumentException("limit");
             }
+            if (querySpec.continuationToken != null && querySpec.offset != 0) {
+                throw new IllegalArgumentException("offset cannot be combined with continuationToken");
+            }
             return querySpec;
         }
 
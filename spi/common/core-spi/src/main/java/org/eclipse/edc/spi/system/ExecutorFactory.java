@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.system;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the threads and the {@link java.util.concurrent.Executor}s used by the runtime, so that the kind of threads
+ * backing them (e.g. platform or virtual threads) can be chosen in a single place.
+ * <p>
+ * The returned executors are not instrumented, that can be done through the {@link ExecutorInstrumentation}.
+ */
+@ExtensionPoint
+public interface ExecutorFactory {
+
+    /**
+     * Default implementation that creates platform threads.
+     *
+     * @return a {@link ExecutorFactory} backed by platform threads.
+     */
+    static ExecutorFactory platform() {
+        return name -> {
+            var counter = new AtomicInteger();
+            return runnable -> {
+                var thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName(name + "-" + counter.incrementAndGet());
+                return thread;
+            };
+        };
+    }
+
+    /**
+     * Create a {@link ThreadFactory}.
+     *
+     * @param name prefix of the names of the created threads.
+     * @return the thread factory.
+     */
+    ThreadFactory threadFactory(String name);
+
+    /**
+     * Create an {@link ExecutorService} that runs tasks on a fixed number of threads.
+     *
+     * @param threads the number of threads.
+     * @param name    prefix of the names of the created threads.
+     * @return the executor service.
+     */
+    default ExecutorService newFixedThreadPool(int threads, String name) {
+        return Executors.newFixedThreadPool(threads, threadFactory(name));
+    }
+
+    /**
+     * Create a {@link ScheduledExecutorService} that runs tasks on a single thread.
+     *
+     * @param name prefix of the name of the created thread.
+     * @return the scheduled executor service.
+     */
+    default ScheduledExecutorService newSingleThreadScheduledExecutor(String name) {
+        return Executors.newSingleThreadScheduledExecutor(threadFactory(name));
+    }
+}
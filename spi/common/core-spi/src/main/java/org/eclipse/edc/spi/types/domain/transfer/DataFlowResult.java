@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.types.domain.transfer;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * The outcome of a {@link DataFlowRequest}, to be notified to the control plane: either completed, or failed with an
+ * error message.
+ */
+public class DataFlowResult {
+    private final DataFlowRequest request;
+    private final String errorMessage;
+
+    private DataFlowResult(DataFlowRequest request, @Nullable String errorMessage) {
+        this.request = Objects.requireNonNull(request, "request");
+        this.errorMessage = errorMessage;
+    }
+
+    public static DataFlowResult completed(DataFlowRequest request) {
+        return new DataFlowResult(request, null);
+    }
+
+    public static DataFlowResult failed(DataFlowRequest request, String errorMessage) {
+        return new DataFlowResult(request, Objects.requireNonNull(errorMessage, "errorMessage"));
+    }
+
+    public DataFlowRequest getRequest() {
+        return request;
+    }
+
+    public boolean succeeded() {
+        return errorMessage == null;
+    }
+
+    /**
+     * The reason of the failure, null if the data flow completed.
+     */
+    @Nullable
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
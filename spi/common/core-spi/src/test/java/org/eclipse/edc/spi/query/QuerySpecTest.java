@@ -29,6 +29,7 @@ class QuerySpecTest {
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().limit(-10).build()).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().limit(0).build()).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(-10).build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(10).continuationToken("token").build()).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
@@ -62,6 +63,36 @@ class QuerySpecTest {
 
     }
 
+    @Test
+    void continuationToken_verifyEncodeDecode() {
+        var token = ContinuationToken.after("createdAt", SortOrder.ASC, 1234L, "id");
+
+        var decoded = ContinuationToken.decode(token.encode());
+
+        assertThat(decoded).isEqualTo(ContinuationToken.after("createdAt", SortOrder.ASC, 1234, "id"));
+        assertThatThrownBy(() -> ContinuationToken.decode("not-a-token")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void continuationToken_verifyNullSortValue() {
+        var token = ContinuationToken.after("createdAt", SortOrder.DESC, null, "id");
+
+        var decoded = ContinuationToken.decode(token.encode());
+
+        assertThat(decoded.getSortField()).isEqualTo("createdAt");
+        assertThat(decoded.getSortValue()).isNull();
+        assertThat(decoded.getSortOrder()).isEqualTo(SortOrder.DESC);
+    }
+
+    @Test
+    void continuationToken_verifySortFieldAndOrder() {
+        var token = ContinuationToken.after("createdAt", SortOrder.ASC, 1234L, "id");
+
+        token.verify("createdAt", SortOrder.ASC);
+        assertThatThrownBy(() -> token.verify("createdAt", SortOrder.DESC)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> token.verify("id", SortOrder.ASC)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void getRange_verifyCorrectConversion() {
         var spec = QuerySpec.Builder.newInstance()
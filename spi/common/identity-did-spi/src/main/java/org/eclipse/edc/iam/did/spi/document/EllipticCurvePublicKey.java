@@ -16,6 +16,8 @@ package org.eclipse.edc.iam.did.spi.document;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.Objects;
+
 /**
  * Public part of an Elliptic Curve key
  */
@@ -72,4 +74,22 @@ public class EllipticCurvePublicKey implements JwkPublicKey {
     public void setY(String y) {
         curvePointY = y;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var that = (EllipticCurvePublicKey) o;
+        return Objects.equals(crv, that.crv) && Objects.equals(kty, that.kty) &&
+                Objects.equals(curvePointX, that.curvePointX) && Objects.equals(curvePointY, that.curvePointY);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(crv, kty, curvePointX, curvePointY);
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld.spi;
+
+import jakarta.json.JsonObject;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Lazy sequence of {@link JsonObject}s returned by API endpoints in place of a {@link jakarta.json.JsonArray}, so that
+ * a large result is pulled from the underlying store stream and written to the response one element at a time
+ * instead of being held in memory as a whole.
+ * <p>
+ * It is serialized as a JSON array and can be consumed only once. Closing it closes the underlying stream, as does
+ * exhausting its iterator, so that a writer that only iterates it does not leak the store resources.
+ */
+public final class JsonObjectStream implements Iterable<JsonObject>, AutoCloseable {
+
+    private final Stream<JsonObject> stream;
+
+    private JsonObjectStream(Stream<JsonObject> stream) {
+        this.stream = stream;
+    }
+
+    public static JsonObjectStream of(Stream<JsonObject> stream) {
+        return new JsonObjectStream(stream);
+    }
+
+    public Stream<JsonObject> stream() {
+        return stream;
+    }
+
+    @Override
+    public Iterator<JsonObject> iterator() {
+        var iterator = stream.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (iterator.hasNext()) {
+                    return true;
+                }
+                stream.close();
+                return false;
+            }
+
+            @Override
+            public JsonObject next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -27,4 +27,14 @@ import java.util.Map;
 @FunctionalInterface
 public interface TokenValidationRule {
     Result<Void> checkRule(@NotNull ClaimToken toVerify, @Nullable Map<String, Object> additional);
+
+    /**
+     * Whether the outcome of the rule depends on the current time. Such rules are checked again when a token whose
+     * validation has been cached is validated, while the other rules are not.
+     *
+     * @return true if the rule depends on the current time, false otherwise.
+     */
+    default boolean isTimeDependent() {
+        return false;
+    }
 }
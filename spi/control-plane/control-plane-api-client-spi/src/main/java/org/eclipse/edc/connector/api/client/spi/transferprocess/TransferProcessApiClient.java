@@ -17,6 +17,9 @@ package org.eclipse.edc.connector.api.client.spi.transferprocess;
 
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResult;
+
+import java.util.List;
 
 /**
  * {@link TransferProcessApiClient} is an abstraction for talking with Control Plane, in this case for signaling back
@@ -41,4 +44,22 @@ public interface TransferProcessApiClient {
      */
     void failed(DataFlowRequest request, String reason);
 
+    /**
+     * Notifies the results of several data flows to the Control Plane, with as few calls as possible. The default
+     * implementation notifies them one by one.
+     *
+     * @param results The results of the data flows
+     * @return the results that could not be notified, whose notification should be retried later
+     */
+    default List<DataFlowResult> notifyResults(List<DataFlowResult> results) {
+        for (var result : results) {
+            if (result.succeeded()) {
+                completed(result.getRequest());
+            } else {
+                failed(result.getRequest(), result.getErrorMessage());
+            }
+        }
+        return List.of();
+    }
+
 }
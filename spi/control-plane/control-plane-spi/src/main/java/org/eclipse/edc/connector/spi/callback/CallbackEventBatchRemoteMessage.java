@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.spi.callback;
+
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
+
+import java.util.List;
+
+/**
+ * Envelope for sending several events at once to the same {@link CallbackAddress} via {@link RemoteMessageDispatcherRegistry}
+ */
+public class CallbackEventBatchRemoteMessage implements RemoteMessage {
+
+    private final String protocol;
+    private final List<EventEnvelope<?>> envelopes;
+    private final CallbackAddress callbackAddress;
+
+    public CallbackEventBatchRemoteMessage(CallbackAddress callbackAddress, List<EventEnvelope<?>> envelopes, String protocol) {
+        this.callbackAddress = callbackAddress;
+        this.protocol = protocol;
+        this.envelopes = envelopes;
+    }
+
+    @Override
+    public String getProtocol() {
+        return protocol;
+    }
+
+    @Override
+    public String getCounterPartyAddress() {
+        return callbackAddress.getUri();
+    }
+
+    public String getAuthKey() {
+        return callbackAddress.getAuthKey();
+    }
+
+    public String getAuthCodeId() {
+        return callbackAddress.getAuthCodeId();
+    }
+
+    public List<EventEnvelope<?>> getEventEnvelopes() {
+        return envelopes;
+    }
+}
@@ -20,6 +20,7 @@ import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -46,6 +47,13 @@ public interface TransferProcessStore extends StateEntityStore<TransferProcess>
      */
     void updateOrCreate(TransferProcess process);
 
+    /**
+     * Persists multiple transfer processes, following the same UPSERT semantics of {@link #updateOrCreate(TransferProcess)}.
+     * Implementations backed by a database should override it to write all the processes in a single round trip.
+     */
+    default void updateAll(List<TransferProcess> processes) {
+        processes.forEach(this::updateOrCreate);
+    }
 
     /**
      * Deletes a transfer process.
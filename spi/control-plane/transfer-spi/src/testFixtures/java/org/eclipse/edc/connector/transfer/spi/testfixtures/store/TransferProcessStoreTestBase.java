@@ -366,6 +366,51 @@ public abstract class TransferProcessStoreTestBase {
         assertThatThrownBy(() -> getTransferProcessStore().updateOrCreate(t1)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void updateAll_shouldCreateAndUpdate() {
+        var existing = createTransferProcess("id1", STARTED);
+        getTransferProcessStore().updateOrCreate(existing);
+
+        existing.transitionCompleted(); //modify
+        var created = createTransferProcess("id2", INITIAL);
+        getTransferProcessStore().updateAll(List.of(existing, created));
+
+        assertThat(getTransferProcessStore().findAll(QuerySpec.none()))
+                .hasSize(2)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrder(existing, created);
+    }
+
+    @Test
+    void updateAll_shouldBreakLeases() {
+        var t1 = createTransferProcess("id1");
+        var t2 = createTransferProcess("id2");
+        getTransferProcessStore().updateAll(List.of(t1, t2));
+        lockEntity(t1.getId(), CONNECTOR_NAME);
+        lockEntity(t2.getId(), CONNECTOR_NAME);
+
+        t1.transitionProvisioning(ResourceManifest.Builder.newInstance().build()); //modify
+        t2.transitionProvisioning(ResourceManifest.Builder.newInstance().build()); //modify
+        getTransferProcessStore().updateAll(List.of(t1, t2));
+
+        var notLeased = getTransferProcessStore().nextNotLeased(10, hasState(PROVISIONING.code()));
+
+        assertThat(notLeased).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrder(t1, t2);
+    }
+
+    @Test
+    void updateAll_leasedByOther_shouldThrowException() {
+        var t1 = createTransferProcess("id1");
+        var t2 = createTransferProcess("id2");
+        getTransferProcessStore().updateAll(List.of(t1, t2));
+        lockEntity(t2.getId(), "someone");
+
+        t1.transitionProvisioning(ResourceManifest.Builder.newInstance().build()); //modify
+        t2.transitionProvisioning(ResourceManifest.Builder.newInstance().build()); //modify
+
+        assertThatThrownBy(() -> getTransferProcessStore().updateAll(List.of(t1, t2))).isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void delete() {
         var t1 = createTransferProcess("id1");
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.selector.spi;
 
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoad;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -38,4 +39,12 @@ public interface DataPlaneSelectorService {
 
     ServiceResult<Void> addInstance(DataPlaneInstance instance);
 
+    /**
+     * Records the load reported by a {@link DataPlaneInstance}, used by the load-aware selection strategies. Does
+     * nothing by default.
+     */
+    default ServiceResult<Void> reportLoad(DataPlaneLoad load) {
+        return ServiceResult.success();
+    }
+
 }
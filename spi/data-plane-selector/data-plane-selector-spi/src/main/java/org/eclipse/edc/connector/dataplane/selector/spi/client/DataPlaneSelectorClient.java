@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.selector.spi.client;
 
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.load.DataPlaneLoad;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -49,4 +50,10 @@ public interface DataPlaneSelectorClient {
     @Nullable
     DataPlaneInstance find(DataAddress source, DataAddress destination, String selectionStrategyName);
 
+    /**
+     * Reports the load of a {@link DataPlaneInstance} to the DPF selector. Does nothing by default.
+     */
+    default void reportLoad(DataPlaneLoad load) {
+    }
+
 }
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.load;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Load of a {@link DataPlaneInstance}, as periodically reported by the data plane itself: the number of data flows it is
+ * transferring, the number of received data flows that are not started yet and the number of data flows completed per
+ * second since the previous report.
+ */
+@JsonDeserialize(builder = DataPlaneLoad.Builder.class)
+public class DataPlaneLoad {
+
+    private String instanceId;
+    private int activeFlows;
+    private long queuedFlows;
+    private double throughput;
+    private long timestamp;
+
+    private DataPlaneLoad() {
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public int getActiveFlows() {
+        return activeFlows;
+    }
+
+    public long getQueuedFlows() {
+        return queuedFlows;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private final DataPlaneLoad load;
+
+        private Builder() {
+            load = new DataPlaneLoad();
+            load.timestamp = Instant.now().toEpochMilli();
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder instanceId(String instanceId) {
+            load.instanceId = instanceId;
+            return this;
+        }
+
+        public Builder activeFlows(int activeFlows) {
+            load.activeFlows = activeFlows;
+            return this;
+        }
+
+        public Builder queuedFlows(long queuedFlows) {
+            load.queuedFlows = queuedFlows;
+            return this;
+        }
+
+        public Builder throughput(double throughput) {
+            load.throughput = throughput;
+            return this;
+        }
+
+        public Builder timestamp(long timestamp) {
+            load.timestamp = timestamp;
+            return this;
+        }
+
+        public DataPlaneLoad build() {
+            Objects.requireNonNull(load.instanceId, "DataPlaneLoad must have an instance id");
+            return load;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.load;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps the last {@link DataPlaneLoad} reported by every {@link DataPlaneInstance}, so that load-aware
+ * {@link SelectionStrategy}s can prefer the least loaded instances.
+ */
+@ExtensionPoint
+public interface DataPlaneLoadRegistry {
+
+    /**
+     * Records the load reported by a data plane instance.
+     */
+    void report(DataPlaneLoad load);
+
+    /**
+     * Returns the last load reported by the instance, or null if it did not report recently.
+     */
+    @Nullable
+    DataPlaneLoad get(String instanceId);
+
+    /**
+     * Records that a data flow has been assigned to the instance, so that the assignments made before its next report are
+     * accounted for in {@link #estimatedActiveFlows(String)}.
+     */
+    void selected(String instanceId);
+
+    /**
+     * Returns the number of data flows the instance is estimated to handle: the active and queued flows of its last report
+     * plus the flows assigned to it since then.
+     */
+    long estimatedActiveFlows(String instanceId);
+}
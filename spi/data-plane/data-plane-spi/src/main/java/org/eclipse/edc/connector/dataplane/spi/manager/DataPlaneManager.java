@@ -58,8 +58,9 @@ public interface DataPlaneManager {
 
     /**
      * Initiates a transfer for the data flow request. This method is non-blocking with respect to processing the request.
+     * Returns a failure if the data plane cannot accept more requests, in that case the request should be retried later.
      */
-    void initiateTransfer(DataFlowRequest dataRequest);
+    Result<Void> initiateTransfer(DataFlowRequest dataRequest);
 
     /**
      * Performs a data transfer using the supplied data source.
@@ -75,4 +76,25 @@ public interface DataPlaneManager {
      * Returns the transfer state for the process.
      */
     State transferState(String processId);
+
+    /**
+     * Returns the number of data flows that are being transferred by this runtime.
+     */
+    default int activeFlows() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of received data flows that are not completed and not being transferred by this runtime.
+     */
+    default long queuedFlows() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of data flows completed by this runtime since it started.
+     */
+    default long completedFlows() {
+        return 0;
+    }
 }
@@ -47,6 +47,13 @@ public interface DataSource {
             return SIZE_UNKNOWN;
         }
 
+        /**
+         * The media type of the part content, or null if it cannot be determined.
+         */
+        default String mediaType() {
+            return null;
+        }
+
         /**
          * Opens stream to sequentially read the underlying part content.
          */
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.store;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Queue of the {@link DataFlowRequest}s received by the data plane that are not completed yet.
+ * <p>
+ * Data flows are leased by the runtime that transfers them, and the lease is kept as long as the transfer runs, so
+ * persistent implementations permit several runtimes to share the same queue and to take over the data flows of a
+ * runtime that stopped before completing them.
+ * <p>
+ * The store also serves as outbox for the results of the data flows: a completed data flow is kept, with its result,
+ * until the result has been notified to the control plane.
+ */
+@ExtensionPoint
+public interface DataFlowStore {
+
+    /**
+     * Stores a received data flow, so that it gets started by the next call to {@link #nextNotLeased(int)}. A data flow
+     * with the same process id that is already stored gets replaced, unless it is leased, i.e. being transferred, in
+     * which case it is left unchanged so that the data is not transferred twice.
+     */
+    void save(DataFlowRequest request);
+
+    /**
+     * Leases and returns at most {@code max} data flows, in the order in which they were received. Data flows whose lease
+     * expired, because the runtime that was transferring them stopped, are returned again.
+     */
+    List<DataFlowRequest> nextNotLeased(int max);
+
+    /**
+     * Renews the leases of the data flows that are being transferred by this runtime.
+     */
+    void renewLeases(List<String> processIds);
+
+    /**
+     * Removes a data flow.
+     */
+    void delete(String processId);
+
+    /**
+     * Records the result of a data flow and releases its lease, so that it is not returned anymore by
+     * {@link #nextNotLeased(int)} but by {@link #nextNotNotified(int)}.
+     *
+     * @param errorMessage the reason of the failure, null if the data flow completed successfully.
+     */
+    void complete(String processId, @Nullable String errorMessage);
+
+    /**
+     * Leases and returns at most {@code max} results of completed data flows that are due to be notified to the control
+     * plane, in the order in which they became due.
+     */
+    List<DataFlowResult> nextNotNotified(int max);
+
+    /**
+     * Removes the data flows whose results have been notified to the control plane.
+     */
+    void notified(List<String> processIds);
+
+    /**
+     * Releases the leases of results whose notification failed, so that they are returned again by
+     * {@link #nextNotNotified(int)} after the given time.
+     *
+     * @param notBefore epoch milliseconds before which the results are not due.
+     */
+    void retryLater(List<String> processIds, long notBefore);
+
+    /**
+     * Returns the number of data flows that are stored, including the completed ones whose result has not been notified
+     * yet.
+     */
+    long count();
+}
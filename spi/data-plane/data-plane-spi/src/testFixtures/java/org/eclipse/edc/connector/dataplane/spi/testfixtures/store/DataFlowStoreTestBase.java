@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.testfixtures.store;
+
+import org.eclipse.edc.connector.dataplane.spi.store.DataFlowStore;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public abstract class DataFlowStoreTestBase {
+
+    @Test
+    void nextNotLeased_shouldReturnReceivedFlowsInOrder() {
+        getStore().save(createRequest("1"));
+        getStore().save(createRequest("2"));
+        getStore().save(createRequest("3"));
+
+        var next = getStore().nextNotLeased(2);
+
+        assertThat(next).extracting(DataFlowRequest::getProcessId).containsExactly("1", "2");
+        assertThat(next.get(0)).usingRecursiveComparison().isEqualTo(createRequest("1"));
+    }
+
+    @Test
+    void nextNotLeased_shouldNotReturnLeasedFlows() {
+        getStore().save(createRequest("1"));
+        getStore().save(createRequest("2"));
+
+        assertThat(getStore().nextNotLeased(1)).extracting(DataFlowRequest::getProcessId).containsExactly("1");
+        assertThat(getStore().nextNotLeased(10)).extracting(DataFlowRequest::getProcessId).containsExactly("2");
+        assertThat(getStore().nextNotLeased(10)).isEmpty();
+    }
+
+    @Test
+    void save_shouldReplaceNotLeasedFlow() {
+        getStore().save(createRequest("1"));
+        getStore().save(createRequest("1"));
+
+        assertThat(getStore().nextNotLeased(10)).extracting(DataFlowRequest::getProcessId).containsExactly("1");
+        assertThat(getStore().count()).isEqualTo(1);
+    }
+
+    @Test
+    void save_shouldNotRequeueLeasedFlow() {
+        getStore().save(createRequest("1"));
+        getStore().nextNotLeased(1);
+
+        getStore().save(createRequest("1"));
+
+        assertThat(getStore().nextNotLeased(10)).isEmpty();
+        assertThat(getStore().count()).isEqualTo(1);
+    }
+
+    @Test
+    void delete_shouldRemoveFlow() {
+        getStore().save(createRequest("1"));
+        getStore().save(createRequest("2"));
+        getStore().nextNotLeased(1);
+
+        getStore().delete("1");
+        getStore().delete("2");
+
+        assertThat(getStore().count()).isZero();
+        assertThat(getStore().nextNotLeased(10)).isEmpty();
+    }
+
+    @Test
+    void count_shouldIncludeLeasedFlows() {
+        getStore().save(createRequest("1"));
+        getStore().save(createRequest("2"));
+        getStore().nextNotLeased(1);
+
+        assertThat(getStore().count()).isEqualTo(2);
+    }
+
+    @Test
+    void renewLeases_shouldKeepFlowsLeased() {
+        getStore().save(createRequest("1"));
+        getStore().nextNotLeased(1);
+
+        getStore().renewLeases(List.of("1"));
+
+        assertThat(getStore().nextNotLeased(10)).isEmpty();
+    }
+
+    @Test
+    void complete_shouldMakeResultNotifiable() {
+        getStore().save(createRequest("1"));
+        getStore().save(createRequest("2"));
+        getStore().nextNotLeased(2);
+
+        getStore().complete("1", null);
+        getStore().complete("2", "error");
+
+        var results = getStore().nextNotNotified(10);
+        assertThat(results).extracting(result -> result.getRequest().getProcessId()).containsExactly("1", "2");
+        assertThat(results).extracting(DataFlowResult::succeeded).containsExactly(true, false);
+        assertThat(results.get(1).getErrorMessage()).isEqualTo("error");
+        assertThat(getStore().nextNotLeased(10)).isEmpty();
+    }
+
+    @Test
+    void nextNotNotified_shouldNotReturnLeasedResults() {
+        getStore().save(createRequest("1"));
+        getStore().nextNotLeased(1);
+        getStore().complete("1", null);
+
+        assertThat(getStore().nextNotNotified(10)).hasSize(1);
+        assertThat(getStore().nextNotNotified(10)).isEmpty();
+    }
+
+    @Test
+    void nextNotNotified_shouldNotReturnNotCompletedFlows() {
+        getStore().save(createRequest("1"));
+
+        assertThat(getStore().nextNotNotified(10)).isEmpty();
+    }
+
+    @Test
+    void retryLater_shouldReturnResultsWhenDue() {
+        getStore().save(createRequest("1"));
+        getStore().save(createRequest("2"));
+        getStore().nextNotLeased(2);
+        getStore().complete("1", null);
+        getStore().complete("2", null);
+        getStore().nextNotNotified(10);
+
+        getStore().retryLater(List.of("1"), System.currentTimeMillis() + 60_000);
+        getStore().retryLater(List.of("2"), System.currentTimeMillis() - 1);
+
+        assertThat(getStore().nextNotNotified(10)).extracting(result -> result.getRequest().getProcessId()).containsExactly("2");
+    }
+
+    @Test
+    void notified_shouldRemoveFlows() {
+        getStore().save(createRequest("1"));
+        getStore().nextNotLeased(1);
+        getStore().complete("1", null);
+        getStore().nextNotNotified(10);
+
+        getStore().notified(List.of("1"));
+
+        assertThat(getStore().count()).isZero();
+        assertThat(getStore().nextNotNotified(10)).isEmpty();
+    }
+
+    protected DataFlowRequest createRequest(String processId) {
+        return DataFlowRequest.Builder.newInstance()
+                .id("request-" + processId)
+                .processId(processId)
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("source").property("key", "value").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("destination").build())
+                .trackable(true)
+                .build();
+    }
+
+    protected abstract DataFlowStore getStore();
+}